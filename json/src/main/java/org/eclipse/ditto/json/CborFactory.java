@@ -202,7 +202,8 @@ public final class CborFactory {
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() == JsonToken.FIELD_NAME) {
             final String key = parser.currentName();
-            final JsonField jsonField = JsonField.newInstance(key, parseValue(parser, byteBuffer));
+            final JsonField jsonField =
+                    JsonField.newInstance(ImmutableJsonKey.interned(key), parseValue(parser, byteBuffer));
             map.put(key, jsonField);
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable map of JSON fields with a compact memory layout which keeps the insertion order of its keys.
+ * <p>
+ * Keys, values and the optional field definitions are stored in parallel arrays; {@link JsonField}s are only created
+ * when they are requested. Keys are looked up by linear search in small maps and by an open addressing hash index in
+ * maps with more than {@value #MAX_LINEAR_SEARCH_SIZE} fields.
+ * </p>
+ */
+@Immutable
+final class CompactFieldMap extends AbstractMap<String, JsonField> {
+
+    private static final int MAX_LINEAR_SEARCH_SIZE = 8;
+
+    private static final CompactFieldMap EMPTY = new CompactFieldMap(new JsonKey[0], new JsonValue[0], null);
+
+    private final JsonKey[] keys;
+    private final JsonValue[] values;
+    @Nullable private final JsonFieldDefinition[] definitions; // null if no field has a definition
+    @Nullable private final int[] hashIndex; // positions + 1 by hash of the key, null for small maps
+
+    private CompactFieldMap(final JsonKey[] keys, final JsonValue[] values,
+            @Nullable final JsonFieldDefinition[] definitions) {
+
+        this.keys = keys;
+        this.values = values;
+        this.definitions = definitions;
+        hashIndex = MAX_LINEAR_SEARCH_SIZE < keys.length ? createHashIndex(keys) : null;
+    }
+
+    private static int[] createHashIndex(final JsonKey[] keys) {
+        final int[] result = new int[Integer.highestOneBit(keys.length) << 2];
+        final int mask = result.length - 1;
+        for (int position = 0; position < keys.length; position++) {
+            int slot = keys[position].toString().hashCode() & mask;
+            while (0 != result[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            result[slot] = position + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Returns an empty {@code CompactFieldMap}.
+     *
+     * @return the empty map.
+     */
+    static CompactFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a {@code CompactFieldMap} which contains the given fields in the iteration order of the given map.
+     *
+     * @param fields the fields of the returned map.
+     * @return the map.
+     * @throws NullPointerException if {@code fields} is {@code null}.
+     */
+    static CompactFieldMap of(final Map<String, JsonField> fields) {
+        requireNonNull(fields, "The fields must not be null!");
+        if (fields instanceof CompactFieldMap) {
+            return (CompactFieldMap) fields;
+        }
+        if (fields.isEmpty()) {
+            return EMPTY;
+        }
+        final int size = fields.size();
+        final JsonKey[] keys = new JsonKey[size];
+        final JsonValue[] values = new JsonValue[size];
+        JsonFieldDefinition[] definitions = null;
+        int position = 0;
+        for (final JsonField field : fields.values()) {
+            keys[position] = field.getKey();
+            values[position] = field.getValue();
+            final JsonFieldDefinition definition = field.getDefinition().orElse(null);
+            if (null != definition) {
+                if (null == definitions) {
+                    definitions = new JsonFieldDefinition[size];
+                }
+                definitions[position] = definition;
+            }
+            position++;
+        }
+        return new CompactFieldMap(keys, values, definitions);
+    }
+
+    private int indexOf(final String key) {
+        if (null == hashIndex) {
+            for (int position = 0; position < keys.length; position++) {
+                if (key.equals(keys[position].toString())) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+        final int mask = hashIndex.length - 1;
+        int slot = key.hashCode() & mask;
+        int positionPlusOne = hashIndex[slot];
+        while (0 != positionPlusOne) {
+            if (key.equals(keys[positionPlusOne - 1].toString())) {
+                return positionPlusOne - 1;
+            }
+            slot = (slot + 1) & mask;
+            positionPlusOne = hashIndex[slot];
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a map which associates the given key with the given field. If the key is already contained, the new
+     * field takes the position of the replaced one.
+     *
+     * @param key the key.
+     * @param field the field to be associated with {@code key}.
+     * @return the new map.
+     */
+    CompactFieldMap with(final String key, final JsonField field) {
+        final int existingPosition = indexOf(key);
+        final int position = 0 <= existingPosition ? existingPosition : keys.length;
+        final int newSize = Math.max(keys.length, position + 1);
+
+        final JsonKey[] newKeys = copyOf(keys, new JsonKey[newSize]);
+        final JsonValue[] newValues = copyOf(values, new JsonValue[newSize]);
+        JsonFieldDefinition[] newDefinitions =
+                null != definitions ? copyOf(definitions, new JsonFieldDefinition[newSize]) : null;
+
+        newKeys[position] = field.getKey();
+        newValues[position] = field.getValue();
+        final JsonFieldDefinition definition = field.getDefinition().orElse(null);
+        if (null != definition && null == newDefinitions) {
+            newDefinitions = new JsonFieldDefinition[newSize];
+        }
+        if (null != newDefinitions) {
+            newDefinitions[position] = definition;
+        }
+        return new CompactFieldMap(newKeys, newValues, newDefinitions);
+    }
+
+    /**
+     * Returns a map without the field of the given key.
+     *
+     * @param key the key of the field to be removed.
+     * @return the new map or this map if it does not contain {@code key}.
+     */
+    CompactFieldMap without(final String key) {
+        final int position = indexOf(key);
+        if (0 > position) {
+            return this;
+        }
+        if (1 == keys.length) {
+            return EMPTY;
+        }
+        return new CompactFieldMap(remove(keys, position, new JsonKey[keys.length - 1]),
+                remove(values, position, new JsonValue[values.length - 1]),
+                null != definitions
+                        ? remove(definitions, position, new JsonFieldDefinition[definitions.length - 1])
+                        : null);
+    }
+
+    private static <T> T[] copyOf(final T[] source, final T[] target) {
+        System.arraycopy(source, 0, target, 0, source.length);
+        return target;
+    }
+
+    private static <T> T[] remove(final T[] source, final int position, final T[] target) {
+        System.arraycopy(source, 0, target, 0, position);
+        System.arraycopy(source, position + 1, target, position, target.length - position);
+        return target;
+    }
+
+    /**
+     * Returns the value of the given key without creating a field.
+     *
+     * @param key the key.
+     * @return the value or {@code null} if this map does not contain {@code key}.
+     */
+    @Nullable
+    JsonValue getValue(final String key) {
+        final int position = indexOf(key);
+        return 0 <= position ? values[position] : null;
+    }
+
+    /**
+     * Returns the key at the given position.
+     *
+     * @param position the position in insertion order.
+     * @return the key.
+     */
+    JsonKey getKeyAt(final int position) {
+        return keys[position];
+    }
+
+    /**
+     * Returns the value at the given position.
+     *
+     * @param position the position in insertion order.
+     * @return the value.
+     */
+    JsonValue getValueAt(final int position) {
+        return values[position];
+    }
+
+    private JsonField getFieldAt(final int position) {
+        return JsonField.newInstance(keys[position], values[position],
+                null != definitions ? definitions[position] : null);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == keys.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && 0 <= indexOf((String) key);
+    }
+
+    @Nullable
+    @Override
+    public JsonField get(final Object key) {
+        if (key instanceof String) {
+            final int position = indexOf((String) key);
+            if (0 <= position) {
+                return getFieldAt(position);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<JsonField> values() {
+        return new AbstractCollection<JsonField>() {
+            @Override
+            public Iterator<JsonField> iterator() {
+                return new FieldIterator();
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, JsonField>> entrySet() {
+        return new AbstractSet<Entry<String, JsonField>>() {
+            @Override
+            public Iterator<Entry<String, JsonField>> iterator() {
+                final Iterator<JsonField> fieldIterator = new FieldIterator();
+                return new Iterator<Entry<String, JsonField>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return fieldIterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, JsonField> next() {
+                        final JsonField field = fieldIterator.next();
+                        return new SimpleImmutableEntry<>(field.getKeyName(), field);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o instanceof CompactFieldMap) {
+            // compare without creating fields
+            final CompactFieldMap that = (CompactFieldMap) o;
+            if (keys.length != that.keys.length) {
+                return false;
+            }
+            for (int position = 0; position < keys.length; position++) {
+                if (!values[position].equals(that.getValue(keys[position].toString()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private final class FieldIterator implements Iterator<JsonField> {
+
+        private int position = 0;
+
+        @Override
+        public boolean hasNext() {
+            return position < keys.length;
+        }
+
+        @Override
+        public JsonField next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return getFieldAt(position++);
+        }
+
+    }
+
+}
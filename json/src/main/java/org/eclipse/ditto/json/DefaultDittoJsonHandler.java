@@ -160,7 +160,7 @@ final class DefaultDittoJsonHandler extends DittoJsonHandler<List<JsonValue>, Li
 
     @Override
     public void endObjectValue(final List<JsonField> jsonFields, final String name) {
-        final JsonField jsonField = JsonField.newInstance(name, jsonValue);
+        final JsonField jsonField = JsonField.newInstance(ImmutableJsonKey.interned(name), jsonValue);
         jsonFields.add(jsonField);
         final StringBuilder stringBuilder = stringBuilders.peek();
         if (null != stringBuilder) {
@@ -16,14 +16,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.lang.ref.SoftReference;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -47,9 +45,9 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
     @Nullable private static ImmutableJsonArray emptyInstance = null;
     private static final String ASSERTION_VALUES_OF_JSON_ARRAY = "The values of the JSON array must not be null!";
 
-    private final SoftReferencedValueList valueList;
+    private final ValueList valueList;
 
-    private ImmutableJsonArray(final SoftReferencedValueList theValueList) {
+    private ImmutableJsonArray(final ValueList theValueList) {
         valueList = theValueList;
     }
 
@@ -61,7 +59,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
     public static ImmutableJsonArray empty() {
         ImmutableJsonArray result = emptyInstance;
         if (null == result) {
-            result = new ImmutableJsonArray(SoftReferencedValueList.empty());
+            result = new ImmutableJsonArray(ValueList.empty());
             emptyInstance = result;
         }
         return result;
@@ -75,7 +73,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
      * @throws NullPointerException if {@code values} is {@code null}.
      */
     public static ImmutableJsonArray of(final List<JsonValue> values) {
-        return new ImmutableJsonArray(SoftReferencedValueList.of(values));
+        return new ImmutableJsonArray(ValueList.of(values));
     }
 
     /**
@@ -88,7 +86,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
      */
     public static ImmutableJsonArray of(final List<JsonValue> values, @Nullable final String stringRepresentation) {
         requireNonNull(values, ASSERTION_VALUES_OF_JSON_ARRAY);
-        return new ImmutableJsonArray(SoftReferencedValueList.of(values, stringRepresentation));
+        return new ImmutableJsonArray(ValueList.of(values, stringRepresentation));
     }
 
     /**
@@ -102,7 +100,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
      */
     public static ImmutableJsonArray of(final List<JsonValue> values, @Nullable final byte[] cborRepresentation) {
         requireNonNull(values, ASSERTION_VALUES_OF_JSON_ARRAY);
-        return new ImmutableJsonArray(SoftReferencedValueList.of(values, cborRepresentation));
+        return new ImmutableJsonArray(ValueList.of(values, cborRepresentation));
     }
 
     /**
@@ -118,7 +116,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
     public static ImmutableJsonArray of(final List<JsonValue> values, @Nullable final String stringRepresentation,
             @Nullable final byte[] cborRepresentation) {
         requireNonNull(values, ASSERTION_VALUES_OF_JSON_ARRAY);
-        return new ImmutableJsonArray(SoftReferencedValueList.of(values, stringRepresentation, cborRepresentation));
+        return new ImmutableJsonArray(ValueList.of(values, stringRepresentation, cborRepresentation));
     }
 
     private static void checkValue(final Object value) {
@@ -174,7 +172,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
     public ImmutableJsonArray add(final boolean value, final boolean... furtherValues) {
         checkFurtherValues(furtherValues);
 
-        SoftReferencedValueList extendedValueList = valueList.add(JsonValue.of(value));
+        ValueList extendedValueList = valueList.add(JsonValue.of(value));
         for (final boolean furtherValue : furtherValues) {
             extendedValueList = extendedValueList.add(JsonValue.of(furtherValue));
         }
@@ -198,7 +196,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         checkValue(value);
         checkFurtherValues(furtherValues);
 
-        SoftReferencedValueList extendedValueList = valueList.add(value);
+        ValueList extendedValueList = valueList.add(value);
         for (final JsonValue furtherValue : furtherValues) {
             extendedValueList = extendedValueList.add(furtherValue);
         }
@@ -281,66 +279,60 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return valueList.upperBoundForStringSize();
     }
 
+    /**
+     * The values of a JSON array together with its lazily created serialized forms.
+     * The values are the primary representation; the JSON string and the CBOR bytes are only created on demand and
+     * retained according to the {@link SerializedFormCache.Policy}.
+     */
     @Immutable
-    static final class SoftReferencedValueList {
+    static final class ValueList {
 
         private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
 
-        private String jsonArrayStringRepresentation;
-        private byte[] cborArrayRepresentation;
+        private final List<JsonValue> values;
+        private final SerializedFormCache<String> jsonArrayStringRepresentation;
+        private final SerializedFormCache<byte[]> cborArrayRepresentation;
         private int hashCode;
-        private SoftReference<List<JsonValue>> valuesReference;
 
-        private SoftReferencedValueList(final List<JsonValue> jsonValueList,
+        private ValueList(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborArrayRepresentation) {
-            valuesReference = new SoftReference<>(Collections.unmodifiableList(new ArrayList<>(jsonValueList)));
-            jsonArrayStringRepresentation = stringRepresentation;
-            this.cborArrayRepresentation = cborArrayRepresentation;
-            if (jsonArrayStringRepresentation == null && cborArrayRepresentation == null) {
-                if (CborAvailabilityChecker.isCborAvailable()) {
-                    try {
-                        this.cborArrayRepresentation = createCborRepresentation(jsonValueList);
-                    } catch (final IOException e) {
-                        assert false; // this should not happen, so assertions will throw during testing
-                        jsonArrayStringRepresentation = createStringRepresentation(jsonValueList);
-                    }
-                } else {
-                    jsonArrayStringRepresentation = createStringRepresentation(jsonValueList);
-                }
-            }
+
+            values = Collections.unmodifiableList(new ArrayList<>(jsonValueList));
+            jsonArrayStringRepresentation = SerializedFormCache.of(stringRepresentation);
+            this.cborArrayRepresentation = SerializedFormCache.of(cborArrayRepresentation);
             hashCode = 0;
         }
 
-        static SoftReferencedValueList empty() {
+        static ValueList empty() {
             return of(Collections.emptyList(), "[]", new byte[]{(byte) 0x80});
         }
 
-        static SoftReferencedValueList of(final List<JsonValue> values) {
-            return new SoftReferencedValueList(values, null, null);
+        static ValueList of(final List<JsonValue> values) {
+            return new ValueList(values, null, null);
         }
 
-        static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
+        static ValueList of(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation) {
-            return new SoftReferencedValueList(jsonValueList, stringRepresentation, null);
+            return new ValueList(jsonValueList, stringRepresentation, null);
         }
 
-        static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
+        static ValueList of(final List<JsonValue> jsonValueList,
                 @Nullable final byte[] cborRepresentation) {
-            return new SoftReferencedValueList(jsonValueList, null, cborRepresentation);
+            return new ValueList(jsonValueList, null, cborRepresentation);
         }
 
-        static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
+        static ValueList of(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborRepresentation) {
-            return new SoftReferencedValueList(jsonValueList, stringRepresentation, cborRepresentation);
+            return new ValueList(jsonValueList, stringRepresentation, cborRepresentation);
         }
 
-        private String createStringRepresentation(final Iterable<JsonValue> jsonValues) {
+        private String createStringRepresentation() {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('[');
             String delimiter = "";
-            for (final JsonValue jsonValue : jsonValues) {
+            for (final JsonValue jsonValue : values) {
                 stringBuilder.append(delimiter);
                 stringBuilder.append(jsonValue);
                 delimiter = ",";
@@ -351,75 +343,38 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         JsonValue get(final int index) {
-            return values().get(index);
+            return values.get(index);
         }
 
         boolean isEmpty() {
-            return values().isEmpty();
+            return values.isEmpty();
         }
 
         int getSize() {
-            return values().size();
+            return values.size();
         }
 
         boolean contains(final JsonValue value) {
-            return values().contains(value);
+            return values.contains(value);
         }
 
         int indexOf(final JsonValue value) {
-            return values().indexOf(value);
+            return values.indexOf(value);
         }
 
-        SoftReferencedValueList add(final JsonValue jsonValue) {
-            final List<JsonValue> valuesCopy = copyValues();
+        ValueList add(final JsonValue jsonValue) {
+            final List<JsonValue> valuesCopy = new ArrayList<>(values.size() + 1);
+            valuesCopy.addAll(values);
             valuesCopy.add(jsonValue);
             return of(valuesCopy);
         }
 
-        private List<JsonValue> copyValues() {
-            return new ArrayList<>(values());
-        }
-
-        private List<JsonValue> values() {
-            List<JsonValue> result = valuesReference.get();
-            if (null == result) {
-                result = recoverValues();
-                valuesReference = new SoftReference<>(result);
-            }
-            return result;
-        }
-
-        private List<JsonValue> recoverValues() {
-            if (cborArrayRepresentation != null) {
-                return parseToList(cborArrayRepresentation);
-            }
-            if (jsonArrayStringRepresentation != null) {
-                return parseToList(jsonArrayStringRepresentation);
-            }
-            throw new IllegalStateException("Fatal cache miss on JsonObject");
-        }
-
-        private static List<JsonValue> parseToList(final String jsonArrayString) {
-            final ValueListJsonHandler jsonHandler = new ValueListJsonHandler();
-            JsonValueParser.fromString(jsonHandler).accept(jsonArrayString);
-            return jsonHandler.getValue();
-        }
-
-        private static List<JsonValue> parseToList(final byte[] cborArrayRepresentation) {
-            final JsonValue jsonArray = CborFactory.readFrom(cborArrayRepresentation);
-            List<JsonValue> list = new LinkedList<>();
-            for (JsonValue jsonValue : jsonArray.asArray()) {
-                list.add(jsonValue);
-            }
-            return list;
-        }
-
         Iterator<JsonValue> getIterator() {
-            return values().iterator();
+            return values.iterator();
         }
 
         Stream<JsonValue> getStream() {
-            return values().stream();
+            return values.stream();
         }
 
         @Override
@@ -430,81 +385,106 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             if (o == null || getClass() != o.getClass()) {
                 return false;
             }
-            final SoftReferencedValueList that = (SoftReferencedValueList) o;
-            if (jsonArrayStringRepresentation != null && that.jsonArrayStringRepresentation != null) {
-                if (jsonArrayStringRepresentation.equals(that.jsonArrayStringRepresentation)) {
+            final ValueList that = (ValueList) o;
+            final String thisString = jsonArrayStringRepresentation.getIfPresent();
+            final String thatString = that.jsonArrayStringRepresentation.getIfPresent();
+            if (thisString != null && thatString != null) {
+                if (thisString.equals(thatString)) {
                     return true;
-                } else if (jsonArrayStringRepresentation.length() == that.jsonArrayStringRepresentation.length()) {
-                    return Objects.equals(values(), that.values());
+                } else if (thisString.length() == thatString.length()) {
+                    return Objects.equals(values, that.values);
                 }
                 return false;
             }
-            if (cborArrayRepresentation != null && that.cborArrayRepresentation != null &&
-                    Arrays.equals(cborArrayRepresentation, that.cborArrayRepresentation)) {
+            final byte[] thisCbor = cborArrayRepresentation.getIfPresent();
+            final byte[] thatCbor = that.cborArrayRepresentation.getIfPresent();
+            if (thisCbor != null && thatCbor != null && Arrays.equals(thisCbor, thatCbor)) {
                 return true;
             }
-            return Objects.equals(values(), that.values());
+            return Objects.equals(values, that.values);
         }
 
         @Override
         public int hashCode() {
             int result = hashCode;
             if (0 == result) {
-                result = values().hashCode();
+                result = values.hashCode();
                 hashCode = result;
             }
             return result;
         }
 
         String asJsonArrayString() {
-            if (jsonArrayStringRepresentation == null) {
-                jsonArrayStringRepresentation = createStringRepresentation(this.values());
+            String result = jsonArrayStringRepresentation.getIfPresent();
+            if (result == null) {
+                result = createStringRepresentation();
+                jsonArrayStringRepresentation.set(result);
             }
-            return jsonArrayStringRepresentation;
+            return result;
         }
 
         void writeValue(final SerializationContext serializationContext) throws IOException {
-            if (cborArrayRepresentation == null) {
-                cborArrayRepresentation = createCborRepresentation(this.values());
+            byte[] cborRepresentation = cborArrayRepresentation.getIfPresent();
+            if (cborRepresentation == null) {
+                if (!serializationContext.getJacksonGenerator().getOutputContext().inRoot() ||
+                        !cborArrayRepresentation.isRetaining()) {
+                    // nested arrays are written directly in order not to encode each sub-tree once per level
+                    writeValues(serializationContext);
+                    return;
+                }
+                cborRepresentation = createCborRepresentation();
+                cborArrayRepresentation.set(cborRepresentation);
             }
-            serializationContext.writeCachedElement(cborArrayRepresentation);
+            serializationContext.writeCachedElement(cborRepresentation);
         }
 
-        byte[] createCborRepresentation(final List<JsonValue> list) throws IOException {
+        private byte[] createCborRepresentation() throws IOException {
             final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(guessSerializedSize());
 
             try (final SerializationContext serializationContext = new SerializationContext(byteArrayOutputStream)) {
-                serializationContext.getJacksonGenerator().writeStartArray(list.size());
-                for (final JsonValue jsonValue : list) {
-                    jsonValue.writeValue(serializationContext);
-                }
-                serializationContext.getJacksonGenerator().writeEndArray();
+                writeValues(serializationContext);
             }
             return byteArrayOutputStream.toByteArray();
         }
 
+        private void writeValues(final SerializationContext serializationContext) throws IOException {
+            serializationContext.getJacksonGenerator().writeStartArray(values.size());
+            for (final JsonValue jsonValue : values) {
+                jsonValue.writeValue(serializationContext);
+            }
+            serializationContext.getJacksonGenerator().writeEndArray();
+        }
+
         private int guessSerializedSize() {
             // This function currently overestimates for CBOR and underestimates for JSON, but it should be better
             //  than a static guess
-            if (jsonArrayStringRepresentation != null) {
-                return jsonArrayStringRepresentation.length();
+            final String stringRepresentation = jsonArrayStringRepresentation.getIfPresent();
+            if (stringRepresentation != null) {
+                return stringRepresentation.length();
             }
-            if (cborArrayRepresentation != null) {
-                return cborArrayRepresentation.length;
+            final byte[] cborRepresentation = cborArrayRepresentation.getIfPresent();
+            if (cborRepresentation != null) {
+                return cborRepresentation.length;
             }
             return 512;
         }
 
-        public long upperBoundForStringSize() {
-            if (jsonArrayStringRepresentation != null) {
-                return jsonArrayStringRepresentation.length();
+        long upperBoundForStringSize() {
+            final String stringRepresentation = jsonArrayStringRepresentation.getIfPresent();
+            if (stringRepresentation != null) {
+                return stringRepresentation.length();
             }
-            if (cborArrayRepresentation != null) {
-                return cborArrayRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
+            final byte[] cborRepresentation = cborArrayRepresentation.getIfPresent();
+            if (cborRepresentation != null) {
+                return cborRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
-            assert false; // this should never happen
-            return Long.MAX_VALUE;
+            long result = 2; // enclosing brackets
+            for (final JsonValue jsonValue : values) {
+                result += jsonValue.getUpperBoundForStringSize() + 1; // delimiting comma
+            }
+            return result;
         }
+
     }
 
     /**
@@ -16,12 +16,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -44,8 +41,8 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonFieldSelectorFactory {
 
-    private static final String OPENING_PARENTHESIS = "(";
-    private static final String CLOSING_PARENTHESIS = ")";
+    private static final char OPENING_PARENTHESIS = '(';
+    private static final char CLOSING_PARENTHESIS = ')';
 
     private final String jsonFieldSelectorString;
 
@@ -99,92 +96,66 @@ final class ImmutableJsonFieldSelectorFactory {
     }
 
     /*
-     * Splits the passed in String at the String's commas ({@code ,}) and returns a List of the single parts.
-     * Thereby also handles Parentheses ({@code (} and {@code )}) in a way that they are treated as another "level" at
-     * which no splitting at commas is performed.
+     * Collects the JSON pointers of the field selector characters from start (inclusive) to end (exclusive) in a
+     * single pass. The characters are split at commas (,) which are not enclosed in parentheses. A part which
+     * contains parentheses (( and )) is treated as common root pointer followed by a nested field selector.
      *
-     * Example Strings and how they are split:
+     * Example Strings and the JSON pointers they are flattened to:
      * <pre>
-     *    "thingId,attributes,acl"                               List [ "thingId", "attributes", "acl" ]
-     *    "thingId,attributes(someAttr),acl"                     List [ "thingId", "attributes", "acl" ]
-     *    "thingId,attributes(someAttr,someOther,another),acl"   List [ "thingId", "attributes", "acl" ]
-     *    "thingId,attributes(someAttr/subel,foo),acl"           List [ "thingId", "attributes", "acl" ]
+     *    "thingId,attributes,acl"                          [ "/thingId", "/attributes", "/acl" ]
+     *    "thingId,attributes(someAttr),acl"                [ "/thingId", "/attributes/someAttr", "/acl" ]
+     *    "thingId,attributes(someAttr/subel,foo),acl"      [ "/thingId", "/attributes/someAttr/subel",
+     *                                                        "/attributes/foo", "/acl" ]
      * </pre>
-     *
-     * @return a List of the single split parts.
      */
-    private static List<String> splitAroundComma(final String toSplit) {
-        final List<String> topLevelFields = new ArrayList<>();
-        final StringBuilder sb = new StringBuilder(toSplit.length());
-
-        int waitForClosingParenthesesCnt = 0;
-        for (final Character c : toSplit.toCharArray()) {
-            if (c == '(') {
-                waitForClosingParenthesesCnt++;
-                sb.append(c);
-                continue;
-            }
-            if (waitForClosingParenthesesCnt > 0) {
-                if (c == ')') {
-                    waitForClosingParenthesesCnt--;
+    private static void flattenToJsonPointers(final String fieldSelector, final int start, final int end,
+            final JsonPointer commonRootPointer, final Collection<JsonPointer> result) {
+
+        int partStart = start;
+        int openParenthesesCnt = 0;
+        int firstOpeningParenthesis = -1;
+        int firstClosingParenthesis = -1;
+        for (int i = start; i <= end; i++) {
+            final boolean isEnd = i == end;
+            final char c = isEnd ? ',' : fieldSelector.charAt(i);
+            if (0 < openParenthesesCnt && !isEnd) {
+                if (CLOSING_PARENTHESIS == c) {
+                    openParenthesesCnt--;
+                    if (-1 == firstClosingParenthesis) {
+                        firstClosingParenthesis = i;
+                    }
+                } else if (OPENING_PARENTHESIS == c) {
+                    openParenthesesCnt++;
                 }
-                sb.append(c);
-                continue;
-            }
-
-            if (c != ',') {
-                sb.append(c);
-            } else {
-                topLevelFields.add(sb.toString());
-                sb.setLength(0);
+            } else if (OPENING_PARENTHESIS == c) {
+                openParenthesesCnt++;
+                if (-1 == firstOpeningParenthesis) {
+                    firstOpeningParenthesis = i;
+                }
+            } else if (',' == c) {
+                if (-1 != firstOpeningParenthesis && firstOpeningParenthesis < firstClosingParenthesis) {
+                    final JsonPointer partRootPointer =
+                            append(commonRootPointer, fieldSelector, partStart, firstOpeningParenthesis);
+                    flattenToJsonPointers(fieldSelector, firstOpeningParenthesis + 1, i - 1, partRootPointer,
+                            result);
+                } else {
+                    // slashes are already treated by the parser of the JSON pointer
+                    result.add(append(commonRootPointer, fieldSelector, partStart, i));
+                }
+                partStart = i + 1;
+                firstOpeningParenthesis = -1;
+                firstClosingParenthesis = -1;
+            } else if (CLOSING_PARENTHESIS == c && -1 == firstClosingParenthesis) {
+                firstClosingParenthesis = i;
             }
         }
-        topLevelFields.add(sb.toString());
-        return topLevelFields;
     }
 
-    private static Set<JsonPointer> flattenToJsonPointers(final Iterable<String> rawJsonKeys) {
-        final Set<JsonPointer> result = new LinkedHashSet<>();
+    private static JsonPointer append(final JsonPointer commonRootPointer, final String fieldSelector,
+            final int start, final int end) {
 
-        for (final String rawJsonKey : rawJsonKeys) {
-            if (isJsonSelectorFormat(rawJsonKey)) {
-                result.addAll(flattenToJsonPointers(rawJsonKey));
-            } else {
-                // slashes are already treated by the constructor of the JSON pointer
-                result.add(JsonFactory.newPointer(rawJsonKey));
-            }
-        }
-
-        return result;
-    }
-
-    private static boolean isJsonSelectorFormat(final String jsonKey) {
-        if (jsonKey.contains(OPENING_PARENTHESIS)) {
-            final int iOpeningParenthesis = jsonKey.indexOf(OPENING_PARENTHESIS);
-            final int iClosingParenthesis = jsonKey.indexOf(CLOSING_PARENTHESIS);
-
-            return iOpeningParenthesis < iClosingParenthesis;
-        }
-
-        return false;
-    }
-
-    private static Collection<JsonPointer> flattenToJsonPointers(final String stringWithParentheses) {
-        final int indexOfOpeningParenthesis = stringWithParentheses.indexOf(OPENING_PARENTHESIS);
-
-        // the string before the first opening parenthesis
-        final String commonRootKey = stringWithParentheses.substring(0, indexOfOpeningParenthesis);
-        final JsonPointer commonRootPointer = JsonFactory.newPointer(commonRootKey);
-
-        // the string within the opening and closing parenthesis
-        // this string is (recursively) treated like a new field selector string (because technically it is)
-        final String withoutParentheses =
-                stringWithParentheses.substring(indexOfOpeningParenthesis + 1, stringWithParentheses.length() - 1);
-        final Set<JsonPointer> jsonPointers = flattenToJsonPointers(splitAroundComma(withoutParentheses));
-
-        return jsonPointers.stream() //
-                .map(commonRootPointer::append) //
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        final JsonPointer jsonPointer = ImmutableJsonPointer.ofParsed(fieldSelector, start, end);
+        return commonRootPointer.isEmpty() ? jsonPointer : commonRootPointer.append(jsonPointer);
     }
 
     private void validateJsonFieldSelectorString() {
@@ -193,7 +164,7 @@ final class ImmutableJsonFieldSelectorFactory {
                     .fieldSelector(jsonFieldSelectorString) //
                     .build();
         }
-        if (jsonFieldSelectorString.contains(OPENING_PARENTHESIS)) {
+        if (0 <= jsonFieldSelectorString.indexOf(OPENING_PARENTHESIS)) {
             final int openedParenthesesCnt = getCountOf(OPENING_PARENTHESIS);
             final int closedParenthesesCnt = getCountOf(CLOSING_PARENTHESIS);
             if (openedParenthesesCnt != closedParenthesesCnt) {
@@ -204,8 +175,14 @@ final class ImmutableJsonFieldSelectorFactory {
         }
     }
 
-    private int getCountOf(final CharSequence parenthesis) {
-        return jsonFieldSelectorString.length() - jsonFieldSelectorString.replace(parenthesis, "").length();
+    private int getCountOf(final char parenthesis) {
+        int result = 0;
+        for (int i = 0; i < jsonFieldSelectorString.length(); i++) {
+            if (parenthesis == jsonFieldSelectorString.charAt(i)) {
+                result++;
+            }
+        }
+        return result;
     }
 
     /**
@@ -215,8 +192,9 @@ final class ImmutableJsonFieldSelectorFactory {
      * @throws IllegalStateException if the JSON field selector string could not be decoded as UTF-8.
      */
     public JsonFieldSelector newJsonFieldSelector() {
-        final List<String> rawJsonKeys = splitAroundComma(jsonFieldSelectorString);
-        final Set<JsonPointer> jsonPointers = flattenToJsonPointers(rawJsonKeys);
+        final Set<JsonPointer> jsonPointers = new LinkedHashSet<>();
+        flattenToJsonPointers(jsonFieldSelectorString, 0, jsonFieldSelectorString.length(), JsonPointer.empty(),
+                jsonPointers);
         return ImmutableJsonFieldSelector.of(jsonPointers, jsonFieldSelectorString);
     }
 }
@@ -25,6 +25,8 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonKey implements JsonKey {
 
+    private static final InterningCache<JsonKey> INTERNED_KEYS = InterningCache.newInstance();
+
     private final String keyValue;
 
     private ImmutableJsonKey(final String theKeyValue) {
@@ -48,7 +50,53 @@ final class ImmutableJsonKey implements JsonKey {
             throw new IllegalArgumentException("The key string must not be empty!");
         }
 
-        return new ImmutableJsonKey(keyValue.toString());
+        final String keyString = keyValue.toString();
+        final JsonKey internedKey = INTERNED_KEYS.get(keyString);
+        return null != internedKey ? internedKey : new ImmutableJsonKey(keyString);
+    }
+
+    /**
+     * Returns a JSON key for the given string which is interned in a bounded cache so that recurring keys are neither
+     * allocated again nor held in memory multiple times.
+     *
+     * @param keyValue the key string.
+     * @return the JSON key.
+     * @throws NullPointerException if {@code keyValue} is {@code null}.
+     * @throws IllegalArgumentException if {@code keyValue} is empty.
+     */
+    static JsonKey interned(final String keyValue) {
+        requireNonNull(keyValue, "The key string must not be null!");
+        JsonKey result = INTERNED_KEYS.get(keyValue);
+        if (null == result) {
+            result = of(keyValue);
+            INTERNED_KEYS.put(keyValue, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a JSON key for the characters {@code start} (inclusive) to {@code end} (exclusive) of the given
+     * character sequence. The key is interned in a bounded cache so that recurring keys are neither allocated again
+     * nor held in memory multiple times.
+     *
+     * @param charSequence the character sequence which contains the key.
+     * @param start the index of the first character of the key.
+     * @param end the index after the last character of the key.
+     * @return the JSON key.
+     * @throws IllegalArgumentException if the key is empty.
+     */
+    static JsonKey interned(final CharSequence charSequence, final int start, final int end) {
+        if (start >= end) {
+            throw new IllegalArgumentException("The key string must not be empty!");
+        }
+        final int hash = InterningCache.hash(charSequence, start, end);
+        JsonKey result = INTERNED_KEYS.get(charSequence, start, end, hash);
+        if (null == result) {
+            final String keyString = charSequence.subSequence(start, end).toString();
+            result = new ImmutableJsonKey(keyString);
+            INTERNED_KEYS.put(keyString, result);
+        }
+        return result;
     }
 
     @Override
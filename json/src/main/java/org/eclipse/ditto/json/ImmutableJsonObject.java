@@ -16,7 +16,6 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.lang.ref.SoftReference;
 import java.text.MessageFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -30,6 +29,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,9 +54,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
     @Nullable private static ImmutableJsonObject emptyInstance = null;
 
-    private final SoftReferencedFieldMap fieldMap;
+    private final FieldMap fieldMap;
 
-    private ImmutableJsonObject(final SoftReferencedFieldMap theFieldMap) {
+    private ImmutableJsonObject(final FieldMap theFieldMap) {
         fieldMap = theFieldMap;
     }
 
@@ -68,7 +68,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject empty() {
         ImmutableJsonObject result = emptyInstance;
         if (null == result) {
-            result = new ImmutableJsonObject(SoftReferencedFieldMap.empty());
+            result = new ImmutableJsonObject(FieldMap.empty());
             emptyInstance = result;
         }
         return result;
@@ -82,7 +82,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
      * @throws NullPointerException if {@code fields} is {@code null}.
      */
     public static ImmutableJsonObject of(final Map<String, JsonField> fields) {
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields));
+        return new ImmutableJsonObject(FieldMap.of(fields));
     }
 
     /**
@@ -96,7 +96,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject of(final Map<String, JsonField> fields,
             @Nullable final String stringRepresentation) {
 
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields, stringRepresentation));
+        return new ImmutableJsonObject(FieldMap.of(fields, stringRepresentation));
     }
 
     /**
@@ -111,7 +111,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject of(final Map<String, JsonField> fields,
             @Nullable final byte[] cborRepresentation) {
 
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(
+        return new ImmutableJsonObject(FieldMap.of(
                 fields,
                 cborRepresentation != null ? cborRepresentation.clone() : null
         ));
@@ -178,14 +178,31 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
 
-        final JsonObject newTarget = target.getValue(rootKey)
+        final Optional<JsonValue> existingValue = target.getValue(rootKey);
+        final JsonObject newTarget = existingValue
                 .filter(JsonValue::isObject)
                 .filter(jsonValue -> !jsonValue.isNull())
                 .map(JsonValue::asObject)
                 .orElseGet(ImmutableJsonObject::empty);
 
         // let the recursion begin ]:-)
-        return target.setValue(rootKey, setFieldInHierarchy(newTarget, pointer.nextLevel(), jsonField));
+        final JsonObject newValue = setFieldInHierarchy(newTarget, pointer.nextLevel(), jsonField);
+        if (existingValue.orElse(null) == newValue) {
+            return target;
+        }
+        if (target instanceof ImmutableJsonObject) {
+            return ((ImmutableJsonObject) target).setChangedValue(rootKey, newValue);
+        }
+        return target.setValue(rootKey, newValue);
+    }
+
+    /*
+     * Sets a value which is known to differ from the current value of the key. This avoids comparing possibly large
+     * nested objects with each other on each level of a deep modification.
+     */
+    private ImmutableJsonObject setChangedValue(final JsonKey key, final JsonValue value) {
+        final JsonField field = JsonField.newInstance(key, value, getDefinitionForKey(key).orElse(null));
+        return new ImmutableJsonObject(fieldMap.put(field.getKeyName(), field));
     }
 
     @Override
@@ -275,8 +292,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     }
 
     private Optional<JsonValue> getValueForKey(final CharSequence key) {
-        final JsonField jsonField = fieldMap.getOrNull(key.toString());
-        return null != jsonField ? Optional.of(jsonField.getValue()) : Optional.empty();
+        return Optional.ofNullable(fieldMap.getValueOrNull(key.toString()));
     }
 
     @Override
@@ -408,7 +424,6 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         final JsonObject result;
 
         final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
-        final Optional<JsonFieldDefinition> rootKeyDefinition = getDefinitionForKey(rootKey);
         if (pointer.isEmpty()) {
             result = this;
         } else if (1 == pointer.getLevelCount()) {
@@ -424,9 +439,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                     .filter(JsonValue::isObject)
                     .map(JsonValue::asObject)
                     .filter(containsNextLevelRootKey)
-                    .map(jsonObject -> jsonObject.remove(nextPointerLevel)) // Recursion
-                    .map(withoutValue -> JsonField.newInstance(rootKey, withoutValue, rootKeyDefinition.orElse(null)))
-                    .map(this::set)
+                    .<JsonObject>map(jsonObject -> {
+                        final JsonObject withoutValue = jsonObject.remove(nextPointerLevel); // Recursion
+                        return withoutValue == jsonObject ? this : setChangedValue(rootKey, withoutValue);
+                    })
                     .orElse(this);
         }
 
@@ -542,70 +558,96 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.upperBoundForStringSize();
     }
 
+    /**
+     * The fields of a JSON object together with its lazily created serialized forms.
+     * The fields are the primary representation; the JSON string and the CBOR bytes are only created on demand and
+     * retained according to the {@link SerializedFormCache.Policy}.
+     * <p>
+     * Modifying a field map with at least {@value #DEFAULT_PERSISTENT_FIELDS_THRESHOLD} fields (configurable by the
+     * system property {@value #PERSISTENT_FIELDS_THRESHOLD_SYSTEM_PROPERTY}) yields a {@link PersistentFieldMap}
+     * which shares its structure with the modified one instead of copying all fields. Smaller field maps are stored
+     * as {@link CompactFieldMap}.
+     * </p>
+     */
     @Immutable
-    static final class SoftReferencedFieldMap {
+    static final class FieldMap {
+
+        /**
+         * Name of the system property which determines the minimum number of fields for using structural sharing.
+         */
+        static final String PERSISTENT_FIELDS_THRESHOLD_SYSTEM_PROPERTY = "ditto.json.persistent-fields-threshold";
+
+        private static final int DEFAULT_PERSISTENT_FIELDS_THRESHOLD = 16;
+        private static final int PERSISTENT_FIELDS_THRESHOLD =
+                Integer.getInteger(PERSISTENT_FIELDS_THRESHOLD_SYSTEM_PROPERTY, DEFAULT_PERSISTENT_FIELDS_THRESHOLD);
 
         private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
+        private static final long MAX_KEY_ESCAPE_FACTOR = 6; // "\u1234"
+        private static final long NUM_KEY_ENCLOSING_QUOTES_AND_COLON = 3;
 
-        private String jsonObjectStringRepresentation;
-        private byte[] cborObjectRepresentation;
+        private final Map<String, JsonField> fields;
+        private final SerializedFormCache<String> jsonObjectStringRepresentation;
+        private final SerializedFormCache<byte[]> cborObjectRepresentation;
         private int hashCode;
-        private SoftReference<Map<String, JsonField>> fieldsReference;
 
-        private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
+        private FieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
             requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
-            jsonObjectStringRepresentation = stringRepresentation;
-            this.cborObjectRepresentation = cborObjectRepresentation;
-            if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
-                if (CborAvailabilityChecker.isCborAvailable()) {
-                    try {
-                        this.cborObjectRepresentation = createCborRepresentation(jsonFieldMap);
-                    } catch (final IOException e) {
-                        assert false; // this should not happen, so assertions will throw during testing
-                        jsonObjectStringRepresentation = createStringRepresentation(jsonFieldMap);
-                    }
-                } else {
-                    jsonObjectStringRepresentation = createStringRepresentation(jsonFieldMap);
-                }
+            if (jsonFieldMap instanceof PersistentFieldMap) {
+                fields = jsonFieldMap;
+            } else {
+                fields = CompactFieldMap.of(jsonFieldMap);
             }
+            jsonObjectStringRepresentation = SerializedFormCache.of(stringRepresentation);
+            this.cborObjectRepresentation = SerializedFormCache.of(cborObjectRepresentation);
             hashCode = 0;
         }
 
-        static SoftReferencedFieldMap empty() {
+        static FieldMap empty() {
             return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> fieldMap) {
-            return new SoftReferencedFieldMap(fieldMap, null, null);
+        static FieldMap of(final Map<String, JsonField> fieldMap) {
+            return new FieldMap(fieldMap, null, null);
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
+        static FieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, null);
+            return new FieldMap(jsonFieldMap, stringRepresentation, null);
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
+        static FieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final byte[] cborObjectRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, null, cborObjectRepresentation);
+            return new FieldMap(jsonFieldMap, null, cborObjectRepresentation);
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
+        static FieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborObjectRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
+            return new FieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
         }
 
-        private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
+        private String createStringRepresentation() {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('{');
             String delimiter = "";
-            for (final JsonField jsonField : jsonFieldMap.values()) {
-                stringBuilder.append(delimiter);
-                stringBuilder.append(jsonField);
-                delimiter = ",";
+            if (fields instanceof CompactFieldMap) {
+                final CompactFieldMap compactFields = (CompactFieldMap) fields;
+                final UnaryOperator<String> escaper = JavaStringToEscapedJsonString.getInstance();
+                for (int i = 0; i < compactFields.size(); i++) {
+                    stringBuilder.append(delimiter);
+                    stringBuilder.append(escaper.apply(compactFields.getKeyAt(i).toString()));
+                    stringBuilder.append(':');
+                    stringBuilder.append(compactFields.getValueAt(i));
+                    delimiter = ",";
+                }
+            } else {
+                for (final JsonField jsonField : fields.values()) {
+                    stringBuilder.append(delimiter);
+                    stringBuilder.append(jsonField);
+                    delimiter = ",";
+                }
             }
             stringBuilder.append('}');
 
@@ -613,84 +655,76 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         int getSize() {
-            return fields().size();
+            return fields.size();
         }
 
         boolean isEmpty() {
-            return fields().isEmpty();
+            return fields.isEmpty();
         }
 
         boolean containsKey(final String key) {
-            return fields().containsKey(key);
+            return fields.containsKey(key);
         }
 
         @Nullable
         JsonField getOrNull(final String key) {
-            return fields().get(key);
+            return fields.get(key);
         }
 
-        SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(key, value);
-            return of(fieldsCopy);
-        }
-
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+        @Nullable
+        JsonValue getValueOrNull(final String key) {
+            if (fields instanceof CompactFieldMap) {
+                return ((CompactFieldMap) fields).getValue(key);
+            }
+            final JsonField jsonField = fields.get(key);
+            return null != jsonField ? jsonField.getValue() : null;
         }
 
-        SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+        FieldMap put(final String key, final JsonField value) {
+            if (shouldShareStructure()) {
+                return of(toPersistentFields().with(key, value));
+            }
+            return of(((CompactFieldMap) fields).with(key, value));
         }
 
-        SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key);
-            return of(fieldsCopy);
+        private boolean shouldShareStructure() {
+            return fields instanceof PersistentFieldMap || PERSISTENT_FIELDS_THRESHOLD <= fields.size();
         }
 
-        Stream<JsonField> getStream() {
-            return fields().values().stream();
+        private PersistentFieldMap toPersistentFields() {
+            return PersistentFieldMap.of(fields);
         }
 
-        Iterator<JsonField> getIterator() {
-            return fields().values().iterator();
+        private Map<String, JsonField> copyFields() {
+            return new LinkedHashMap<>(fields);
         }
 
-        private Map<String, JsonField> fields() {
-            Map<String, JsonField> result = fieldsReference.get();
-            if (null == result) {
-                result = recoverFields();
-                fieldsReference = new SoftReference<>(result);
+        FieldMap putAll(final Iterable<JsonField> jsonFields) {
+            if (shouldShareStructure()) {
+                PersistentFieldMap persistentFields = toPersistentFields();
+                for (final JsonField jsonField : jsonFields) {
+                    persistentFields = persistentFields.with(jsonField.getKeyName(), jsonField);
+                }
+                return of(persistentFields);
             }
-            return result;
+            final Map<String, JsonField> fieldsCopy = copyFields();
+            jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
+            return of(fieldsCopy);
         }
 
-        private Map<String, JsonField> recoverFields() {
-            if (cborObjectRepresentation != null) {
-                return parseToMap(cborObjectRepresentation);
-            }
-            if (jsonObjectStringRepresentation != null) {
-                return parseToMap(jsonObjectStringRepresentation);
+        FieldMap remove(final String key) {
+            if (shouldShareStructure()) {
+                return of(toPersistentFields().without(key));
             }
-            throw new IllegalStateException("Fatal cache miss on JsonObject");
+            return of(((CompactFieldMap) fields).without(key));
         }
 
-        private static Map<String, JsonField> parseToMap(final String jsonObjectString) {
-            final FieldMapJsonHandler jsonHandler = new FieldMapJsonHandler();
-            JsonValueParser.fromString(jsonHandler).accept(jsonObjectString);
-            return jsonHandler.getValue();
+        Stream<JsonField> getStream() {
+            return fields.values().stream();
         }
 
-        private static Map<String, JsonField> parseToMap(final byte[] cborObjectRepresentation) {
-            final JsonValue jsonObject = CborFactory.readFrom(cborObjectRepresentation);
-            final Map<String, JsonField> map = new LinkedHashMap<>();
-            for (final JsonField jsonValue : jsonObject.asObject()) {
-                map.put(jsonValue.getKey().toString(), jsonValue);
-            }
-            return map;
+        Iterator<JsonField> getIterator() {
+            return fields.values().iterator();
         }
 
         @Override
@@ -701,58 +735,87 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (o == null || getClass() != o.getClass()) {
                 return false;
             }
-            final SoftReferencedFieldMap that = (SoftReferencedFieldMap) o;
+            final FieldMap that = (FieldMap) o;
 
-            if (jsonObjectStringRepresentation != null && that.jsonObjectStringRepresentation != null) {
-                if (jsonObjectStringRepresentation.equals(that.jsonObjectStringRepresentation)) {
+            final String thisString = jsonObjectStringRepresentation.getIfPresent();
+            final String thatString = that.jsonObjectStringRepresentation.getIfPresent();
+            if (thisString != null && thatString != null) {
+                if (thisString.equals(thatString)) {
                     return true;
-                } else if (jsonObjectStringRepresentation.length() == that.jsonObjectStringRepresentation.length()) {
-                    return Objects.equals(fields(), that.fields());
+                } else if (thisString.length() == thatString.length()) {
+                    return Objects.equals(fields, that.fields);
                 }
                 return false;
             }
-            if (cborObjectRepresentation != null && that.cborObjectRepresentation != null &&
-                    Arrays.equals(cborObjectRepresentation, that.cborObjectRepresentation)) {
+            final byte[] thisCbor = cborObjectRepresentation.getIfPresent();
+            final byte[] thatCbor = that.cborObjectRepresentation.getIfPresent();
+            if (thisCbor != null && thatCbor != null && Arrays.equals(thisCbor, thatCbor)) {
                 return true;
             }
-            return Objects.equals(fields(), that.fields());
+            return Objects.equals(fields, that.fields);
         }
 
         @Override
         public int hashCode() {
             int result = hashCode;
             if (0 == result) {
-                result = fields().hashCode();
+                result = fields.hashCode();
                 hashCode = result;
             }
             return result;
         }
 
         String asJsonObjectString() {
-            if (jsonObjectStringRepresentation == null) {
-                jsonObjectStringRepresentation = createStringRepresentation(this.fields());
+            String result = jsonObjectStringRepresentation.getIfPresent();
+            if (result == null) {
+                result = createStringRepresentation();
+                jsonObjectStringRepresentation.set(result);
             }
-            return jsonObjectStringRepresentation;
+            return result;
         }
 
         void writeValue(final SerializationContext serializationContext) throws IOException {
-            if (cborObjectRepresentation == null) {
-                cborObjectRepresentation = createCborRepresentation(this.fields());
+            byte[] cborRepresentation = cborObjectRepresentation.getIfPresent();
+            if (cborRepresentation == null) {
+                if (!isSerializedAsRoot(serializationContext) || !cborObjectRepresentation.isRetaining()) {
+                    // nested objects are written directly in order not to encode each sub-tree once per level
+                    writeFields(serializationContext);
+                    return;
+                }
+                cborRepresentation = createCborRepresentation();
+                cborObjectRepresentation.set(cborRepresentation);
             }
-            serializationContext.writeCachedElement(cborObjectRepresentation);
+            serializationContext.writeCachedElement(cborRepresentation);
         }
 
-        private byte[] createCborRepresentation(final Map<String, JsonField> jsonFieldMap) throws IOException {
+        private static boolean isSerializedAsRoot(final SerializationContext serializationContext) {
+            return serializationContext.getJacksonGenerator().getOutputContext().inRoot();
+        }
+
+        private byte[] createCborRepresentation() throws IOException {
             final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(guessSerializedSize());
 
             try (final SerializationContext serializationContext = new SerializationContext(byteArrayOutputStream)) {
-                writeStartObjectWithLength(serializationContext, jsonFieldMap.size());
-                for (final JsonField jsonField : jsonFieldMap.values()) {
+                writeFields(serializationContext);
+            }
+            return byteArrayOutputStream.toByteArray();
+        }
+
+        private void writeFields(final SerializationContext serializationContext) throws IOException {
+            writeStartObjectWithLength(serializationContext, fields.size());
+            if (fields instanceof CompactFieldMap) {
+                final CompactFieldMap compactFields = (CompactFieldMap) fields;
+                final JsonGenerator jacksonGenerator = serializationContext.getJacksonGenerator();
+                for (int i = 0; i < compactFields.size(); i++) {
+                    jacksonGenerator.writeFieldName(compactFields.getKeyAt(i).toString());
+                    compactFields.getValueAt(i).writeValue(serializationContext);
+                }
+            } else {
+                for (final JsonField jsonField : fields.values()) {
                     jsonField.writeKeyAndValue(serializationContext);
                 }
-                serializationContext.getJacksonGenerator().writeEndObject();
             }
-            return byteArrayOutputStream.toByteArray();
+            serializationContext.getJacksonGenerator().writeEndObject();
         }
 
         private static void writeStartObjectWithLength(final SerializationContext serializationContext, int length)
@@ -773,24 +836,32 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         private int guessSerializedSize() {
             // This function currently overestimates for CBOR and underestimates for JSON, but it should be better than a static guess.
-            if (jsonObjectStringRepresentation != null) {
-                return jsonObjectStringRepresentation.length();
+            final String stringRepresentation = jsonObjectStringRepresentation.getIfPresent();
+            if (stringRepresentation != null) {
+                return stringRepresentation.length();
             }
-            if (cborObjectRepresentation != null) {
-                return cborObjectRepresentation.length;
+            final byte[] cborRepresentation = cborObjectRepresentation.getIfPresent();
+            if (cborRepresentation != null) {
+                return cborRepresentation.length;
             }
             return 512;
         }
 
-        public long upperBoundForStringSize() {
-            if (jsonObjectStringRepresentation != null) {
-                return jsonObjectStringRepresentation.length();
+        long upperBoundForStringSize() {
+            final String stringRepresentation = jsonObjectStringRepresentation.getIfPresent();
+            if (stringRepresentation != null) {
+                return stringRepresentation.length();
+            }
+            final byte[] cborRepresentation = cborObjectRepresentation.getIfPresent();
+            if (cborRepresentation != null) {
+                return cborRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
-            if (cborObjectRepresentation != null) {
-                return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
+            long result = 2; // enclosing braces
+            for (final JsonField jsonField : fields.values()) {
+                result += jsonField.getKeyName().length() * MAX_KEY_ESCAPE_FACTOR + NUM_KEY_ENCLOSING_QUOTES_AND_COLON;
+                result += jsonField.getValue().getUpperBoundForStringSize() + 1; // delimiting comma
             }
-            assert false; // this should never happen
-            return Long.MAX_VALUE;
+            return result;
         }
 
     }
@@ -874,7 +945,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (null != jsonObjectBuilder) {
                 defaultHandler.endObjectValue(jsonObjectBuilder, name);
             } else {
-                jsonFields.add(JsonField.newInstance(name, defaultHandler.getValue()));
+                jsonFields.add(JsonField.newInstance(ImmutableJsonKey.interned(name), defaultHandler.getValue()));
             }
         }
 
@@ -13,7 +13,6 @@
 package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -21,10 +20,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -34,15 +29,14 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonPointer implements JsonPointer {
 
-    private static final Pattern DOUBLE_SLASH_PATTERN = Pattern.compile("//");
     private static final String SLASH = "/";
-    private static final String SLASH_REGEX = "/(?!/)"; // a SLASH which is not followed by another slash
-    private static final Pattern SINGLE_SLASH_REGEX_PATTERN = Pattern.compile(SLASH_REGEX);
-    private static final Pattern ESCAPED_TILDE_PATTERN = Pattern.compile("~0");
-    private static final Pattern DECODED_TILDE_PATTERN = Pattern.compile("~");
+    private static final char SLASH_CHAR = '/';
+    private static final char TILDE_CHAR = '~';
 
     private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(Collections.emptyList());
 
+    private static final InterningCache<JsonPointer> INTERNED_POINTERS = InterningCache.newInstance();
+
     private final List<JsonKey> jsonKeyHierarchy;
 
     private ImmutableJsonPointer(final List<JsonKey> theJsonKeys) {
@@ -79,25 +73,73 @@ final class ImmutableJsonPointer implements JsonPointer {
             result = newInstance(Collections.singletonList(((JsonKey) slashDelimitedCharSequence)));
         } else if (0 == slashDelimitedCharSequence.length()) {
             result = empty();
-        } else if (DOUBLE_SLASH_PATTERN.matcher(slashDelimitedCharSequence).find()) {
-            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedCharSequence)
-                    .build();
         } else {
-            final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedCharSequence))
-                    .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
-                    .map(ImmutableJsonPointer::decodeTilde)
-                    .map(JsonFactory::newKey)
-                    .collect(toList());
-
-            result = newInstance(jsonKeys);
+            final String pointerString = slashDelimitedCharSequence.toString();
+            final JsonPointer internedPointer = INTERNED_POINTERS.get(pointerString);
+            if (null != internedPointer) {
+                result = internedPointer;
+            } else {
+                result = ofParsed(pointerString, 0, pointerString.length());
+                INTERNED_POINTERS.put(pointerString, result);
+            }
         }
 
         return result;
     }
 
-    private static String decodeTilde(final CharSequence keyString) {
-        final Matcher matcher = ESCAPED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(DECODED_TILDE_PATTERN.toString());
+    /**
+     * Parses the characters {@code start} (inclusive) to {@code end} (exclusive) of the given character sequence to
+     * obtain a JSON pointer. The characters are parsed in a single pass; each key is decoded and interned on the way.
+     *
+     * @param charSequence the character sequence which contains the slash delimited JSON pointer. The leading slash
+     * may be omitted.
+     * @param start the index of the first character of the JSON pointer.
+     * @param end the index after the last character of the JSON pointer.
+     * @return the JSON pointer.
+     * @throws JsonPointerInvalidException if the JSON pointer contains consecutive slashes.
+     */
+    static JsonPointer ofParsed(final CharSequence charSequence, final int start, final int end) {
+        List<JsonKey> jsonKeys = null;
+        int keyStart = start;
+        boolean containsTilde = false;
+        for (int i = start; i <= end; i++) {
+            final char c = i < end ? charSequence.charAt(i) : SLASH_CHAR;
+            if (SLASH_CHAR == c) {
+                if (i + 1 < end && SLASH_CHAR == charSequence.charAt(i + 1)) {
+                    throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(
+                            charSequence.subSequence(start, end))
+                            .build();
+                }
+                if (keyStart < i) { // ignore empty segments
+                    if (null == jsonKeys) {
+                        jsonKeys = new ArrayList<>();
+                    }
+                    jsonKeys.add(containsTilde
+                            ? JsonKey.of(decodeTilde(charSequence, keyStart, i))
+                            : ImmutableJsonKey.interned(charSequence, keyStart, i));
+                }
+                keyStart = i + 1;
+                containsTilde = false;
+            } else if (TILDE_CHAR == c) {
+                containsTilde = true;
+            }
+        }
+        return null != jsonKeys ? newInstance(jsonKeys) : empty();
+    }
+
+    private static String decodeTilde(final CharSequence charSequence, final int start, final int end) {
+        final StringBuilder stringBuilder = new StringBuilder(end - start);
+        int i = start;
+        while (i < end) {
+            final char c = charSequence.charAt(i);
+            stringBuilder.append(c);
+            if (TILDE_CHAR == c && i + 1 < end && '0' == charSequence.charAt(i + 1)) {
+                i += 2; // "~0" is decoded to "~"
+            } else {
+                i++;
+            }
+        }
+        return stringBuilder.toString();
     }
 
     private static ImmutableJsonPointer newInstance(final List<JsonKey> jsonKeyHierarchy) {
@@ -232,9 +274,8 @@ final class ImmutableJsonPointer implements JsonPointer {
     @SuppressWarnings("squid:S1166")
     @Override
     public Optional<JsonPointer> getSubPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
         try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(level, jsonKeysCopy.size());
+            final List<JsonKey> subList = jsonKeyHierarchy.subList(level, jsonKeyHierarchy.size());
             return Optional.of(newInstance(subList));
         } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
             return Optional.empty();
@@ -243,10 +284,8 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     @Override
     public Optional<JsonPointer> getPrefixPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
-
         try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(0, level);
+            final List<JsonKey> subList = jsonKeyHierarchy.subList(0, level);
             return Optional.of(newInstance(subList));
         } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
             return Optional.empty();
@@ -327,17 +366,24 @@ final class ImmutableJsonPointer implements JsonPointer {
         if (jsonKeyHierarchy.isEmpty()) {
             stringRepresentation = SLASH;
         } else {
-            stringRepresentation = SLASH + jsonKeyHierarchy.stream()
-                    .map(ImmutableJsonPointer::escapeTilde)
-                    .collect(Collectors.joining(SLASH));
+            final StringBuilder stringBuilder = new StringBuilder();
+            for (final JsonKey jsonKey : jsonKeyHierarchy) {
+                stringBuilder.append(SLASH_CHAR);
+                appendWithEscapedTilde(jsonKey, stringBuilder);
+            }
+            stringRepresentation = stringBuilder.toString();
         }
         return stringRepresentation;
     }
 
-    private static String escapeTilde(final JsonKey jsonKey) {
-        final String keyString = jsonKey.toString();
-        final Matcher matcher = DECODED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(ESCAPED_TILDE_PATTERN.toString());
+    private static void appendWithEscapedTilde(final CharSequence jsonKey, final StringBuilder stringBuilder) {
+        for (int i = 0; i < jsonKey.length(); i++) {
+            final char c = jsonKey.charAt(i);
+            stringBuilder.append(c);
+            if (TILDE_CHAR == c) {
+                stringBuilder.append('0'); // "~" is escaped as "~0"
+            }
+        }
     }
 
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Package internal bounded cache which maps recurring strings to the immutable values parsed from them, for example
+ * key names to {@link JsonKey}s.
+ * <p>
+ * The cache is direct-mapped: each string has exactly one slot determined by its hash code and a newly cached value
+ * replaces the value of a colliding string. Thus lookups and updates do not lock and the memory consumption is
+ * bounded by the configured capacity. Strings may be looked up by a range of characters of a {@link CharSequence} so
+ * that a hit does not allocate anything.
+ * </p>
+ * <p>
+ * The capacity is configured by the system property {@value #CAPACITY_SYSTEM_PROPERTY}; a capacity of {@code 0}
+ * disables caching.
+ * </p>
+ *
+ * @param <T> the type of the cached values.
+ */
+@ThreadSafe
+final class InterningCache<T> {
+
+    /**
+     * Name of the system property which determines the maximum number of entries of each interning cache.
+     */
+    static final String CAPACITY_SYSTEM_PROPERTY = "ditto.json.interning-cache-capacity";
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = 1 << 20;
+
+    /**
+     * Strings longer than this are not cached as they are unlikely to recur.
+     */
+    private static final int MAX_STRING_LENGTH = 256;
+
+    @Nullable private final Entry<T>[] entries;
+    private final int mask;
+
+    private InterningCache(final int capacity) {
+        if (0 < capacity) {
+            final int powerOfTwoCapacity = Math.min(MAX_CAPACITY, Integer.highestOneBit(capacity - 1) << 1);
+            @SuppressWarnings("unchecked")
+            final Entry<T>[] newEntries = (Entry<T>[]) new Entry[Math.max(1, powerOfTwoCapacity)];
+            entries = newEntries;
+            mask = newEntries.length - 1;
+        } else {
+            entries = null;
+            mask = 0;
+        }
+    }
+
+    /**
+     * Returns a new cache with the capacity which is configured by the system property
+     * {@value #CAPACITY_SYSTEM_PROPERTY}.
+     *
+     * @param <T> the type of the cached values.
+     * @return the cache.
+     */
+    static <T> InterningCache<T> newInstance() {
+        return newInstance(Integer.getInteger(CAPACITY_SYSTEM_PROPERTY, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Returns a new cache with the given capacity which is rounded up to the next power of two.
+     *
+     * @param capacity the maximum number of cached entries; {@code 0} disables caching.
+     * @param <T> the type of the cached values.
+     * @return the cache.
+     */
+    static <T> InterningCache<T> newInstance(final int capacity) {
+        return new InterningCache<>(capacity);
+    }
+
+    /**
+     * Computes the hash code of the characters {@code start} (inclusive) to {@code end} (exclusive) of the given
+     * character sequence. The result is equal to the {@link String#hashCode()} of these characters.
+     *
+     * @param charSequence the character sequence.
+     * @param start the index of the first character.
+     * @param end the index after the last character.
+     * @return the hash code.
+     */
+    static int hash(final CharSequence charSequence, final int start, final int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            result = 31 * result + charSequence.charAt(i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value which is cached for the characters {@code start} (inclusive) to {@code end} (exclusive) of
+     * the given character sequence.
+     *
+     * @param charSequence the character sequence.
+     * @param start the index of the first character.
+     * @param end the index after the last character.
+     * @param hash the result of {@link #hash(CharSequence, int, int)} for the same arguments.
+     * @return the cached value or {@code null}.
+     */
+    @Nullable
+    T get(final CharSequence charSequence, final int start, final int end, final int hash) {
+        if (null != entries) {
+            final Entry<T> entry = entries[spread(hash) & mask];
+            if (null != entry && entry.hash == hash && entry.matches(charSequence, start, end)) {
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value which is cached for the given string.
+     *
+     * @param string the string.
+     * @return the cached value or {@code null}.
+     */
+    @Nullable
+    T get(final String string) {
+        return get(string, 0, string.length(), string.hashCode());
+    }
+
+    /**
+     * Caches the given value for the given string, possibly replacing the value of another string.
+     *
+     * @param string the string.
+     * @param value the value which was parsed from {@code string}.
+     */
+    void put(final String string, final T value) {
+        if (null != entries && string.length() <= MAX_STRING_LENGTH) {
+            final int hash = string.hashCode();
+            entries[spread(hash) & mask] = new Entry<>(hash, string, value);
+        }
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /*
+     * Entries are immutable so that they are safely published by the final fields even though the array is
+     * accessed without synchronization.
+     */
+    private static final class Entry<T> {
+
+        private final int hash;
+        private final String string;
+        private final T value;
+
+        private Entry(final int hash, final String string, final T value) {
+            this.hash = hash;
+            this.string = string;
+            this.value = value;
+        }
+
+        private boolean matches(final CharSequence charSequence, final int start, final int end) {
+            final int length = end - start;
+            if (string.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (string.charAt(i) != charSequence.charAt(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,570 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable map of JSON fields with structural sharing which keeps the insertion order of its keys.
+ * Putting or removing a field returns a new map which shares all but {@code O(log n)} nodes with the original map.
+ * <p>
+ * The fields are stored in a persistent vector in insertion order. The position of each key within the vector is
+ * stored in a persistent hash array mapped trie. Replacing the field of an existing key keeps its position; removing
+ * a field leaves an empty position which is dropped once the number of empty positions exceeds the size of the map.
+ * </p>
+ */
+@Immutable
+final class PersistentFieldMap extends AbstractMap<String, JsonField> {
+
+    private static final PersistentFieldMap EMPTY = new PersistentFieldMap(KeyIndex.EMPTY, FieldVector.EMPTY, 0);
+
+    private static final int MIN_POSITIONS_FOR_COMPACTION = 32;
+
+    private final KeyIndex keyIndex;
+    private final FieldVector fieldVector;
+    private final int size;
+
+    private PersistentFieldMap(final KeyIndex keyIndex, final FieldVector fieldVector, final int size) {
+        this.keyIndex = keyIndex;
+        this.fieldVector = fieldVector;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty {@code PersistentFieldMap}.
+     *
+     * @return the empty map.
+     */
+    static PersistentFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentFieldMap} which contains the given fields in the iteration order of the given map.
+     *
+     * @param fields the fields of the returned map.
+     * @return the map.
+     * @throws NullPointerException if {@code fields} is {@code null}.
+     */
+    static PersistentFieldMap of(final Map<String, JsonField> fields) {
+        requireNonNull(fields, "The fields must not be null!");
+        if (fields instanceof PersistentFieldMap) {
+            return (PersistentFieldMap) fields;
+        }
+        PersistentFieldMap result = EMPTY;
+        for (final Map.Entry<String, JsonField> entry : fields.entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map which associates the given key with the given field. If the key is already contained, the new
+     * field takes the position of the replaced one.
+     *
+     * @param key the key.
+     * @param field the field to be associated with {@code key}.
+     * @return the new map or this map if it already associates {@code key} with {@code field}.
+     */
+    PersistentFieldMap with(final String key, final JsonField field) {
+        requireNonNull(field, "The field must not be null!");
+        final int position = keyIndex.get(key);
+        if (0 <= position) {
+            if (field.equals(fieldVector.get(position))) {
+                return this;
+            }
+            return new PersistentFieldMap(keyIndex, fieldVector.set(position, field), size);
+        }
+        return new PersistentFieldMap(keyIndex.put(key, fieldVector.getCount()), fieldVector.append(field), size + 1);
+    }
+
+    /**
+     * Returns a map without the field of the given key.
+     *
+     * @param key the key of the field to be removed.
+     * @return the new map or this map if it does not contain {@code key}.
+     */
+    PersistentFieldMap without(final String key) {
+        final int position = keyIndex.get(key);
+        if (0 > position) {
+            return this;
+        }
+        final PersistentFieldMap result =
+                new PersistentFieldMap(keyIndex.remove(key), fieldVector.set(position, null), size - 1);
+        final int emptyPositions = result.fieldVector.getCount() - result.size;
+        if (emptyPositions > MIN_POSITIONS_FOR_COMPACTION && emptyPositions > result.size) {
+            return result.compact();
+        }
+        return result;
+    }
+
+    private PersistentFieldMap compact() {
+        PersistentFieldMap result = EMPTY;
+        for (final JsonField field : values()) {
+            result = result.with(field.getKeyName(), field);
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && 0 <= keyIndex.get((String) key);
+    }
+
+    @Nullable
+    @Override
+    public JsonField get(final Object key) {
+        if (key instanceof String) {
+            final int position = keyIndex.get((String) key);
+            if (0 <= position) {
+                return fieldVector.get(position);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<JsonField> values() {
+        return new AbstractCollection<JsonField>() {
+            @Override
+            public Iterator<JsonField> iterator() {
+                return new FieldIterator(fieldVector);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, JsonField>> entrySet() {
+        return new AbstractSet<Entry<String, JsonField>>() {
+            @Override
+            public Iterator<Entry<String, JsonField>> iterator() {
+                final Iterator<JsonField> fieldIterator = new FieldIterator(fieldVector);
+                return new Iterator<Entry<String, JsonField>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return fieldIterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, JsonField> next() {
+                        final JsonField field = fieldIterator.next();
+                        return new SimpleImmutableEntry<>(field.getKeyName(), field);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Iterates the non-empty positions of a field vector.
+     */
+    private static final class FieldIterator implements Iterator<JsonField> {
+
+        private final FieldVector fieldVector;
+        private int position;
+        @Nullable private Object[] leaf;
+        @Nullable private JsonField next;
+
+        private FieldIterator(final FieldVector fieldVector) {
+            this.fieldVector = fieldVector;
+            position = 0;
+            leaf = null;
+            next = findNext();
+        }
+
+        @Nullable
+        private JsonField findNext() {
+            while (position < fieldVector.getCount()) {
+                if (null == leaf || 0 == (position & FieldVector.MASK)) {
+                    leaf = fieldVector.getLeaf(position);
+                }
+                final JsonField field = (JsonField) leaf[position & FieldVector.MASK];
+                position++;
+                if (null != field) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public JsonField next() {
+            final JsonField result = next;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            next = findNext();
+            return result;
+        }
+
+    }
+
+    /**
+     * A persistent vector of fields which is implemented as a trie with a branching factor of 32. Positions may be
+     * empty.
+     */
+    @Immutable
+    private static final class FieldVector {
+
+        private static final int BITS = 5;
+        private static final int WIDTH = 1 << BITS;
+        private static final int MASK = WIDTH - 1;
+
+        private static final FieldVector EMPTY = new FieldVector(0, 0, new Object[WIDTH]);
+
+        private final int count;
+        private final int shift;
+        private final Object[] root;
+
+        private FieldVector(final int count, final int shift, final Object[] root) {
+            this.count = count;
+            this.shift = shift;
+            this.root = root;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        @Nullable
+        JsonField get(final int position) {
+            return (JsonField) getLeaf(position)[position & MASK];
+        }
+
+        Object[] getLeaf(final int position) {
+            Object[] node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Object[]) node[(position >>> level) & MASK];
+            }
+            return node;
+        }
+
+        FieldVector set(final int position, @Nullable final JsonField field) {
+            return new FieldVector(count, shift, set(root, shift, position, field));
+        }
+
+        FieldVector append(final JsonField field) {
+            if (count == 1 << (shift + BITS)) {
+                final Object[] newRoot = new Object[WIDTH];
+                newRoot[0] = root;
+                return new FieldVector(count + 1, shift + BITS, set(newRoot, shift + BITS, count, field));
+            }
+            return new FieldVector(count + 1, shift, set(root, shift, count, field));
+        }
+
+        private static Object[] set(@Nullable final Object[] node, final int level, final int position,
+                @Nullable final JsonField field) {
+
+            final Object[] result = null != node ? node.clone() : new Object[WIDTH];
+            if (0 == level) {
+                result[position & MASK] = field;
+            } else {
+                final int childIndex = (position >>> level) & MASK;
+                result[childIndex] = set((Object[]) result[childIndex], level - BITS, position, field);
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * A persistent hash array mapped trie which maps keys to their position in the field vector.
+     */
+    @Immutable
+    private static final class KeyIndex {
+
+        private static final KeyIndex EMPTY = new KeyIndex(BitmapNode.EMPTY);
+
+        private final Node root;
+
+        private KeyIndex(final Node root) {
+            this.root = root;
+        }
+
+        int get(final String key) {
+            return root.find(0, key.hashCode(), key);
+        }
+
+        KeyIndex put(final String key, final int position) {
+            final Node newRoot = root.put(0, key.hashCode(), key, position);
+            return newRoot == root ? this : new KeyIndex(newRoot);
+        }
+
+        KeyIndex remove(final String key) {
+            final Node newRoot = root.remove(0, key.hashCode(), key);
+            if (null == newRoot) {
+                return EMPTY;
+            }
+            return newRoot == root ? this : new KeyIndex(newRoot);
+        }
+
+    }
+
+    private abstract static class Node {
+
+        static final int BITS = 5;
+        static final int MASK = (1 << BITS) - 1;
+
+        /**
+         * @return the position of the key or {@code -1} if the key is not contained.
+         */
+        abstract int find(int shift, int hash, String key);
+
+        abstract Node put(int shift, int hash, String key, int position);
+
+        /**
+         * @return the node without the key or {@code null} if the node became empty.
+         */
+        @Nullable
+        abstract Node remove(int shift, int hash, String key);
+
+        static int bit(final int hash, final int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        static Node createNode(final int shift, final String key1, final int position1, final int hash2,
+                final String key2, final int position2) {
+
+            final int hash1 = key1.hashCode();
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new String[]{key1, key2}, new int[]{position1, position2});
+            }
+            return BitmapNode.EMPTY
+                    .put(shift, hash1, key1, position1)
+                    .put(shift, hash2, key2, position2);
+        }
+
+    }
+
+    /**
+     * A node with up to 32 entries which are either a key with its position or a sub node.
+     */
+    private static final class BitmapNode extends Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        // pairs of a key and its position or of null and a sub node
+        private final Object[] array;
+
+        private BitmapNode(final int bitmap, final Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int index(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        int find(final int shift, final int hash, final String key) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return -1;
+            }
+            final int index = index(bit);
+            final Object keyOrNull = array[2 * index];
+            final Object valueOrNode = array[2 * index + 1];
+            if (null == keyOrNull) {
+                return ((Node) valueOrNode).find(shift + BITS, hash, key);
+            }
+            return key.equals(keyOrNull) ? (Integer) valueOrNode : -1;
+        }
+
+        @Override
+        Node put(final int shift, final int hash, final String key, final int position) {
+            final int bit = bit(hash, shift);
+            final int index = index(bit);
+            if (0 == (bitmap & bit)) {
+                final Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, 2 * index);
+                newArray[2 * index] = key;
+                newArray[2 * index + 1] = position;
+                System.arraycopy(array, 2 * index, newArray, 2 * (index + 1), array.length - 2 * index);
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+            final Object keyOrNull = array[2 * index];
+            final Object valueOrNode = array[2 * index + 1];
+            if (null == keyOrNull) {
+                final Node node = (Node) valueOrNode;
+                final Node newNode = node.put(shift + BITS, hash, key, position);
+                return newNode == node ? this : replace(index, null, newNode);
+            }
+            if (key.equals(keyOrNull)) {
+                return position == (Integer) valueOrNode ? this : replace(index, key, position);
+            }
+            return replace(index, null,
+                    createNode(shift + BITS, (String) keyOrNull, (Integer) valueOrNode, hash, key, position));
+        }
+
+        private BitmapNode replace(final int index, @Nullable final String key, final Object valueOrNode) {
+            final Object[] newArray = array.clone();
+            newArray[2 * index] = key;
+            newArray[2 * index + 1] = valueOrNode;
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        @Nullable
+        @Override
+        Node remove(final int shift, final int hash, final String key) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int index = index(bit);
+            final Object keyOrNull = array[2 * index];
+            final Object valueOrNode = array[2 * index + 1];
+            if (null == keyOrNull) {
+                final Node node = (Node) valueOrNode;
+                final Node newNode = node.remove(shift + BITS, hash, key);
+                if (newNode == node) {
+                    return this;
+                }
+                return null != newNode ? replace(index, null, newNode) : removeEntry(bit, index);
+            }
+            return key.equals(keyOrNull) ? removeEntry(bit, index) : this;
+        }
+
+        @Nullable
+        private BitmapNode removeEntry(final int bit, final int index) {
+            if (bitmap == bit) {
+                return null;
+            }
+            final Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, 2 * index);
+            System.arraycopy(array, 2 * (index + 1), newArray, 2 * index, newArray.length - 2 * index);
+            return new BitmapNode(bitmap ^ bit, newArray);
+        }
+
+    }
+
+    /**
+     * A node for keys with the same hash code.
+     */
+    private static final class CollisionNode extends Node {
+
+        private final int hash;
+        private final String[] keys;
+        private final int[] positions;
+
+        private CollisionNode(final int hash, final String[] keys, final int[] positions) {
+            this.hash = hash;
+            this.keys = keys;
+            this.positions = positions;
+        }
+
+        private int indexOf(final String key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int find(final int shift, final int hash, final String key) {
+            if (this.hash != hash) {
+                return -1;
+            }
+            final int index = indexOf(key);
+            return 0 <= index ? positions[index] : -1;
+        }
+
+        @Override
+        Node put(final int shift, final int hash, final String key, final int position) {
+            if (this.hash != hash) {
+                // nest this node into a bitmap node which is able to distinguish both hashes
+                final BitmapNode bitmapNode = new BitmapNode(bit(this.hash, shift), new Object[]{null, this});
+                return bitmapNode.put(shift, hash, key, position);
+            }
+            final int index = indexOf(key);
+            if (0 <= index) {
+                if (positions[index] == position) {
+                    return this;
+                }
+                final int[] newPositions = positions.clone();
+                newPositions[index] = position;
+                return new CollisionNode(hash, keys, newPositions);
+            }
+            final String[] newKeys = new String[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, keys.length);
+            newKeys[keys.length] = key;
+            final int[] newPositions = new int[positions.length + 1];
+            System.arraycopy(positions, 0, newPositions, 0, positions.length);
+            newPositions[positions.length] = position;
+            return new CollisionNode(hash, newKeys, newPositions);
+        }
+
+        @Nullable
+        @Override
+        Node remove(final int shift, final int hash, final String key) {
+            if (this.hash != hash) {
+                return this;
+            }
+            final int index = indexOf(key);
+            if (0 > index) {
+                return this;
+            }
+            if (1 == keys.length) {
+                return null;
+            }
+            final String[] newKeys = new String[keys.length - 1];
+            final int[] newPositions = new int[positions.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, newKeys.length - index);
+            System.arraycopy(positions, 0, newPositions, 0, index);
+            System.arraycopy(positions, index + 1, newPositions, index, newPositions.length - index);
+            return new CollisionNode(hash, newKeys, newPositions);
+        }
+
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.lang.ref.SoftReference;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Package internal cache for a serialized form (the JSON string or the CBOR bytes) of a JSON object or array.
+ * The structured form of a JSON object or array is always the primary one; serialized forms are only created on
+ * demand and then retained according to the {@link Policy} which is configured by the system property
+ * {@value #POLICY_SYSTEM_PROPERTY}.
+ *
+ * @param <T> the type of the serialized form.
+ */
+@ThreadSafe
+abstract class SerializedFormCache<T> {
+
+    /**
+     * Name of the system property which determines the {@link Policy} for retaining serialized forms.
+     */
+    static final String POLICY_SYSTEM_PROPERTY = "ditto.json.serialized-form-cache-policy";
+
+    private static final Policy POLICY = Policy.fromSystemProperty();
+
+    private SerializedFormCache() {
+        super();
+    }
+
+    /**
+     * Returns a new cache according to the configured policy.
+     *
+     * @param initialValue the serialized form which is already known or {@code null}.
+     * @param <T> the type of the serialized form.
+     * @return the cache.
+     */
+    static <T> SerializedFormCache<T> of(@Nullable final T initialValue) {
+        return POLICY.newCache(initialValue);
+    }
+
+    /**
+     * Returns the cached serialized form.
+     *
+     * @return the serialized form or {@code null} if it was not created yet or if it was not retained.
+     */
+    @Nullable
+    abstract T getIfPresent();
+
+    /**
+     * Caches the given serialized form.
+     *
+     * @param value the serialized form.
+     */
+    abstract void set(T value);
+
+    /**
+     * Indicates whether this cache retains serialized forms at all.
+     *
+     * @return {@code true} if a serialized form passed to {@link #set(Object)} may be returned later on.
+     */
+    abstract boolean isRetaining();
+
+    /**
+     * Determines how long a serialized form is retained once it was created.
+     */
+    enum Policy {
+
+        /**
+         * Serialized forms are retained as long as the JSON value they belong to.
+         */
+        STRONG {
+            @Override
+            <T> SerializedFormCache<T> newCache(@Nullable final T initialValue) {
+                return new Strong<>(initialValue);
+            }
+        },
+
+        /**
+         * Serialized forms are retained until the garbage collector needs the memory.
+         */
+        SOFT {
+            @Override
+            <T> SerializedFormCache<T> newCache(@Nullable final T initialValue) {
+                return new Soft<>(initialValue);
+            }
+        },
+
+        /**
+         * Serialized forms are not retained but created on each request.
+         */
+        NONE {
+            @Override
+            <T> SerializedFormCache<T> newCache(@Nullable final T initialValue) {
+                @SuppressWarnings("unchecked")
+                final SerializedFormCache<T> result = (SerializedFormCache<T>) None.INSTANCE;
+                return result;
+            }
+        };
+
+        abstract <T> SerializedFormCache<T> newCache(@Nullable T initialValue);
+
+        private static Policy fromSystemProperty() {
+            final String policyName = System.getProperty(POLICY_SYSTEM_PROPERTY, SOFT.name());
+            try {
+                return valueOf(policyName.trim().toUpperCase(Locale.ENGLISH));
+            } catch (final IllegalArgumentException e) {
+                return SOFT;
+            }
+        }
+
+    }
+
+    private static final class Strong<T> extends SerializedFormCache<T> {
+
+        @Nullable private volatile T value;
+
+        private Strong(@Nullable final T initialValue) {
+            value = initialValue;
+        }
+
+        @Nullable
+        @Override
+        T getIfPresent() {
+            return value;
+        }
+
+        @Override
+        void set(final T value) {
+            this.value = value;
+        }
+
+        @Override
+        boolean isRetaining() {
+            return true;
+        }
+
+    }
+
+    private static final class Soft<T> extends SerializedFormCache<T> {
+
+        @Nullable private volatile SoftReference<T> reference;
+
+        private Soft(@Nullable final T initialValue) {
+            reference = null != initialValue ? new SoftReference<>(initialValue) : null;
+        }
+
+        @Nullable
+        @Override
+        T getIfPresent() {
+            final SoftReference<T> currentReference = reference;
+            return null != currentReference ? currentReference.get() : null;
+        }
+
+        @Override
+        void set(final T value) {
+            reference = new SoftReference<>(value);
+        }
+
+        @Override
+        boolean isRetaining() {
+            return true;
+        }
+
+    }
+
+    private static final class None extends SerializedFormCache<Object> {
+
+        private static final None INSTANCE = new None();
+
+        @Nullable
+        @Override
+        Object getIfPresent() {
+            return null;
+        }
+
+        @Override
+        void set(final Object value) {
+            // serialized forms are not retained
+        }
+
+        @Override
+        boolean isRetaining() {
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompactFieldMap}.
+ */
+public final class CompactFieldMapTest {
+
+    @Test
+    public void emptyMapHasNoFields() {
+        final CompactFieldMap underTest = CompactFieldMap.empty();
+
+        assertThat(underTest).isEmpty();
+        assertThat(underTest.get("foo")).isNull();
+        assertThat(underTest.getValue("foo")).isNull();
+        assertThat(underTest.containsKey("foo")).isFalse();
+    }
+
+    @Test
+    public void ofKeepsIterationOrderOfGivenMap() {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        fields.put("c", field("c", 1));
+        fields.put("a", field("a", 2));
+        fields.put("b", field("b", 3));
+
+        final CompactFieldMap underTest = CompactFieldMap.of(fields);
+
+        assertThat(new ArrayList<>(underTest.values())).containsExactlyElementsOf(fields.values());
+        assertThat(underTest.getKeyAt(1)).isEqualTo(JsonKey.of("a"));
+        assertThat(underTest.getValueAt(2)).isEqualTo(JsonValue.of(3));
+    }
+
+    @Test
+    public void replacingFieldKeepsInsertionOrder() {
+        final CompactFieldMap underTest = CompactFieldMap.empty()
+                .with("a", field("a", 1))
+                .with("b", field("b", 2))
+                .with("c", field("c", 3))
+                .with("a", field("a", 4));
+
+        assertThat(new ArrayList<>(underTest.values()))
+                .containsExactly(field("a", 4), field("b", 2), field("c", 3));
+    }
+
+    @Test
+    public void modificationsDoNotAffectOriginalMap() {
+        final CompactFieldMap original = CompactFieldMap.empty()
+                .with("a", field("a", 1))
+                .with("b", field("b", 2));
+
+        final CompactFieldMap modified = original.with("a", field("a", 3)).without("b").with("c", field("c", 4));
+
+        assertThat(original).containsExactly(entry("a", 1), entry("b", 2));
+        assertThat(modified).containsExactly(entry("a", 3), entry("c", 4));
+        assertThat(original.without("x")).isSameAs(original);
+    }
+
+    @Test
+    public void fieldDefinitionsAreRetained() {
+        final JsonFieldDefinition<Integer> definition = JsonFactory.newIntFieldDefinition("b");
+        final CompactFieldMap underTest = CompactFieldMap.empty()
+                .with("a", field("a", 1))
+                .with("b", JsonField.newInstance("b", JsonValue.of(2), definition))
+                .without("a");
+
+        assertThat(underTest.get("b").getDefinition()).contains(definition);
+        assertThat(underTest.with("c", field("c", 3)).get("c").getDefinition()).isEmpty();
+    }
+
+    @Test
+    public void keysWithSameHashCodeAreDistinguishedInHashIndex() {
+        // "Aa" and "BB" have the same hash code
+        CompactFieldMap underTest = CompactFieldMap.empty()
+                .with("Aa", field("Aa", 1))
+                .with("BB", field("BB", 2));
+        for (int i = 0; i < 20; i++) {
+            underTest = underTest.with("key" + i, field("key" + i, i));
+        }
+
+        assertThat(underTest.getValue("Aa")).isEqualTo(JsonValue.of(1));
+        assertThat(underTest.getValue("BB")).isEqualTo(JsonValue.of(2));
+        assertThat(underTest.getValue("CC")).isNull();
+        assertThat(underTest.without("Aa").getValue("BB")).isEqualTo(JsonValue.of(2));
+    }
+
+    @Test
+    public void equalsMapsWithSameFieldsInDifferentOrder() {
+        final CompactFieldMap first = CompactFieldMap.empty().with("a", field("a", 1)).with("b", field("b", 2));
+        final CompactFieldMap second = CompactFieldMap.empty().with("b", field("b", 2)).with("a", field("a", 1));
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertThat(first).isNotEqualTo(second.with("a", field("a", 3)));
+    }
+
+    @Test
+    public void behavesLikeLinkedHashMapForRandomModifications() {
+        final Random random = new Random(42);
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        CompactFieldMap underTest = CompactFieldMap.empty();
+
+        for (int i = 0; i < 20_000; i++) {
+            final String key = String.valueOf(random.nextInt(40));
+            if (0 == random.nextInt(3)) {
+                expected.remove(key);
+                underTest = underTest.without(key);
+            } else {
+                expected.put(key, field(key, i));
+                underTest = underTest.with(key, field(key, i));
+            }
+            final JsonField expectedField = expected.get(key);
+            assertThat(underTest.getValue(key)).isEqualTo(null != expectedField ? expectedField.getValue() : null);
+        }
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(new ArrayList<>(underTest.values())).containsExactlyElementsOf(expected.values());
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+    private static Map.Entry<String, JsonField> entry(final String key, final int value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, field(key, value));
+    }
+
+}
@@ -21,7 +21,6 @@ import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstance
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
 import java.io.IOException;
-import java.lang.ref.SoftReference;
 import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -34,7 +33,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-import org.eclipse.ditto.json.ImmutableJsonArray.SoftReferencedValueList;
+import org.eclipse.ditto.json.ImmutableJsonArray.ValueList;
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -59,7 +58,7 @@ public final class ImmutableJsonArrayTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonArray.class,
                 areImmutable(),
-                provided(SoftReferencedValueList.class).isAlsoImmutable());
+                provided(ValueList.class).isAlsoImmutable());
     }
 
     @Test
@@ -68,12 +67,12 @@ public final class ImmutableJsonArrayTest {
         final List<JsonValue> numberJsonValueList = toList(JsonValue.of(1), JsonValue.of(2), JsonValue.of(3));
         final ImmutableJsonArray redArray = ImmutableJsonArray.of(stringJsonValueList);
         final ImmutableJsonArray blackArray = ImmutableJsonArray.of(numberJsonValueList);
-        final SoftReferencedValueList redValueList = SoftReferencedValueList.of(stringJsonValueList);
-        final SoftReferencedValueList blackValueList = SoftReferencedValueList.of(numberJsonValueList);
+        final ValueList redValueList = ValueList.of(stringJsonValueList);
+        final ValueList blackValueList = ValueList.of(numberJsonValueList);
 
         EqualsVerifier.forClass(ImmutableJsonArray.class)
                 .withPrefabValues(ImmutableJsonArray.class, redArray, blackArray)
-                .withPrefabValues(SoftReferencedValueList.class, redValueList, blackValueList)
+                .withPrefabValues(ValueList.class, redValueList, blackValueList)
                 .withNonnullFields("valueList")
                 .verify();
     }
@@ -457,7 +456,7 @@ public final class ImmutableJsonArrayTest {
     @Test
     public void validateInternalCachingBehaviour() throws IOException {
         final ImmutableJsonArray arrayWithSelfGeneratedCache = ImmutableJsonArray.of(KNOWN_INT_VALUE_LIST);
-        assertInternalCachesAreAsExpected(arrayWithSelfGeneratedCache, true, false);
+        assertInternalCachesAreAsExpected(arrayWithSelfGeneratedCache, false, false);
 
         final ByteBuffer byteBuffer = CborFactory.toByteBuffer(arrayWithSelfGeneratedCache);
         final JsonArray arrayWithCborCache = CborFactory.readFrom(byteBuffer).asArray();
@@ -470,45 +469,48 @@ public final class ImmutableJsonArrayTest {
     }
 
     @Test
-    public void validateSoftReferenceStrategy() throws IllegalAccessException, NoSuchFieldException {
-        final ImmutableJsonArray jsonArray = ImmutableJsonArray.of(KNOWN_INT_VALUE_LIST);
-        assertInternalCachesAreAsExpected(jsonArray, true, false);
+    public void nestedArraysAreNotSerializedSeparately() throws IOException {
+        final ImmutableJsonArray nestedArray = ImmutableJsonArray.of(KNOWN_INT_VALUE_LIST);
+        final ImmutableJsonArray jsonArray = ImmutableJsonArray.of(Arrays.asList(nestedArray, nestedArray));
+
+        final ByteBuffer byteBuffer = CborFactory.toByteBuffer(jsonArray);
 
-        final Field valueListField = jsonArray.getClass().getDeclaredField("valueList");
-        valueListField.setAccessible(true);
-        final SoftReferencedValueList valueList = (SoftReferencedValueList) valueListField.get(jsonArray);
+        assertInternalCachesAreAsExpected(jsonArray, true, false);
+        assertInternalCachesAreAsExpected(nestedArray, false, false);
+        assertThat(CborFactory.readFrom(byteBuffer)).isEqualTo(jsonArray);
+    }
 
-        final Field softReferenceField = valueList.getClass().getDeclaredField("valuesReference");
-        softReferenceField.setAccessible(true);
-        SoftReference softReference = (SoftReference) softReferenceField.get(valueList);
+    @Test
+    public void upperBoundForStringSizeWithoutSerializedForm() {
+        final ImmutableJsonArray underTest = ImmutableJsonArray.of(Arrays.asList(JsonValue.of("f\u00f6\"o"),
+                JsonValue.of(-42L), JsonValue.of(true), JsonValue.nullLiteral(),
+                ImmutableJsonArray.of(KNOWN_INT_VALUE_LIST)));
 
-        softReference.clear();
+        final long upperBound = underTest.getUpperBoundForStringSize();
 
-        assertThat(jsonArray.get(0).isPresent()).isTrue();
+        assertThat(upperBound).isGreaterThanOrEqualTo(underTest.toString().length());
     }
 
-    private void assertInternalCachesAreAsExpected(JsonArray jsonArray, boolean cborExpected, boolean jsonExpected) {
+    private static void assertInternalCachesAreAsExpected(final JsonArray jsonArray, final boolean cborExpected,
+            final boolean jsonExpected) {
+
         try {
             final Field valueListField = jsonArray.getClass().getDeclaredField("valueList");
             valueListField.setAccessible(true);
-            final SoftReferencedValueList valueList = (SoftReferencedValueList) valueListField.get(jsonArray);
+            final ValueList valueList = (ValueList) valueListField.get(jsonArray);
 
             final Field cborArrayField = valueList.getClass().getDeclaredField("cborArrayRepresentation");
             cborArrayField.setAccessible(true);
-            byte[] cborArray = (byte[]) cborArrayField.get(valueList);
+            final SerializedFormCache<?> cborArray = (SerializedFormCache<?>) cborArrayField.get(valueList);
 
             final Field jsonStringField = valueList.getClass().getDeclaredField("jsonArrayStringRepresentation");
             jsonStringField.setAccessible(true);
-            String jsonString = (String) jsonStringField.get(valueList);
+            final SerializedFormCache<?> jsonString = (SerializedFormCache<?>) jsonStringField.get(valueList);
 
-            assertThat(cborArray != null).isEqualTo(cborExpected);
-            assertThat(jsonString != null).isEqualTo(jsonExpected);
+            assertThat(cborArray.getIfPresent() != null).isEqualTo(cborExpected);
+            assertThat(jsonString.getIfPresent() != null).isEqualTo(jsonExpected);
         } catch (IllegalAccessException | NoSuchFieldException e) {
-            System.err.println(
-                    "Failed to access internal caching fields in JsonArray using reflection. " +
-                    "This might just be a bug in the test."
-            );
-            e.printStackTrace();
+            throw new AssertionError("Failed to access internal caching fields in JsonArray using reflection.", e);
         }
     }
 }
@@ -21,7 +21,6 @@ import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstance
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
 import java.io.IOException;
-import java.lang.ref.SoftReference;
 import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -35,7 +34,7 @@ import java.util.Optional;
 import java.util.function.Function;
 
 import org.assertj.core.api.Assertions;
-import org.eclipse.ditto.json.ImmutableJsonObject.SoftReferencedFieldMap;
+import org.eclipse.ditto.json.ImmutableJsonObject.FieldMap;
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -77,20 +76,20 @@ public final class ImmutableJsonObjectTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonObject.class,
                 areImmutable(),
-                provided(SoftReferencedFieldMap.class).isAlsoImmutable());
+                provided(FieldMap.class).isAlsoImmutable());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         final Map<String, JsonField> jsonFieldsRed = toMap("foo", JsonValue.of(1));
         final Map<String, JsonField> jsonFieldsBlack = toMap("foo", JsonValue.of(2));
-        final SoftReferencedFieldMap redFieldMap = SoftReferencedFieldMap.of(jsonFieldsRed);
-        final SoftReferencedFieldMap blackFieldMap = SoftReferencedFieldMap.of(jsonFieldsBlack);
+        final FieldMap redFieldMap = FieldMap.of(jsonFieldsRed);
+        final FieldMap blackFieldMap = FieldMap.of(jsonFieldsBlack);
         final ImmutableJsonObject redObject = ImmutableJsonObject.of(jsonFieldsRed);
         final ImmutableJsonObject blackObject = ImmutableJsonObject.of(jsonFieldsBlack);
 
         EqualsVerifier.forClass(ImmutableJsonObject.class)
-                .withPrefabValues(SoftReferencedFieldMap.class, redFieldMap, blackFieldMap)
+                .withPrefabValues(FieldMap.class, redFieldMap, blackFieldMap)
                 .withPrefabValues(ImmutableJsonObject.class, redObject, blackObject)
                 .withNonnullFields("fieldMap")
                 .verify();
@@ -1410,7 +1409,7 @@ public final class ImmutableJsonObjectTest {
     @Test
     public void validateInternalCachingBehaviour() throws IOException {
         final ImmutableJsonObject objectWithSelfGeneratedCache = ImmutableJsonObject.of(KNOWN_FIELDS);
-        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, true, false);
+        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, false, false);
 
         final ByteBuffer byteBuffer = CborFactory.toByteBuffer(objectWithSelfGeneratedCache);
         final JsonObject objectWithCborCache = CborFactory.readFrom(byteBuffer).asObject();
@@ -1423,45 +1422,95 @@ public final class ImmutableJsonObjectTest {
     }
 
     @Test
-    public void validateSoftReferenceStrategy() throws IllegalAccessException, NoSuchFieldException {
-        final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(KNOWN_FIELDS);
+    public void buildingNestedObjectsDoesNotSerializeThem() {
+        final JsonObject nestedObject = JsonFactory.newObjectBuilder().set("baz", KNOWN_INT_42).build();
+        final JsonObject jsonObject = JsonFactory.newObjectBuilder()
+                .set("foo", JsonFactory.newObjectBuilder().set("bar", nestedObject).build())
+                .build();
+
+        assertInternalCachesAreAsExpected(nestedObject, false, false);
+        assertInternalCachesAreAsExpected(jsonObject, false, false);
+    }
+
+    @Test
+    public void nestedObjectsAreNotSerializedSeparately() throws IOException {
+        final ImmutableJsonObject nestedObject = ImmutableJsonObject.of(KNOWN_FIELDS);
+        final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(toMap("nested", nestedObject));
+
+        final ByteBuffer byteBuffer = CborFactory.toByteBuffer(jsonObject);
+
         assertInternalCachesAreAsExpected(jsonObject, true, false);
+        assertInternalCachesAreAsExpected(nestedObject, false, false);
+        assertThat(CborFactory.readFrom(byteBuffer)).isEqualTo(jsonObject);
+    }
 
-        final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
-        valueListField.setAccessible(true);
-        final SoftReferencedFieldMap valueList = (SoftReferencedFieldMap) valueListField.get(jsonObject);
+    @Test
+    public void upperBoundForStringSizeWithoutSerializedForm() {
+        final JsonObject underTest = ImmutableJsonObject.of(KNOWN_FIELDS)
+                .setValue("f\u00f6\"o", JsonValue.of("\t\u0001"))
+                .setValue("nested", ImmutableJsonObject.of(KNOWN_FIELDS));
 
-        final Field softReferenceField = valueList.getClass().getDeclaredField("fieldsReference");
-        softReferenceField.setAccessible(true);
-        SoftReference softReference = (SoftReference) softReferenceField.get(valueList);
+        final long upperBound = underTest.getUpperBoundForStringSize();
 
-        softReference.clear();
+        assertThat(upperBound).isGreaterThanOrEqualTo(underTest.toString().length());
+    }
+
+    @Test
+    public void deepModificationsOfLargeObjectKeepOrderAndLeaveOriginalUnchanged() {
+        final JsonObjectBuilder propertiesBuilder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < 100; i++) {
+            propertiesBuilder.set("p" + i, i);
+        }
+        final JsonObject properties = propertiesBuilder.build();
+        final JsonObject original = JsonFactory.newObjectBuilder().set("properties", properties).build();
+
+        final JsonObject modified = original.setValue(JsonPointer.of("properties/p50"), JsonValue.of("changed"))
+                .remove("properties/p10")
+                .setValue(JsonPointer.of("properties/p100"), JsonValue.of(100));
 
-        assertThat(jsonObject.getValue(KNOWN_KEY_FOO).isPresent()).isTrue();
+        final List<JsonKey> expectedKeys = new ArrayList<>(properties.getKeys());
+        expectedKeys.remove(JsonKey.of("p10"));
+        expectedKeys.add(JsonKey.of("p100"));
+        assertThat(modified.getValue("properties").map(JsonValue::asObject).map(JsonObject::getKeys))
+                .contains(expectedKeys);
+        assertThat(modified.getValue("properties/p50")).contains(JsonValue.of("changed"));
+        assertThat(original.getValue("properties")).contains(properties);
+        assertThat(modified.remove("properties/p100")
+                .setValue(JsonPointer.of("properties/p50"), JsonValue.of(50))
+                .setValue(JsonPointer.of("properties/p10"), JsonValue.of(10))
+                .getValue("properties"))
+                .contains(properties);
     }
 
-    private void assertInternalCachesAreAsExpected(JsonObject jsonObject, boolean cborExpected, boolean jsonExpected) {
+    @Test
+    public void deepModificationWithEqualValueReturnsSameInstance() {
+        final JsonObject underTest = ImmutableJsonObject.empty()
+                .setValue(JsonPointer.of("foo/bar/baz"), JsonValue.of(KNOWN_INT_42));
+
+        assertThat(underTest.setValue(JsonPointer.of("foo/bar/baz"), JsonValue.of(KNOWN_INT_42))).isSameAs(underTest);
+        assertThat(underTest.remove("foo/bar/unknown")).isSameAs(underTest);
+    }
+
+    private static void assertInternalCachesAreAsExpected(final JsonObject jsonObject, final boolean cborExpected,
+            final boolean jsonExpected) {
+
         try {
-            final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
-            valueListField.setAccessible(true);
-            final SoftReferencedFieldMap fieldMap = (SoftReferencedFieldMap) valueListField.get(jsonObject);
+            final Field fieldMapField = jsonObject.getClass().getDeclaredField("fieldMap");
+            fieldMapField.setAccessible(true);
+            final FieldMap fieldMap = (FieldMap) fieldMapField.get(jsonObject);
 
             final Field cborObjectField = fieldMap.getClass().getDeclaredField("cborObjectRepresentation");
             cborObjectField.setAccessible(true);
-            byte[] cborObject = (byte[]) cborObjectField.get(fieldMap);
+            final SerializedFormCache<?> cborObject = (SerializedFormCache<?>) cborObjectField.get(fieldMap);
 
             final Field jsonStringField = fieldMap.getClass().getDeclaredField("jsonObjectStringRepresentation");
             jsonStringField.setAccessible(true);
-            String jsonString = (String) jsonStringField.get(fieldMap);
+            final SerializedFormCache<?> jsonString = (SerializedFormCache<?>) jsonStringField.get(fieldMap);
 
-            assertThat(cborObject != null).isEqualTo(cborExpected);
-            assertThat(jsonString != null).isEqualTo(jsonExpected);
+            assertThat(cborObject.getIfPresent() != null).isEqualTo(cborExpected);
+            assertThat(jsonString.getIfPresent() != null).isEqualTo(jsonExpected);
         } catch (IllegalAccessException | NoSuchFieldException e) {
-            System.err.println(
-                    "Failed to access internal caching fields in JsonObject using reflection. " +
-                            "This might just be a bug in the test."
-            );
-            e.printStackTrace();
+            throw new AssertionError("Failed to access internal caching fields in JsonObject using reflection.", e);
         }
     }
 }
@@ -315,4 +315,23 @@ public final class ImmutableJsonPointerTest {
         assertThat(underTest.toString()).isEqualTo("/foo/~0dum/~0die/~0dum/baz");
     }
 
+    @Test
+    public void parsingRecurringPointerStringReturnsInternedPointerAndKeys() {
+        final JsonPointer first = ImmutableJsonPointer.ofParsed(new StringBuilder("/attributes/location"));
+        final JsonPointer second = ImmutableJsonPointer.ofParsed(new StringBuilder("/attributes/location"));
+        final JsonPointer other = ImmutableJsonPointer.ofParsed("/attributes/manufacturer");
+
+        assertThat(second).isSameAs(first);
+        assertThat(other.getRoot().orElse(null)).isSameAs(first.getRoot().orElse(null));
+    }
+
+    @Test
+    public void parseRangeOfCharSequence() {
+        final String fieldSelector = "thingId,attributes/location(latitude)";
+
+        final JsonPointer underTest = ImmutableJsonPointer.ofParsed(fieldSelector, 8, 27);
+
+        assertThat(underTest).isEqualTo(JsonPointer.of("/attributes/location"));
+    }
+
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link InterningCache}.
+ */
+public final class InterningCacheTest {
+
+    @Test
+    public void hashOfRangeEqualsHashCodeOfString() {
+        final String string = "/features/properties";
+
+        assertThat(InterningCache.hash(string, 10, 20)).isEqualTo("properties".hashCode());
+    }
+
+    @Test
+    public void cachedValueIsFoundByRangeOfCharSequence() {
+        final InterningCache<String> underTest = InterningCache.newInstance(16);
+        final String value = "value";
+        underTest.put("properties", value);
+
+        final String charSequence = "/features/properties/foo";
+
+        assertThat(underTest.get(charSequence, 10, 20, InterningCache.hash(charSequence, 10, 20))).isSameAs(value);
+        assertThat(underTest.get(charSequence, 10, 19, InterningCache.hash(charSequence, 10, 19))).isNull();
+        assertThat(underTest.get("properties")).isSameAs(value);
+    }
+
+    @Test
+    public void collidingStringReplacesCachedValue() {
+        final InterningCache<String> underTest = InterningCache.newInstance(1);
+        underTest.put("foo", "first");
+        underTest.put("bar", "second");
+
+        assertThat(underTest.get("foo")).isNull();
+        assertThat(underTest.get("bar")).isEqualTo("second");
+    }
+
+    @Test
+    public void cacheWithoutCapacityDoesNotCacheAnything() {
+        final InterningCache<String> underTest = InterningCache.newInstance(0);
+        underTest.put("foo", "value");
+
+        assertThat(underTest.get("foo")).isNull();
+    }
+
+}
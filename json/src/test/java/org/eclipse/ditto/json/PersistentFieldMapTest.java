@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentFieldMap}.
+ */
+public final class PersistentFieldMapTest {
+
+    @Test
+    public void emptyMapHasNoFields() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty();
+
+        assertThat(underTest).isEmpty();
+        assertThat(underTest.get("foo")).isNull();
+        assertThat(underTest.containsKey("foo")).isFalse();
+    }
+
+    @Test
+    public void replacingFieldKeepsInsertionOrder() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .with("a", field("a", 1))
+                .with("b", field("b", 2))
+                .with("c", field("c", 3))
+                .with("a", field("a", 4));
+
+        assertThat(new ArrayList<>(underTest.values()))
+                .containsExactly(field("a", 4), field("b", 2), field("c", 3));
+    }
+
+    @Test
+    public void modificationsDoNotAffectOriginalMap() {
+        final PersistentFieldMap original = PersistentFieldMap.empty()
+                .with("a", field("a", 1))
+                .with("b", field("b", 2));
+
+        final PersistentFieldMap modified = original.with("a", field("a", 3)).without("b").with("c", field("c", 4));
+
+        assertThat(original).containsExactly(entry("a", 1), entry("b", 2));
+        assertThat(modified).containsExactly(entry("a", 3), entry("c", 4));
+    }
+
+    @Test
+    public void settingEqualFieldOrRemovingUnknownKeyReturnsSameInstance() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty().with("a", field("a", 1));
+
+        assertThat(underTest.with("a", field("a", 1))).isSameAs(underTest);
+        assertThat(underTest.without("b")).isSameAs(underTest);
+    }
+
+    @Test
+    public void keysWithSameHashCodeAreDistinguished() {
+        // "Aa" and "BB" have the same hash code
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .with("Aa", field("Aa", 1))
+                .with("BB", field("BB", 2))
+                .with("C", field("C", 3));
+
+        assertThat(underTest.get("Aa")).isEqualTo(field("Aa", 1));
+        assertThat(underTest.get("BB")).isEqualTo(field("BB", 2));
+        assertThat(underTest.without("Aa")).containsExactly(entry("BB", 2), entry("C", 3));
+    }
+
+    @Test
+    public void behavesLikeLinkedHashMapForRandomModifications() {
+        final Random random = new Random(42);
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentFieldMap underTest = PersistentFieldMap.empty();
+
+        for (int i = 0; i < 50_000; i++) {
+            final String key = String.valueOf(random.nextInt(2_000));
+            if (0 == random.nextInt(3)) {
+                expected.remove(key);
+                underTest = underTest.without(key);
+            } else {
+                expected.put(key, field(key, i));
+                underTest = underTest.with(key, field(key, i));
+            }
+        }
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(new ArrayList<>(underTest.values())).containsExactlyElementsOf(expected.values());
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+    private static Map.Entry<String, JsonField> entry(final String key, final int value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, field(key, value));
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures the retained heap size of a representative thing of about 50 KB serialized JSON with JOL.
+ * <p>
+ * The footprint of the parsed {@link JsonObject} is compared with the footprint of the same data held in nested
+ * {@link LinkedHashMap}s of {@link JsonField}s, i. e. roughly the layout of JSON objects before fields were stored in
+ * parallel arrays. Run the main method with {@code -Djdk.attach.allowAttachSelf=true} on JDK 9 and newer.
+ * </p>
+ */
+public final class JsonObjectFootprint {
+
+    private static final int FEATURES = 40;
+    private static final int PROPERTIES_PER_FEATURE = 12;
+
+    private JsonObjectFootprint() {
+        throw new AssertionError();
+    }
+
+    public static void main(final String... args) {
+        final String thingJson = createThing().toString();
+        final JsonObject parsed = JsonFactory.newObject(thingJson);
+
+        final GraphLayout compactLayout = GraphLayout.parseInstance(parsed);
+        final GraphLayout linkedHashMapLayout = GraphLayout.parseInstance(toLinkedHashMaps(parsed));
+
+        System.out.printf("serialized JSON: %d bytes%n", thingJson.length());
+        System.out.printf("JsonObject: %d bytes in %d objects%n", compactLayout.totalSize(),
+                compactLayout.totalCount());
+        System.out.printf("LinkedHashMap layout: %d bytes in %d objects%n", linkedHashMapLayout.totalSize(),
+                linkedHashMapLayout.totalCount());
+        System.out.println(compactLayout.toFootprint());
+    }
+
+    private static JsonObject createThing() {
+        final JsonObjectBuilder features = JsonFactory.newObjectBuilder();
+        for (int feature = 0; feature < FEATURES; feature++) {
+            final JsonObjectBuilder properties = JsonFactory.newObjectBuilder();
+            for (int property = 0; property < PROPERTIES_PER_FEATURE; property++) {
+                properties.set("property" + property, JsonFactory.newObjectBuilder()
+                        .set("value", feature * 100.0 + property / 10.0)
+                        .set("unit", "°C")
+                        .set("timestamp", "2020-03-01T12:00:00.000Z")
+                        .set("valid", true)
+                        .build());
+            }
+            features.set("feature-" + feature, JsonFactory.newObjectBuilder()
+                    .set("definition", JsonFactory.newArrayBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", properties.build())
+                    .build());
+        }
+        return JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:footprint")
+                .set("policyId", "org.eclipse.ditto:footprint")
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "Eclipse Foundation")
+                        .set("location", JsonFactory.newObjectBuilder()
+                                .set("latitude", 47.68)
+                                .set("longitude", 9.39)
+                                .build())
+                        .build())
+                .set("features", features.build())
+                .build();
+    }
+
+    private static Object toLinkedHashMaps(final JsonValue jsonValue) {
+        if (jsonValue.isObject()) {
+            final JsonObject jsonObject = jsonValue.asObject();
+            final Map<String, Object> result = new LinkedHashMap<>();
+            for (final JsonField field : jsonObject) {
+                final JsonValue value = field.getValue();
+                result.put(field.getKeyName(), value.isObject() || value.isArray()
+                        ? toLinkedHashMaps(value)
+                        : JsonFactory.newField(field.getKey(), value));
+            }
+            return result;
+        }
+        if (jsonValue.isArray()) {
+            final JsonArray jsonArray = jsonValue.asArray();
+            final List<Object> result = new ArrayList<>(jsonArray.getSize());
+            jsonArray.forEach(value -> result.add(toLinkedHashMaps(value)));
+            return result;
+        }
+        return jsonValue;
+    }
+
+}
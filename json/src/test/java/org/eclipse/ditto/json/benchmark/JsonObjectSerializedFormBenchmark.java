@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark for building and serializing deeply nested JSON objects.
+ * <p>
+ * The serialized form cache policy may be chosen with the system property
+ * {@code ditto.json.serialized-form-cache-policy} ({@code strong}, {@code soft} or {@code none}); run with
+ * {@code -prof gc} in order to compare the allocation rates of the policies.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class JsonObjectSerializedFormBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int RETAINED_OBJECTS = 20_000;
+
+    @Param({"4", "16"})
+    private int depth;
+
+    private JsonObject deepObject;
+    private JsonPointer deepestPointer;
+    private List<JsonObject> retainedObjects;
+
+    @Setup
+    public void setUp() {
+        deepObject = buildDeepObject(depth);
+        JsonPointer pointer = JsonPointer.empty();
+        for (int level = depth - 1; level >= 0; level--) {
+            pointer = pointer.addLeaf(JsonFactory.newKey("level" + level));
+        }
+        deepestPointer = pointer.addLeaf(JsonFactory.newKey("value"));
+        retainedObjects = new ArrayList<>(RETAINED_OBJECTS);
+        for (int i = 0; i < RETAINED_OBJECTS; i++) {
+            retainedObjects.add(CborFactory.readFrom(toCbor(buildDeepObject(depth))).asObject());
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject buildDeepObject() {
+        return buildDeepObject(depth);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] buildAndSerializeDeepObjectToCbor() {
+        return toCbor(buildDeepObject(depth));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String serializeDeepObjectToString() {
+        return deepObject.toString();
+    }
+
+    /*
+     * Reads the deepest value of many retained objects with a small heap so that the garbage collector is under
+     * pressure while serialized forms are cached.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx128m")
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void readRetainedObjectsUnderMemoryPressure(final Blackhole blackhole) {
+        for (final JsonObject retainedObject : retainedObjects) {
+            blackhole.consume(retainedObject.getValue(deepestPointer));
+        }
+    }
+
+    private static JsonObject buildDeepObject(final int depth) {
+        JsonObject result = JsonFactory.newObjectBuilder()
+                .set("value", 42)
+                .set("description", "the deepest level")
+                .build();
+        for (int level = 0; level < depth; level++) {
+            final JsonObjectBuilder levelBuilder = JsonFactory.newObjectBuilder()
+                    .set("level" + level, result)
+                    .set("name", JsonValue.of("level-" + level))
+                    .set("enabled", level % 2 == 0);
+            result = levelBuilder.build();
+        }
+        return result;
+    }
+
+    private static byte[] toCbor(final JsonObject jsonObject) {
+        try {
+            return CborFactory.toByteArray(jsonObject);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
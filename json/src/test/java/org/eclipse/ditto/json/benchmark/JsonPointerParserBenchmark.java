@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonParseOptions;
+import org.eclipse.ditto.json.JsonPointer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark for parsing JSON pointers and JSON field selectors.
+ * <p>
+ * The benchmarks without interning disable the interning caches via the system property
+ * {@code ditto.json.interning-cache-capacity}. Run with {@code -prof gc} in order to compare the allocation rates.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class JsonPointerParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String[] POINTER_STRINGS = {
+            "/thingId",
+            "/attributes/location/latitude",
+            "/features/environment-sensor/properties/temperature/value",
+            "features/lamp/properties/on",
+            "/attributes/~0tilde~0key/nested"
+    };
+
+    private static final String FIELD_SELECTOR_STRING =
+            "thingId,policyId,attributes(location,manufacturer/name),features/lamp/properties(on,color(r,g,b))";
+
+    private static final JsonParseOptions PARSE_OPTIONS =
+            JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build();
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void parsePointers(final Blackhole blackhole) {
+        for (final String pointerString : POINTER_STRINGS) {
+            blackhole.consume(JsonPointer.of(pointerString));
+        }
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dditto.json.interning-cache-capacity=0")
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void parsePointersWithoutInterning(final Blackhole blackhole) {
+        for (final String pointerString : POINTER_STRINGS) {
+            blackhole.consume(JsonPointer.of(pointerString));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonFieldSelector parseFieldSelector() {
+        return JsonFactory.newFieldSelector(FIELD_SELECTOR_STRING, PARSE_OPTIONS);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dditto.json.interning-cache-capacity=0")
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonFieldSelector parseFieldSelectorWithoutInterning() {
+        return JsonFactory.newFieldSelector(FIELD_SELECTOR_STRING, PARSE_OPTIONS);
+    }
+
+}
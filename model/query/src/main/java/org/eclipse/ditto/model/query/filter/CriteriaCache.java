@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.filter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.rql.predicates.ast.RootNode;
+
+/**
+ * Bounded least-recently-used cache of parsed filter criteria.
+ * <p>
+ * Entries are looked up by the filter string first. Filter strings which differ only in their syntax (e. g.
+ * whitespace or escaping) are parsed to equal abstract syntax trees; the canonical lookup by {@link RootNode} makes
+ * sure that such filters share the same {@link Criteria} instance.
+ * </p>
+ */
+@ThreadSafe
+final class CriteriaCache {
+
+    private final Map<String, Criteria> criteriaByFilter;
+    private final Map<RootNode, Criteria> criteriaByRootNode;
+
+    private CriteriaCache(final int maximumSize) {
+        criteriaByFilter = new LruMap<>(maximumSize);
+        criteriaByRootNode = new LruMap<>(maximumSize);
+    }
+
+    /**
+     * Returns a new instance of {@code CriteriaCache}.
+     *
+     * @param maximumSize the maximum number of cached filter strings.
+     * @return the instance.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    static CriteriaCache of(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive but was <" + maximumSize + ">!");
+        }
+        return new CriteriaCache(maximumSize);
+    }
+
+    /**
+     * Returns the cached criteria of the given filter string.
+     *
+     * @param filter the filter string.
+     * @return the cached criteria or {@code null} if the filter was not parsed yet or if it was evicted.
+     */
+    @Nullable
+    Criteria get(final String filter) {
+        synchronized (criteriaByFilter) {
+            return criteriaByFilter.get(filter);
+        }
+    }
+
+    /**
+     * Returns the canonical criteria of the given parsed filter and associates it with the filter string.
+     * If no semantically identical filter was cached yet, the given criteria becomes the canonical one.
+     *
+     * @param filter the filter string.
+     * @param rootNode the abstract syntax tree of {@code filter}.
+     * @param criteria the criteria of {@code rootNode}.
+     * @return the canonical criteria to use for {@code filter}.
+     */
+    Criteria putCanonical(final String filter, final RootNode rootNode, final Criteria criteria) {
+        final Criteria canonicalCriteria;
+        synchronized (criteriaByRootNode) {
+            final Criteria existingCriteria = criteriaByRootNode.putIfAbsent(rootNode, criteria);
+            canonicalCriteria = null != existingCriteria ? existingCriteria : criteria;
+        }
+        synchronized (criteriaByFilter) {
+            criteriaByFilter.put(filter, canonicalCriteria);
+        }
+        return canonicalCriteria;
+    }
+
+    /**
+     * Returns the canonical criteria of the given parsed filter if a semantically identical filter was cached.
+     *
+     * @param rootNode the abstract syntax tree of a filter.
+     * @return the canonical criteria or {@code null}.
+     */
+    @Nullable
+    Criteria getCanonical(final RootNode rootNode) {
+        synchronized (criteriaByRootNode) {
+            return criteriaByRootNode.get(rootNode);
+        }
+    }
+
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = -3197342911024863510L;
+
+        private final int maximumSize;
+
+        private LruMap(final int maximumSize) {
+            super(16, 0.75F, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            return size() > maximumSize;
+        }
+
+    }
+
+}
@@ -29,26 +29,52 @@ import org.eclipse.ditto.model.rql.predicates.ast.RootNode;
 import org.eclipse.ditto.model.rqlparser.RqlPredicateParser;
 
 /**
- * The place for query filter manipulations
+ * The place for query filter manipulations.
+ * <p>
+ * Parsed filter criteria are cached per factory instance. Instances should therefore be reused instead of being
+ * created per filter.
+ * </p>
  */
 public final class QueryFilterCriteriaFactory {
 
+    /**
+     * The default maximum number of cached filter strings per factory.
+     */
+    static final int DEFAULT_CACHE_SIZE = 1000;
+
     private static final QueryFilterCriteriaFactory MODEL_BASED =
             new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
 
     private final CriteriaFactory criteriaFactory;
     private final ThingsFieldExpressionFactory fieldExpressionFactory;
     private final RqlPredicateParser rqlPredicateParser;
+    private final CriteriaCache criteriaCache;
 
     public QueryFilterCriteriaFactory(final CriteriaFactory criteriaFactory,
             final ThingsFieldExpressionFactory fieldExpressionFactory) {
+        this(criteriaFactory, fieldExpressionFactory, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a new {@code QueryFilterCriteriaFactory} object with a cache of parsed filters of the given size.
+     *
+     * @param criteriaFactory the factory to create criteria.
+     * @param fieldExpressionFactory the factory to create field expressions.
+     * @param cacheSize the maximum number of cached filter strings.
+     * @throws IllegalArgumentException if {@code cacheSize} is not positive.
+     */
+    public QueryFilterCriteriaFactory(final CriteriaFactory criteriaFactory,
+            final ThingsFieldExpressionFactory fieldExpressionFactory,
+            final int cacheSize) {
         this.criteriaFactory = criteriaFactory;
         this.fieldExpressionFactory = fieldExpressionFactory;
         this.rqlPredicateParser = new RqlPredicateParser();
+        criteriaCache = CriteriaCache.of(cacheSize);
     }
 
     /**
      * Retrieve the unique model-based query filter criteria factory.
+     * Reusing it shares its cache of parsed filters.
      *
      * @return the model-based query filter criteria factory.
      */
@@ -102,22 +128,15 @@ public final class QueryFilterCriteriaFactory {
     }
 
     private Criteria mapCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        final Criteria cachedCriteria = criteriaCache.get(filter);
+        if (null != cachedCriteria) {
+            return cachedCriteria;
+        }
         try {
-            final ParameterPredicateVisitor visitor =
-                    new ParameterPredicateVisitor(criteriaFactory, fieldExpressionFactory);
-
             final RootNode rootNode = rqlPredicateParser.parse(filter);
-            visitor.visit(rootNode);
-
-            final Criteria criteria;
-            if (visitor.getCriteria().size() > 1) {
-                criteria = criteriaFactory.and(visitor.getCriteria());
-            } else if (visitor.getCriteria().size() == 1) {
-                criteria = visitor.getCriteria().get(0);
-            } else {
-                criteria = criteriaFactory.any();
-            }
-            return criteria;
+            final Criteria canonicalCriteria = criteriaCache.getCanonical(rootNode);
+            final Criteria criteria = null != canonicalCriteria ? canonicalCriteria : mapRootNode(rootNode);
+            return criteriaCache.putCanonical(filter, rootNode, criteria);
         } catch (final ParserException | IllegalArgumentException e) {
             throw InvalidRqlExpressionException.newBuilder()
                     .message(e.getMessage())
@@ -126,4 +145,19 @@ public final class QueryFilterCriteriaFactory {
                     .build();
         }
     }
+
+    private Criteria mapRootNode(final RootNode rootNode) {
+        final ParameterPredicateVisitor visitor = new ParameterPredicateVisitor(criteriaFactory, fieldExpressionFactory);
+        visitor.visit(rootNode);
+
+        final Criteria criteria;
+        if (visitor.getCriteria().size() > 1) {
+            criteria = criteriaFactory.and(visitor.getCriteria());
+        } else if (visitor.getCriteria().size() == 1) {
+            criteria = visitor.getCriteria().get(0);
+        } else {
+            criteria = criteriaFactory.any();
+        }
+        return criteria;
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link QueryFilterCriteriaFactory}.
+ */
+public final class QueryFilterCriteriaFactoryTest {
+
+    private static final String FILTER = "and(eq(attributes/manufacturer,\"ACME\"),gt(attributes/counter,2))";
+
+    private QueryFilterCriteriaFactory underTest;
+
+    @Before
+    public void setUp() {
+        underTest = new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(),
+                new ModelBasedThingsFieldExpressionFactory(), 2);
+    }
+
+    @Test
+    public void sameFilterIsParsedOnlyOnce() {
+        final Criteria first = underTest.filterCriteria(FILTER, DittoHeaders.empty());
+        final Criteria second = underTest.filterCriteria(FILTER, DittoHeaders.empty());
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void semanticallyIdenticalFiltersShareCriteria() {
+        final String filterWithWhitespace =
+                "  and(eq(attributes/manufacturer,\"ACME\" ),  gt(attributes/counter,2 ))";
+
+        final Criteria first = underTest.filterCriteria(FILTER, DittoHeaders.empty());
+        final Criteria second = underTest.filterCriteria(filterWithWhitespace, DittoHeaders.empty());
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void differentFiltersDoNotShareCriteria() {
+        final Criteria first = underTest.filterCriteria(FILTER, DittoHeaders.empty());
+        final Criteria second = underTest.filterCriteria("gt(attributes/counter,3)", DittoHeaders.empty());
+
+        assertThat(second).isNotEqualTo(first);
+    }
+
+    @Test
+    public void leastRecentlyUsedFilterIsEvicted() {
+        final Criteria first = underTest.filterCriteria(FILTER, DittoHeaders.empty());
+        underTest.filterCriteria("gt(attributes/counter,3)", DittoHeaders.empty());
+        underTest.filterCriteria("gt(attributes/counter,4)", DittoHeaders.empty());
+
+        final Criteria reparsed = underTest.filterCriteria(FILTER, DittoHeaders.empty());
+
+        assertThat(reparsed).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    public void invalidFilterIsRejectedWithHeadersOfEachRequest() {
+        final String invalidFilter = "eq(attributes/manufacturer";
+        final DittoHeaders firstHeaders = DittoHeaders.newBuilder().correlationId("first").build();
+        final DittoHeaders secondHeaders = DittoHeaders.newBuilder().correlationId("second").build();
+
+        final InvalidRqlExpressionException first = catchThrowableOfType(
+                () -> underTest.filterCriteria(invalidFilter, firstHeaders), InvalidRqlExpressionException.class);
+        final InvalidRqlExpressionException second = catchThrowableOfType(
+                () -> underTest.filterCriteria(invalidFilter, secondHeaders), InvalidRqlExpressionException.class);
+
+        assertThat(first.getDittoHeaders()).isEqualTo(firstHeaders);
+        assertThat(second.getDittoHeaders()).isEqualTo(secondHeaders);
+    }
+
+}
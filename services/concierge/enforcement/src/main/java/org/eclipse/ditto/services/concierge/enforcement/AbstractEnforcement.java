@@ -26,9 +26,13 @@ import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.EffectedSubjects;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
@@ -229,6 +233,20 @@ public abstract class AbstractEnforcement<T extends Signal> {
         return context.getPubSubMediator();
     }
 
+    /**
+     * Publishes the invalidation of the cache entries of an entity to the enforcers of all other concierge instances
+     * and to the co-located enforcers of the things instances, which register themselves at the pub-sub mediator.
+     *
+     * @param entityId the ID of the entity whose cache entries to invalidate.
+     */
+    protected void publishCacheInvalidation(final EntityIdWithResourceType entityId) {
+        final InvalidateCacheEntry invalidateCacheEntry = InvalidateCacheEntry.of(entityId);
+        pubSubMediator().tell(DistPubSubAccess.sendToAll(ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
+                invalidateCacheEntry, true), self());
+        pubSubMediator().tell(DistPubSubAccess.sendToAll(ThingsMessagingConstants.ENFORCER_ACTOR_PATH,
+                invalidateCacheEntry, true), self());
+    }
+
     /**
      * @return actor reference of the enforcer actor this object belongs to.
      */
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.concierge.enforcement;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
@@ -27,7 +29,7 @@ import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.ExpiringTimerBuilder;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
@@ -36,10 +38,8 @@ import org.eclipse.ditto.signals.commands.base.Command;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 
-import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.japi.pf.ReceiveBuilder;
-import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Sink;
 
 /**
@@ -81,9 +81,8 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
 
         super(WithDittoHeaders.class);
 
-        enforcementConfig = DittoConciergeConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getEnforcementConfig();
+        enforcementConfig = DittoConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoConciergeConfig.class, DittoConciergeConfig::of).getEnforcementConfig();
 
         this.thingIdCache = thingIdCache;
         this.aclEnforcerCache = aclEnforcerCache;
@@ -143,7 +142,8 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
     }
 
     @Override
-    protected abstract Flow<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>, NotUsed> processMessageFlow();
+    protected abstract CompletionStage<List<Contextual<WithDittoHeaders>>> processMessage(
+            Contextual<WithDittoHeaders> contextual);
 
     @Override
     protected abstract Sink<Contextual<WithDittoHeaders>, ?> processedMessageSink();
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
+import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
+import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+
+/**
+ * The pre-enforcement applied to all signals before enforcement, wherever the enforcer runs.
+ */
+public final class DefaultPreEnforcement {
+
+    /**
+     * Default namespace for {@code CreateThing} commands without any namespace.
+     */
+    private static final String DEFAULT_NAMESPACE = "org.eclipse.ditto";
+
+    private DefaultPreEnforcement() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates the pre-enforcer function which blocks signals of blocked namespaces, validates commands with optional
+     * entities, prepends the default namespace to created things, sets the originator header and substitutes
+     * placeholders.
+     *
+     * @param blockedNamespaces the blocked namespaces.
+     * @param placeholderSubstitution the placeholder substitution.
+     * @return the pre-enforcer function.
+     */
+    public static Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> newPreEnforcer(
+            final BlockedNamespaces blockedNamespaces, final PlaceholderSubstitution placeholderSubstitution) {
+
+        return withDittoHeaders ->
+                BlockNamespaceBehavior.of(blockedNamespaces)
+                        .block(withDittoHeaders)
+                        .thenApply(CommandWithOptionalEntityValidator.getInstance())
+                        .thenApply(DefaultPreEnforcement::prependDefaultNamespaceToCreateThing)
+                        .thenApply(DefaultPreEnforcement::setOriginatorHeader)
+                        .thenCompose(placeholderSubstitution);
+    }
+
+    /**
+     * Set the "ditto-originator" header to the primary authorization subject of a signal.
+     *
+     * @param originalSignal A signal with authorization context.
+     * @return A copy of the signal with the header "ditto-originator" set.
+     */
+    public static WithDittoHeaders setOriginatorHeader(final WithDittoHeaders originalSignal) {
+        final List<String> authSubjects = originalSignal.getDittoHeaders().getAuthorizationSubjects();
+        if (authSubjects.isEmpty()) {
+            return originalSignal;
+        } else {
+            final String originatorSubjectId = authSubjects.get(0);
+            return originalSignal.setDittoHeaders(originalSignal.getDittoHeaders()
+                    .toBuilder()
+                    .putHeader(DittoHeaderDefinition.ORIGINATOR.getKey(), originatorSubjectId)
+                    .build());
+        }
+    }
+
+    private static WithDittoHeaders prependDefaultNamespaceToCreateThing(final WithDittoHeaders signal) {
+        if (signal instanceof CreateThing) {
+            final CreateThing createThing = (CreateThing) signal;
+            if (!createThing.getThing().getNamespace().isPresent()) {
+                final Thing thingInDefaultNamespace = createThing.getThing()
+                        .toBuilder()
+                        .setId(ThingId.of(DEFAULT_NAMESPACE, createThing.getThingEntityId().toString()))
+                        .build();
+                final JsonObject initialPolicy = createThing.getInitialPolicy().orElse(null);
+                return CreateThing.of(thingInDefaultNamespace, initialPolicy, createThing.getDittoHeaders());
+            }
+        }
+        return signal;
+    }
+
+}
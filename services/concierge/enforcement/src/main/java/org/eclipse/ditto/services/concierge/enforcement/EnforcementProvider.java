@@ -13,21 +13,11 @@
 package org.eclipse.ditto.services.concierge.enforcement;
 
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
-import org.eclipse.ditto.services.utils.akka.controlflow.Filter;
 import org.eclipse.ditto.signals.base.Signal;
 
-import akka.NotUsed;
-import akka.stream.FanOutShape2;
-import akka.stream.FlowShape;
-import akka.stream.Graph;
-import akka.stream.SinkShape;
-import akka.stream.javadsl.Flow;
-import akka.stream.javadsl.GraphDSL;
-import akka.stream.javadsl.Sink;
-import akka.stream.javadsl.Source;
-
 /**
  * Provider interface for {@link AbstractEnforcement}.
  *
@@ -61,40 +51,18 @@ public interface EnforcementProvider<T extends Signal> {
     AbstractEnforcement<T> createEnforcement(Contextual<T> context);
 
     /**
-     * Convert this enforcement provider into a stream of contextual messages.
+     * Enforce a contextual message if this enforcement provider is applicable for its command.
      *
-     * @return the stream.
+     * @param contextual the contextual message.
+     * @return the enforced contextual message, or an empty Optional if this enforcement provider is not applicable.
      */
-    default Graph<FlowShape<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>>, NotUsed> toContextualFlow() {
-
-        final Graph<FanOutShape2<Contextual<WithDittoHeaders>, Contextual<T>, Contextual<WithDittoHeaders>>, NotUsed>
-                multiplexer =
-                Filter.multiplexBy(contextual ->
-                        contextual.tryToMapMessage(message -> getCommandClass().isInstance(message)
-                                ? Optional.of(getCommandClass().cast(message)).filter(this::isApplicable)
-                                : Optional.empty()));
-
-        return GraphDSL.create(builder -> {
-            final FanOutShape2<Contextual<WithDittoHeaders>, Contextual<T>, Contextual<WithDittoHeaders>> fanout =
-                    builder.add(multiplexer);
-
-            final Flow<Contextual<T>, Contextual<WithDittoHeaders>, NotUsed> enforcementFlow =
-                    Flow.<Contextual<T>>create()
-                            .flatMapConcat(contextual ->
-                                    Source.fromCompletionStage(createEnforcement(contextual).enforceSafely())
-                            );
-
-            // by default, ignore unhandled messages:
-            final SinkShape<Contextual<WithDittoHeaders>> unhandledSink = builder.add(Sink.ignore());
-
-            final FlowShape<Contextual<T>, Contextual<WithDittoHeaders>> enforcementShape =
-                    builder.add(enforcementFlow);
-
-            builder.from(fanout.out0()).toInlet(enforcementShape.in());
-            builder.from(fanout.out1()).to(unhandledSink);
+    default Optional<CompletionStage<Contextual<WithDittoHeaders>>> enforce(
+            final Contextual<WithDittoHeaders> contextual) {
 
-            return FlowShape.of(fanout.in(), enforcementShape.out());
-        });
+        return contextual.<T>tryToMapMessage(message -> getCommandClass().isInstance(message)
+                ? Optional.of(getCommandClass().cast(message)).filter(this::isApplicable)
+                : Optional.empty())
+                .map(applicableContextual -> createEnforcement(applicableContextual).enforceSafely());
     }
 
 }
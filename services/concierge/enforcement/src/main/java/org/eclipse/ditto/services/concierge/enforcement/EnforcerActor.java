@@ -13,10 +13,14 @@
 package org.eclipse.ditto.services.concierge.enforcement;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -27,15 +31,8 @@ import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 
 import akka.Done;
-import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.Props;
-import akka.stream.FlowShape;
-import akka.stream.Graph;
-import akka.stream.javadsl.Broadcast;
-import akka.stream.javadsl.Flow;
-import akka.stream.javadsl.GraphDSL;
-import akka.stream.javadsl.Merge;
 import akka.stream.javadsl.Sink;
 
 /**
@@ -48,7 +45,8 @@ public final class EnforcerActor extends AbstractEnforcerActor {
      */
     public static final String ACTOR_NAME = "enforcer";
 
-    private final Flow<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>, NotUsed> handler;
+    private final List<EnforcementProvider<?>> enforcementProviders;
+    @Nullable private final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer;
     private final Sink<Contextual<WithDittoHeaders>, CompletionStage<Done>> sink;
 
     @SuppressWarnings("unused")
@@ -62,7 +60,8 @@ public final class EnforcerActor extends AbstractEnforcerActor {
 
         super(pubSubMediator, conciergeForwarder, thingIdCache, aclEnforcerCache, policyEnforcerCache);
 
-        handler = assembleHandler(enforcementProviders, preEnforcer);
+        this.enforcementProviders = new ArrayList<>(enforcementProviders);
+        this.preEnforcer = preEnforcer;
         sink = assembleSink();
     }
 
@@ -113,9 +112,25 @@ public final class EnforcerActor extends AbstractEnforcerActor {
                 null, thingIdCache, aclEnforcerCache, policyEnforcerCache);
     }
 
+    /**
+     * Defines the behavior of this enforcer actor by enhancing the passed in {@link Contextual} e.g. with a message
+     * and receiver which in the end (in the {@link #assembleSink()}) are processed. The message is pre-enforced if a
+     * pre-enforcer is configured and then enforced by each applicable {@link EnforcementProvider}.
+     *
+     * @param contextual the received message with its context.
+     * @return the enforced messages.
+     */
     @Override
-    protected Flow<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>, NotUsed> processMessageFlow() {
-        return handler;
+    protected CompletionStage<List<Contextual<WithDittoHeaders>>> processMessage(
+            final Contextual<WithDittoHeaders> contextual) {
+
+        if (preEnforcer == null) {
+            return enforce(contextual);
+        }
+        return PreEnforcer.apply(preEnforcer, contextual, contextual.getSelf())
+                .thenCompose(preEnforced -> preEnforced
+                        .map(message -> enforce(contextual.withMessage(message)))
+                        .orElseGet(() -> CompletableFuture.completedFuture(Collections.emptyList())));
     }
 
     @Override
@@ -123,43 +138,19 @@ public final class EnforcerActor extends AbstractEnforcerActor {
         return sink;
     }
 
-    /**
-     * Create the flow that defines the behavior of this enforcer actor by enhancing the passed in {@link Contextual}
-     * e.g. with a message and receiver which in the end (in the {@link #assembleSink()}) are processed.
-     *
-     * @param enforcementProviders a set of {@link EnforcementProvider}s.
-     * @param preEnforcer a function executed before actual enforcement, may be {@code null}.
-     * @return a handler as {@link Flow} of {@link Contextual} messages.
-     */
-    private Flow<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>, NotUsed> assembleHandler(
-            final Set<EnforcementProvider<?>> enforcementProviders,
-            @Nullable final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer) {
-
-        final Graph<FlowShape<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>>, NotUsed> preEnforcerFlow =
-                Optional.ofNullable(preEnforcer)
-                        .map(PreEnforcer::fromFunctionWithContext)
-                        .orElseGet(Flow::create);
-
-
-        final Graph<FlowShape<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>>, NotUsed> enforcerFlow = GraphDSL.create(
-                Broadcast.<Contextual<WithDittoHeaders>>create(enforcementProviders.size()),
-                Merge.<Contextual<WithDittoHeaders>>create(enforcementProviders.size(), true),
-                (notUsed1, notUsed2) -> notUsed1,
-                (builder, bcast, merge) -> {
-
-                    final ArrayList<EnforcementProvider<?>> providers = new ArrayList<>(enforcementProviders);
-                    for (int i=0; i<providers.size(); i++) {
-                        builder.from(bcast.out(i))
-                                .via(builder.add(providers.get(i).toContextualFlow()))
-                                .toInlet(merge.in(i));
-                    }
+    private CompletionStage<List<Contextual<WithDittoHeaders>>> enforce(
+            final Contextual<WithDittoHeaders> contextual) {
 
-                    return FlowShape.of(bcast.in(), merge.out());
-                });
+        final List<CompletableFuture<Contextual<WithDittoHeaders>>> enforcements = enforcementProviders.stream()
+                .map(provider -> provider.enforce(contextual))
+                .filter(Optional::isPresent)
+                .map(enforcement -> enforcement.get().toCompletableFuture())
+                .collect(Collectors.toList());
 
-        return Flow.<Contextual<WithDittoHeaders>>create()
-                .via(preEnforcerFlow)
-                .via(enforcerFlow);
+        return CompletableFuture.allOf(enforcements.toArray(new CompletableFuture[0]))
+                .thenApply(allDone -> enforcements.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList()));
     }
 
     /**
@@ -35,13 +35,11 @@ import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.event.Logging;
 import akka.stream.Attributes;
-import akka.stream.FanOutShape2;
 import akka.stream.FlowShape;
 import akka.stream.Graph;
 import akka.stream.SinkShape;
 import akka.stream.SourceShape;
 import akka.stream.javadsl.Flow;
-import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Source;
 
 /**
@@ -75,47 +73,34 @@ public final class PreEnforcer {
         return PreEnforcer.fromFunction(ActorRef.noSender(), processor);
     }
 
-    static Graph<FlowShape<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>>, NotUsed> fromFunctionWithContext(
-            final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> processor) {
-
-        final Graph<FanOutShape2<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>>, NotUsed>
-                multiplexer =
-                Filter.multiplexBy(Optional::of);
-
-        final Flow<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>, NotUsed> preEnforcementFlow =
-                Flow.<Contextual<WithDittoHeaders>>create()
-                        .flatMapConcat(contextual -> {
-                            final Supplier<CompletionStage<WithSender>> futureSupplier = () ->
-                                    processor.apply(contextual.getMessage())
-                                            .thenApply(result -> WithSender.of(result, contextual.getSender()));
-
-                            final CompletionStage<WithSender> futureResult =
-                                    handleErrorNowOrLater(futureSupplier, contextual, contextual.getSender(), contextual.getSelf());
-
-                            return Source.fromCompletionStage(futureResult)
-                                    .log("PreEnforcer")
-                                    .withAttributes(DEBUG_LEVEL)
-                                    .flatMapConcat(PreEnforcer::keepResultAndLogErrors)
-                                    .map(WithSender::getMessage)
-                                    .map(msg -> contextual.withMessage((WithDittoHeaders) msg));
-                        });
-
-        return GraphDSL.create(builder -> {
-
-            final FanOutShape2<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>> fanout =
-                    builder.add(multiplexer);
-
-            final FlowShape<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>> enforce = builder.add(preEnforcementFlow);
-
-            final SinkShape<Contextual<WithDittoHeaders>> logUnhandled =
-                    builder.add(Flow.<Contextual<WithDittoHeaders>, WithSender>fromFunction(x -> x).to(unhandled()));
-
-            builder.from(fanout.out0()).toInlet(enforce.in());
-            builder.from(fanout.out1()).to(logUnhandled);
+    /**
+     * Apply a function to a message before its enforcement. Errors of the function are replied to the sender of the
+     * message.
+     *
+     * @param processor function to call.
+     * @param wrapped the message together with its sender.
+     * @param self reference to the actor carrying the pre-enforcement.
+     * @return the result of the function, or an empty Optional if the function failed.
+     */
+    public static CompletionStage<Optional<WithDittoHeaders>> apply(
+            final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> processor,
+            final WithSender<? extends WithDittoHeaders> wrapped,
+            @Nullable final ActorRef self) {
 
-            return FlowShape.of(fanout.in(), enforce.out());
+        final CompletionStage<WithDittoHeaders> futureResult;
+        try {
+            futureResult = processor.apply(wrapped.getMessage());
+        } catch (final RuntimeException e) {
+            handleError(e, wrapped, self);
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return futureResult.handle((result, error) -> {
+            if (error != null) {
+                handleError(error, wrapped, self);
+                return Optional.empty();
+            }
+            return Optional.of(result);
         });
-
     }
 
     /**
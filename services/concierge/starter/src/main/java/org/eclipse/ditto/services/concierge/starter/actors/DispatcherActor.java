@@ -16,36 +16,33 @@ import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingCons
 import static org.eclipse.ditto.services.models.thingsearch.ThingsSearchConstants.SEARCH_ACTOR_PATH;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.EnforcementConfig;
+import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.ThingSearchSudoCommand;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
-import org.eclipse.ditto.services.utils.akka.controlflow.Filter;
 import org.eclipse.ditto.services.utils.akka.controlflow.WithSender;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
 
-import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.japi.pf.ReceiveBuilder;
-import akka.stream.FanOutShape2;
-import akka.stream.FlowShape;
-import akka.stream.Graph;
-import akka.stream.SinkShape;
-import akka.stream.javadsl.Flow;
-import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Sink;
-import akka.stream.javadsl.Source;
 
 /**
  * Actor that dispatches signals not authorized by any entity meaning signals without entityId.
@@ -57,22 +54,23 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
      */
     public static final String ACTOR_NAME = "dispatcherActor";
 
-    private final Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> handler;
+    private final ActorRef pubSubMediator;
+    @Nullable private final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer;
     private final ActorRef thingsAggregatorActor;
     private final EnforcementConfig enforcementConfig;
 
     @SuppressWarnings("unused")
     private DispatcherActor(final ActorRef enforcerActor,
             final ActorRef pubSubMediator,
-            final Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> handler) {
+            @Nullable final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer) {
 
         super(WithDittoHeaders.class);
 
-        enforcementConfig = DittoConciergeConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getEnforcementConfig();
+        enforcementConfig = DittoConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoConciergeConfig.class, DittoConciergeConfig::of).getEnforcementConfig();
 
-        this.handler = handler;
+        this.pubSubMediator = pubSubMediator;
+        this.preEnforcer = preEnforcer;
         final Props props = ThingsAggregatorActor.props(enforcerActor);
         thingsAggregatorActor = getContext().actorOf(props, ThingsAggregatorActor.ACTOR_NAME);
 
@@ -85,8 +83,37 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
     }
 
     @Override
-    protected Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> processMessageFlow() {
-        return handler;
+    protected CompletionStage<List<ImmutableDispatch>> processMessage(final ImmutableDispatch dispatch) {
+        if (preEnforcer == null) {
+            return CompletableFuture.completedFuture(dispatch(dispatch));
+        }
+        return PreEnforcer.apply(preEnforcer, dispatch, ActorRef.noSender())
+                .thenApply(preEnforced -> preEnforced
+                        .map(message -> dispatch(dispatch.replaceMessage(message)))
+                        .orElseGet(Collections::emptyList));
+    }
+
+    /**
+     * Dispatch search and things commands.
+     *
+     * @param dispatch the command to dispatch.
+     * @return the dispatch if its command is neither a search nor a things command, an empty list otherwise.
+     */
+    private List<ImmutableDispatch> dispatch(final ImmutableDispatch dispatch) {
+        final WithDittoHeaders message = dispatch.getMessage();
+        if (isInstanceOfAny(message, ThingSearchCommand.class, ThingSearchSudoCommand.class)) {
+            pubSubMediator.tell(DistPubSubAccess.send(SEARCH_ACTOR_PATH, message), dispatch.getSender());
+            return Collections.emptyList();
+        } else if (isInstanceOfAny(message, RetrieveThings.class, SudoRetrieveThings.class)) {
+            dispatch.thingsAggregatorActor.tell(message, dispatch.getSender());
+            return Collections.emptyList();
+        } else {
+            return Collections.singletonList(dispatch);
+        }
+    }
+
+    private static boolean isInstanceOfAny(final Object message, final Class<?>... classes) {
+        return Arrays.stream(classes).anyMatch(clazz -> clazz.isInstance(message));
     }
 
     @Override
@@ -120,7 +147,7 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
     public static Props props(final ActorRef pubSubMediator,
             final ActorRef enforcerActor) {
 
-        return props(pubSubMediator, enforcerActor, Flow.create());
+        return Props.create(DispatcherActor.class, enforcerActor, pubSubMediator, null);
     }
 
     /**
@@ -128,75 +155,14 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
      *
      * @param pubSubMediator Akka pub-sub mediator.
      * @param enforcerActor the address of the enforcer actor.
-     * @param preEnforcer the pre-enforcer as graph.
+     * @param preEnforcer a function executed before dispatching.
      * @return the Props object.
      */
     public static Props props(final ActorRef pubSubMediator,
             final ActorRef enforcerActor,
-            final Graph<FlowShape<WithSender, WithSender>, ?> preEnforcer) {
-
-        final Graph<FlowShape<ImmutableDispatch, ImmutableDispatch>, NotUsed> dispatchFlow =
-                createDispatchFlow(pubSubMediator);
-
-        final Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> handler = asContextualFlow(preEnforcer)
-                .via(dispatchFlow);
-
-        return Props.create(DispatcherActor.class, enforcerActor, pubSubMediator, handler);
-    }
-
-    /**
-     * Create a stream to dispatch search and things commands.
-     *
-     * @param pubSubMediator Akka pub-sub-mediator.
-     * @return stream to dispatch search and thing commands.
-     */
-    private static Graph<FlowShape<ImmutableDispatch, ImmutableDispatch>, NotUsed> createDispatchFlow(
-            final ActorRef pubSubMediator) {
-
-        return GraphDSL.create(builder -> {
-            final FanOutShape2<ImmutableDispatch, ImmutableDispatch, ImmutableDispatch> multiplexSearch =
-                    builder.add(multiplexBy(ThingSearchCommand.class, ThingSearchSudoCommand.class));
-
-            final FanOutShape2<ImmutableDispatch, ImmutableDispatch, ImmutableDispatch> multiplexRetrieveThings =
-                    builder.add(multiplexBy(RetrieveThings.class, SudoRetrieveThings.class));
-
-            final SinkShape<ImmutableDispatch> forwardToSearchActor = builder.add(searchActorSink(pubSubMediator));
-
-            final SinkShape<ImmutableDispatch> forwardToThingsAggregator = builder.add(thingsAggregatorSink());
-
-            builder.from(multiplexSearch.out0()).to(forwardToSearchActor);
-            builder.from(multiplexRetrieveThings.out0()).to(forwardToThingsAggregator);
-            builder.from(multiplexSearch.out1()).toInlet(multiplexRetrieveThings.in());
-
-            return FlowShape.of(multiplexSearch.in(), multiplexRetrieveThings.out1());
-        });
-    }
-
-    private static Graph<FanOutShape2<ImmutableDispatch, ImmutableDispatch, ImmutableDispatch>, NotUsed> multiplexBy(
-            final Class<?>... classes) {
-
-        return Filter.multiplexBy(dispatch ->
-                Arrays.stream(classes).anyMatch(clazz -> clazz.isInstance(dispatch.getMessage()))
-                        ? Optional.of(dispatch)
-                        : Optional.empty());
-    }
-
-    private static Sink<ImmutableDispatch, ?> searchActorSink(final ActorRef pubSubMediator) {
-        return Sink.foreach(dispatch -> pubSubMediator.tell(
-                DistPubSubAccess.send(SEARCH_ACTOR_PATH, dispatch.getMessage()),
-                dispatch.getSender()));
-    }
-
-    private static Sink<ImmutableDispatch, ?> thingsAggregatorSink() {
-        return Sink.foreach(
-                dispatch -> dispatch.thingsAggregatorActor.tell(dispatch.getMessage(), dispatch.getSender()));
-    }
-
-    private static Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> asContextualFlow(
-            final Graph<FlowShape<WithSender, WithSender>, ?> preEnforcer) {
+            final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer) {
 
-        return Flow.<ImmutableDispatch>create().flatMapConcat(dispatch ->
-                Source.<WithSender>single(dispatch).via(preEnforcer).map(dispatch::replaceMessage));
+        return Props.create(DispatcherActor.class, enforcerActor, pubSubMediator, preEnforcer);
     }
 
     private static void initActor(final ActorRef self, final ActorRef pubSubMediator) {
@@ -258,8 +224,8 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
             return sender;
         }
 
-        private ImmutableDispatch replaceMessage(final WithSender withSender) {
-            return new ImmutableDispatch(withSender.getMessage(), sender, thingsAggregatorActor);
+        private ImmutableDispatch replaceMessage(final WithDittoHeaders newMessage) {
+            return new ImmutableDispatch(newMessage, sender, thingsAggregatorActor);
         }
 
         @Override
@@ -17,27 +17,22 @@ import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingCons
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
-import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.Enforcer;
-import org.eclipse.ditto.model.things.Thing;
-import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
 import org.eclipse.ditto.services.concierge.common.CachesConfig;
 import org.eclipse.ditto.services.concierge.common.ConciergeConfig;
+import org.eclipse.ditto.services.concierge.enforcement.DefaultPreEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcementProvider;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
 import org.eclipse.ditto.services.concierge.enforcement.LiveSignalEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
-import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
 import org.eclipse.ditto.services.concierge.starter.actors.CachedNamespaceInvalidator;
 import org.eclipse.ditto.services.concierge.starter.actors.DispatcherActor;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
@@ -53,11 +48,9 @@ import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
-import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespacesUpdater;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
-import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
@@ -71,11 +64,6 @@ import akka.actor.Props;
  */
 public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<ConciergeConfig> {
 
-    /**
-     * Default namespace for {@code CreateThing} commands without any namespace.
-     */
-    private static final String DEFAULT_NAMESPACE = "org.eclipse.ditto";
-
     private static final String ENFORCER_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_enforcer_cache_";
     private static final String ID_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_id_cache_";
 
@@ -103,19 +91,21 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
-                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"));
+                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"),
+                        (key, entry) -> entry.getWeight());
 
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCacheLoader =
                 new AclEnforcerCacheLoader(askTimeout, thingsShardRegionProxy);
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache =
                 CacheFactory.createCache(aclEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl",
-                        actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"));
+                        actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"),
+                        (key, entry) -> entry.getWeight());
 
         // pre-enforcer
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
         final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer =
-                newPreEnforcer(blockedNamespaces, PlaceholderSubstitution.newInstance());
+                DefaultPreEnforcement.newPreEnforcer(blockedNamespaces, PlaceholderSubstitution.newInstance());
 
         final LiveSignalPub liveSignalPub = LiveSignalPub.of(context);
 
@@ -164,43 +154,7 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
      * @return A copy of the signal with the header "ditto-originator" set.
      */
     public static WithDittoHeaders setOriginatorHeader(final WithDittoHeaders originalSignal) {
-        final List<String> authSubjects = originalSignal.getDittoHeaders().getAuthorizationSubjects();
-        if (authSubjects.isEmpty()) {
-            return originalSignal;
-        } else {
-            final String originatorSubjectId = authSubjects.get(0);
-            return originalSignal.setDittoHeaders(originalSignal.getDittoHeaders()
-                    .toBuilder()
-                    .putHeader(DittoHeaderDefinition.ORIGINATOR.getKey(), originatorSubjectId)
-                    .build());
-        }
-    }
-
-    private static Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> newPreEnforcer(
-            final BlockedNamespaces blockedNamespaces, final PlaceholderSubstitution placeholderSubstitution) {
-
-        return withDittoHeaders ->
-                BlockNamespaceBehavior.of(blockedNamespaces)
-                        .block(withDittoHeaders)
-                        .thenApply(CommandWithOptionalEntityValidator.getInstance())
-                        .thenApply(DefaultEnforcerActorFactory::prependDefaultNamespaceToCreateThing)
-                        .thenApply(DefaultEnforcerActorFactory::setOriginatorHeader)
-                        .thenCompose(placeholderSubstitution);
-    }
-
-    private static WithDittoHeaders prependDefaultNamespaceToCreateThing(final WithDittoHeaders signal) {
-        if (signal instanceof CreateThing) {
-            final CreateThing createThing = (CreateThing) signal;
-            if (!createThing.getThing().getNamespace().isPresent()) {
-                final Thing thingInDefaultNamespace = createThing.getThing()
-                        .toBuilder()
-                        .setId(ThingId.of(DEFAULT_NAMESPACE, createThing.getThingEntityId().toString()))
-                        .build();
-                final JsonObject initialPolicy = createThing.getInitialPolicy().orElse(null);
-                return CreateThing.of(thingInDefaultNamespace, initialPolicy, createThing.getDittoHeaders());
-            }
-        }
-        return signal;
+        return DefaultPreEnforcement.setOriginatorHeader(originalSignal);
     }
 
 }
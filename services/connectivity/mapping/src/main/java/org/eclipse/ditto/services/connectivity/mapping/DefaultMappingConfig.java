@@ -33,12 +33,17 @@ public final class DefaultMappingConfig implements MappingConfig {
 
     private final int bufferSize;
     private final int parallelism;
+    private final int workerPoolSize;
+    private final int workerMaxInFlightPerConnection;
     private final JavaScriptConfig javaScriptConfig;
     private final MapperLimitsConfig mapperLimitsConfig;
 
     private DefaultMappingConfig(final ScopedConfig config) {
         bufferSize = config.getInt(MappingConfigValue.BUFFER_SIZE.getConfigPath());
         parallelism = config.getInt(MappingConfigValue.PARALLELISM.getConfigPath());
+        workerPoolSize = config.getInt(MappingConfigValue.WORKER_POOL_SIZE.getConfigPath());
+        workerMaxInFlightPerConnection =
+                config.getInt(MappingConfigValue.WORKER_MAX_IN_FLIGHT_PER_CONNECTION.getConfigPath());
         mapperLimitsConfig = DefaultMapperLimitsConfig.of(config);
         javaScriptConfig = DefaultJavaScriptConfig.of(config);
     }
@@ -67,6 +72,16 @@ public final class DefaultMappingConfig implements MappingConfig {
         return parallelism;
     }
 
+    @Override
+    public int getWorkerPoolSize() {
+        return workerPoolSize;
+    }
+
+    @Override
+    public int getWorkerMaxInFlightPerConnection() {
+        return workerMaxInFlightPerConnection;
+    }
+
     @Override
     public JavaScriptConfig getJavaScriptConfig() {
         return javaScriptConfig;
@@ -88,13 +103,16 @@ public final class DefaultMappingConfig implements MappingConfig {
         final DefaultMappingConfig that = (DefaultMappingConfig) o;
         return bufferSize == that.bufferSize &&
                 parallelism == that.parallelism &&
+                workerPoolSize == that.workerPoolSize &&
+                workerMaxInFlightPerConnection == that.workerMaxInFlightPerConnection &&
                 Objects.equals(javaScriptConfig, that.javaScriptConfig) &&
                 Objects.equals(mapperLimitsConfig, that.mapperLimitsConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(bufferSize, parallelism, javaScriptConfig, mapperLimitsConfig);
+        return Objects.hash(bufferSize, parallelism, workerPoolSize, workerMaxInFlightPerConnection,
+                javaScriptConfig, mapperLimitsConfig);
     }
 
     @Override
@@ -102,6 +120,8 @@ public final class DefaultMappingConfig implements MappingConfig {
         return getClass().getSimpleName() + " [" +
                 "bufferSize=" + bufferSize +
                 ", parallelism=" + parallelism +
+                ", workerPoolSize=" + workerPoolSize +
+                ", workerMaxInFlightPerConnection=" + workerMaxInFlightPerConnection +
                 ", javaScriptConfig=" + javaScriptConfig +
                 ", mapperLimitsConfig=" + mapperLimitsConfig +
                 "]";
@@ -39,6 +39,22 @@ public interface MappingConfig {
      */
     int getParallelism();
 
+    /**
+     * Returns the number of inbound mapping tasks which the mapping worker pool of a connectivity instance runs at
+     * the same time for all connections.
+     *
+     * @return the size of the mapping worker pool.
+     */
+    int getWorkerPoolSize();
+
+    /**
+     * Returns the maximum number of inbound mapping tasks of one connection which the mapping worker pool runs at the
+     * same time.
+     *
+     * @return the maximum number of running mapping tasks per connection.
+     */
+    int getWorkerMaxInFlightPerConnection();
+
     /**
      * Returns the config of the JavaScript message mapping.
      *
@@ -67,7 +83,17 @@ public interface MappingConfig {
         /**
          * The parallelism used for processing messages in parallel in message mapping processor actor.
          */
-        PARALLELISM("parallelism", 64);
+        PARALLELISM("parallelism", 64),
+
+        /**
+         * The number of inbound mapping tasks the mapping worker pool runs at the same time.
+         */
+        WORKER_POOL_SIZE("worker-pool-size", 64),
+
+        /**
+         * The maximum number of running inbound mapping tasks per connection in the mapping worker pool.
+         */
+        WORKER_MAX_IN_FLIGHT_PER_CONNECTION("worker-max-in-flight-per-connection", 16);
 
         private final String path;
         private final Object defaultValue;
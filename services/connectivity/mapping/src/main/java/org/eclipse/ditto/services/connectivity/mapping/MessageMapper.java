@@ -72,6 +72,25 @@ public interface MessageMapper {
      */
     List<Adaptable> map(ExternalMessage message);
 
+    /**
+     * Maps several {@link ExternalMessage}s to {@link Adaptable}s at once. Mappers which can map several messages
+     * cheaper than one by one override this.
+     * <p>
+     * The result may cover only the first messages, e.g. if mapping stopped at a message which cannot be mapped; the
+     * caller passes the remaining messages again. The default implementation maps only the first message.
+     * </p>
+     *
+     * @param messages the ExternalMessages to map, not empty
+     * @return the mapped Adaptables of at least the first of the ExternalMessages in the order of the messages
+     * @throws org.eclipse.ditto.model.connectivity.MessageMappingFailedException if the first of the given messages
+     * can not be mapped
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoRuntimeException if anything during Ditto Adaptable creation
+     * went wrong
+     */
+    default List<List<Adaptable>> mapBatch(final List<ExternalMessage> messages) {
+        return Collections.singletonList(map(messages.get(0)));
+    }
+
     /**
      * Maps an {@link Adaptable} to an {@link ExternalMessage}
      *
@@ -84,6 +84,23 @@ final class WrappingMessageMapper implements MessageMapper {
         return checkMaxMappedMessagesLimit(delegate.map(message), inboundMessageLimit);
     }
 
+    @Override
+    public List<List<Adaptable>> mapBatch(final List<ExternalMessage> messages) {
+        final List<List<Adaptable>> mappedBatch = delegate.mapBatch(messages);
+        for (int i = 0; i < mappedBatch.size(); i++) {
+            try {
+                checkMaxMappedMessagesLimit(mappedBatch.get(i), inboundMessageLimit);
+            } catch (final MessageMappingFailedException e) {
+                if (i == 0) {
+                    throw e;
+                }
+                // stop before the message exceeding the limit so that its error is reported for it
+                return mappedBatch.subList(0, i);
+            }
+        }
+        return mappedBatch;
+    }
+
     @Override
     public List<ExternalMessage> map(final Adaptable adaptable) {
         final List<ExternalMessage> mappedMessages = checkMaxMappedMessagesLimit(delegate.map(adaptable),
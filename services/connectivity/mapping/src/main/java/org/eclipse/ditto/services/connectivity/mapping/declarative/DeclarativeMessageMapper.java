@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.declarative;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.Placeholders;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
+import org.eclipse.ditto.model.connectivity.MessageMapperConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
+import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.HeadersPlaceholder;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingIdInvalidException;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.protocoladapter.TopicPathBuilder;
+import org.eclipse.ditto.services.connectivity.mapping.AbstractMessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.MappingConfig;
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapperConfiguration;
+import org.eclipse.ditto.services.connectivity.mapping.PayloadMapper;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+/**
+ * A message mapper which maps incoming messages according to declarative rules in its options instead of a script.
+ * <p>
+ * Each option whose name is a JSON pointer, e.g. {@code /features/env/properties/temperature}, is a rule which sets
+ * the value of its template, e.g. {@code {{ payload:/temp }}}, at that pointer. Templates are resolved with the
+ * {@code header} placeholder and the {@link PayloadPlaceholder} and support the usual pipeline functions, e.g.
+ * {@code {{ header:unit | fn:default('C') }}}. A template consisting of a single payload expression without
+ * functions keeps the JSON type of the payload value, all other templates result in strings. The option
+ * {@value #MAPPING_OPTIONS_TYPES} may convert the values of rules to other types.
+ * </p>
+ * <p>
+ * By default each rule results in its own modification of its target, so that all other values of the thing are
+ * kept. If the option {@value #MAPPING_OPTIONS_PATH} is set, the rules are combined to a single object which
+ * <em>replaces</em> the value at that path. In both cases a message fails to map if any of its rules cannot be
+ * resolved, so that a message never modifies a thing partially.
+ * </p>
+ * <p>
+ * Outgoing messages are not mapped.
+ * </p>
+ */
+@PayloadMapper(
+        alias = "Declarative",
+        requiresMandatoryConfiguration = true // "thingId" is mandatory configuration
+)
+public final class DeclarativeMessageMapper extends AbstractMessageMapper {
+
+    static final String MAPPING_OPTIONS_THING_ID = "thingId";
+    static final String MAPPING_OPTIONS_TOPIC = "topic";
+    static final String MAPPING_OPTIONS_PATH = "path";
+    static final String MAPPING_OPTIONS_TYPES = "types";
+
+    private static final String DEFAULT_TOPIC = "twin/commands/modify";
+    private static final String CORRELATION_ID_HEADER = DittoHeaderDefinition.CORRELATION_ID.getKey();
+    private static final HeadersPlaceholder HEADERS_PLACEHOLDER = PlaceholderFactory.newHeadersPlaceholder();
+    private static final Pattern SINGLE_PAYLOAD_EXPRESSION_PATTERN =
+            Pattern.compile("^\\{\\{\\s*" + PayloadPlaceholder.PREFIX + ":([^|{}\\s]*)\\s*}}$");
+
+    @Nullable private String thingIdTemplate;
+    @Nullable private TopicPath.Channel channel;
+    @Nullable private TopicPath.Criterion criterion;
+    @Nullable private TopicPath.Action action;
+    @Nullable private JsonPointer path;
+    private List<Rule> rules = Collections.emptyList();
+
+    @Override
+    public void doConfigure(final MappingConfig mappingConfig, final MessageMapperConfiguration configuration) {
+        thingIdTemplate = configuration.getProperty(MAPPING_OPTIONS_THING_ID);
+        validateTemplate(MAPPING_OPTIONS_THING_ID, thingIdTemplate);
+        if (!Placeholders.containsAnyPlaceholder(thingIdTemplate)) {
+            validateThingId(thingIdTemplate);
+        }
+
+        configureTopic(configuration.findProperty(MAPPING_OPTIONS_TOPIC).orElse(DEFAULT_TOPIC));
+
+        final Map<String, ValueConversion> types = configuration.findProperty(MAPPING_OPTIONS_TYPES)
+                .map(DeclarativeMessageMapper::parseTypes)
+                .orElseGet(HashMap::new);
+        path = configuration.findProperty(MAPPING_OPTIONS_PATH).map(JsonPointer::of).orElse(null);
+
+        final List<Rule> compiledRules = new ArrayList<>();
+        for (final Map.Entry<String, String> option : configuration.getProperties().entrySet()) {
+            if (option.getKey().startsWith("/")) {
+                final JsonPointer target = JsonPointer.of(option.getKey());
+                validateTemplate(option.getKey(), option.getValue());
+                final ValueConversion conversion = types.remove(option.getKey());
+                compiledRules.add(new Rule(target, null != path ? relativize(target, path) : target,
+                        option.getValue(), conversion));
+            }
+        }
+        if (compiledRules.isEmpty()) {
+            throw MessageMapperConfigurationInvalidException.newBuilder("/<json-pointer>")
+                    .message("The mapping contains no rule.")
+                    .description("Add options whose names are the JSON pointers to set, e.g. " +
+                            "\"/features/env/properties/temperature\": \"{{ payload:/temp }}\".")
+                    .build();
+        }
+        if (null != path && compiledRules.size() > 1 &&
+                compiledRules.stream().anyMatch(rule -> rule.path.isEmpty())) {
+            throw MessageMapperConfigurationInvalidException.newBuilder(MAPPING_OPTIONS_PATH)
+                    .message("The path <" + path + "> is the target of a rule among others.")
+                    .description("Use a path which is a parent of all rule targets.")
+                    .build();
+        }
+        if (!types.isEmpty()) {
+            throw MessageMapperConfigurationInvalidException.newBuilder(MAPPING_OPTIONS_TYPES)
+                    .message("The types of " + types.keySet() + " refer to no rule.")
+                    .description("Use the JSON pointers of rules as keys of the types.")
+                    .build();
+        }
+        rules = Collections.unmodifiableList(compiledRules);
+    }
+
+    @Override
+    public List<Adaptable> map(final ExternalMessage message) {
+        final SourceMessage sourceMessage = new SourceMessage(message);
+        final ExpressionResolver resolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(HEADERS_PLACEHOLDER, message.getHeaders()),
+                PlaceholderFactory.newPlaceholderResolver(PayloadPlaceholder.INSTANCE, sourceMessage));
+        final ThingId thingId = ThingId.of(resolver.resolve(thingIdTemplate).toOptional()
+                .orElseThrow(() -> mappingFailed(message, "The thing ID could not be resolved.",
+                        "Make sure that the message contains the headers and payload fields of the thingId " +
+                                "option.")));
+        final TopicPath topicPath = buildTopicPath(thingId);
+        final DittoHeaders dittoHeaders = buildHeaders(message);
+
+        final List<Adaptable> adaptables = new ArrayList<>(null != path ? 1 : rules.size());
+        if (null != path) {
+            final JsonValue value;
+            if (rules.size() == 1 && rules.get(0).path.isEmpty()) {
+                value = resolveRule(rules.get(0), sourceMessage, resolver);
+            } else {
+                final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+                for (final Rule rule : rules) {
+                    builder.set(rule.path, resolveRule(rule, sourceMessage, resolver));
+                }
+                value = builder.build();
+            }
+            adaptables.add(buildAdaptable(topicPath, path, value, dittoHeaders));
+        } else {
+            for (final Rule rule : rules) {
+                final JsonValue value = resolveRule(rule, sourceMessage, resolver);
+                adaptables.add(buildAdaptable(topicPath, rule.path, value, dittoHeaders));
+            }
+        }
+        return adaptables;
+    }
+
+    @Override
+    public List<ExternalMessage> map(final Adaptable adaptable) {
+        return Collections.emptyList();
+    }
+
+    private static JsonValue resolveRule(final Rule rule, final SourceMessage message,
+            final ExpressionResolver resolver) {
+
+        final JsonValue value;
+        if (null != rule.payloadPointer) {
+            value = message.getPayloadValue(rule.payloadPointer)
+                    .orElseThrow(() -> ruleUnresolved(rule, message));
+        } else {
+            value = JsonValue.of(resolver.resolve(rule.template).toOptional()
+                    .orElseThrow(() -> ruleUnresolved(rule, message)));
+        }
+        if (null == rule.conversion) {
+            return value;
+        }
+        try {
+            return rule.conversion.apply(value);
+        } catch (final IllegalArgumentException e) {
+            throw mappingFailed(message.getMessage(), e.getMessage(),
+                    "Make sure that the mapped values have the configured types.");
+        }
+    }
+
+    private static Adaptable buildAdaptable(final TopicPath topicPath, final JsonPointer path, final JsonValue value,
+            final DittoHeaders dittoHeaders) {
+
+        return ProtocolFactory.newAdaptableBuilder(topicPath)
+                .withPayload(ProtocolFactory.newPayloadBuilder(path).withValue(value).build())
+                .withHeaders(dittoHeaders)
+                .build();
+    }
+
+    private TopicPath buildTopicPath(final ThingId thingId) {
+        final TopicPathBuilder builder = ProtocolFactory.newTopicPathBuilder(thingId).things();
+        if (channel == TopicPath.Channel.LIVE) {
+            builder.live();
+        } else {
+            builder.twin();
+        }
+        if (criterion == TopicPath.Criterion.EVENTS) {
+            switch (action) {
+                case CREATED:
+                    return builder.events().created().build();
+                case DELETED:
+                    return builder.events().deleted().build();
+                default:
+                    return builder.events().modified().build();
+            }
+        } else {
+            switch (action) {
+                case CREATE:
+                    return builder.commands().create().build();
+                case DELETE:
+                    return builder.commands().delete().build();
+                default:
+                    return builder.commands().modify().build();
+            }
+        }
+    }
+
+    private static DittoHeaders buildHeaders(final ExternalMessage message) {
+        final DittoHeadersBuilder builder = DittoHeaders.newBuilder();
+        final String correlationId = message.getHeaders().get(CORRELATION_ID_HEADER);
+        if (null != correlationId) {
+            builder.correlationId(correlationId);
+        }
+        return builder.build();
+    }
+
+    private void configureTopic(final String topic) {
+        final String[] parts = topic.split("/");
+        if (parts.length == 3) {
+            channel = TopicPath.Channel.forName(parts[0]).orElse(null);
+            criterion = TopicPath.Criterion.forName(parts[1]).orElse(null);
+            action = TopicPath.Action.forName(parts[2]).orElse(null);
+        }
+        final boolean isCommand = criterion == TopicPath.Criterion.COMMANDS && (action == TopicPath.Action.CREATE ||
+                action == TopicPath.Action.MODIFY || action == TopicPath.Action.DELETE);
+        final boolean isEvent = criterion == TopicPath.Criterion.EVENTS && (action == TopicPath.Action.CREATED ||
+                action == TopicPath.Action.MODIFIED || action == TopicPath.Action.DELETED);
+        if (null == channel || !(isCommand || isEvent)) {
+            throw MessageMapperConfigurationInvalidException.newBuilder(MAPPING_OPTIONS_TOPIC)
+                    .message("The topic <" + topic + "> is not supported.")
+                    .description("Use a topic like twin/commands/modify or live/events/modified.")
+                    .build();
+        }
+    }
+
+    private static void validateThingId(final String thingId) {
+        try {
+            ThingId.of(thingId);
+        } catch (final ThingIdInvalidException e) {
+            throw MessageMapperConfigurationInvalidException.newBuilder(MAPPING_OPTIONS_THING_ID)
+                    .message(e.getMessage())
+                    .description(e.getDescription().orElse("Make sure to use a valid Thing ID."))
+                    .build();
+        }
+    }
+
+    private static JsonPointer relativize(final JsonPointer target, final JsonPointer path) {
+        final int level = path.getLevelCount();
+        if (!target.getPrefixPointer(level).filter(path::equals).isPresent()) {
+            throw MessageMapperConfigurationInvalidException.newBuilder(MAPPING_OPTIONS_PATH)
+                    .message("The path <" + path + "> is no parent of the rule target <" + target + ">.")
+                    .description("Use a path which is a parent of all rule targets.")
+                    .build();
+        }
+        return target.getSubPointer(level).orElse(JsonPointer.empty());
+    }
+
+    private static void validateTemplate(final String option, final String template) {
+        try {
+            PlaceholderFilter.validate(template, HEADERS_PLACEHOLDER, PayloadPlaceholder.INSTANCE);
+        } catch (final DittoRuntimeException e) {
+            throw MessageMapperConfigurationInvalidException.newBuilder(option)
+                    .message(e.getMessage())
+                    .description("Use placeholders like {{ header:<name> }} or {{ payload:<json-pointer> }}, " +
+                            "optionally followed by functions like {{ header:<name> | fn:default('value') }}.")
+                    .build();
+        }
+    }
+
+    private static Map<String, ValueConversion> parseTypes(final String types) {
+        final JsonObject typesObject;
+        try {
+            typesObject = JsonFactory.newObject(types);
+        } catch (final RuntimeException e) {
+            throw MessageMapperConfigurationInvalidException.newBuilder(MAPPING_OPTIONS_TYPES)
+                    .message("The types <" + types + "> are no JSON object.")
+                    .description("Map the JSON pointers of rules to types, e.g. " +
+                            "{\"/features/env/properties/temperature\": \"double\"}.")
+                    .build();
+        }
+        // the keys are JSON pointers, so they must not be looked up as pointers into the types object
+        final Map<String, ValueConversion> conversions = new HashMap<>();
+        for (final JsonField field : typesObject) {
+            final JsonValue type = field.getValue();
+            final ValueConversion conversion = ValueConversion.forName(type.isString() ? type.asString() : "")
+                    .orElseThrow(() -> MessageMapperConfigurationInvalidException.newBuilder(MAPPING_OPTIONS_TYPES)
+                            .message("The type <" + type + "> of <" + field.getKeyName() + "> is unknown.")
+                            .description("Use one of the types string, long, double, boolean or json.")
+                            .build());
+            conversions.put(field.getKeyName(), conversion);
+        }
+        return conversions;
+    }
+
+    private static MessageMappingFailedException ruleUnresolved(final Rule rule, final SourceMessage message) {
+        return mappingFailed(message.getMessage(), "The rule <" + rule.target + "> could not be resolved.",
+                "Make sure that the message contains the headers and payload fields of all rules or use " +
+                        "fn:default to provide fallback values.");
+    }
+
+    private static MessageMappingFailedException mappingFailed(final ExternalMessage message, final String text,
+            final String description) {
+        return MessageMappingFailedException.newBuilder(message.findContentType().orElse(null))
+                .message(text)
+                .description(description)
+                .dittoHeaders(message.getInternalHeaders())
+                .build();
+    }
+
+    private static final class Rule {
+
+        private final JsonPointer target;
+        private final JsonPointer path;
+        private final String template;
+        @Nullable private final JsonPointer payloadPointer;
+        @Nullable private final ValueConversion conversion;
+
+        private Rule(final JsonPointer target, final JsonPointer path, final String template,
+                @Nullable final ValueConversion conversion) {
+            this.target = target;
+            this.path = path;
+            this.template = template;
+            this.conversion = conversion;
+            final Matcher matcher = SINGLE_PAYLOAD_EXPRESSION_PATTERN.matcher(template);
+            payloadPointer = matcher.matches() ? JsonPointer.of(matcher.group(1)) : null;
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.declarative;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.ConditionChecker;
+import org.eclipse.ditto.model.placeholders.Placeholder;
+
+/**
+ * Placeholder implementation that replaces {@code payload:<json-pointer>} by the value at the JSON pointer of the
+ * JSON payload of a {@link SourceMessage}. Strings resolve to their content, all other values to their JSON
+ * representation.
+ */
+@Immutable
+final class PayloadPlaceholder implements Placeholder<SourceMessage> {
+
+    /**
+     * Singleton instance of the PayloadPlaceholder.
+     */
+    static final PayloadPlaceholder INSTANCE = new PayloadPlaceholder();
+
+    static final String PREFIX = "payload";
+
+    private PayloadPlaceholder() {
+    }
+
+    @Override
+    public String getPrefix() {
+        return PREFIX;
+    }
+
+    @Override
+    public List<String> getSupportedNames() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean supports(final String name) {
+        return true;
+    }
+
+    @Override
+    public Optional<String> resolve(final SourceMessage message, final String pointer) {
+        ConditionChecker.argumentNotNull(message, "message");
+        ConditionChecker.argumentNotNull(pointer, "pointer");
+        return message.getPayloadValue(JsonPointer.of(pointer))
+                .map(value -> value.isString() ? value.asString() : value.toString());
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[]";
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.declarative;
+
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.CharsetDeterminer;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+/**
+ * The sources of the values of a single mapped {@link ExternalMessage}. The payload is parsed at most once and only
+ * if a rule refers to it.
+ */
+@NotThreadSafe
+final class SourceMessage {
+
+    private final ExternalMessage message;
+
+    @Nullable private JsonValue payload;
+
+    SourceMessage(final ExternalMessage message) {
+        this.message = message;
+        payload = null;
+    }
+
+    /**
+     * @return the external message.
+     */
+    ExternalMessage getMessage() {
+        return message;
+    }
+
+    /**
+     * @param name the header name.
+     * @return the header value or {@code null} if the message has no such header.
+     */
+    @Nullable
+    String getHeader(final String name) {
+        return message.getHeaders().get(name);
+    }
+
+    /**
+     * @param pointer the pointer into the payload, empty for the whole payload.
+     * @return the payload value at the pointer.
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoJsonException if the payload is no valid JSON.
+     */
+    Optional<JsonValue> getPayloadValue(final JsonPointer pointer) {
+        final JsonValue jsonPayload = getPayload();
+        if (pointer.isEmpty()) {
+            return jsonPayload.isNull() ? Optional.empty() : Optional.of(jsonPayload);
+        } else if (jsonPayload.isObject()) {
+            return jsonPayload.asObject().getValue(pointer);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private JsonValue getPayload() {
+        if (null == payload) {
+            payload = extractPayloadAsString()
+                    .filter(s -> !s.isEmpty())
+                    .map(s -> DittoJsonException.wrapJsonRuntimeException(() -> JsonFactory.readFrom(s)))
+                    .orElseGet(JsonFactory::nullLiteral);
+        }
+        return payload;
+    }
+
+    private Optional<String> extractPayloadAsString() {
+        if (message.isTextMessage()) {
+            return message.getTextPayload();
+        } else if (message.isBytesMessage()) {
+            final Map<String, String> headers = message.getHeaders();
+            final Charset charset =
+                    CharsetDeterminer.getInstance().apply(headers.get(ExternalMessage.CONTENT_TYPE_HEADER));
+            // decode a duplicate in order to not consume the payload of the message
+            return message.getBytePayload().map(bytes -> charset.decode(bytes.duplicate()).toString());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+}
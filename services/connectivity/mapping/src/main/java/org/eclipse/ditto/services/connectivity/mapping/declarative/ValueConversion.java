@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.declarative;
+
+import java.util.Optional;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+
+/**
+ * Type conversions which can be applied to the values of rules of a {@link DeclarativeMessageMapper}, e.g.
+ * {@code "types": "{\"/features/env/properties/temperature\": \"double\"}"}.
+ */
+enum ValueConversion {
+
+    /**
+     * Converts the value to a JSON string.
+     */
+    STRING("string") {
+        @Override
+        JsonValue apply(final JsonValue value) {
+            return value.isString() ? value : JsonValue.of(value.toString());
+        }
+    },
+
+    /**
+     * Converts numbers and numeric strings to an integral JSON number.
+     */
+    LONG("long") {
+        @Override
+        JsonValue apply(final JsonValue value) {
+            if (value.isInt() || value.isLong()) {
+                return value;
+            }
+            final double d = toDouble(value, this);
+            if (d != Math.rint(d) || d < Long.MIN_VALUE || d > Long.MAX_VALUE) {
+                throw notConvertible(value, this);
+            }
+            final long l = (long) d;
+            return l == (int) l ? JsonValue.of((int) l) : JsonValue.of(l);
+        }
+    },
+
+    /**
+     * Converts numbers and numeric strings to a JSON number.
+     */
+    DOUBLE("double") {
+        @Override
+        JsonValue apply(final JsonValue value) {
+            return value.isNumber() ? value : JsonValue.of(toDouble(value, this));
+        }
+    },
+
+    /**
+     * Converts booleans and the strings {@code "true"} and {@code "false"} to a JSON boolean.
+     */
+    BOOLEAN("boolean") {
+        @Override
+        JsonValue apply(final JsonValue value) {
+            if (value.isBoolean()) {
+                return value;
+            } else if (value.isString() && "true".equalsIgnoreCase(value.asString())) {
+                return JsonValue.of(true);
+            } else if (value.isString() && "false".equalsIgnoreCase(value.asString())) {
+                return JsonValue.of(false);
+            }
+            throw notConvertible(value, this);
+        }
+    },
+
+    /**
+     * Parses strings as JSON, e.g. headers containing JSON objects. Other values are kept.
+     */
+    JSON("json") {
+        @Override
+        JsonValue apply(final JsonValue value) {
+            return value.isString()
+                    ? DittoJsonException.wrapJsonRuntimeException(() -> JsonFactory.readFrom(value.asString()))
+                    : value;
+        }
+    };
+
+    private final String name;
+
+    ValueConversion(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Converts the value.
+     *
+     * @param value the value.
+     * @return the converted value.
+     * @throws IllegalArgumentException if the value cannot be converted.
+     */
+    abstract JsonValue apply(JsonValue value);
+
+    /**
+     * @param name the name of the conversion as it is used in the types option.
+     * @return the conversion with the name.
+     */
+    static Optional<ValueConversion> forName(final String name) {
+        for (final ValueConversion conversion : values()) {
+            if (conversion.name.equals(name)) {
+                return Optional.of(conversion);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static double toDouble(final JsonValue value, final ValueConversion conversion) {
+        if (value.isNumber()) {
+            return value.asDouble();
+        } else if (value.isString()) {
+            try {
+                return Double.parseDouble(value.asString().trim());
+            } catch (final NumberFormatException e) {
+                throw notConvertible(value, conversion);
+            }
+        }
+        throw notConvertible(value, conversion);
+    }
+
+    private static IllegalArgumentException notConvertible(final JsonValue value,
+            final ValueConversion conversion) {
+        return new IllegalArgumentException("The value <" + value + "> cannot be converted to <" + conversion + ">.");
+    }
+
+}
@@ -112,6 +112,11 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         return incomingMapping.apply(message);
     }
 
+    @Override
+    public List<List<Adaptable>> mapBatch(final List<ExternalMessage> messages) {
+        return incomingMapping.applyAll(messages);
+    }
+
     @Override
     public List<ExternalMessage> map(final Adaptable adaptable) {
         return outgoingMapping.apply(adaptable);
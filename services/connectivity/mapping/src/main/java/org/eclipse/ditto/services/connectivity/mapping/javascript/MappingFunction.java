@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
+import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
@@ -26,6 +28,17 @@ import org.mozilla.javascript.RhinoException;
  */
 public interface MappingFunction<I, O> extends Function<I, O> {
 
+    /**
+     * Applies this function to each of the given inputs. Implementations which can map several inputs cheaper than
+     * one by one override this.
+     *
+     * @param inputs the inputs.
+     * @return the outputs in the order of the inputs.
+     */
+    default List<O> applyAll(final List<I> inputs) {
+        return inputs.stream().map(this).collect(Collectors.toList());
+    }
+
     /**
      * Build {@link MessageMappingFailedException} from a {@link RhinoException}.
      * @param e the original exception thrown by the rhino engine
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.mozilla.javascript.Callable;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeArray;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.Symbol;
+import org.mozilla.javascript.Undefined;
+
+/**
+ * Converts between Rhino values and {@link JsonValue}s by walking the object graphs directly instead of serializing
+ * them to a JSON string and parsing it again.
+ * <p>
+ * The conversion to JSON follows the semantics of {@code JSON.stringify}: properties with undefined or function
+ * values are omitted, such array elements become {@code null} and non-finite numbers become {@code null}. Objects
+ * which are neither plain objects nor arrays, e.g. dates or objects with a {@code toJSON} function, are converted by
+ * {@code JSON.stringify} itself.
+ * </p>
+ */
+final class RhinoJsonConverter {
+
+    private static final String TO_JSON = "toJSON";
+
+    /**
+     * Nesting depth from which on objects are converted by {@code JSON.stringify}, which also detects cycles.
+     */
+    private static final int MAX_DIRECT_DEPTH = 256;
+
+    /**
+     * Integral doubles below this bound are exact and written like longs by {@code JSON.stringify}.
+     */
+    private static final double MAX_EXACT_LONG = 9.007199254740992E15;
+
+    private RhinoJsonConverter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Converts a value returned by a script to a JSON value.
+     *
+     * @param cx the current context.
+     * @param scope the scope of the script.
+     * @param value the value.
+     * @return the JSON value.
+     * @throws org.eclipse.ditto.json.JsonParseException if a value converted by {@code JSON.stringify} cannot be
+     * parsed.
+     */
+    static JsonValue toJsonValue(final Context cx, final Scriptable scope, @Nullable final Object value) {
+        final JsonValue result = convertToJson(cx, scope, value, 0);
+        return null != result ? result : JsonFactory.nullLiteral();
+    }
+
+    /**
+     * Converts a JSON value to a value which scripts can work with like with the result of {@code JSON.parse}.
+     *
+     * @param cx the current context.
+     * @param scope the scope of the script.
+     * @param jsonValue the JSON value.
+     * @return the script value.
+     */
+    @Nullable
+    static Object toScriptValue(final Context cx, final Scriptable scope, final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            return null;
+        } else if (jsonValue.isBoolean()) {
+            return jsonValue.asBoolean();
+        } else if (jsonValue.isNumber()) {
+            return jsonValue.asDouble();
+        } else if (jsonValue.isString()) {
+            return jsonValue.asString();
+        } else if (jsonValue.isArray()) {
+            final JsonArray jsonArray = jsonValue.asArray();
+            final Object[] elements = new Object[jsonArray.getSize()];
+            int i = 0;
+            for (final JsonValue element : jsonArray) {
+                elements[i++] = toScriptValue(cx, scope, element);
+            }
+            return cx.newArray(scope, elements);
+        } else {
+            final Scriptable object = cx.newObject(scope);
+            for (final JsonField field : jsonValue.asObject()) {
+                final String key = field.getKeyName();
+                final Object value = toScriptValue(cx, scope, field.getValue());
+                final int index = toArrayIndex(key);
+                if (index < 0) {
+                    object.put(key, object, value);
+                } else {
+                    // like JSON.parse: integer keys are indexed properties of the object
+                    object.put(index, object, value);
+                }
+            }
+            return object;
+        }
+    }
+
+    /**
+     * @return the JSON value or {@code null} if the value has no JSON representation and is omitted in objects.
+     */
+    @Nullable
+    private static JsonValue convertToJson(final Context cx, final Scriptable scope, @Nullable final Object value,
+            final int depth) {
+
+        if (null == value) {
+            return JsonFactory.nullLiteral();
+        } else if (value instanceof CharSequence) {
+            return JsonValue.of(value.toString());
+        } else if (value instanceof Boolean) {
+            return JsonValue.of((boolean) value);
+        } else if (value instanceof Number) {
+            return convertNumber((Number) value);
+        } else if (value instanceof Undefined || value == Scriptable.NOT_FOUND || value instanceof Callable ||
+                value instanceof Symbol) {
+            return null;
+        } else if (depth < MAX_DIRECT_DEPTH && value instanceof NativeArray && !hasToJson((Scriptable) value)) {
+            return convertArray(cx, scope, (NativeArray) value, depth);
+        } else if (depth < MAX_DIRECT_DEPTH && value.getClass() == NativeObject.class &&
+                !hasToJson((Scriptable) value)) {
+            return convertObject(cx, scope, (NativeObject) value, depth);
+        } else {
+            return stringifyAndParse(cx, scope, value);
+        }
+    }
+
+    private static JsonValue convertNumber(final Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short ||
+                number instanceof Byte) {
+            final long l = number.longValue();
+            return l == (int) l ? JsonValue.of((int) l) : JsonValue.of(l);
+        }
+        final double d = number.doubleValue();
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            return JsonFactory.nullLiteral();
+        } else if (d == (int) d) {
+            // JSON.stringify writes integral numbers without fraction, which are parsed as integers
+            return JsonValue.of((int) d);
+        } else if (Math.abs(d) < MAX_EXACT_LONG && d == (long) d) {
+            return JsonValue.of((long) d);
+        } else {
+            return JsonValue.of(d);
+        }
+    }
+
+    private static JsonArray convertArray(final Context cx, final Scriptable scope, final NativeArray array,
+            final int depth) {
+
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        final long length = array.getLength();
+        for (int i = 0; i < length; i++) {
+            final JsonValue element = convertToJson(cx, scope, array.get(i, array), depth + 1);
+            builder.add(null != element ? element : JsonFactory.nullLiteral());
+        }
+        return builder.build();
+    }
+
+    private static JsonObject convertObject(final Context cx, final Scriptable scope, final NativeObject object,
+            final int depth) {
+
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (final Object id : object.getIds()) {
+            final Object propertyValue;
+            if (id instanceof Integer) {
+                propertyValue = object.get((int) id, object);
+            } else if (id instanceof String) {
+                propertyValue = object.get((String) id, object);
+            } else {
+                // symbol keys are no JSON properties
+                continue;
+            }
+            final JsonValue jsonValue = convertToJson(cx, scope, propertyValue, depth + 1);
+            if (null != jsonValue) {
+                builder.set(JsonFactory.newField(JsonKey.of(String.valueOf(id)), jsonValue));
+            }
+        }
+        return builder.build();
+    }
+
+    private static boolean hasToJson(final Scriptable scriptable) {
+        return ScriptableObject.getProperty(scriptable, TO_JSON) instanceof Callable;
+    }
+
+    @Nullable
+    private static JsonValue stringifyAndParse(final Context cx, final Scriptable scope, final Object value) {
+        final Object json = NativeJSON.stringify(cx, scope, value, null, null);
+        if (json instanceof CharSequence) {
+            return JsonFactory.readFrom(json.toString());
+        }
+        return null;
+    }
+
+    /**
+     * @return the key as array index or -1 if it is no canonical array index.
+     */
+    private static int toArrayIndex(final String key) {
+        final int length = key.length();
+        if (length == 0 || length > 9 || (length > 1 && key.charAt(0) == '0')) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+}
@@ -73,8 +73,22 @@ final class SandboxingContextFactory extends ContextFactory {
     protected void observeInstructionCount(final Context cx, final int instructionCount) {
         final StartTimeAwareContext context = (StartTimeAwareContext) cx;
         final long currentTime = System.currentTimeMillis();
-        if (currentTime - context.startTime > maxScriptExecutionTime.toMillis()) {
-            throw new Error("Maximum execution time of <" + maxScriptExecutionTime.toMillis() + ">ms was exceeded.");
+        final long maxExecutionTime = maxScriptExecutionTime.toMillis() * context.executionTimeFactor;
+        if (currentTime - context.startTime > maxExecutionTime) {
+            throw new ExecutionTimeExceededError(maxExecutionTime);
+        }
+    }
+
+    /**
+     * Allows the script calls of the current context to run for a multiple of the maximum execution time, e.g. for a
+     * script call which maps several messages at once.
+     *
+     * @param cx the current context.
+     * @param factor how many times the maximum execution time the script calls may run.
+     */
+    static void setExecutionTimeFactor(final Context cx, final int factor) {
+        if (cx instanceof StartTimeAwareContext) {
+            ((StartTimeAwareContext) cx).executionTimeFactor = Math.max(1, factor);
         }
     }
 
@@ -93,10 +107,24 @@ final class SandboxingContextFactory extends ContextFactory {
     private static class StartTimeAwareContext extends Context {
 
         private long startTime;
+        private int executionTimeFactor = 1;
 
         private StartTimeAwareContext(final ContextFactory factory) {
             super(factory);
         }
     }
 
+    /**
+     * Signals that a script exceeded its maximum execution time. It is an {@code Error} so that scripts cannot catch
+     * it.
+     */
+    static final class ExecutionTimeExceededError extends Error {
+
+        private static final long serialVersionUID = -4436527163524419517L;
+
+        private ExecutionTimeExceededError(final long maxExecutionTime) {
+            super("Maximum execution time of <" + maxExecutionTime + ">ms was exceeded.");
+        }
+    }
+
 }
@@ -18,9 +18,9 @@ import java.util.List;
 
 import javax.annotation.Nullable;
 
-import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
 import org.eclipse.ditto.protocoladapter.Adaptable;
@@ -29,7 +29,6 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
@@ -46,6 +45,7 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
     private static final String EXTERNAL_MESSAGE_BYTE_PAYLOAD = "bytePayload";
 
     private static final String INCOMING_FUNCTION_NAME = "mapToDittoProtocolMsgWrapper";
+    private static final String INCOMING_BATCH_FUNCTION_NAME = "mapToDittoProtocolMsgBatchWrapper";
 
     @Nullable
     private ContextFactory contextFactory;
@@ -69,22 +69,7 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
                 final Object result =
                         mapToDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{externalMessage});
 
-                if (result == null) {
-                    // return empty list if result is null
-                    return Collections.emptyList();
-                } else if (result instanceof NativeArray) {
-                    // array handling
-                    final NativeArray jsArray = (NativeArray) result;
-                    final List<Adaptable> list = new ArrayList<>();
-                    for (Object idxObj : jsArray.getIds()) {
-                        int index = (Integer) idxObj;
-                        final Object element = jsArray.get(index, null);
-                        list.add(getAdaptableFromObject(cx, element));
-                    }
-                    return list;
-                }
-
-                return Collections.singletonList(getAdaptableFromObject(cx, result));
+                return getAdaptablesFromResult(cx, result);
             });
         } catch (final RhinoException e) {
             throw buildMessageMappingFailedException(e, message.findContentType().orElse(""),
@@ -98,6 +83,64 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
         }
     }
 
+    /**
+     * Maps the messages with a single invocation of the mapping script, which saves entering the script once per
+     * message. The invocation may run for the maximum execution time of a script per message. Mapping stops at the
+     * first message the script fails for or at which the execution time is exceeded; only the messages before it are
+     * returned and the caller passes the remaining ones again. If the first message can not be mapped, it fails with
+     * the error of mapping it on its own.
+     *
+     * @param messages the messages to map.
+     * @return the mapped adaptables of at least the first message in the order of the messages.
+     */
+    @Override
+    public List<List<Adaptable>> applyAll(final List<ExternalMessage> messages) {
+        if (messages.size() < 2) {
+            return MappingFunction.super.applyAll(messages);
+        }
+        final List<List<Adaptable>> mappedMessages = mapBatch(messages);
+        if (mappedMessages.isEmpty()) {
+            // map the first message on its own in order to fail with its error
+            return Collections.singletonList(apply(messages.get(0)));
+        }
+        return mappedMessages;
+    }
+
+    private List<List<Adaptable>> mapBatch(final List<ExternalMessage> messages) {
+        return contextFactory.call(cx -> {
+            final Object[] externalMessages = new Object[messages.size()];
+            for (int i = 0; i < externalMessages.length; i++) {
+                externalMessages[i] = mapExternalMessageToNativeObject(messages.get(i));
+            }
+
+            final org.mozilla.javascript.Function
+                    mapToDittoProtocolMsgBatchWrapper =
+                    (org.mozilla.javascript.Function) scope.get(INCOMING_BATCH_FUNCTION_NAME, scope);
+            // the script pushes the result of each message into this array so that the results of the messages
+            // before a failing one are kept
+            final NativeArray results = (NativeArray) cx.newArray(scope, 0);
+            SandboxingContextFactory.setExecutionTimeFactor(cx, messages.size());
+            try {
+                mapToDittoProtocolMsgBatchWrapper.call(cx, scope, scope,
+                        new Object[]{cx.newArray(scope, externalMessages), results});
+            } catch (final RhinoException | SandboxingContextFactory.ExecutionTimeExceededError e) {
+                // keep the results of the messages mapped so far
+            } finally {
+                SandboxingContextFactory.setExecutionTimeFactor(cx, 1);
+            }
+
+            final List<List<Adaptable>> adaptables = new ArrayList<>();
+            for (int i = 0; i < results.getLength(); i++) {
+                try {
+                    adaptables.add(getAdaptablesFromResult(cx, results.get(i, results)));
+                } catch (final DittoRuntimeException e) {
+                    break;
+                }
+            }
+            return adaptables;
+        });
+    }
+
     static NativeObject mapExternalMessageToNativeObject(final ExternalMessage message) {
         final NativeObject headersObj = new NativeObject();
         message.getHeaders().forEach((key, value) -> headersObj.put(key, headersObj, value));
@@ -105,8 +148,9 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
         final NativeArrayBuffer bytePayload =
                 message.getBytePayload()
                         .map(bb -> {
+                            // Rhino's ArrayBuffer cannot wrap an existing array; copy without consuming the payload
                             final NativeArrayBuffer nativeArrayBuffer = new NativeArrayBuffer(bb.remaining());
-                            bb.get(nativeArrayBuffer.getBuffer());
+                            bb.duplicate().get(nativeArrayBuffer.getBuffer());
                             return nativeArrayBuffer;
                         })
                         .orElse(null);
@@ -122,11 +166,28 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
         return externalMessage;
     }
 
-    private Adaptable getAdaptableFromObject(final Context cx, final Object result) {
-        final String dittoProtocolJsonStr = (String) NativeJSON.stringify(cx, scope, result, null, null);
+    private List<Adaptable> getAdaptablesFromResult(final Context cx, @Nullable final Object result) {
+        if (result == null) {
+            // return empty list if result is null
+            return Collections.emptyList();
+        } else if (result instanceof NativeArray) {
+            // array handling
+            final NativeArray jsArray = (NativeArray) result;
+            final List<Adaptable> list = new ArrayList<>();
+            for (Object idxObj : jsArray.getIds()) {
+                int index = (Integer) idxObj;
+                final Object element = jsArray.get(index, null);
+                list.add(getAdaptableFromObject(cx, element));
+            }
+            return list;
+        }
+
+        return Collections.singletonList(getAdaptableFromObject(cx, result));
+    }
 
+    private Adaptable getAdaptableFromObject(final Context cx, final Object result) {
         return DittoJsonException.wrapJsonRuntimeException(() -> {
-            final JsonObject jsonObject = JsonFactory.readFrom(dittoProtocolJsonStr).asObject();
+            final JsonObject jsonObject = RhinoJsonConverter.toJsonValue(cx, scope, result).asObject();
             return ProtocolFactory.jsonifiableAdaptableFromJson(jsonObject);
         });
     }
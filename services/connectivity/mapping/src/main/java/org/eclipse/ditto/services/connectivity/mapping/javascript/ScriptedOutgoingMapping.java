@@ -36,11 +36,8 @@ import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
-import org.mozilla.javascript.Callable;
-import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
@@ -73,7 +70,7 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
             final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
             return contextFactory.call(cx -> {
                 final Object dittoProtocolMessage =
-                        NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
+                        RhinoJsonConverter.toScriptValue(cx, scope, jsonifiableAdaptable.toJson());
 
                 final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper =
                         (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
@@ -179,13 +176,4 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
         return Optional.empty();
     }
 
-    private static final class NullCallable implements Callable {
-
-        @Override
-        public Object call(final Context context, final Scriptable scope, final Scriptable holdable,
-                final Object[] objects) {
-            return objects[1];
-        }
-    }
-
 }
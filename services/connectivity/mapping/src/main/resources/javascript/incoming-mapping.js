@@ -61,3 +61,17 @@ function mapToDittoProtocolMsgWrapper(externalMsg) {
 
   return mapToDittoProtocolMsg(headers, textPayload, bytePayload, contentType);
 }
+
+/**
+ * Maps each of the passed external messages to Ditto Protocol messages with a single invocation.
+ * @param {Array<ExternalMessage>} externalMsgs - The external messages to map to Ditto Protocol messages
+ * @returns {Array<(DittoProtocolMessage|Array<DittoProtocolMessage>)>} dittoProtocolMessages -
+ *  The result of mapToDittoProtocolMsgWrapper for each external message, in the same order
+ */
+function mapToDittoProtocolMsgBatchWrapper(externalMsgs, results) {
+
+  for (let i = 0; i < externalMsgs.length; i++) {
+    results.push(mapToDittoProtocolMsgWrapper(externalMsgs[i]));
+  }
+  return results;
+}
@@ -75,6 +75,14 @@ public final class DefaultMappingConfigTest {
         softly.assertThat(underTest.getParallelism())
                 .describedAs(MappingConfig.MappingConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(67890);
+
+        softly.assertThat(underTest.getWorkerPoolSize())
+                .describedAs(MappingConfig.MappingConfigValue.WORKER_POOL_SIZE.getConfigPath())
+                .isEqualTo(24);
+
+        softly.assertThat(underTest.getWorkerMaxInFlightPerConnection())
+                .describedAs(MappingConfig.MappingConfigValue.WORKER_MAX_IN_FLIGHT_PER_CONNECTION.getConfigPath())
+                .isEqualTo(6);
     }
 
 }
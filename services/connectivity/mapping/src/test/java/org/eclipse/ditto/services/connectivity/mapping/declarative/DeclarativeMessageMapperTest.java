@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.declarative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.connectivity.MessageMapperConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.services.connectivity.mapping.DefaultMappingConfig;
+import org.eclipse.ditto.services.connectivity.mapping.DefaultMessageMapperConfiguration;
+import org.eclipse.ditto.services.connectivity.mapping.MappingConfig;
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperties;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link DeclarativeMessageMapper}.
+ */
+public final class DeclarativeMessageMapperTest {
+
+    private static final MappingConfig MAPPING_CONFIG = DefaultMappingConfig.of(ConfigFactory.empty());
+    private static final String PAYLOAD = "{\"temp\":\"21.5\",\"hum\":40,\"unit\":\"C\"}";
+
+    private Map<String, String> options;
+    private Map<String, String> headers;
+    private MessageMapper underTest;
+
+    @Before
+    public void setUp() {
+        options = new HashMap<>();
+        options.put(DeclarativeMessageMapper.MAPPING_OPTIONS_THING_ID, "org.eclipse.ditto:{{ header:device_id }}");
+        headers = new HashMap<>();
+        headers.put("device_id", "sensor-1");
+        headers.put("correlation-id", "declarative");
+        underTest = new DeclarativeMessageMapper();
+    }
+
+    @Test
+    public void mapsSingleRuleToModifyFeatureProperty() {
+        options.put("/features/env/properties/temperature", "{{ payload:/temp }}");
+        options.put(DeclarativeMessageMapper.MAPPING_OPTIONS_TYPES,
+                "{\"/features/env/properties/temperature\":\"double\"}");
+        configure();
+
+        final List<Signal<?>> signals = mapSignals(newTextMessage(PAYLOAD));
+
+        assertThat(signals).hasSize(1);
+        assertThat(signals.get(0)).isInstanceOf(ModifyFeatureProperty.class);
+        final ModifyFeatureProperty command = (ModifyFeatureProperty) signals.get(0);
+        assertThat((CharSequence) command.getThingEntityId()).isEqualTo(ThingId.of("org.eclipse.ditto:sensor-1"));
+        assertThat(command.getFeatureId()).isEqualTo("env");
+        assertThat(command.getPropertyPointer()).isEqualTo(JsonPointer.of("temperature"));
+        assertThat(command.getPropertyValue()).isEqualTo(JsonValue.of(21.5));
+        assertThat(command.getDittoHeaders().getCorrelationId()).contains("declarative");
+    }
+
+    @Test
+    public void mapsEachRuleToItsOwnModification() {
+        options.put("/features/env/properties/temperature", "{{ payload:/temp }}");
+        options.put("/features/env/properties/humidity", "{{ payload:/hum }}");
+        options.put("/features/env/properties/label", "{{ header:device_id }} in {{ payload:/unit | fn:lower() }}");
+        options.put("/attributes/location", "{{ header:location | fn:default('unknown') }}");
+        configure();
+
+        final Map<JsonPointer, JsonValue> values = new HashMap<>();
+        for (final Signal<?> signal : mapSignals(newTextMessage(PAYLOAD))) {
+            if (signal instanceof ModifyFeatureProperty) {
+                final ModifyFeatureProperty command = (ModifyFeatureProperty) signal;
+                values.put(command.getPropertyPointer(), command.getPropertyValue());
+            } else {
+                assertThat(signal).isInstanceOf(ModifyAttribute.class);
+                final ModifyAttribute command = (ModifyAttribute) signal;
+                values.put(command.getAttributePointer(), command.getAttributeValue());
+            }
+        }
+
+        final Map<JsonPointer, JsonValue> expectedValues = new HashMap<>();
+        expectedValues.put(JsonPointer.of("temperature"), JsonValue.of("21.5"));
+        expectedValues.put(JsonPointer.of("humidity"), JsonValue.of(40));
+        expectedValues.put(JsonPointer.of("label"), JsonValue.of("sensor-1 in c"));
+        expectedValues.put(JsonPointer.of("location"), JsonValue.of("unknown"));
+        assertThat(values).isEqualTo(expectedValues);
+    }
+
+    @Test
+    public void replacesValueAtConfiguredPath() {
+        options.put("/features/env/properties/temperature", "{{ payload:/temp }}");
+        options.put("/features/env/properties/humidity", "{{ payload:/hum }}");
+        options.put(DeclarativeMessageMapper.MAPPING_OPTIONS_PATH, "/features/env/properties");
+        options.put(DeclarativeMessageMapper.MAPPING_OPTIONS_TYPES,
+                "{\"/features/env/properties/temperature\":\"double\"}");
+        configure();
+
+        final List<Signal<?>> signals = mapSignals(newTextMessage(PAYLOAD));
+
+        assertThat(signals).hasSize(1);
+        assertThat(signals.get(0)).isInstanceOf(ModifyFeatureProperties.class);
+        assertThat(((ModifyFeatureProperties) signals.get(0)).getProperties().toJson())
+                .isEqualTo(JsonObject.newBuilder()
+                        .set("temperature", 21.5)
+                        .set("humidity", 40)
+                        .build());
+    }
+
+    @Test
+    public void failsIfAnyRuleCannotBeResolved() {
+        options.put("/features/env/properties/temperature", "{{ payload:/temp }}");
+        options.put("/features/env/properties/missing", "{{ payload:/does/not/exist }}");
+        configure();
+
+        assertThatExceptionOfType(MessageMappingFailedException.class)
+                .isThrownBy(() -> underTest.map(newTextMessage(PAYLOAD)));
+    }
+
+    @Test
+    public void failsIfValueCannotBeConverted() {
+        options.put("/features/env/properties/unit", "{{ payload:/unit }}");
+        options.put(DeclarativeMessageMapper.MAPPING_OPTIONS_TYPES, "{\"/features/env/properties/unit\":\"long\"}");
+        configure();
+
+        assertThatExceptionOfType(MessageMappingFailedException.class)
+                .isThrownBy(() -> underTest.map(newTextMessage(PAYLOAD)));
+    }
+
+    @Test
+    public void rejectsTypeOfUnknownRule() {
+        options.put("/features/env/properties/temperature", "{{ payload:/temp }}");
+        options.put(DeclarativeMessageMapper.MAPPING_OPTIONS_TYPES, "{\"/features/env/properties/temp\":\"long\"}");
+
+        assertThatExceptionOfType(MessageMapperConfigurationInvalidException.class).isThrownBy(this::configure);
+    }
+
+    @Test
+    public void rejectsUnknownExpressionPrefix() {
+        options.put("/features/env/properties/temperature", "{{ thing:id }}");
+
+        assertThatExceptionOfType(MessageMapperConfigurationInvalidException.class).isThrownBy(this::configure);
+    }
+
+    @Test
+    public void rejectsUnsupportedTopic() {
+        options.put("/features/env/properties/temperature", "{{ payload:/temp }}");
+        options.put(DeclarativeMessageMapper.MAPPING_OPTIONS_TOPIC, "twin/commands/retrieve");
+
+        assertThatExceptionOfType(MessageMapperConfigurationInvalidException.class).isThrownBy(this::configure);
+    }
+
+    @Test
+    public void rejectsPathWhichIsNoParentOfRuleTargets() {
+        options.put("/features/env/properties/temperature", "{{ payload:/temp }}");
+        options.put(DeclarativeMessageMapper.MAPPING_OPTIONS_PATH, "/attributes");
+
+        assertThatExceptionOfType(MessageMapperConfigurationInvalidException.class).isThrownBy(this::configure);
+    }
+
+    private void configure() {
+        underTest.configure(MAPPING_CONFIG, DefaultMessageMapperConfiguration.of("declarative", options));
+    }
+
+    private ExternalMessage newTextMessage(final String payload) {
+        return ExternalMessageFactory.newExternalMessageBuilder(headers).withText(payload).build();
+    }
+
+    private List<Signal<?>> mapSignals(final ExternalMessage message) {
+        final DittoProtocolAdapter protocolAdapter = DittoProtocolAdapter.newInstance();
+        return underTest.map(message).stream()
+                .<Signal<?>>map(protocolAdapter::fromAdaptable)
+                .collect(Collectors.toList());
+    }
+
+}
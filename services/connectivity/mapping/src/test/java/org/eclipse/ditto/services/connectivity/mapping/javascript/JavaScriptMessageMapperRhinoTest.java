@@ -13,9 +13,11 @@
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +36,7 @@ import org.eclipse.ditto.model.base.common.DittoConstants;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
 import org.eclipse.ditto.model.things.Attributes;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
@@ -129,6 +132,37 @@ public final class JavaScriptMessageMapperRhinoTest {
                     "    );\n" +
                     "}";
 
+    private static final String MAPPING_INCOMING_FAILING_PAYLOAD = "fail!";
+    private static final String MAPPING_INCOMING_SLOW_PAYLOAD = "slow";
+
+    private static final String MAPPING_INCOMING_FAILING =
+            "function mapToDittoProtocolMsg(\n" +
+                    "    headers,\n" +
+                    "    textPayload,\n" +
+                    "    bytePayload,\n" +
+                    "    contentType\n" +
+                    ") {\n" +
+                    "\n" +
+                    "    if (textPayload === \"" + MAPPING_INCOMING_FAILING_PAYLOAD + "\") {\n" +
+                    "        throw new Error(\"cannot map payload\");\n" +
+                    "    }\n" +
+                    "    if (textPayload === \"" + MAPPING_INCOMING_SLOW_PAYLOAD + "\") {\n" +
+                    "        let end = Date.now() + 200;\n" +
+                    "        while (Date.now() < end) {}\n" +
+                    "    }\n" +
+                    "    return Ditto.buildDittoProtocolMsg(\n" +
+                    "        \"" + MAPPING_INCOMING_NAMESPACE + "\",\n" +
+                    "        \"" + MAPPING_INCOMING_ID + "\",\n" +
+                    "        \"things\",\n" +
+                    "        \"twin\",\n" +
+                    "        \"commands\",\n" +
+                    "        \"modify\",\n" +
+                    "        \"" + MAPPING_INCOMING_PATH + "\",\n" +
+                    "        {},\n" +
+                    "        textPayload\n" +
+                    "    );\n" +
+                    "}";
+
     private static final String MAPPING_OUTGOING_PLAIN = "function mapFromDittoProtocolMsg(\n" +
             "    namespace,\n" +
             "    id,\n" +
@@ -406,6 +440,7 @@ public final class JavaScriptMessageMapperRhinoTest {
     private static MessageMapper javaScriptRhinoMapperEmpty;
     private static MessageMapper javaScriptRhinoMapperBinary;
     private static MessageMapper javaScriptRhinoMapperDefault;
+    private static MessageMapper javaScriptRhinoMapperFailing;
 
     @BeforeClass
     public static void setup() {
@@ -471,6 +506,15 @@ public final class JavaScriptMessageMapperRhinoTest {
                         .outgoingScript(MAPPING_OUTGOING_DEFAULT)
                         .build()
         );
+
+        javaScriptRhinoMapperFailing = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        javaScriptRhinoMapperFailing.configure(MAPPING_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("failing", Collections.emptyMap())
+                        .incomingScript(MAPPING_INCOMING_FAILING)
+                        .outgoingScript(MAPPING_OUTGOING_PLAIN)
+                        .build()
+        );
     }
 
     @Test
@@ -856,6 +900,62 @@ public final class JavaScriptMessageMapperRhinoTest {
         });
     }
 
+    @Test
+    public void testBatchJavascriptIncomingMappingStopsBeforeFailingMessage() {
+        final List<ExternalMessage> messages = Arrays.asList(
+                plainTextMessage("first"),
+                plainTextMessage("second"),
+                plainTextMessage(MAPPING_INCOMING_FAILING_PAYLOAD),
+                plainTextMessage("fourth"));
+
+        final List<List<Adaptable>> mappedMessages = javaScriptRhinoMapperFailing.mapBatch(messages);
+
+        assertThat(mappedMessages).hasSize(2);
+        assertThat(mappedMessages.get(0)).hasSize(1);
+        assertThat(mappedMessages.get(0).get(0).getPayload().getValue()).contains(JsonValue.of("first"));
+        assertThat(mappedMessages.get(1)).hasSize(1);
+        assertThat(mappedMessages.get(1).get(0).getPayload().getValue()).contains(JsonValue.of("second"));
+
+        final List<List<Adaptable>> remainingMessages =
+                javaScriptRhinoMapperFailing.mapBatch(messages.subList(3, messages.size()));
+        assertThat(remainingMessages).hasSize(1);
+        assertThat(remainingMessages.get(0).get(0).getPayload().getValue()).contains(JsonValue.of("fourth"));
+    }
+
+    @Test
+    public void testBatchJavascriptIncomingMappingFailsWithErrorOfFirstMessage() {
+        final List<ExternalMessage> messages = Arrays.asList(
+                plainTextMessage(MAPPING_INCOMING_FAILING_PAYLOAD),
+                plainTextMessage("second"));
+
+        assertThatExceptionOfType(MessageMappingFailedException.class)
+                .isThrownBy(() -> javaScriptRhinoMapperFailing.mapBatch(messages))
+                .satisfies(e -> assertThat(e.getDescription().orElse("")).contains("cannot map payload"));
+    }
+
+    @Test
+    public void testBatchJavascriptIncomingMappingMayRunForExecutionTimeOfEachMessage() {
+        // each message takes 200ms of the maximum execution time of 500ms, the batch takes 800ms
+        final List<ExternalMessage> messages = Arrays.asList(
+                plainTextMessage(MAPPING_INCOMING_SLOW_PAYLOAD),
+                plainTextMessage(MAPPING_INCOMING_SLOW_PAYLOAD),
+                plainTextMessage(MAPPING_INCOMING_SLOW_PAYLOAD),
+                plainTextMessage(MAPPING_INCOMING_SLOW_PAYLOAD));
+
+        final List<List<Adaptable>> mappedMessages = javaScriptRhinoMapperFailing.mapBatch(messages);
+
+        assertThat(mappedMessages).hasSize(messages.size());
+    }
+
+    private static ExternalMessage plainTextMessage(final String textPayload) {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put(HEADER_CORRELATION_ID, UUID.randomUUID().toString());
+        headers.put(ExternalMessage.CONTENT_TYPE_HEADER, CONTENT_TYPE_PLAIN);
+        return ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withText(textPayload)
+                .build();
+    }
+
     @Nullable
     private static String byteBuffer2String(@Nullable final ByteBuffer buf) {
         if (buf == null) {
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+
+/**
+ * Unit test for {@link RhinoJsonConverter}.
+ */
+public final class RhinoJsonConverterTest {
+
+    private Context cx;
+    private Scriptable scope;
+
+    @Before
+    public void enterContext() {
+        cx = Context.enter();
+        scope = cx.initStandardObjects();
+    }
+
+    @After
+    public void exitContext() {
+        Context.exit();
+    }
+
+    @Test
+    public void convertsLikeJsonStringify() {
+        final String script = "({" +
+                "\"string\": \"s\", \"int\": 42, \"long\": 4294967296, \"double\": 1.5, \"nan\": NaN, " +
+                "\"bool\": true, \"null\": null, \"undefined\": undefined, \"fn\": function() {}, " +
+                "\"array\": [1, undefined, function() {}, \"x\"], \"1\": \"indexed\", " +
+                "\"date\": new Date(0), \"custom\": { toJSON: function() { return \"custom\"; } }, " +
+                "\"nested\": { \"a\": { \"b\": [ { \"c\": 3 } ] } }" +
+                "})";
+        final Object value = evaluate(script);
+
+        final JsonValue result = RhinoJsonConverter.toJsonValue(cx, scope, value);
+
+        assertThat(result).isEqualTo(stringifyAndParse(value));
+    }
+
+    @Test
+    public void convertsCyclicObjectsWithoutOverflow() {
+        final Object value = evaluate("(function() { var o = { \"a\": 1 }; o.self = o; return o; })()");
+
+        // converted by JSON.stringify once the maximum depth is reached, which detects the cycle
+        final Throwable error = catchThrowable(() -> RhinoJsonConverter.toJsonValue(cx, scope, value));
+
+        assertThat(error).isNotNull().isNotInstanceOf(StackOverflowError.class);
+    }
+
+    @Test
+    public void scriptValueBehavesLikeParsedJson() {
+        final JsonObject jsonObject = JsonFactory.readFrom("{\"a\":[1,2.5,\"x\",null,true],\"0\":{\"b\":false}}")
+                .asObject();
+        ScriptableObject.putProperty(scope, "value", RhinoJsonConverter.toScriptValue(cx, scope, jsonObject));
+
+        final Object stringified = evaluate("JSON.stringify(value)");
+        final Object fields = evaluate("typeof value.a[0] + ':' + value[0].b + ':' + value.a.length");
+
+        assertThat(JsonFactory.readFrom(stringified.toString())).isEqualTo(jsonObject);
+        assertThat(fields.toString()).isEqualTo("number:false:5");
+    }
+
+    private Object evaluate(final String script) {
+        return cx.evaluateString(scope, script, "test", 1, null);
+    }
+
+    private JsonValue stringifyAndParse(final Object value) {
+        return JsonFactory.readFrom(NativeJSON.stringify(cx, scope, value, null, null).toString());
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
@@ -33,6 +35,7 @@ public class JavaScriptMessageMapperRhinoBenchmark {
     private static final int MEASUREMENT_ITERATIONS = 10;
     private static final int WARMUP_TIME = 1000;
     private static final int MEASUREMENT_TIME = 1000;
+    static final int BATCH_SIZE = 100;
 
     @Benchmark
     @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
@@ -76,9 +79,44 @@ public class JavaScriptMessageMapperRhinoBenchmark {
         runScenario(scenario);
     }
 
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void test6MoveJsonFieldsToDitto(final Test6MoveJsonFieldsToDitto scenario) {
+        runScenario(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void test6MoveJsonFieldsToDittoDeclaratively(final Test6MoveJsonFieldsToDittoDeclaratively scenario) {
+        runScenario(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void test2ParseJsonPayloadToDittoBatch(final Test2ParseJsonPayloadToDitto scenario) {
+        runBatchScenario(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void test4ConstructJsonPayloadToDittoBatch(final Test4ConstructJsonPayloadToDitto scenario) {
+        runBatchScenario(scenario);
+    }
+
     private void runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
         messageMapper.map(externalMessage);
     }
+
+    private void runBatchScenario(final MapToDittoProtocolScenario scenario) {
+        final MessageMapper messageMapper = scenario.getMessageMapper();
+        final List<ExternalMessage> externalMessages =
+                Collections.nCopies(BATCH_SIZE, scenario.getExternalMessage());
+        messageMapper.mapBatch(externalMessages);
+    }
 }
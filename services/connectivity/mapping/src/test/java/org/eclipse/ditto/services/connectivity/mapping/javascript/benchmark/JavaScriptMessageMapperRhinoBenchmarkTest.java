@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.ditto.json.JsonFactory;
@@ -110,12 +111,60 @@ public class JavaScriptMessageMapperRhinoBenchmarkTest {
         );
     }
 
+    @Test
+    public void test6MoveJsonFieldsToDittoDeclarativelyLikeJavaScript() {
+        final List<Adaptable> javaScriptResult = runScenario(new Test6MoveJsonFieldsToDitto());
+        final List<Adaptable> declarativeResult = runScenario(new Test6MoveJsonFieldsToDittoDeclaratively());
+
+        assertThat(javaScriptResult).hasSize(1);
+        assertThat(declarativeResult).hasSize(1);
+        assertDefaults(declarativeResult.get(0));
+        assertThat(declarativeResult.get(0).getPayload().getPath())
+                .isEqualTo(javaScriptResult.get(0).getPayload().getPath());
+        assertThat(declarativeResult.get(0).getPayload().getValue())
+                .isEqualTo(javaScriptResult.get(0).getPayload().getValue());
+    }
+
+    @Test
+    public void test2ParseJsonPayloadToDittoBatch() {
+        final List<List<Adaptable>> results = runBatchScenario(new Test2ParseJsonPayloadToDitto());
+
+        assertThat(results).hasSize(JavaScriptMessageMapperRhinoBenchmark.BATCH_SIZE);
+        results.forEach(adaptables -> {
+            assertThat(adaptables).hasSize(1);
+            assertDefaults(adaptables.get(0));
+            assertThat(adaptables.get(0).getPayload().getValue()
+                    .map(JsonValue::asObject)
+                    .map(o -> o.getValue("features/XDK/properties/environmental/temperature"))
+                    .orElse(null)
+            ).contains(JsonValue.of(25.3));
+        });
+    }
+
+    @Test
+    public void test4ConstructJsonPayloadToDittoBatch() {
+        final List<List<Adaptable>> results = runBatchScenario(new Test4ConstructJsonPayloadToDitto());
+
+        assertThat(results).hasSize(JavaScriptMessageMapperRhinoBenchmark.BATCH_SIZE);
+        results.forEach(adaptables -> {
+            assertThat(adaptables).hasSize(1);
+            assertDefaults(adaptables.get(0));
+        });
+    }
+
     private List<Adaptable> runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
         return messageMapper.map(externalMessage);
     }
 
+    private List<List<Adaptable>> runBatchScenario(final MapToDittoProtocolScenario scenario) {
+        final MessageMapper messageMapper = scenario.getMessageMapper();
+        final ExternalMessage externalMessage = scenario.getExternalMessage();
+        return messageMapper.mapBatch(
+                Collections.nCopies(JavaScriptMessageMapperRhinoBenchmark.BATCH_SIZE, externalMessage));
+    }
+
     private static void assertDefaults(final Adaptable adaptable) {
         assertThat(adaptable.getTopicPath().getChannel()).isEqualTo(TopicPath.Channel.TWIN);
         assertThat(adaptable.getTopicPath().getCriterion()).isEqualTo(TopicPath.Criterion.COMMANDS);
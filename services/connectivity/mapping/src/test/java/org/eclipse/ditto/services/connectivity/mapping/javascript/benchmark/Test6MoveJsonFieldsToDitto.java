@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptMessageMapperFactory;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Moves fields of a JSON payload to feature properties with a JavaScript mapping, see
+ * {@link Test6MoveJsonFieldsToDittoDeclaratively} for the same mapping without JavaScript.
+ */
+@State(Scope.Benchmark)
+public class Test6MoveJsonFieldsToDitto implements MapToDittoProtocolScenario {
+
+    static final String PAYLOAD = "{\"temp\":21.5,\"hum\":40,\"battery\":87,\"ts\":1577836800000}";
+    static final String CONTENT_TYPE = "application/json";
+
+    private static final String MAPPING_INCOMING_PLAIN =
+            "function mapToDittoProtocolMsg(\n" +
+                    "    headers,\n" +
+                    "    textPayload,\n" +
+                    "    bytePayload,\n" +
+                    "    contentType\n" +
+                    ") {\n" +
+                    "\n" +
+                    "    let payload = JSON.parse(textPayload);\n" +
+                    "    let dittoHeaders = {};\n" +
+                    "    dittoHeaders[\"correlation-id\"] = headers[\"correlation-id\"];\n" +
+                    "    let value = {\n" +
+                    "        temperature: payload.temp,\n" +
+                    "        humidity: payload.hum,\n" +
+                    "        battery: payload.battery\n" +
+                    "    };\n" +
+                    "\n" +
+                    "    return Ditto.buildDittoProtocolMsg(\n" +
+                    "        \"org.eclipse.ditto\",\n" +
+                    "        headers[\"device_id\"],\n" +
+                    "        \"things\",\n" +
+                    "        \"twin\",\n" +
+                    "        \"commands\",\n" +
+                    "        \"modify\",\n" +
+                    "        \"/features/env/properties\",\n" +
+                    "        dittoHeaders,\n" +
+                    "        value\n" +
+                    "    );\n" +
+                    "}";
+
+    private final ExternalMessage externalMessage;
+
+    public Test6MoveJsonFieldsToDitto() {
+        externalMessage = newExternalMessage();
+    }
+
+    static ExternalMessage newExternalMessage() {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("correlation-id", UUID.randomUUID().toString());
+        headers.put("device_id", "jmh-test");
+        headers.put(ExternalMessage.CONTENT_TYPE_HEADER, CONTENT_TYPE);
+        return ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withText(PAYLOAD)
+                .build();
+    }
+
+    @Override
+    public MessageMapper getMessageMapper() {
+        final MessageMapper javaScriptRhinoMapperPlain =
+                JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        javaScriptRhinoMapperPlain.configure(MAPPING_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("ditto", Collections.emptyMap())
+                        .incomingScript(MAPPING_INCOMING_PLAIN)
+                        .build()
+        );
+        return javaScriptRhinoMapperPlain;
+    }
+
+    @Override
+    public ExternalMessage getExternalMessage() {
+        return externalMessage;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.services.connectivity.mapping.DefaultMessageMapperConfiguration;
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.declarative.DeclarativeMessageMapper;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Moves fields of a JSON payload to feature properties with the
+ * {@link org.eclipse.ditto.services.connectivity.mapping.declarative.DeclarativeMessageMapper}, the baseline for
+ * {@link Test6MoveJsonFieldsToDitto}.
+ */
+@State(Scope.Benchmark)
+public class Test6MoveJsonFieldsToDittoDeclaratively implements MapToDittoProtocolScenario {
+
+    private final ExternalMessage externalMessage;
+
+    public Test6MoveJsonFieldsToDittoDeclaratively() {
+        externalMessage = Test6MoveJsonFieldsToDitto.newExternalMessage();
+    }
+
+    @Override
+    public MessageMapper getMessageMapper() {
+        final Map<String, String> options = new HashMap<>();
+        options.put("thingId", "org.eclipse.ditto:{{ header:device_id }}");
+        options.put("/features/env/properties/temperature", "{{ payload:/temp }}");
+        options.put("/features/env/properties/humidity", "{{ payload:/hum }}");
+        options.put("/features/env/properties/battery", "{{ payload:/battery }}");
+        // replace the properties like the JavaScript mapping does
+        options.put("path", "/features/env/properties");
+
+        final MessageMapper declarativeMapper = new DeclarativeMessageMapper();
+        declarativeMapper.configure(MAPPING_CONFIG, DefaultMessageMapperConfiguration.of("declarative", options));
+        return declarativeMapper;
+    }
+
+    @Override
+    public ExternalMessage getExternalMessage() {
+        return externalMessage;
+    }
+}
@@ -71,7 +71,7 @@ import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
@@ -145,9 +145,8 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         final ConnectionId connectionId = connection.getId();
         ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId);
 
-        connectivityConfig = DittoConnectivityConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        );
+        connectivityConfig = DittoConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of);
         clientConfig = connectivityConfig.getClientConfig();
         this.conciergeForwarder =
                 Optional.ofNullable(conciergeForwarder).orElse(getContext().getSystem().deadLetters());
@@ -525,9 +524,11 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
             final BaseClientData data) {
 
         if (getPublisherActor() != null) {
-            getPublisherActor().forward(message.getOutboundSignal(), getContext());
+            getPublisherActor().forward(message, getContext());
         } else {
             log.error("No publisher actor available, dropping message: {}", message);
+            // do not keep the sender waiting for a message which is never sent
+            getSender().tell(Done.getInstance(), getSelf());
         }
         return stay();
     }
@@ -1366,24 +1367,36 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
     }
 
     /**
-     * Wrapper for a mapped {@link OutboundSignal} that should be forwarded to the publisher actor.
+     * Wrapper for a mapped {@link OutboundSignal} that should be forwarded to the publisher actor. The publisher actor
+     * replies {@link Done} to the sender of the wrapper as soon as the message was sent to all its targets, which
+     * may be delayed while too many messages are unacknowledged by the broker.
      */
     static final class PublishMappedMessage {
 
         private final OutboundSignal.Mapped outboundSignal;
+        private final ActorRef origin;
 
-        PublishMappedMessage(final OutboundSignal.Mapped outboundSignal) {
+        PublishMappedMessage(final OutboundSignal.Mapped outboundSignal, final ActorRef origin) {
             this.outboundSignal = outboundSignal;
+            this.origin = origin;
         }
 
         OutboundSignal.Mapped getOutboundSignal() {
             return outboundSignal;
         }
 
+        /**
+         * @return the sender of the signal to which errors of publishing are sent.
+         */
+        ActorRef getOrigin() {
+            return origin;
+        }
+
         @Override
         public String toString() {
             return getClass().getSimpleName() + " [" +
                     "outboundSignal=" + outboundSignal +
+                    ", origin=" + origin +
                     "]";
         }
 
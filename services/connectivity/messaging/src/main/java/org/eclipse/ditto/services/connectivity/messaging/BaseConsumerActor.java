@@ -30,7 +30,7 @@ import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMo
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 
 import akka.actor.AbstractActorWithTimers;
@@ -59,9 +59,8 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
         this.source = checkNotNull(source, "source");
         resetResourceStatus();
 
-        final MonitoringConfig monitoringConfig = DittoConnectivityConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getMonitoringConfig();
+        final MonitoringConfig monitoringConfig = DittoConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of).getMonitoringConfig();
 
         inboundMonitor = DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig)
                 .forInboundConsumed(connectionId, sourceAddress);
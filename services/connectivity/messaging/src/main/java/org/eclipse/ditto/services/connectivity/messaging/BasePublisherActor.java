@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,6 +40,7 @@ import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
 import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
@@ -53,11 +55,16 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.services.utils.tracing.TracingTags;
 import org.eclipse.ditto.signals.base.Signal;
 
+import akka.Done;
 import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
 
@@ -68,6 +75,11 @@ import akka.japi.pf.ReceiveBuilder;
  */
 public abstract class BasePublisherActor<T extends PublishTarget> extends AbstractActor {
 
+    /**
+     * The name of the timer of the time between sending a message and its acknowledgement by the broker.
+     */
+    private static final String CONFIRM_METRIC_NAME = "connectivity_publisher_confirm";
+
     protected final ConnectionId connectionId;
     protected final List<Target> targets;
     protected final Map<Target, ResourceStatus> resourceStatusMap;
@@ -89,9 +101,8 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                         ConnectivityModelFactory.newTargetStatus(getInstanceIdentifier(), ConnectivityStatus.OPEN,
                                 target.getAddress(), "Started at " + now)));
 
-        final MonitoringConfig monitoringConfig = DittoConnectivityConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getMonitoringConfig();
+        final MonitoringConfig monitoringConfig = DittoConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of).getMonitoringConfig();
         connectionMonitorRegistry = DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig);
         responseDroppedMonitor = connectionMonitorRegistry.forResponseDropped(this.connectionId);
         responsePublishedMonitor = connectionMonitorRegistry.forResponsePublished(this.connectionId);
@@ -109,70 +120,24 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         final ReceiveBuilder receiveBuilder = receiveBuilder();
         preEnhancement(receiveBuilder);
 
-        receiveBuilder.match(OutboundSignal.Mapped.class, BasePublisherActor::isResponseOrError,
-                outbound -> {
-                    final ExternalMessage response = outbound.getExternalMessage();
-                    final String correlationId = response.getHeaders().get(CORRELATION_ID.getKey());
-                    ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(log(), correlationId, connectionId);
-
-                    final Optional<ReplyTarget> replyTargetOptional = outbound.getSource()
-                            .getDittoHeaders()
-                            .getReplyTarget()
-                            .flatMap(this::getReplyTargetByIndex);
-                    if (replyTargetOptional.isPresent()) {
-                        catchHeaderMappingException(responsePublishedMonitor, outbound.getSource(), () -> {
-                            final ReplyTarget replyTarget = replyTargetOptional.get();
-                            final ExpressionResolver expressionResolver = Resolvers.forOutbound(outbound);
-                            final String address = replyTarget.getAddress();
-                            final Optional<T> resolvedAddress =
-                                    resolveTargetAddress(expressionResolver, address).map(this::toPublishTarget);
-
-                            if (resolvedAddress.isPresent()) {
-                                final HeaderMapping headerMapping = replyTarget.getHeaderMapping().orElse(null);
-                                final ExternalMessage responseWithMappedHeaders =
-                                        applyHeaderMapping(expressionResolver, outbound, headerMapping, log());
-                                publishResponseOrError(resolvedAddress.get(), outbound, responseWithMappedHeaders);
-                            } else {
-                                log().debug("Response dropped, reply-target address unresolved: <{}>", address);
-                                responseDroppedMonitor.failure(outbound.getSource(),
-                                        "Response dropped since its reply-target''s address " +
-                                                "cannot be resolved to a value: {0}",
-                                        address);
-                            }
-                        });
+        // handlers of subclasses for mapped signals, e.g. dropping them in dry-run mode, also apply to wrapped ones
+        final ReceiveBuilder preEnhancementBuilder = ReceiveBuilder.create();
+        preEnhancement(preEnhancementBuilder);
+        final Receive preEnhancedReceive = preEnhancementBuilder.build();
+
+        receiveBuilder.match(PublishMappedMessage.class, publishMappedMessage -> {
+                    final ActorRef ackRecipient = getSender();
+                    final ActorRef self = getSelf();
+                    final Runnable onSent = () -> ackRecipient.tell(Done.getInstance(), self);
+                    final OutboundSignal.Mapped outbound = publishMappedMessage.getOutboundSignal();
+                    if (preEnhancedReceive.onMessage().isDefinedAt(outbound)) {
+                        preEnhancedReceive.onMessage().apply(outbound);
+                        onSent.run();
                     } else {
-                        log().debug("Response dropped, missing reply-target: {}", response);
-                        responseDroppedMonitor.failure(outbound.getSource(),
-                                "Response dropped since it was missing a reply-target.");
+                        publishMapped(outbound, publishMappedMessage.getOrigin(), onSent);
                     }
                 })
-                .match(OutboundSignal.Mapped.class, outbound -> {
-                    final ExpressionResolver resolver = Resolvers.forOutbound(outbound);
-                    final ExternalMessage message = outbound.getExternalMessage();
-                    final String correlationId = message.getHeaders().get(CORRELATION_ID.getKey());
-                    ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(log(), correlationId, connectionId);
-
-                    final Signal<?> outboundSource = outbound.getSource();
-                    log().debug("Publishing mapped message of type <{}> to targets <{}>: {}",
-                            outboundSource.getType(), outbound.getTargets(), message);
-                    outbound.getTargets().forEach(target -> {
-                        log().debug("Publishing mapped message of type <{}> to target address <{}>",
-                                outboundSource.getType(), target.getAddress());
-
-                        final ConnectionMonitor publishedMonitor =
-                                connectionMonitorRegistry.forOutboundPublished(connectionId,
-                                        target.getOriginalAddress());
-                        final HeaderMapping headerMapping = target.getHeaderMapping().orElse(null);
-                        catchHeaderMappingException(publishedMonitor, outboundSource, () ->
-                                resolveTargetAddress(resolver, target.getAddress())
-                                        .map(this::toPublishTarget)
-                                        .ifPresent(publishTarget -> {
-                                            final ExternalMessage mappedMessage =
-                                                    applyHeaderMapping(resolver, outbound, headerMapping, log());
-                                            publishMessage(target, publishTarget, mappedMessage, publishedMonitor);
-                                        }));
-                    });
-                })
+                .match(OutboundSignal.Mapped.class, outbound -> publishMapped(outbound, getSender(), () -> {}))
                 .match(RetrieveAddressStatus.class, ram -> getCurrentTargetStatus().forEach(rs ->
                         getSender().tell(rs, getSelf())))
                 .matchAny(m -> {
@@ -184,27 +149,114 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return receiveBuilder.build();
     }
 
-    private void catchHeaderMappingException(final ConnectionMonitor publishedMonitor, final Signal<?> outboundSource,
-            final Runnable doPublish) {
+    private void publishMapped(final OutboundSignal.Mapped outbound, final ActorRef origin, final Runnable onSent) {
+        if (isResponseOrError(outbound)) {
+            publishResponseOrError(outbound, origin, new SendCountdown(1, onSent).newCallback());
+        } else {
+            publishToTargets(outbound, origin, onSent);
+        }
+    }
+
+    private void publishResponseOrError(final OutboundSignal.Mapped outbound, final ActorRef origin,
+            final Runnable onSent) {
+
+        final ExternalMessage response = outbound.getExternalMessage();
+        final String correlationId = response.getHeaders().get(CORRELATION_ID.getKey());
+        ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(log(), correlationId, connectionId);
+
+        final Optional<ReplyTarget> replyTargetOptional = outbound.getSource()
+                .getDittoHeaders()
+                .getReplyTarget()
+                .flatMap(this::getReplyTargetByIndex);
+        if (replyTargetOptional.isPresent()) {
+            final boolean handled = catchHeaderMappingException(responsePublishedMonitor, outbound.getSource(), () -> {
+                final ReplyTarget replyTarget = replyTargetOptional.get();
+                final ExpressionResolver expressionResolver = Resolvers.forOutbound(outbound);
+                final String address = replyTarget.getAddress();
+                final Optional<T> resolvedAddress =
+                        resolveTargetAddress(expressionResolver, address).map(this::toPublishTarget);
+
+                if (resolvedAddress.isPresent()) {
+                    final HeaderMapping headerMapping = replyTarget.getHeaderMapping().orElse(null);
+                    final ExternalMessage responseWithMappedHeaders =
+                            applyHeaderMapping(expressionResolver, outbound, headerMapping, log());
+                    log().debug("Publishing mapped response/error message of type <{}> to reply address <{}>: {}",
+                            outbound.getSource().getType(), resolvedAddress.get(), responseWithMappedHeaders);
+                    publishMessage(null, resolvedAddress.get(), responseWithMappedHeaders, responsePublishedMonitor,
+                            origin, onSent);
+                } else {
+                    log().debug("Response dropped, reply-target address unresolved: <{}>", address);
+                    responseDroppedMonitor.failure(outbound.getSource(),
+                            "Response dropped since its reply-target''s address " +
+                                    "cannot be resolved to a value: {0}",
+                            address);
+                    onSent.run();
+                }
+            });
+            if (!handled) {
+                onSent.run();
+            }
+        } else {
+            log().debug("Response dropped, missing reply-target: {}", response);
+            responseDroppedMonitor.failure(outbound.getSource(),
+                    "Response dropped since it was missing a reply-target.");
+            onSent.run();
+        }
+    }
+
+    private void publishToTargets(final OutboundSignal.Mapped outbound, final ActorRef origin,
+            final Runnable onSent) {
+
+        final ExpressionResolver resolver = Resolvers.forOutbound(outbound);
+        final ExternalMessage message = outbound.getExternalMessage();
+        final String correlationId = message.getHeaders().get(CORRELATION_ID.getKey());
+        ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(log(), correlationId, connectionId);
+
+        final Signal<?> outboundSource = outbound.getSource();
+        log().debug("Publishing mapped message of type <{}> to targets <{}>: {}",
+                outboundSource.getType(), outbound.getTargets(), message);
+        final SendCountdown sendCountdown = new SendCountdown(outbound.getTargets().size(), onSent);
+        outbound.getTargets().forEach(target -> {
+            log().debug("Publishing mapped message of type <{}> to target address <{}>",
+                    outboundSource.getType(), target.getAddress());
+
+            final Runnable onTargetSent = sendCountdown.newCallback();
+            final ConnectionMonitor publishedMonitor =
+                    connectionMonitorRegistry.forOutboundPublished(connectionId, target.getOriginalAddress());
+            final HeaderMapping headerMapping = target.getHeaderMapping().orElse(null);
+            final boolean handled = catchHeaderMappingException(publishedMonitor, outboundSource, () -> {
+                final Optional<T> publishTarget =
+                        resolveTargetAddress(resolver, target.getAddress()).map(this::toPublishTarget);
+                if (publishTarget.isPresent()) {
+                    final ExternalMessage mappedMessage =
+                            applyHeaderMapping(resolver, outbound, headerMapping, log());
+                    publishMessage(target, publishTarget.get(), mappedMessage, publishedMonitor, origin,
+                            onTargetSent);
+                } else {
+                    onTargetSent.run();
+                }
+            });
+            if (!handled) {
+                onTargetSent.run();
+            }
+        });
+    }
+
+    private boolean catchHeaderMappingException(final ConnectionMonitor publishedMonitor,
+            final Signal<?> outboundSource, final Runnable doPublish) {
         try {
             doPublish.run();
+            return true;
         } catch (final DittoRuntimeException e) {
             publishedMonitor.failure(outboundSource,
                     "Failed to publish signal: {0}",
                     e.getMessage());
             log().warning("Got unexpected DittoRuntimeException when publishing a signal: {} {}",
                     e.getClass().getSimpleName(), e.getMessage());
+            return false;
         }
     }
 
-    private void publishResponseOrError(final T address, final OutboundSignal outbound,
-            final ExternalMessage response) {
-
-        log().debug("Publishing mapped response/error message of type <{}> to reply address <{}>: {}",
-                outbound.getSource().getType(), address, response);
-        publishMessage(null, address, response, responsePublishedMonitor);
-    }
-
     private Optional<ReplyTarget> getReplyTargetByIndex(final int replyTargetIndex) {
         return 0 <= replyTargetIndex && replyTargetIndex < replyTargets.size()
                 ? replyTargets.get(replyTargetIndex)
@@ -248,6 +300,33 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     protected abstract void publishMessage(@Nullable Target target, T publishTarget,
             ExternalMessage message, ConnectionMonitor publishedMonitor);
 
+    /**
+     * Publishes the passed {@code message} to the passed {@code publishTarget} and runs {@code onSent} as soon as the
+     * message was sent or dropped. Publishers which delay sending, e.g. while too many messages are unacknowledged by
+     * the broker, override this method in order to backpressure the mapping of further messages.
+     *
+     * @param target the nullable Target for getting even more information about the configured Target to publish to.
+     * @param publishTarget the {@link PublishTarget} to publish to.
+     * @param message the {@link org.eclipse.ditto.services.models.connectivity.ExternalMessage} to publish.
+     * @param publishedMonitor the monitor that can be used for monitoring purposes.
+     * @param origin the sender of the published signal.
+     * @param onSent the callback to run once the message was sent or dropped.
+     */
+    protected void publishMessage(@Nullable final Target target, final T publishTarget,
+            final ExternalMessage message, final ConnectionMonitor publishedMonitor, final ActorRef origin,
+            final Runnable onSent) {
+
+        publishMessage(target, publishTarget, message, publishedMonitor);
+        onSent.run();
+    }
+
+    /**
+     * @return the timer of the time between sending a message and its acknowledgement by the broker.
+     */
+    protected PreparedTimer newConfirmTimer() {
+        return DittoMetrics.timer(CONFIRM_METRIC_NAME).tag(TracingTags.CONNECTION_ID, connectionId.toString());
+    }
+
     /**
      * @return the logger to use.
      */
@@ -307,6 +386,36 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return messageBuilder.build();
     }
 
+    /**
+     * Runs a callback once a message was sent to or dropped for each of its targets. Not thread-safe; the callbacks
+     * must run in the thread of the actor.
+     */
+    private static final class SendCountdown {
+
+        private final Runnable onAllSent;
+        private int remaining;
+
+        private SendCountdown(final int targetCount, final Runnable onAllSent) {
+            this.onAllSent = onAllSent;
+            remaining = targetCount;
+            if (remaining <= 0) {
+                onAllSent.run();
+            }
+        }
+
+        /**
+         * @return a callback for one target which counts only the first time it runs.
+         */
+        private Runnable newCallback() {
+            final AtomicBoolean hasRun = new AtomicBoolean(false);
+            return () -> {
+                if (!hasRun.getAndSet(true) && --remaining == 0) {
+                    onAllSent.run();
+                }
+            };
+        }
+    }
+
     private static Optional<String> mapHeaderByResolver(final ExpressionResolver resolver, final String value) {
         return PlaceholderFilter.applyOrElseDelete(value, resolver);
     }
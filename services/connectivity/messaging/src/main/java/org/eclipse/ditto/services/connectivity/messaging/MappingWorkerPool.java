@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.services.connectivity.mapping.MappingConfig;
+import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.services.utils.tracing.TracingTags;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Runs the inbound mapping tasks of all connections of a connectivity instance with a fixed number of workers.
+ * <p>
+ * Each connection has its own queue. Connections with queued tasks are served round-robin, each turn running as many
+ * tasks as the weight of the connection, so that busy connections use idle workers without starving others. The
+ * number of running tasks per connection is capped. The queue size and the queue wait time of each connection are
+ * exposed as metrics.
+ * </p>
+ */
+@ThreadSafe
+public final class MappingWorkerPool implements Extension {
+
+    /**
+     * The name of the dispatcher that runs the mapping tasks.
+     */
+    static final String MESSAGE_MAPPING_PROCESSOR_DISPATCHER = "message-mapping-processor-dispatcher";
+
+    private static final String QUEUE_SIZE_METRIC_NAME = "connectivity_mapping_queue_size";
+    private static final String QUEUE_WAIT_METRIC_NAME = "connectivity_mapping_queue_wait";
+
+    private final Executor executor;
+    private final int poolSize;
+    private final int maxInFlightPerConnection;
+
+    // lanes, ready lanes and the number of running tasks are only accessed while holding the lock of this pool
+    private final Map<ConnectionId, Lane> lanes;
+    private final Deque<Lane> readyLanes;
+    private int running;
+
+    MappingWorkerPool(final Executor executor, final int poolSize, final int maxInFlightPerConnection) {
+        if (poolSize <= 0 || maxInFlightPerConnection <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid mapping worker pool: poolSize=<%d>, " +
+                    "maxInFlightPerConnection=<%d>", poolSize, maxInFlightPerConnection));
+        }
+        this.executor = executor;
+        this.poolSize = poolSize;
+        this.maxInFlightPerConnection = maxInFlightPerConnection;
+        lanes = new HashMap<>();
+        readyLanes = new ArrayDeque<>();
+        running = 0;
+    }
+
+    /**
+     * Returns the mapping worker pool of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the mapping worker pool.
+     */
+    public static MappingWorkerPool get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * @return the maximum number of running tasks per connection.
+     */
+    public int getMaxInFlightPerConnection() {
+        return maxInFlightPerConnection;
+    }
+
+    /**
+     * Submits a mapping task of a connection.
+     *
+     * @param connectionId the ID of the connection.
+     * @param weight the number of tasks the connection may run per turn, e.g. its processor pool size.
+     * @param task the mapping task.
+     * @param <T> the type of the result of the task.
+     * @return the result of the task, completed exceptionally if the task throws an exception.
+     */
+    public <T> CompletionStage<T> submit(final ConnectionId connectionId, final int weight, final Supplier<T> task) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final List<Task> tasksToRun;
+        synchronized (this) {
+            final Lane lane = lanes.computeIfAbsent(connectionId, Lane::new);
+            lane.weight = Math.max(1, weight);
+            lane.queued.add(new Task(lane, () -> {
+                try {
+                    result.complete(task.get());
+                } catch (final Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            }));
+            lane.queueSize.set((long) lane.queued.size());
+            markReady(lane);
+            tasksToRun = dispatch();
+        }
+        tasksToRun.forEach(this::execute);
+        return result;
+    }
+
+    /**
+     * @param connectionId the ID of a connection.
+     * @return the number of queued tasks of the connection.
+     */
+    synchronized int getQueued(final ConnectionId connectionId) {
+        final Lane lane = lanes.get(connectionId);
+        return lane == null ? 0 : lane.queued.size();
+    }
+
+    /**
+     * @param connectionId the ID of a connection.
+     * @return the number of running tasks of the connection.
+     */
+    synchronized int getInFlight(final ConnectionId connectionId) {
+        final Lane lane = lanes.get(connectionId);
+        return lane == null ? 0 : lane.inFlight;
+    }
+
+    private void execute(final Task task) {
+        executor.execute(() -> {
+            try {
+                task.runnable.run();
+            } finally {
+                complete(task.lane);
+            }
+        });
+    }
+
+    private void complete(final Lane lane) {
+        final List<Task> tasksToRun;
+        synchronized (this) {
+            running--;
+            lane.inFlight--;
+            if (lane.queued.isEmpty() && lane.inFlight == 0) {
+                lanes.remove(lane.connectionId);
+            } else {
+                markReady(lane);
+            }
+            tasksToRun = dispatch();
+        }
+        tasksToRun.forEach(this::execute);
+    }
+
+    private void markReady(final Lane lane) {
+        if (!lane.ready && !lane.queued.isEmpty() && lane.inFlight < maxInFlightPerConnection) {
+            lane.ready = true;
+            lane.credits = lane.weight;
+            readyLanes.addLast(lane);
+        }
+    }
+
+    private List<Task> dispatch() {
+        final List<Task> tasksToRun = new ArrayList<>();
+        while (running < poolSize && !readyLanes.isEmpty()) {
+            final Lane lane = readyLanes.peekFirst();
+            if (lane.queued.isEmpty() || lane.inFlight >= maxInFlightPerConnection) {
+                readyLanes.pollFirst();
+                lane.ready = false;
+            } else {
+                final Task task = lane.queued.poll();
+                lane.queueSize.set((long) lane.queued.size());
+                lane.queueWait.record(System.nanoTime() - task.submittedNanos, TimeUnit.NANOSECONDS);
+                lane.inFlight++;
+                running++;
+                tasksToRun.add(task);
+                if (--lane.credits <= 0) {
+                    // the turn of the lane is over; it queues up again behind the other lanes
+                    readyLanes.pollFirst();
+                    lane.ready = false;
+                    markReady(lane);
+                }
+            }
+        }
+        return tasksToRun;
+    }
+
+    private static final class Lane {
+
+        private final ConnectionId connectionId;
+        private final Deque<Task> queued;
+        private final Gauge queueSize;
+        private final PreparedTimer queueWait;
+        private int weight;
+        private int credits;
+        private int inFlight;
+        private boolean ready;
+
+        private Lane(final ConnectionId connectionId) {
+            this.connectionId = connectionId;
+            queued = new ArrayDeque<>();
+            queueSize = DittoMetrics.gauge(QUEUE_SIZE_METRIC_NAME)
+                    .tag(TracingTags.CONNECTION_ID, connectionId.toString());
+            queueWait = DittoMetrics.timer(QUEUE_WAIT_METRIC_NAME)
+                    .tag(TracingTags.CONNECTION_ID, connectionId.toString());
+        }
+    }
+
+    private static final class Task {
+
+        private final Lane lane;
+        private final Runnable runnable;
+        private final long submittedNanos;
+
+        private Task(final Lane lane, final Runnable runnable) {
+            this.lane = lane;
+            this.runnable = runnable;
+            submittedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * ID of the actor system extension which provides the mapping worker pool.
+     */
+    private static final class ExtensionId extends AbstractExtensionId<MappingWorkerPool> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public MappingWorkerPool createExtension(final ExtendedActorSystem system) {
+            final MappingConfig mappingConfig = DittoConfigCache.get(system)
+                    .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of)
+                    .getMappingConfig();
+            return new MappingWorkerPool(system.dispatchers().lookup(MESSAGE_MAPPING_PROCESSOR_DISPATCHER),
+                    mappingConfig.getWorkerPoolSize(), mappingConfig.getWorkerMaxInFlightPerConnection());
+        }
+    }
+
+}
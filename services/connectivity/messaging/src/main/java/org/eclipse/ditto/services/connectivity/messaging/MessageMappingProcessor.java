@@ -15,10 +15,12 @@ package org.eclipse.ditto.services.connectivity.messaging;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import static org.eclipse.ditto.model.base.headers.DittoHeaderDefinition.CORRELATION_ID;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -137,18 +139,52 @@ public final class MessageMappingProcessor {
     <R> R process(final ExternalMessage message,
             final MappingResultHandler<MappedInboundExternalMessage, R> resultHandler) {
 
-        ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(logger,
-                message.getHeaders().get(CORRELATION_ID.getKey()), connectionId);
-        final List<MessageMapper> mappers = getMappers(message);
-        logger.debug("Mappers resolved for message: {}", mappers);
-        R result = resultHandler.emptyResult();
-        for (final MessageMapper mapper : mappers) {
-            final MappingTimer mappingTimer = MappingTimer.inbound(connectionId);
-            final R mappingResult =
-                    mappingTimer.overall(() -> convertInboundMessage(mapper, message, mappingTimer, resultHandler));
-            result = resultHandler.combineResults(result, mappingResult);
+        return process(Collections.singletonList(message), Collections.singletonList(resultHandler)).get(0);
+    }
+
+    /**
+     * Processes several {@link ExternalMessage}s at once. Messages sharing a mapper are passed to
+     * {@link MessageMapper#mapBatch(List)} together; the results are the same as processing each message on its own.
+     *
+     * @param messages the inbound {@link ExternalMessage}s to be processed
+     * @param resultHandlers handle the 0..n results of the mapping(s), one per message in the order of the messages.
+     * @return combined results of all message mappers for each message in the order of the messages.
+     * @param <R> type of results.
+     */
+    <R> List<R> process(final List<ExternalMessage> messages,
+            final List<MappingResultHandler<MappedInboundExternalMessage, R>> resultHandlers) {
+
+        final List<List<MessageMapper>> mappersOfMessages = new ArrayList<>(messages.size());
+        final List<R> results = new ArrayList<>(messages.size());
+        int maxMappers = 0;
+        for (int i = 0; i < messages.size(); i++) {
+            final ExternalMessage message = messages.get(i);
+            ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(logger,
+                    message.getHeaders().get(CORRELATION_ID.getKey()), connectionId);
+            final List<MessageMapper> mappers = getMappers(message);
+            logger.debug("Mappers resolved for message: {}", mappers);
+            mappersOfMessages.add(mappers);
+            results.add(resultHandlers.get(i).emptyResult());
+            maxMappers = Math.max(maxMappers, mappers.size());
         }
-        return result;
+        // apply the mappers of each message in their configured order
+        for (int position = 0; position < maxMappers; position++) {
+            final Map<MessageMapper, List<Integer>> messageIndexesByMapper = new LinkedHashMap<>();
+            for (int i = 0; i < messages.size(); i++) {
+                final List<MessageMapper> mappers = mappersOfMessages.get(i);
+                if (position < mappers.size()) {
+                    messageIndexesByMapper.computeIfAbsent(mappers.get(position), mapper -> new ArrayList<>()).add(i);
+                }
+            }
+            messageIndexesByMapper.forEach((mapper, messageIndexes) -> {
+                final MappingTimer mappingTimer = MappingTimer.inbound(connectionId);
+                mappingTimer.overall(() -> {
+                    convertInboundMessages(mapper, messages, messageIndexes, mappingTimer, resultHandlers, results);
+                    return results;
+                });
+            });
+        }
+        return results;
     }
 
     /**
@@ -235,57 +271,108 @@ public final class MessageMappingProcessor {
         return protocolAdapter.headerTranslator();
     }
 
-    private <R> R convertInboundMessage(final MessageMapper mapper,
-            final ExternalMessage message,
+    private <R> void convertInboundMessages(final MessageMapper mapper,
+            final List<ExternalMessage> messages,
+            final List<Integer> messageIndexes,
             final MappingTimer timer,
-            final MappingResultHandler<MappedInboundExternalMessage, R> handler) {
+            final List<MappingResultHandler<MappedInboundExternalMessage, R>> handlers,
+            final List<R> results) {
 
-        checkNotNull(message, "message");
-        R result = handler.emptyResult();
-        try {
+        final List<Integer> indexesToMap = new ArrayList<>(messageIndexes.size());
+        for (final int index : messageIndexes) {
+            final ExternalMessage message = checkNotNull(messages.get(index), "message");
             final boolean shouldMapMessage = message.findContentType()
                     .map(filterByContentTypeBlacklist(mapper))
                     .orElse(true); // if no content-type was present, map the message!
-
             if (shouldMapMessage) {
-                logger.withCorrelationId(message.getInternalHeaders())
-                        .debug("Mapping message using mapper {}.", mapper.getId());
-                final List<Adaptable> adaptables = timer.payload(mapper.getId(), () -> mapper.map(message));
-                if (isNullOrEmpty(adaptables)) {
-                    return handler.onMessageDropped();
-                } else {
-                    for (final Adaptable adaptable : adaptables) {
-                        enhanceLogFromAdaptable(adaptable);
-                        final Signal<?> signal = timer.protocol(() -> protocolAdapter.fromAdaptable(adaptable));
-                        dittoHeadersSizeChecker.check(signal.getDittoHeaders());
-                        final DittoHeaders dittoHeaders = signal.getDittoHeaders();
-                        final DittoHeaders headersWithMapper =
-                                dittoHeaders.toBuilder().inboundPayloadMapper(mapper.getId()).build();
-                        final Signal<?> signalWithMapperHeader = signal.setDittoHeaders(headersWithMapper);
-                        final MappedInboundExternalMessage mappedMessage =
-                                MappedInboundExternalMessage.of(message, adaptable.getTopicPath(),
-                                        signalWithMapperHeader);
-                        result = handler.combineResults(result, handler.onMessageMapped(mappedMessage));
-                    }
-                }
+                indexesToMap.add(index);
             } else {
-                result = handler.onMessageDropped();
+                final MappingResultHandler<MappedInboundExternalMessage, R> handler = handlers.get(index);
+                results.set(index, handler.combineResults(results.get(index), handler.onMessageDropped()));
                 logger.withCorrelationId(message.getInternalHeaders())
                         .debug("Not mapping message with mapper <{}> as content-type <{}> was blacklisted.",
                                 mapper.getId(), message.findContentType());
             }
-        } catch (final DittoRuntimeException e) {
-            // combining error result with any previously successfully mapped result
-            result = handler.combineResults(result, handler.onException(e));
+        }
+
+        int next = 0;
+        while (next < indexesToMap.size()) {
+            final List<ExternalMessage> remainingMessages = indexesToMap.subList(next, indexesToMap.size())
+                    .stream()
+                    .map(messages::get)
+                    .collect(Collectors.toList());
+            final int firstIndex = indexesToMap.get(next);
+            final ExternalMessage firstMessage = remainingMessages.get(0);
+            final MappingResultHandler<MappedInboundExternalMessage, R> firstHandler = handlers.get(firstIndex);
+            logger.withCorrelationId(firstMessage.getInternalHeaders())
+                    .debug("Mapping <{}> messages using mapper {}.", remainingMessages.size(), mapper.getId());
+            try {
+                final List<List<Adaptable>> mappedMessages =
+                        timer.payload(mapper.getId(), () -> mapper.mapBatch(remainingMessages));
+                // a mapper not returning any result did not map the first message either
+                final List<List<Adaptable>> mappedPrefix = mappedMessages.isEmpty()
+                        ? Collections.singletonList(timer.payload(mapper.getId(), () -> mapper.map(firstMessage)))
+                        : mappedMessages;
+                for (int i = 0; i < mappedPrefix.size() && next < indexesToMap.size(); i++) {
+                    final int index = indexesToMap.get(next);
+                    final MappingResultHandler<MappedInboundExternalMessage, R> handler = handlers.get(index);
+                    results.set(index, handler.combineResults(results.get(index),
+                            handleMappedAdaptables(mapper, messages.get(index), mappedPrefix.get(i), timer,
+                                    handler)));
+                    next++;
+                }
+            } catch (final Exception e) {
+                // mapping the batch failed for its first message; continue with the messages after it
+                results.set(firstIndex, firstHandler.combineResults(results.get(firstIndex),
+                        handleInboundException(mapper, firstMessage, e, firstHandler)));
+                next++;
+            }
+        }
+    }
+
+    private <R> R handleMappedAdaptables(final MessageMapper mapper,
+            final ExternalMessage message,
+            @Nullable final List<Adaptable> adaptables,
+            final MappingTimer timer,
+            final MappingResultHandler<MappedInboundExternalMessage, R> handler) {
+
+        if (isNullOrEmpty(adaptables)) {
+            return handler.onMessageDropped();
+        }
+        R result = handler.emptyResult();
+        try {
+            for (final Adaptable adaptable : adaptables) {
+                enhanceLogFromAdaptable(adaptable);
+                final Signal<?> signal = timer.protocol(() -> protocolAdapter.fromAdaptable(adaptable));
+                dittoHeadersSizeChecker.check(signal.getDittoHeaders());
+                final DittoHeaders dittoHeaders = signal.getDittoHeaders();
+                final DittoHeaders headersWithMapper =
+                        dittoHeaders.toBuilder().inboundPayloadMapper(mapper.getId()).build();
+                final Signal<?> signalWithMapperHeader = signal.setDittoHeaders(headersWithMapper);
+                final MappedInboundExternalMessage mappedMessage =
+                        MappedInboundExternalMessage.of(message, adaptable.getTopicPath(), signalWithMapperHeader);
+                result = handler.combineResults(result, handler.onMessageMapped(mappedMessage));
+            }
         } catch (final Exception e) {
-            final MessageMappingFailedException mappingFailedException = buildMappingFailedException("inbound",
-                    message.findContentType().orElse(""), mapper.getId(), DittoHeaders.of(message.getHeaders()), e);
             // combining error result with any previously successfully mapped result
-            result = handler.combineResults(result, handler.onException(mappingFailedException));
+            result = handler.combineResults(result, handleInboundException(mapper, message, e, handler));
         }
         return result;
     }
 
+    private <R> R handleInboundException(final MessageMapper mapper,
+            final ExternalMessage message,
+            final Exception e,
+            final MappingResultHandler<MappedInboundExternalMessage, R> handler) {
+
+        if (e instanceof DittoRuntimeException) {
+            return handler.onException((DittoRuntimeException) e);
+        }
+        final MessageMappingFailedException mappingFailedException = buildMappingFailedException("inbound",
+                message.findContentType().orElse(""), mapper.getId(), DittoHeaders.of(message.getHeaders()), e);
+        return handler.onException(mappingFailedException);
+    }
+
     private static Function<String, Boolean> filterByContentTypeBlacklist(final MessageMapper mapper) {
         return contentType -> !mapper.getContentTypeBlacklist().contains(contentType);
     }
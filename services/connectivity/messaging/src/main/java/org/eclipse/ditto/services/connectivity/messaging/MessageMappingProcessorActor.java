@@ -17,6 +17,7 @@ import static org.eclipse.ditto.model.connectivity.MetricType.MAPPED;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -70,6 +71,7 @@ import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
 import org.eclipse.ditto.services.connectivity.mapping.ConnectivitySignalEnrichmentProvider;
 import org.eclipse.ditto.services.connectivity.mapping.MappingConfig;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
+import org.eclipse.ditto.services.connectivity.messaging.config.ConnectionConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
@@ -80,11 +82,12 @@ import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.InfoPro
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.MappedInboundExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
 import org.eclipse.ditto.services.models.signalenrichment.SignalEnrichmentFacade;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -92,12 +95,13 @@ import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 
-import akka.NotUsed;
+import akka.Done;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 import akka.stream.OverflowStrategy;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
@@ -124,6 +128,11 @@ public final class MessageMappingProcessorActor
      */
     private static final String MESSAGE_MAPPING_PROCESSOR_DISPATCHER = "message-mapping-processor-dispatcher";
 
+    /**
+     * The maximum number of inbound messages waiting for the worker pool which are mapped together.
+     */
+    private static final int MAX_INBOUND_BATCH_SIZE = 16;
+
     private final ActorRef clientActor;
     private final MessageMappingProcessor messageMappingProcessor;
     private final ConnectionId connectionId;
@@ -136,6 +145,8 @@ public final class MessageMappingProcessorActor
     private final ConnectionMonitor responseMappedMonitor;
     private final SignalEnrichmentFacade signalEnrichmentFacade;
     private final int processorPoolSize;
+    private final int publisherMaxQueued;
+    private final Duration clientActorAskTimeout;
     private final SourceQueue<ExternalMessage> inboundSourceQueue;
 
     @SuppressWarnings("unused")
@@ -152,13 +163,16 @@ public final class MessageMappingProcessorActor
         this.messageMappingProcessor = messageMappingProcessor;
         this.connectionId = connectionId;
 
-        final DefaultScopedConfig dittoScoped =
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config());
-        limitsConfig = DefaultLimitsConfig.of(dittoScoped);
+        final DittoConfigCache configCache = DittoConfigCache.get(getContext().getSystem());
+        limitsConfig = configCache.getOrCreate(DefaultLimitsConfig.class, DefaultLimitsConfig::of);
 
-        final DittoConnectivityConfig connectivityConfig = DittoConnectivityConfig.of(dittoScoped);
+        final DittoConnectivityConfig connectivityConfig =
+                configCache.getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of);
         final MonitoringConfig monitoringConfig = connectivityConfig.getMonitoringConfig();
         mappingConfig = connectivityConfig.getMappingConfig();
+        final ConnectionConfig connectionConfig = connectivityConfig.getConnectionConfig();
+        publisherMaxQueued = Math.max(1, connectionConfig.getPublisherMaxQueued());
+        clientActorAskTimeout = connectionConfig.getClientActorAskTimeout();
 
         connectionMonitorRegistry = DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig);
         responseDispatchedMonitor = connectionMonitorRegistry.forResponseDispatched(connectionId);
@@ -177,7 +191,8 @@ public final class MessageMappingProcessorActor
      * @param clientActor the client actor that created this mapping actor
      * @param processor the MessageMappingProcessor to use.
      * @param connectionId the connection ID.
-     * @param processorPoolSize how many message processing may happen in parallel per direction (incoming or outgoing).
+     * @param processorPoolSize how many outgoing messages may be processed in parallel and the weight of incoming
+     * messages of the connection in the {@link MappingWorkerPool}.
      * @return the Akka configuration Props object.
      */
     public static Props props(final ActorRef conciergeForwarder,
@@ -213,11 +228,20 @@ public final class MessageMappingProcessorActor
     }
 
     private SourceQueue<ExternalMessage> materializeInboundStream(final int processorPoolSize) {
+        final MappingWorkerPool workerPool = MappingWorkerPool.get(getContext().getSystem());
         return Source.<ExternalMessage>queue(getBufferSize(), OverflowStrategy.dropNew())
-                // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
-                .mapAsync(processorPoolSize, externalMessage -> CompletableFuture.supplyAsync(
-                        () -> mapInboundMessage(externalMessage),
-                        getContext().getDispatcher())
+                // messages arriving while the worker pool is busy are mapped together
+                .batch(MAX_INBOUND_BATCH_SIZE, externalMessage -> {
+                    final List<ExternalMessage> externalMessages = new ArrayList<>(MAX_INBOUND_BATCH_SIZE);
+                    externalMessages.add(externalMessage);
+                    return externalMessages;
+                }, (externalMessages, externalMessage) -> {
+                    externalMessages.add(externalMessage);
+                    return externalMessages;
+                })
+                // parallelize potentially CPU-intensive payload mapping in the worker pool shared by all connections
+                .mapAsync(workerPool.getMaxInFlightPerConnection(), externalMessages -> workerPool.submit(
+                        connectionId, processorPoolSize, () -> mapInboundMessages(externalMessages))
                 )
                 .flatMapConcat(signalSource -> signalSource)
                 .toMat(Sink.foreach(signal -> conciergeForwarder.tell(signal, getSelf())), Keep.left())
@@ -241,15 +265,23 @@ public final class MessageMappingProcessorActor
     }
 
     @Override
-    protected Flow<OutboundSignalWithId, OutboundSignalWithId, NotUsed> processMessageFlow() {
+    protected CompletionStage<List<OutboundSignalWithId>> processMessage(final OutboundSignalWithId outboundSignal) {
         // Enrich outbound signals by extra fields if necessary.
-        return splitByTargetExtraFieldsFlow()
-                .mapAsync(mappingConfig.getParallelism(), this::enrichAndFilterSignal)
-                .mapConcat(x -> x);
+        final List<CompletableFuture<Collection<OutboundSignalWithId>>> enrichedSignals =
+                splitByTargetExtraFields(outboundSignal).stream()
+                        .map(this::enrichAndFilterSignal)
+                        .map(CompletionStage::toCompletableFuture)
+                        .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(enrichedSignals.toArray(new CompletableFuture[0]))
+                .thenApply(allEnriched -> enrichedSignals.stream()
+                        .map(CompletableFuture::join)
+                        .flatMap(Collection::stream)
+                        .collect(Collectors.toList()));
     }
 
     /**
-     * Create a flow that splits 1 outbound signal into many as follows.
+     * Split 1 outbound signal into many as follows.
      * <ol>
      * <li>
      *   Targets with matching filtered topics without extra fields are grouped into 1 outbound signal, followed by
@@ -257,37 +289,37 @@ public final class MessageMappingProcessorActor
      * <li>one outbound signal for each target with a matching filtered topic with extra fields.</li>
      * </ol>
      * The matching filtered topic is attached in the latter case.
-     * Consequently, for each outbound signal leaving this flow, if it has a filtered topic attached,
+     * Consequently, for each split outbound signal, if it has a filtered topic attached,
      * then it has 1 unique target with a matching topic with extra fields.
      * This satisfies the precondition of {@code this#enrichAndFilterSignal}.
      *
-     * @return the flow.
+     * @param outboundSignal the outbound signal to split.
+     * @return the split outbound signals.
      */
-    private static Flow<OutboundSignalWithId, Pair<OutboundSignalWithId, FilteredTopic>, NotUsed> splitByTargetExtraFieldsFlow() {
-        return Flow.<OutboundSignalWithId>create()
-                .mapConcat(outboundSignal -> {
-                    final Pair<List<Target>, List<Pair<Target, FilteredTopic>>> splitTargets =
-                            splitTargetsByExtraFields(outboundSignal);
-
-                    final boolean shouldSendSignalWithoutExtraFields =
-                            !splitTargets.first().isEmpty() ||
-                                    isTwinCommandResponseWithReplyTarget(outboundSignal.getSource()) ||
-                                    outboundSignal.getTargets().isEmpty(); // no target - this is an error response
-                    final Stream<Pair<OutboundSignalWithId, FilteredTopic>> outboundSignalWithoutExtraFields =
-                            shouldSendSignalWithoutExtraFields
-                                    ? Stream.of(Pair.create(outboundSignal.setTargets(splitTargets.first()), null))
-                                    : Stream.empty();
-
-                    final Stream<Pair<OutboundSignalWithId, FilteredTopic>> outboundSignalWithExtraFields =
-                            splitTargets.second().stream()
-                                    .map(targetAndSelector -> Pair.create(
-                                            outboundSignal.setTargets(
-                                                    Collections.singletonList(targetAndSelector.first())),
-                                            targetAndSelector.second()));
-
-                    return Stream.concat(outboundSignalWithoutExtraFields, outboundSignalWithExtraFields)
-                            .collect(Collectors.toList());
-                });
+    private static List<Pair<OutboundSignalWithId, FilteredTopic>> splitByTargetExtraFields(
+            final OutboundSignalWithId outboundSignal) {
+
+        final Pair<List<Target>, List<Pair<Target, FilteredTopic>>> splitTargets =
+                splitTargetsByExtraFields(outboundSignal);
+
+        final boolean shouldSendSignalWithoutExtraFields =
+                !splitTargets.first().isEmpty() ||
+                        isTwinCommandResponseWithReplyTarget(outboundSignal.getSource()) ||
+                        outboundSignal.getTargets().isEmpty(); // no target - this is an error response
+        final Stream<Pair<OutboundSignalWithId, FilteredTopic>> outboundSignalWithoutExtraFields =
+                shouldSendSignalWithoutExtraFields
+                        ? Stream.of(Pair.create(outboundSignal.setTargets(splitTargets.first()), null))
+                        : Stream.empty();
+
+        final Stream<Pair<OutboundSignalWithId, FilteredTopic>> outboundSignalWithExtraFields =
+                splitTargets.second().stream()
+                        .map(targetAndSelector -> Pair.create(
+                                outboundSignal.setTargets(
+                                        Collections.singletonList(targetAndSelector.first())),
+                                targetAndSelector.second()));
+
+        return Stream.concat(outboundSignalWithoutExtraFields, outboundSignalWithExtraFields)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -298,7 +330,9 @@ public final class MessageMappingProcessorActor
                         getContext().getDispatcher()
                 ))
                 .flatMapConcat(mappedOutboundSignalSource -> mappedOutboundSignalSource)
-                .to(Sink.foreach(this::forwardToPublisherActor));
+                // the publisher acknowledges a message once it was sent; pending acknowledgements backpressure mapping
+                .mapAsync(publisherMaxQueued, this::forwardToPublisherActor)
+                .to(Sink.ignore());
     }
 
     // Called inside stream; must be thread-safe
@@ -406,14 +440,29 @@ public final class MessageMappingProcessorActor
         inboundSourceQueue.offer(externalMessage);
     }
 
-    private Source<Signal<?>, ?> mapInboundMessage(final ExternalMessage externalMessage) {
-        final String correlationId = externalMessage.getHeaders().get(DittoHeaderDefinition.CORRELATION_ID.getKey());
-        ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(logger, correlationId, connectionId);
-        logger.debug("Handling ExternalMessage: {}", externalMessage);
+    private Source<Signal<?>, ?> mapInboundMessages(final List<ExternalMessage> externalMessages) {
+        final List<ExternalMessage> messagesToMap = new ArrayList<>(externalMessages.size());
+        final List<MappingResultHandler<MappedInboundExternalMessage, Source<Signal<?>, ?>>> resultHandlers =
+                new ArrayList<>(externalMessages.size());
+        for (final ExternalMessage externalMessage : externalMessages) {
+            final String correlationId =
+                    externalMessage.getHeaders().get(DittoHeaderDefinition.CORRELATION_ID.getKey());
+            ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(logger, correlationId, connectionId);
+            logger.debug("Handling ExternalMessage: {}", externalMessage);
+            try {
+                resultHandlers.add(
+                        handleMappingResult(externalMessage, getAuthorizationContextOrThrow(externalMessage)));
+                messagesToMap.add(externalMessage);
+            } catch (final Exception e) {
+                handleInboundException(e, externalMessage, null);
+            }
+        }
         try {
-            return mapExternalMessageToSignal(externalMessage);
+            return Source.from(messageMappingProcessor.process(messagesToMap, resultHandlers))
+                    .flatMapConcat(signalSource -> signalSource);
         } catch (final Exception e) {
-            handleInboundException(e, externalMessage, getAuthorizationContext(externalMessage).orElse(null));
+            messagesToMap.forEach(externalMessage -> handleInboundException(e, externalMessage,
+                    getAuthorizationContext(externalMessage).orElse(null)));
             return Source.empty();
         }
     }
@@ -441,11 +490,6 @@ public final class MessageMappingProcessorActor
         }
     }
 
-    private Source<Signal<?>, ?> mapExternalMessageToSignal(final ExternalMessage externalMessage) {
-        return messageMappingProcessor.process(externalMessage,
-                handleMappingResult(externalMessage, getAuthorizationContextOrThrow(externalMessage)));
-    }
-
     private InboundMappingResultHandler handleMappingResult(final ExternalMessage incomingMessage,
             final AuthorizationContext authorizationContext) {
 
@@ -575,9 +619,16 @@ public final class MessageMappingProcessorActor
         return mapToExternalMessage(outbound);
     }
 
-    private void forwardToPublisherActor(final OutboundSignalWithId mappedEnvelop) {
+    private CompletionStage<Object> forwardToPublisherActor(final OutboundSignalWithId mappedEnvelop) {
         final OutboundSignal.Mapped mappedOutboundSignal = (OutboundSignal.Mapped) mappedEnvelop.delegate;
-        clientActor.tell(new PublishMappedMessage(mappedOutboundSignal), mappedEnvelop.sender);
+        final PublishMappedMessage publishMappedMessage =
+                new PublishMappedMessage(mappedOutboundSignal, mappedEnvelop.sender);
+        return Patterns.ask(clientActor, publishMappedMessage, clientActorAskTimeout)
+                .exceptionally(error -> {
+                    logger.warning("Got no acknowledgement for published message within <{}>: {}",
+                            clientActorAskTimeout, error.getMessage());
+                    return Done.getInstance();
+                });
     }
 
     /**
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Bounds the number of messages per target which a publisher actor sent without having received the acknowledgement
+ * of the broker. Messages exceeding the bound are queued and sent whenever an acknowledgement releases a message of
+ * their target. Instances must only be accessed by the publisher actor which owns them; acknowledgements of the
+ * broker have to be sent to the actor as messages before releasing.
+ *
+ * @param <K> the type of the targets.
+ */
+@NotThreadSafe
+public final class PublishWindow<K> {
+
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final Map<K, Lane> lanes;
+
+    private PublishWindow(final int maxInFlight, final int maxQueued) {
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        lanes = new HashMap<>();
+    }
+
+    /**
+     * Creates a publish window.
+     *
+     * @param maxInFlight the maximum number of messages in flight per target.
+     * @param maxQueued the maximum number of queued messages per target.
+     * @param <K> the type of the targets.
+     * @return the publish window.
+     * @throws IllegalArgumentException if {@code maxInFlight} is not positive or {@code maxQueued} is negative.
+     */
+    public static <K> PublishWindow<K> of(final int maxInFlight, final int maxQueued) {
+        if (maxInFlight <= 0 || maxQueued < 0) {
+            throw new IllegalArgumentException(String.format("Invalid publish window: maxInFlight=<%d>, " +
+                    "maxQueued=<%d>", maxInFlight, maxQueued));
+        }
+        return new PublishWindow<>(maxInFlight, maxQueued);
+    }
+
+    /**
+     * Sends a message right away if the window of its target has room, or queues it otherwise. Each sent message
+     * must be released by {@link #release(Object)} exactly once.
+     *
+     * @param target the target of the message.
+     * @param send sends the message.
+     * @return {@code false} if the message was neither sent nor queued because the queue of the target is full.
+     */
+    public boolean offer(final K target, final Runnable send) {
+        final Lane lane = lanes.computeIfAbsent(target, k -> new Lane());
+        if (lane.inFlight < maxInFlight) {
+            lane.inFlight++;
+            send.run();
+            return true;
+        } else if (lane.queued.size() < maxQueued) {
+            lane.queued.add(send);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Releases a sent message of a target after the broker acknowledged or rejected it, and sends the next queued
+     * message of the target.
+     *
+     * @param target the target of the released message.
+     */
+    public void release(final K target) {
+        final Lane lane = lanes.get(target);
+        if (lane != null) {
+            final Runnable next = lane.queued.poll();
+            if (next != null) {
+                next.run();
+            } else if (--lane.inFlight <= 0) {
+                lanes.remove(target);
+            }
+        }
+    }
+
+    /**
+     * @param target a target.
+     * @return the number of messages of the target in flight.
+     */
+    public int getInFlight(final K target) {
+        final Lane lane = lanes.get(target);
+        return lane == null ? 0 : lane.inFlight;
+    }
+
+    /**
+     * @param target a target.
+     * @return the number of queued messages of the target.
+     */
+    public int getQueued(final K target) {
+        final Lane lane = lanes.get(target);
+        return lane == null ? 0 : lane.queued.size();
+    }
+
+    private static final class Lane {
+
+        private final Deque<Runnable> queued = new ArrayDeque<>();
+        private int inFlight = 0;
+    }
+
+}
@@ -24,7 +24,7 @@ import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivit
 import org.eclipse.ditto.services.connectivity.messaging.config.ReconnectConfig;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.ConnectionPersistenceActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionNotAccessibleException;
 import org.eclipse.ditto.signals.commands.connectivity.query.RetrieveConnectionStatus;
@@ -232,7 +232,8 @@ public final class ReconnectActor extends AbstractActor {
     }
 
     private static ReconnectConfig getReconnectConfig(final ActorContext context) {
-        return DittoConnectivityConfig.of(DefaultScopedConfig.dittoScoped(context.system().settings().config()))
+        return DittoConfigCache.get(context.system())
+                .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of)
                 .getReconnectConfig();
     }
 
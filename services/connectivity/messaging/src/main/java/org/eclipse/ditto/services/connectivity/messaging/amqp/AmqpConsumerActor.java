@@ -56,7 +56,7 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 
 import akka.actor.ActorRef;
@@ -102,10 +102,9 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
                 checkNotNull(consumerData, "consumerData").getAddress(),
                 messageMappingProcessor,
                 consumerData.getSource());
-        final ConnectionConfig connectionConfig =
-                DittoConnectivityConfig.of(
-                        DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
-                        .getConnectionConfig();
+        final ConnectionConfig connectionConfig = DittoConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of)
+                .getConnectionConfig();
         final Amqp10Config amqp10Config = connectionConfig.getAmqp10Config();
         this.messageConsumer = consumerData.getMessageConsumer();
         this.consumerData = consumerData;
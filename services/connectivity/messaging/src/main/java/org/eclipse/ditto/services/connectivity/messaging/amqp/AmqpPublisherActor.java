@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -41,6 +42,7 @@ import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.MessageSendingFailedException;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
+import org.eclipse.ditto.services.connectivity.messaging.PublishWindow;
 import org.eclipse.ditto.services.connectivity.messaging.amqp.status.ProducerClosedStatusReport;
 import org.eclipse.ditto.services.connectivity.messaging.backoff.BackOffActor;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectionConfig;
@@ -50,6 +52,7 @@ import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMo
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -58,6 +61,9 @@ import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Responsible for creating JMS {@link MessageProducer}s and sending {@link ExternalMessage}s as JMSMessages to those.
+ * The number of messages per target which were sent without having been acknowledged by the broker is bounded by a
+ * {@link PublishWindow}. Messages waiting for the window are acknowledged to the mapping only when sent, which
+ * backpressures the mapping of further messages.
  */
 public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
 
@@ -75,6 +81,9 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
     private final Map<Destination, MessageProducer> staticTargets;
     private final int producerCacheSize;
     private final ActorRef backOffActor;
+    private final PublishWindow<AmqpTarget> publishWindow;
+    private final int maxInFlight;
+    private final PreparedTimer confirmTimer;
 
     private boolean isInBackOffMode = false;
 
@@ -91,6 +100,9 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
 
         this.backOffActor =
                 getContext().actorOf(BackOffActor.props(connectionConfig.getAmqp10Config().getBackOffConfig()));
+        maxInFlight = connectionConfig.getPublisherMaxInFlight();
+        publishWindow = PublishWindow.of(maxInFlight, connectionConfig.getPublisherMaxQueued());
+        confirmTimer = newConfirmTimer();
     }
 
     @Override
@@ -119,7 +131,8 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
     @Override
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
         receiveBuilder.match(ProducerClosedStatusReport.class, this::handleProducerClosedStatusReport)
-                .matchEquals(START_PRODUCER, this::handleStartProducer);
+                .matchEquals(START_PRODUCER, this::handleStartProducer)
+                .match(SendCompleted.class, sendCompleted -> publishWindow.release(sendCompleted.target));
     }
 
     private void handleStartProducer(final Object startProducer) {
@@ -169,32 +182,60 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
     @Override
     protected void publishMessage(@Nullable final Target target, final AmqpTarget publishTarget,
             final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
+        publishMessage(target, publishTarget, message, publishedMonitor, getSender(), () -> {});
+    }
+
+    @Override
+    protected void publishMessage(@Nullable final Target target, final AmqpTarget publishTarget,
+            final ExternalMessage message, final ConnectionMonitor publishedMonitor, final ActorRef origin,
+            final Runnable onSent) {
         if (!this.isInBackOffMode) {
-            this.tryToPublishMessage(publishTarget, message, publishedMonitor);
+            final boolean accepted = publishWindow.offer(publishTarget, () -> {
+                tryToPublishMessage(publishTarget, message, publishedMonitor, origin);
+                onSent.run();
+            });
+            if (!accepted) {
+                onSent.run();
+                log.debug("Message dropped because more than <{}> messages to <{}> are unacknowledged", maxInFlight,
+                        publishTarget);
+                responseDroppedMonitor.failure(message,
+                        "Message dropped because the number of unacknowledged messages to the target exceeded <{0}>",
+                        maxInFlight);
+            }
         } else {
-            this.handleMessageInBackOffMode(message, publishedMonitor, publishTarget.getJmsDestination());
+            this.handleMessageInBackOffMode(message, publishedMonitor, publishTarget.getJmsDestination(), origin);
+            onSent.run();
         }
     }
 
-    private void tryToPublishMessage(final AmqpTarget publishTarget,
-            final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
+    // the message must be released from the publish window by a SendCompleted message
+    private void tryToPublishMessage(final AmqpTarget publishTarget, final ExternalMessage message,
+            final ConnectionMonitor publishedMonitor, final ActorRef origin) {
+
+        final ActorRef self = getSelf();
         try {
             final MessageProducer producer = getProducer(publishTarget.getJmsDestination());
             if (producer != null) {
                 final Message jmsMessage = toJmsMessage(message);
 
-                final ActorRef origin = getSender();
                 log.debug("Attempt to send message {} with producer {}.", message, producer);
+                final long startNanos = System.nanoTime();
                 producer.send(jmsMessage, new CompletionListener() {
                     @Override
                     public void onCompletion(final Message jmsMessage) {
-                        publishedMonitor.success(message);
+                        final long confirmNanos = System.nanoTime() - startNanos;
+                        confirmTimer.record(confirmNanos, TimeUnit.NANOSECONDS);
+                        publishedMonitor.success(message, "Message was acknowledged by the broker after <{0}> ms.",
+                                TimeUnit.NANOSECONDS.toMillis(confirmNanos));
                         log.debug("Message {} sent successfully.", jmsMessage);
+                        self.tell(new SendCompleted(publishTarget), ActorRef.noSender());
                     }
 
                     @Override
                     public void onException(final Message messageFailedToSend, final Exception exception) {
+                        confirmTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
                         handleSendException(message, exception, origin, publishedMonitor);
+                        self.tell(new SendCompleted(publishTarget), ActorRef.noSender());
                     }
                 });
             } else {
@@ -208,15 +249,17 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
                         .description("Is the target or reply-to address correct?")
                         .dittoHeaders(DittoHeaders.of(message.getInternalHeaders()))
                         .build();
-                getSender().tell(sendFailedException, getSelf());
+                origin.tell(sendFailedException, self);
+                self.tell(new SendCompleted(publishTarget), ActorRef.noSender());
             }
         } catch (final JMSException e) {
-            handleSendException(message, e, getSender(), publishedMonitor);
+            handleSendException(message, e, origin, publishedMonitor);
+            self.tell(new SendCompleted(publishTarget), ActorRef.noSender());
         }
     }
 
     private void handleMessageInBackOffMode(final ExternalMessage message, final ConnectionMonitor publishedMonitor,
-            final Destination destination) {
+            final Destination destination, final ActorRef origin) {
         final String errorMessage = String.format("Producer for target address '%s' is in back off mode, as the " +
                 "target configuration seems to contain errors. The message will be dropped.", destination);
         publishedMonitor.exception(message, errorMessage);
@@ -226,7 +269,7 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
                 .description("Check if the target or the reply-to configuration is correct.")
                 .dittoHeaders(DittoHeaders.of(message.getInternalHeaders()))
                 .build();
-        getSender().tell(sendFailedException, getSelf());
+        origin.tell(sendFailedException, getSelf());
     }
 
     private void handleSendException(final ExternalMessage message, final Exception e, final ActorRef sender,
@@ -369,4 +412,16 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
         return producerMap.entrySet().stream().filter(entry -> Objects.equals(entry.getValue(), value));
     }
 
+    /**
+     * Tells the publisher that the broker acknowledged or rejected a message of a target.
+     */
+    private static final class SendCompleted {
+
+        private final AmqpTarget target;
+
+        private SendCompleted(final AmqpTarget target) {
+            this.target = target;
+        }
+    }
+
 }
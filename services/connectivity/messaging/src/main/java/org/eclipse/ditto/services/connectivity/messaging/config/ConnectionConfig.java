@@ -44,6 +44,22 @@ public interface ConnectionConfig extends WithSupervisorConfig, WithActivityChec
      */
     Collection<String> getBlacklistedHostnames();
 
+    /**
+     * Returns the maximum number of messages per target which publishers send without having received the
+     * acknowledgement of the broker.
+     *
+     * @return the maximum number of messages in flight per target.
+     */
+    int getPublisherMaxInFlight();
+
+    /**
+     * Returns the maximum number of messages per target which publishers queue while the maximum number of messages
+     * is in flight. Further messages are dropped.
+     *
+     * @return the maximum number of queued messages per target.
+     */
+    int getPublisherMaxQueued();
+
     /**
      * Returns the config of the connection snapshotting behaviour.
      *
@@ -93,7 +109,17 @@ public interface ConnectionConfig extends WithSupervisorConfig, WithActivityChec
         /**
          * A comma separated list of blacklisted hostnames to which not http requests will be send out.
          */
-        BLACKLISTED_HOSTNAMES("blacklisted-hostnames", "");
+        BLACKLISTED_HOSTNAMES("blacklisted-hostnames", ""),
+
+        /**
+         * The maximum number of unacknowledged messages per target of publishers.
+         */
+        PUBLISHER_MAX_IN_FLIGHT("publisher-max-in-flight", 100),
+
+        /**
+         * The maximum number of queued messages per target of publishers.
+         */
+        PUBLISHER_MAX_QUEUED("publisher-max-queued", 1000);
 
         private final String path;
         private final Object defaultValue;
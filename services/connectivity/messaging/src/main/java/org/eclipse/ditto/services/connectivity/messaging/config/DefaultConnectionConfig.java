@@ -40,6 +40,8 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
 
     private final Duration clientActorAskTimeout;
     private final Collection<String> blacklistedHostnames;
+    private final int publisherMaxInFlight;
+    private final int publisherMaxQueued;
     private final SupervisorConfig supervisorConfig;
     private final SnapshotConfig snapshotConfig;
     private final Amqp10Config amqp10Config;
@@ -53,6 +55,8 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         final String blacklistedHostnamesStr =
                 config.getString(ConnectionConfigValue.BLACKLISTED_HOSTNAMES.getConfigPath());
         blacklistedHostnames = Collections.unmodifiableCollection(Arrays.asList(blacklistedHostnamesStr.split(",")));
+        publisherMaxInFlight = config.getInt(ConnectionConfigValue.PUBLISHER_MAX_IN_FLIGHT.getConfigPath());
+        publisherMaxQueued = config.getInt(ConnectionConfigValue.PUBLISHER_MAX_QUEUED.getConfigPath());
         supervisorConfig = DefaultSupervisorConfig.of(config);
         snapshotConfig = DefaultSnapshotConfig.of(config);
         amqp10Config = DefaultAmqp10Config.of(config);
@@ -84,6 +88,16 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return blacklistedHostnames;
     }
 
+    @Override
+    public int getPublisherMaxInFlight() {
+        return publisherMaxInFlight;
+    }
+
+    @Override
+    public int getPublisherMaxQueued() {
+        return publisherMaxQueued;
+    }
+
     @Override
     public SupervisorConfig getSupervisorConfig() {
         return supervisorConfig;
@@ -130,6 +144,8 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         final DefaultConnectionConfig that = (DefaultConnectionConfig) o;
         return Objects.equals(clientActorAskTimeout, that.clientActorAskTimeout) &&
                 Objects.equals(blacklistedHostnames, that.blacklistedHostnames) &&
+                publisherMaxInFlight == that.publisherMaxInFlight &&
+                publisherMaxQueued == that.publisherMaxQueued &&
                 Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(snapshotConfig, that.snapshotConfig) &&
                 Objects.equals(amqp10Config, that.amqp10Config) &&
@@ -141,8 +157,9 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(clientActorAskTimeout, blacklistedHostnames, supervisorConfig, snapshotConfig,
-                activityCheckConfig, amqp10Config, mqttConfig, kafkaConfig, httpPushConfig);
+        return Objects.hash(clientActorAskTimeout, blacklistedHostnames, publisherMaxInFlight, publisherMaxQueued,
+                supervisorConfig, snapshotConfig, activityCheckConfig, amqp10Config, mqttConfig, kafkaConfig,
+                httpPushConfig);
     }
 
     @Override
@@ -150,6 +167,8 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return getClass().getSimpleName() + " [" +
                 "clientActorAskTimeout=" + clientActorAskTimeout +
                 ", blacklistedHostnames=" + blacklistedHostnames +
+                ", publisherMaxInFlight=" + publisherMaxInFlight +
+                ", publisherMaxQueued=" + publisherMaxQueued +
                 ", supervisorConfig=" + supervisorConfig +
                 ", snapshotConfig=" + snapshotConfig +
                 ", amqp10Config=" + amqp10Config +
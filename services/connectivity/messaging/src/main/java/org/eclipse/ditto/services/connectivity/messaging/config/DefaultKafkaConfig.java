@@ -16,10 +16,11 @@ import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 
 /**
  * This class is the default implementation of {@link KafkaConfig}.
@@ -28,11 +29,22 @@ import com.typesafe.config.Config;
 public final class DefaultKafkaConfig implements KafkaConfig {
 
     private static final String CONFIG_PATH = "kafka";
+    private static final String CONSUMER_PATH = "consumer.internal";
+    private static final String COMMITTER_PATH = "committer";
+
+    private static final String AKKA_KAFKA_CONSUMER_PATH = "akka.kafka.consumer";
+    private static final String AKKA_KAFKA_COMMITTER_PATH = "akka.kafka.committer";
 
     private final Config internalProducerConfig;
+    private final Config internalConsumerConfig;
+    private final Config committerConfig;
+    private final int consumerMaxInFlight;
 
     private DefaultKafkaConfig(final ScopedConfig kafkaScopedConfig) {
         internalProducerConfig = kafkaScopedConfig.getConfig("producer.internal");
+        internalConsumerConfig = getConfigOrReference(kafkaScopedConfig, CONSUMER_PATH, AKKA_KAFKA_CONSUMER_PATH);
+        committerConfig = getConfigOrReference(kafkaScopedConfig, COMMITTER_PATH, AKKA_KAFKA_COMMITTER_PATH);
+        consumerMaxInFlight = kafkaScopedConfig.getInt(KafkaConfigValue.CONSUMER_MAX_IN_FLIGHT.getConfigPath());
     }
 
     /**
@@ -43,7 +55,17 @@ public final class DefaultKafkaConfig implements KafkaConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultKafkaConfig of(final Config config) {
-        return new DefaultKafkaConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultKafkaConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, KafkaConfigValue.values()));
+    }
+
+    private static Config getConfigOrReference(final ScopedConfig kafkaScopedConfig, final String path,
+            final String referencePath) {
+
+        final Config config = kafkaScopedConfig.hasPath(path)
+                ? kafkaScopedConfig.getConfig(path)
+                : ConfigFactory.empty();
+        // settings not configured for Ditto are taken from the reference.conf of akka-stream-kafka
+        return config.withFallback(ConfigFactory.defaultReference().getConfig(referencePath));
     }
 
     @Override
@@ -51,6 +73,21 @@ public final class DefaultKafkaConfig implements KafkaConfig {
         return internalProducerConfig;
     }
 
+    @Override
+    public Config getInternalConsumerConfig() {
+        return internalConsumerConfig;
+    }
+
+    @Override
+    public Config getCommitterConfig() {
+        return committerConfig;
+    }
+
+    @Override
+    public int getConsumerMaxInFlight() {
+        return consumerMaxInFlight;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -60,18 +97,24 @@ public final class DefaultKafkaConfig implements KafkaConfig {
             return false;
         }
         final DefaultKafkaConfig that = (DefaultKafkaConfig) o;
-        return Objects.equals(internalProducerConfig, that.internalProducerConfig);
+        return consumerMaxInFlight == that.consumerMaxInFlight &&
+                Objects.equals(internalProducerConfig, that.internalProducerConfig) &&
+                Objects.equals(internalConsumerConfig, that.internalConsumerConfig) &&
+                Objects.equals(committerConfig, that.committerConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(internalProducerConfig);
+        return Objects.hash(internalProducerConfig, internalConsumerConfig, committerConfig, consumerMaxInFlight);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "internalProducerConfig=" + internalProducerConfig +
+                ", internalConsumerConfig=" + internalConsumerConfig +
+                ", committerConfig=" + committerConfig +
+                ", consumerMaxInFlight=" + consumerMaxInFlight +
                 "]";
     }
 
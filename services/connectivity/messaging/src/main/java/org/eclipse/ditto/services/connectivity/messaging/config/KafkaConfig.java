@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.connectivity.messaging.config;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 import com.typesafe.config.Config;
 
 /**
@@ -30,4 +32,61 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the Config for consumers needed by akka-stream-kafka.
+     * Settings which are not configured explicitly fall back to the defaults of akka-stream-kafka.
+     *
+     * @see <a href="https://doc.akka.io/docs/akka-stream-kafka/current/consumer.html#settings">akka-stream-kafka Consumer settings</a>
+     * @return internal consumer configuration needed by akka-stream-kafka client.
+     */
+    Config getInternalConsumerConfig();
+
+    /**
+     * Returns the Config for committing consumer offsets in batches needed by akka-stream-kafka.
+     * Settings which are not configured explicitly fall back to the defaults of akka-stream-kafka.
+     *
+     * @see <a href="https://doc.akka.io/docs/akka-stream-kafka/current/consumer.html#committer-sink">akka-stream-kafka Committer settings</a>
+     * @return internal committer configuration needed by akka-stream-kafka client.
+     */
+    Config getCommitterConfig();
+
+    /**
+     * Returns the maximum number of consumed records per partition which are handed over to message mapping before
+     * their offsets are committed.
+     *
+     * @return the maximum number of in-flight records per partition.
+     */
+    int getConsumerMaxInFlight();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConfig}.
+     */
+    enum KafkaConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of consumed records per partition which are in flight.
+         */
+        CONSUMER_MAX_IN_FLIGHT("consumer.max-in-flight", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        KafkaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
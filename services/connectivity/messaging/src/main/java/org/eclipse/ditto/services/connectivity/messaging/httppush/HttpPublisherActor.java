@@ -36,7 +36,7 @@ import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMo
 import org.eclipse.ditto.services.connectivity.messaging.validation.ConnectionValidator;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 
 import akka.actor.ActorSystem;
 import akka.actor.Props;
@@ -88,9 +88,9 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         this.factory = factory;
 
         final ActorSystem system = getContext().getSystem();
-        final ConnectionConfig connectionConfig =
-                DittoConnectivityConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()))
-                        .getConnectionConfig();
+        final ConnectionConfig connectionConfig = DittoConfigCache.get(system)
+                .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of)
+                .getConnectionConfig();
         config = connectionConfig.getHttpPushConfig();
         blacklistedAddresses =
                 ConnectionValidator.calculateBlacklistedAddresses(connectionConfig.getBlacklistedHostnames(), log);
@@ -98,6 +98,7 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         materializer = ActorMaterializer.create(getContext());
         sourceQueue =
                 Source.<Pair<HttpRequest, HttpPushContext>>queue(config.getMaxQueueSize(), OverflowStrategy.dropNew())
+                        .via(HttpPushBatcher.of(connection.getSpecificConfig()).createFlow())
                         .viaMat(factory.createFlow(system, log), Keep.left())
                         .toMat(Sink.foreach(this::processResponse), Keep.left())
                         .run(materializer);
@@ -194,37 +195,40 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
     private void processResponse(final Pair<Try<HttpResponse>, HttpPushContext> responseWithMessage) {
         final Try<HttpResponse> tryResponse = responseWithMessage.first();
         final HttpPushContext context = responseWithMessage.second();
-        final ExternalMessage message = context.getExternalMessage();
+        final List<ExternalMessage> messages = context.getExternalMessages();
         final Uri requestUri = context.getRequestUri();
         if (tryResponse.isFailure()) {
             final Throwable error = tryResponse.toEither().left().get();
             final String errorDescription = MessageFormat.format("Failed to send HTTP request to <{0}>.",
                     stripUserInfo(requestUri));
-            log.debug("Failed to send message <{}> due to <{}>", message, error);
-            responsePublishedMonitor.failure(message, errorDescription);
+            log.debug("Failed to send messages <{}> due to <{}>", messages, error);
+            messages.forEach(message -> responsePublishedMonitor.failure(message, errorDescription));
             escalate(error, errorDescription);
         } else {
             final HttpResponse response = tryResponse.toEither().right().get();
-            log.debug("Sent message <{}>. Got response <{} {}>", message, response.status(), response.getHeaders());
+            log.debug("Sent messages <{}>. Got response <{} {}>", messages, response.status(), response.getHeaders());
             if (response.status().isSuccess()) {
-                responsePublishedMonitor.success(message,
+                messages.forEach(message -> responsePublishedMonitor.success(message,
                         "HTTP call to <{0}> successfully responded with status <{1}>.",
-                        stripUserInfo(requestUri), response.status());
+                        stripUserInfo(requestUri), response.status()));
                 response.discardEntityBytes(materializer);
             } else {
                 getResponseBody(response, materializer)
-                        .thenAccept(body -> responsePublishedMonitor.failure(message,
+                        .thenAccept(body -> messages.forEach(message -> responsePublishedMonitor.failure(message,
                                 "HTTP call to <{0}> responded with status <{1}> and body: {2}.",
                                 stripUserInfo(requestUri),
-                                response.status(), body)
+                                response.status(), body))
                         )
                         .exceptionally(bodyReadError -> {
-                            responsePublishedMonitor.failure(message,
-                                    "HTTP call to <{0}> responded with status <{1}>. Failed to read body within {2} ms",
-                                    stripUserInfo(requestUri), response.status(), READ_BODY_TIMEOUT_MS);
-                            LogUtil.enhanceLogWithCorrelationId(log, message.getInternalHeaders());
-                            log.info("Got <{}> when reading body of publish response to <{}>", bodyReadError,
-                                    message);
+                            for (final ExternalMessage message : messages) {
+                                responsePublishedMonitor.failure(message,
+                                        "HTTP call to <{0}> responded with status <{1}>. Failed to read body within " +
+                                                "{2} ms", stripUserInfo(requestUri), response.status(),
+                                        READ_BODY_TIMEOUT_MS);
+                                LogUtil.enhanceLogWithCorrelationId(log, message.getInternalHeaders());
+                                log.info("Got <{}> when reading body of publish response to <{}>", bodyReadError,
+                                        message);
+                            }
                             return null;
                         });
             }
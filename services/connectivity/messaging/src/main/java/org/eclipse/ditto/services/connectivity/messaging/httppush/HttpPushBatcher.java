@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+import akka.NotUsed;
+import akka.http.javadsl.model.ContentType;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpCharsets;
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.MediaTypes;
+import akka.japi.Pair;
+import akka.stream.javadsl.Flow;
+import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
+
+/**
+ * Merges the HTTP requests of the messages published to the same target within a time window into one request whose
+ * body is a JSON array or newline delimited JSON of the payloads. The headers of the batch request are the headers
+ * which all merged requests have in common. Requests with binary payload or with a JSON payload which cannot be parsed
+ * are never merged.
+ * <p>
+ * Batching is configured by the specific config of an HTTP push connection and applies to each of its targets.
+ * </p>
+ */
+@Immutable
+final class HttpPushBatcher {
+
+    /**
+     * Specific config name for the maximum number of messages per HTTP request. Values greater than 1 enable batching.
+     */
+    static final String BATCH_SIZE = "batchSize";
+
+    /**
+     * Specific config name for the time in milliseconds to wait for further messages of a batch.
+     */
+    static final String BATCH_LINGER_MILLIS = "batchLingerMillis";
+
+    /**
+     * Specific config name for the format of the body of batch requests: {@code json} for a JSON array or
+     * {@code ndjson} for newline delimited JSON.
+     */
+    static final String BATCH_FORMAT = "batchFormat";
+
+    static final String FORMAT_JSON = "json";
+    static final String FORMAT_NDJSON = "ndjson";
+
+    private static final int DEFAULT_BATCH_SIZE = 1;
+    private static final long DEFAULT_BATCH_LINGER_MILLIS = 100L;
+
+    private static final ContentType CONTENT_TYPE_NDJSON =
+            ContentTypes.create(MediaTypes.applicationWithOpenCharset("x-ndjson"), HttpCharsets.UTF_8);
+
+    private final int batchSize;
+    private final Duration linger;
+    private final boolean ndjson;
+
+    private HttpPushBatcher(final int batchSize, final Duration linger, final boolean ndjson) {
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.ndjson = ndjson;
+    }
+
+    /**
+     * Create a batcher from the specific config of an HTTP push connection.
+     *
+     * @param specificConfig the specific config.
+     * @return the batcher.
+     * @throws IllegalArgumentException if the batch config is invalid.
+     */
+    static HttpPushBatcher of(final Map<String, String> specificConfig) {
+        final int batchSize = parsePositive(specificConfig, BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        final long lingerMillis = parsePositive(specificConfig, BATCH_LINGER_MILLIS, DEFAULT_BATCH_LINGER_MILLIS);
+        final String format = specificConfig.getOrDefault(BATCH_FORMAT, FORMAT_JSON);
+        if (!FORMAT_JSON.equals(format) && !FORMAT_NDJSON.equals(format)) {
+            throw new IllegalArgumentException(String.format("The configured value '%s' of '%s' is invalid. " +
+                    "It must be '%s' or '%s'.", format, BATCH_FORMAT, FORMAT_JSON, FORMAT_NDJSON));
+        }
+        return new HttpPushBatcher(batchSize, Duration.ofMillis(lingerMillis), FORMAT_NDJSON.equals(format));
+    }
+
+    /**
+     * @return whether messages are published in batches.
+     */
+    boolean isEnabled() {
+        return batchSize > 1;
+    }
+
+    /**
+     * Create a flow which merges requests into batch requests if batching is enabled.
+     *
+     * @return the flow.
+     */
+    Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> createFlow() {
+        if (isEnabled()) {
+            return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                    .groupedWithin(batchSize, linger)
+                    .mapConcat(this::merge);
+        } else {
+            return Flow.create();
+        }
+    }
+
+    /**
+     * Merge the requests to the same target.
+     *
+     * @param requests requests with their contexts.
+     * @return the merged requests in the order of their first occurrence.
+     */
+    List<Pair<HttpRequest, HttpPushContext>> merge(final List<Pair<HttpRequest, HttpPushContext>> requests) {
+        final Map<String, List<Pair<Pair<HttpRequest, HttpPushContext>, String>>> requestsByTarget =
+                new LinkedHashMap<>();
+        final List<Pair<HttpRequest, HttpPushContext>> result = new ArrayList<>();
+        for (final Pair<HttpRequest, HttpPushContext> request : requests) {
+            final Optional<String> jsonString = toMergeableJsonString(request.first());
+            if (jsonString.isPresent()) {
+                final String target = request.first().method().name() + " " + request.first().getUri();
+                requestsByTarget.computeIfAbsent(target, key -> new ArrayList<>())
+                        .add(Pair.create(request, jsonString.get()));
+            } else {
+                result.add(request);
+            }
+        }
+        requestsByTarget.values().forEach(targetRequests -> result.add(targetRequests.size() == 1
+                ? targetRequests.get(0).first()
+                : mergeTargetRequests(targetRequests)));
+        return result;
+    }
+
+    private Pair<HttpRequest, HttpPushContext> mergeTargetRequests(
+            final List<Pair<Pair<HttpRequest, HttpPushContext>, String>> targetRequests) {
+
+        final HttpRequest firstRequest = targetRequests.get(0).first().first();
+        final List<HttpHeader> commonHeaders = new ArrayList<>();
+        firstRequest.getHeaders().forEach(commonHeaders::add);
+        final List<ExternalMessage> messages = new ArrayList<>();
+        final ByteStringBuilder body = ByteString.createBuilder();
+        body.append(ByteString.fromString(ndjson ? "" : "["));
+        for (int i = 0; i < targetRequests.size(); i++) {
+            final Pair<HttpRequest, HttpPushContext> request = targetRequests.get(i).first();
+            commonHeaders.retainAll(toList(request.first().getHeaders()));
+            messages.addAll(request.second().getExternalMessages());
+            if (i > 0 && !ndjson) {
+                body.append(ByteString.fromString(","));
+            }
+            body.append(ByteString.fromString(targetRequests.get(i).second()));
+            if (ndjson) {
+                body.append(ByteString.fromString("\n"));
+            }
+        }
+        if (!ndjson) {
+            body.append(ByteString.fromString("]"));
+        }
+
+        final ContentType contentType = ndjson ? CONTENT_TYPE_NDJSON : ContentTypes.APPLICATION_JSON;
+        final HttpRequest batchRequest = firstRequest.withHeaders(commonHeaders)
+                .withEntity(HttpEntities.create(contentType, body.result()));
+        return Pair.create(batchRequest, new HttpPushContext(messages, firstRequest.getUri()));
+    }
+
+    /**
+     * Render the payload of a request as one JSON value without line breaks.
+     *
+     * @param request the request.
+     * @return the JSON value or an empty optional if the request cannot be merged with others.
+     */
+    private static Optional<String> toMergeableJsonString(final HttpRequest request) {
+        final HttpEntity entity = request.entity();
+        if (!(entity instanceof HttpEntity.Strict)) {
+            return Optional.empty();
+        }
+        final String payload = ((HttpEntity.Strict) entity).getData().decodeString(StandardCharsets.UTF_8);
+        if (isJson(entity.getContentType())) {
+            try {
+                // parse the payload so that empty or invalid JSON does not corrupt the whole batch
+                return Optional.of(JsonFactory.readFrom(payload).toString());
+            } catch (final RuntimeException e) {
+                return Optional.empty();
+            }
+        } else if (entity.getContentType().mediaType().isText()) {
+            return Optional.of(JsonValue.of(payload).toString());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isJson(final ContentType contentType) {
+        return contentType.mediaType().subType().endsWith("json");
+    }
+
+    private static List<HttpHeader> toList(final Iterable<HttpHeader> headers) {
+        final List<HttpHeader> list = new ArrayList<>();
+        headers.forEach(list::add);
+        return list;
+    }
+
+    private static long parsePositive(final Map<String, String> specificConfig, final String name,
+            final long defaultValue) {
+
+        final String value = specificConfig.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final long parsed = Long.parseLong(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (final NumberFormatException e) {
+            // fall through
+        }
+        throw new IllegalArgumentException(String.format("The configured value '%s' of '%s' is invalid. " +
+                "It must be a positive integer.", value, name));
+    }
+
+    private static int parsePositive(final Map<String, String> specificConfig, final String name,
+            final int defaultValue) {
+
+        return Math.toIntExact(parsePositive(specificConfig, name, (long) defaultValue));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HttpPushBatcher that = (HttpPushBatcher) o;
+        return batchSize == that.batchSize &&
+                ndjson == that.ndjson &&
+                Objects.equals(linger, that.linger);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batchSize, linger, ndjson);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "batchSize=" + batchSize +
+                ", linger=" + linger +
+                ", ndjson=" + ndjson +
+                "]";
+    }
+
+}
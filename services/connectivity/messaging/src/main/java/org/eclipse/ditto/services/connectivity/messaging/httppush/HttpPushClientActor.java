@@ -39,7 +39,7 @@ import org.eclipse.ditto.services.connectivity.messaging.internal.ClientConnecte
 import org.eclipse.ditto.services.connectivity.messaging.internal.ClientDisconnected;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ssl.SSLContextCreator;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -63,9 +63,8 @@ public final class HttpPushClientActor extends BaseClientActor {
     private HttpPushClientActor(final Connection connection) {
         super(connection, ActorRef.noSender());
 
-        httpPushConfig = DittoConnectivityConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        )
+        httpPushConfig = DittoConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of)
                 .getConnectionConfig()
                 .getHttpPushConfig();
         factory = HttpPushFactory.of(connection, httpPushConfig);
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.httppush;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
@@ -21,22 +23,30 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import akka.http.javadsl.model.Uri;
 
 /**
- * Context which passes through the {@link ExternalMessage} to publish to an HTTP endpoint and the {@code requestUri}
- * used for logging into the user logs at later stages in the stream where the HTTP request is no longer available.
+ * Context which passes through the {@link ExternalMessage}s published to an HTTP endpoint by one request and the
+ * {@code requestUri} used for logging into the user logs at later stages in the stream where the HTTP request is no
+ * longer available.
  */
 @Immutable
 final class HttpPushContext {
 
-    private final ExternalMessage externalMessage;
+    private final List<ExternalMessage> externalMessages;
     private final Uri requestUri;
 
     HttpPushContext(final ExternalMessage externalMessage, final Uri requestUri) {
-        this.externalMessage = externalMessage;
+        this(Collections.singletonList(externalMessage), requestUri);
+    }
+
+    HttpPushContext(final List<ExternalMessage> externalMessages, final Uri requestUri) {
+        this.externalMessages = Collections.unmodifiableList(externalMessages);
         this.requestUri = requestUri;
     }
 
-    ExternalMessage getExternalMessage() {
-        return externalMessage;
+    /**
+     * @return the messages published by the request, more than one if the request is a batch.
+     */
+    List<ExternalMessage> getExternalMessages() {
+        return externalMessages;
     }
 
     Uri getRequestUri() {
@@ -52,19 +62,19 @@ final class HttpPushContext {
             return false;
         }
         final HttpPushContext that = (HttpPushContext) o;
-        return Objects.equals(externalMessage, that.externalMessage) &&
+        return Objects.equals(externalMessages, that.externalMessages) &&
                 Objects.equals(requestUri, that.requestUri);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(externalMessage, requestUri);
+        return Objects.hash(externalMessages, requestUri);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                "externalMessage=" + externalMessage +
+                "externalMessages=" + externalMessages +
                 ", requestUri=" + requestUri +
                 "]";
     }
@@ -74,6 +74,7 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         validateTargetConfigs(connection, dittoHeaders);
         validatePayloadMappings(connection, actorSystem, dittoHeaders);
         validateParallelism(connection.getSpecificConfig(), dittoHeaders);
+        validateBatching(connection.getSpecificConfig(), dittoHeaders);
     }
 
     @Override
@@ -152,6 +153,16 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
                 .build();
     }
 
+    private static void validateBatching(final Map<String, String> specificConfig, final DittoHeaders dittoHeaders) {
+        try {
+            HttpPushBatcher.of(specificConfig);
+        } catch (final IllegalArgumentException e) {
+            throw ConnectionConfigurationInvalidException.newBuilder(e.getMessage())
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
     static boolean isSecureScheme(final String scheme) {
         return HTTPS.equals(scheme);
     }
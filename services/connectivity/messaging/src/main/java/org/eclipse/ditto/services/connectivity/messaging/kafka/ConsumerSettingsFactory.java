@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+
+import akka.kafka.CommitterSettings;
+import akka.kafka.ConsumerSettings;
+
+/**
+ * Creates {@link akka.kafka.ConsumerSettings} from a given {@link org.eclipse.ditto.model.connectivity.Connection}
+ * configuration.
+ */
+final class ConsumerSettingsFactory {
+
+    private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
+            Collections.unmodifiableList(Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
+                    KafkaBootstrapServerSpecificConfig.getInstance()));
+
+    private static final Deserializer<String> KEY_DESERIALIZER = new StringDeserializer();
+    private static final Deserializer<String> VALUE_DESERIALIZER = KEY_DESERIALIZER;
+
+    private final Connection connection;
+    private final KafkaConfig kafkaConfig;
+
+    private ConsumerSettingsFactory(final Connection connection, final KafkaConfig kafkaConfig) {
+        this.connection = checkNotNull(connection, "connection");
+        this.kafkaConfig = checkNotNull(kafkaConfig, "Kafka config");
+    }
+
+    /**
+     * Returns an instance of the ConsumerSettings factory.
+     *
+     * @param connection the Kafka connection.
+     * @param kafkaConfig the Kafka configuration settings.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static ConsumerSettingsFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig) {
+        return new ConsumerSettingsFactory(connection, kafkaConfig);
+    }
+
+    ConsumerSettings<String, String> getConsumerSettings() {
+        ConsumerSettings<String, String> settings =
+                ConsumerSettings.create(kafkaConfig.getInternalConsumerConfig(), KEY_DESERIALIZER,
+                        VALUE_DESERIALIZER);
+
+        settings = addMetadata(settings);
+        settings = settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG,
+                ProducerSettingsFactory.getSecurityProtocol(connection));
+        settings = addSpecificConfigs(settings);
+
+        return settings;
+    }
+
+    /**
+     * Returns the consumer group of the consumers of a source address. All consumers of the same source address
+     * share the group, thus Kafka assigns each partition of the topic to exactly one of them (in order to be able to
+     * scale out with a consumerCount or clientCount >1). Different sources or addresses get different groups, so
+     * that each of them receives all records of its topic.
+     *
+     * @param connectionId the ID of the connection.
+     * @param source the source.
+     * @param sourceAddress the address of the source to consume from.
+     * @return the consumer group ID.
+     */
+    static String getGroupId(final ConnectionId connectionId, final Source source, final String sourceAddress) {
+        return connectionId + "_" + source.getIndex() + "_" + sourceAddress;
+    }
+
+    CommitterSettings getCommitterSettings() {
+        return CommitterSettings.create(kafkaConfig.getCommitterConfig());
+    }
+
+    private ConsumerSettings<String, String> addMetadata(final ConsumerSettings<String, String> settings) {
+        // the consumer group is set per source address, see getGroupId
+        final InstanceIdentifierSupplier instanceIdentifierSupplier = InstanceIdentifierSupplier.getInstance();
+
+        return settings.withClientId(connection.getId() + "-" + instanceIdentifierSupplier.get());
+    }
+
+    private ConsumerSettings<String, String> addSpecificConfigs(final ConsumerSettings<String, String> settings) {
+        ConsumerSettings<String, String> currentSettings = settings;
+        for (final KafkaSpecificConfig specificConfig : SPECIFIC_CONFIGS) {
+            currentSettings = specificConfig.apply(currentSettings, connection);
+        }
+        return currentSettings;
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
 import java.text.MessageFormat;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -24,6 +25,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
 
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerSettings;
 
 /**
@@ -91,6 +93,26 @@ final class KafkaAuthenticationSpecificConfig implements KafkaSpecificConfig {
     public ProducerSettings<String, String> apply(final ProducerSettings<String, String> producerSettings,
             final Connection connection) {
 
+        ProducerSettings<String, String> settings = producerSettings;
+        for (final Map.Entry<String, String> saslProperty : getSaslProperties(connection).entrySet()) {
+            settings = settings.withProperty(saslProperty.getKey(), saslProperty.getValue());
+        }
+        return settings;
+    }
+
+    @Override
+    public ConsumerSettings<String, String> apply(final ConsumerSettings<String, String> consumerSettings,
+            final Connection connection) {
+
+        ConsumerSettings<String, String> settings = consumerSettings;
+        for (final Map.Entry<String, String> saslProperty : getSaslProperties(connection).entrySet()) {
+            settings = settings.withProperty(saslProperty.getKey(), saslProperty.getValue());
+        }
+        return settings;
+    }
+
+    private Map<String, String> getSaslProperties(final Connection connection) {
+        final Map<String, String> saslProperties = new LinkedHashMap<>();
         final Optional<String> username = connection.getUsername();
         final Optional<String> password = connection.getPassword();
         // chose to not use isApplicable() but directly check username and password since we need to Optional#get them.
@@ -99,11 +121,10 @@ final class KafkaAuthenticationSpecificConfig implements KafkaSpecificConfig {
             final String loginModule = getLoginModuleForSaslMechanism(saslMechanism);
             final String jaasConfig = getJaasConfig(loginModule, username.get(), password.get());
 
-            return producerSettings.withProperty(SaslConfigs.SASL_MECHANISM, saslMechanism)
-                    .withProperty(SaslConfigs.SASL_JAAS_CONFIG, jaasConfig);
+            saslProperties.put(SaslConfigs.SASL_MECHANISM, saslMechanism);
+            saslProperties.put(SaslConfigs.SASL_JAAS_CONFIG, jaasConfig);
         }
-
-        return producerSettings;
+        return saslProperties;
     }
 
     private static String getJaasConfig(final String loginModule, final String username, final String password) {
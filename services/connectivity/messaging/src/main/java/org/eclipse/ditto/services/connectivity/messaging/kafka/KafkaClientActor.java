@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -21,6 +23,7 @@ import java.util.concurrent.CompletionStage;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
@@ -44,6 +47,8 @@ public final class KafkaClientActor extends BaseClientActor {
     private final KafkaPublisherActorFactory publisherActorFactory;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final int consumerMaxInFlight;
+    private final List<ActorRef> kafkaConsumerActors;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
     private ActorRef kafkaPublisherActor;
@@ -57,8 +62,10 @@ public final class KafkaClientActor extends BaseClientActor {
         final ConnectionConfig connectionConfig = connectivityConfig.getConnectionConfig();
         final KafkaConfig kafkaConfig = connectionConfig.getKafkaConfig();
         connectionFactory = DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig);
+        consumerMaxInFlight = kafkaConfig.getConsumerMaxInFlight();
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        kafkaConsumerActors = new ArrayList<>();
     }
 
     /**
@@ -133,13 +140,13 @@ public final class KafkaClientActor extends BaseClientActor {
 
     /**
      * Start Kafka publishers, expect "Status.Success" from each of them, then send "ClientConnected" to self.
+     * Consumers are started by {@link #startConsumerActors(ClientConnected)} once the client is connected.
      *
      * @param dryRun if set to true, exchange no message between the broker and the Ditto cluster.
      */
     private void connectClient(final boolean dryRun) {
         // start publisher
         startKafkaPublisher(dryRun);
-        // no command consumers as we don't support consuming from sources yet
     }
 
     private void startKafkaPublisher(final boolean dryRun) {
@@ -151,12 +158,42 @@ public final class KafkaClientActor extends BaseClientActor {
         pendingStatusReportsFromStreams.add(kafkaPublisherActor);
     }
 
+    @Override
+    protected CompletionStage<Status.Status> startConsumerActors(final ClientConnected clientConnected) {
+        // ensure no previous consumers stay in memory
+        stopConsumerActors();
+        for (final Source source : connection().getSources()) {
+            for (final String sourceAddress : source.getAddresses()) {
+                for (int i = 0; i < source.getConsumerCount(); i++) {
+                    startKafkaConsumer(source, sourceAddress);
+                }
+            }
+        }
+        return CompletableFuture.completedFuture(DONE);
+    }
+
+    private void startKafkaConsumer(final Source source, final String sourceAddress) {
+        log.debug("Starting Kafka consumer actor for source <{}> with address <{}>.", source.getIndex(),
+                sourceAddress);
+        // all consumers of a source address form one consumer group, so Kafka distributes the partitions among them
+        final Props consumerActorProps = KafkaConsumerActor.props(connectionId(), sourceAddress,
+                getMessageMappingProcessorActor(), source, connectionFactory, consumerMaxInFlight);
+        kafkaConsumerActors.add(startChildActorConflictFree(
+                KafkaConsumerActor.ACTOR_NAME_PREFIX + source.getIndex(), consumerActorProps));
+    }
+
     @Override
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
+        stopConsumerActors();
         stopPublisherActor();
     }
 
+    private void stopConsumerActors() {
+        kafkaConsumerActors.forEach(this::stopChildActor);
+        kafkaConsumerActors.clear();
+    }
+
     @Override
     protected CompletionStage<Status.Status> startPublisherActor() {
         return CompletableFuture.completedFuture(DONE);
@@ -12,14 +12,24 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 
+import akka.Done;
 import akka.NotUsed;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
 import akka.kafka.ProducerMessage;
+import akka.kafka.javadsl.Consumer;
 import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 interface KafkaConnectionFactory {
 
@@ -38,4 +48,22 @@ interface KafkaConnectionFactory {
      */
     <T> Flow<ProducerMessage.Envelope<String, String, T>, ProducerMessage.Results<String, String, T>, NotUsed> newFlow();
 
+    /**
+     * Create an Akka stream source of Kafka messages which emits one sub-source per assigned partition.
+     * Partitions are assigned and revoked by the broker as members of the consumer group come and go.
+     *
+     * @param groupId the consumer group to join.
+     * @param topics the topics to subscribe to.
+     * @return Akka stream source that consumes committable Kafka messages partition by partition.
+     */
+    Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed>>, Consumer.Control>
+    newPartitionedSource(String groupId, Set<String> topics);
+
+    /**
+     * Create an Akka stream sink which commits the offsets of consumed Kafka messages in batches.
+     *
+     * @return Akka stream sink that commits offsets to the broker.
+     */
+    Sink<ConsumerMessage.Committable, CompletionStage<Done>> newCommitterSink();
+
 }
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.EnforcementFactoryFactory;
+import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
+import org.eclipse.ditto.model.connectivity.ResourceStatus;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Pair;
+import akka.japi.pf.ReceiveBuilder;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.stream.ActorMaterializer;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+
+/**
+ * Actor which consumes messages from the Kafka topic of a source address and forwards them to a
+ * {@code MessageMappingProcessorActor}.
+ * <p>
+ * The internal Kafka consumer stream runs one sub-stream per assigned partition. Within a partition, messages are
+ * handed over to message mapping in the order of their offsets and at most {@code maxInFlight} messages of a
+ * partition are pending at any time. If message mapping does not keep up, the sub-stream backpressures and the
+ * Kafka client pauses fetching from the partition until demand is signalled again. Offsets are committed in
+ * batches only after their messages were handed over to message mapping.
+ * </p>
+ */
+final class KafkaConsumerActor extends BaseConsumerActor {
+
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    /**
+     * Maximum number of partitions which are consumed in parallel by one consumer actor.
+     */
+    private static final int MAX_PARTITIONS = 1000;
+    private static final Duration RESTART_DELAY = Duration.ofSeconds(5L);
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final KafkaConnectionFactory connectionFactory;
+    private final int maxInFlight;
+    @Nullable
+    private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
+    private final Materializer materializer;
+    private final String groupId;
+
+    @Nullable private Consumer.Control consumerControl;
+
+    // incremented on each start of the internal consumer to recognize messages handed over by a terminated one
+    private int consumerGeneration = 0;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final ConnectionId connectionId, final String sourceAddress,
+            final ActorRef messageMappingProcessor, final Source source, final KafkaConnectionFactory factory,
+            final int maxInFlight) {
+
+        super(connectionId, sourceAddress, messageMappingProcessor, source);
+        connectionFactory = factory;
+        this.maxInFlight = maxInFlight;
+        headerEnforcementFilterFactory = source.getEnforcement()
+                .map(value -> EnforcementFactoryFactory.newEnforcementFilterFactory(value,
+                        PlaceholderFactory.newHeadersPlaceholder()))
+                .orElse(null);
+        materializer = ActorMaterializer.create(getContext());
+        groupId = ConsumerSettingsFactory.getGroupId(connectionId, source, sourceAddress);
+    }
+
+    /**
+     * Creates Akka configuration object {@link Props} for this {@code KafkaConsumerActor}.
+     *
+     * @param connectionId ID of the connection.
+     * @param sourceAddress the source address which is the Kafka topic to consume from.
+     * @param messageMappingProcessor the message mapping processor where received messages are forwarded to.
+     * @param source the configured connection source for the consumer actor.
+     * @param factory the factory to create Kafka consumer streams with.
+     * @param maxInFlight the maximum number of messages per partition which are handed over to message mapping but
+     * whose offsets are not yet committed.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ConnectionId connectionId, final String sourceAddress,
+            final ActorRef messageMappingProcessor, final Source source, final KafkaConnectionFactory factory,
+            final int maxInFlight) {
+
+        return Props.create(KafkaConsumerActor.class, connectionId, sourceAddress, messageMappingProcessor, source,
+                factory, maxInFlight);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        startInternalKafkaConsumer();
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        stopInternalKafkaConsumer();
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(ConsumedMessage.class, this::handleConsumedMessage)
+                .match(ConsumerStreamTerminated.class, this::handleConsumerStreamTerminated)
+                .matchEquals(RestartConsumer.INSTANCE, unused -> restartInternalKafkaConsumer())
+                .match(ResourceStatus.class, this::handleAddressStatus)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .matchAny(m -> {
+                    logWithConnectionId().warning("Unknown message: {}", m);
+                    unhandled(m);
+                }).build();
+    }
+
+    private void startInternalKafkaConsumer() {
+        logWithConnectionId().info("Starting internal Kafka consumer for topic <{}> in group <{}>.", sourceAddress,
+                groupId);
+        final int generation = ++consumerGeneration;
+        final Pair<Consumer.Control, CompletionStage<Done>> materializedValues =
+                connectionFactory.newPartitionedSource(groupId, Collections.singleton(sourceAddress))
+                        .mapAsyncUnordered(MAX_PARTITIONS, partitionAndSource -> partitionAndSource.second()
+                                // preserve the order of offsets within the partition:
+                                .mapAsync(maxInFlight, message -> handOverToMessageMapping(message, generation))
+                                .map(message -> (ConsumerMessage.Committable) message.committableOffset())
+                                .runWith(connectionFactory.newCommitterSink(), materializer))
+                        .toMat(Sink.ignore(), Keep.both())
+                        .run(materializer);
+
+        consumerControl = materializedValues.first();
+        final ActorRef self = getSelf();
+        materializedValues.second()
+                .whenComplete((done, error) -> self.tell(new ConsumerStreamTerminated(error), ActorRef.noSender()));
+    }
+
+    private void restartInternalKafkaConsumer() {
+        logWithConnectionId().info("Restarting internal Kafka consumer.");
+        resetResourceStatus();
+        startInternalKafkaConsumer();
+    }
+
+    private void stopInternalKafkaConsumer() {
+        if (null != consumerControl) {
+            logWithConnectionId().info("Stopping internal Kafka consumer.");
+            consumerControl.shutdown();
+            consumerControl = null;
+        }
+    }
+
+    private CompletionStage<ConsumerMessage.CommittableMessage<String, String>> handOverToMessageMapping(
+            final ConsumerMessage.CommittableMessage<String, String> message, final int generation) {
+
+        // messages are converted and forwarded in the actor thread as forwarding requires the actor context
+        final CompletableFuture<ConsumerMessage.CommittableMessage<String, String>> handedOver =
+                new CompletableFuture<>();
+        getSelf().tell(new ConsumedMessage(message, handedOver, generation), ActorRef.noSender());
+        return handedOver;
+    }
+
+    private void handleConsumedMessage(final ConsumedMessage consumedMessage) {
+        if (consumedMessage.generation != consumerGeneration) {
+            // the consumer which handed over the message terminated; its offset was not committed, thus the
+            // restarted consumer receives the message again
+            logWithConnectionId().debug("Dropping message at offset <{}> of terminated Kafka consumer.",
+                    consumedMessage.message.record().offset());
+            consumedMessage.handedOver.completeExceptionally(
+                    new IllegalStateException("The Kafka consumer was restarted."));
+            return;
+        }
+        final ConsumerRecord<String, String> record = consumedMessage.message.record();
+        Map<String, String> headers = null;
+        try {
+            headers = extractHeadersFromRecord(record);
+            final String correlationId = headers.get(DittoHeaderDefinition.CORRELATION_ID.getKey());
+            LogUtil.enhanceLogWithCorrelationId(log, correlationId);
+            if (log.isDebugEnabled()) {
+                logWithConnectionId().debug("Received message from Kafka partition <{}> at offset <{}>: {}",
+                        record.partition(), record.offset(), record.value());
+            }
+            final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                    .withText(null != record.value() ? record.value() : "")
+                    .withAuthorizationContext(source.getAuthorizationContext())
+                    .withEnforcement(null != headerEnforcementFilterFactory
+                            ? headerEnforcementFilterFactory.getFilter(headers)
+                            : null)
+                    .withHeaderMapping(source.getHeaderMapping().orElse(null))
+                    .withSourceAddress(sourceAddress)
+                    .withPayloadMapping(source.getPayloadMapping())
+                    .build();
+            inboundMonitor.success(externalMessage);
+            forwardToMappingActor(externalMessage);
+        } catch (final DittoRuntimeException e) {
+            logWithConnectionId().warning("Processing message at offset <{}> of partition <{}> failed: {}",
+                    record.offset(), record.partition(), e.getMessage());
+            if (headers != null) {
+                // send response if headers were extracted successfully
+                forwardToMappingActor(e.setDittoHeaders(DittoHeaders.of(headers)));
+                inboundMonitor.failure(headers, e);
+            } else {
+                inboundMonitor.failure(e);
+            }
+        } catch (final Exception e) {
+            logWithConnectionId().warning("Processing message at offset <{}> of partition <{}> failed: {}",
+                    record.offset(), record.partition(), e.getMessage());
+            if (headers != null) {
+                inboundMonitor.exception(headers, e);
+            } else {
+                inboundMonitor.exception(e);
+            }
+        } finally {
+            // failed messages are committed as well, otherwise they would block their partition forever
+            consumedMessage.handedOver.complete(consumedMessage.message);
+        }
+    }
+
+    private void handleConsumerStreamTerminated(final ConsumerStreamTerminated terminated) {
+        consumerControl = null;
+        // fail the hand-overs of the terminated consumer which are still in the mailbox
+        consumerGeneration++;
+        final String message;
+        if (null == terminated.error) {
+            message = "Internal Kafka consumer completed.";
+        } else {
+            message = MessageFormat.format("Internal Kafka consumer failed: {0}", terminated.error.getMessage());
+            inboundMonitor.exception(message);
+        }
+        logWithConnectionId().info("{} Restarting it in <{}>.", message, RESTART_DELAY);
+        handleAddressStatus(ConnectivityModelFactory.newSourceStatus(InstanceIdentifierSupplier.getInstance().get(),
+                ConnectivityStatus.FAILED, sourceAddress, message));
+        getTimers().startSingleTimer(RestartConsumer.INSTANCE, RestartConsumer.INSTANCE, RESTART_DELAY);
+    }
+
+    private static Map<String, String> extractHeadersFromRecord(final ConsumerRecord<String, String> record) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : record.headers()) {
+            if (null != header.value()) {
+                headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        return headers;
+    }
+
+    private DiagnosticLoggingAdapter logWithConnectionId() {
+        ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId);
+        return log;
+    }
+
+    /**
+     * A message consumed by the internal Kafka consumer which is to be handed over to message mapping.
+     */
+    @Immutable
+    private static final class ConsumedMessage {
+
+        private final ConsumerMessage.CommittableMessage<String, String> message;
+        private final CompletableFuture<ConsumerMessage.CommittableMessage<String, String>> handedOver;
+        private final int generation;
+
+        private ConsumedMessage(final ConsumerMessage.CommittableMessage<String, String> message,
+                final CompletableFuture<ConsumerMessage.CommittableMessage<String, String>> handedOver,
+                final int generation) {
+
+            this.message = checkNotNull(message, "message");
+            this.handedOver = handedOver;
+            this.generation = generation;
+        }
+
+    }
+
+    /**
+     * Signals that the internal Kafka consumer stream terminated.
+     */
+    @Immutable
+    private static final class ConsumerStreamTerminated {
+
+        @Nullable private final Throwable error;
+
+        private ConsumerStreamTerminated(@Nullable final Throwable error) {
+            this.error = error;
+        }
+
+    }
+
+    /**
+     * Timer message to restart the internal Kafka consumer stream after it terminated.
+     */
+    private enum RestartConsumer {
+
+        INSTANCE
+
+    }
+
+}
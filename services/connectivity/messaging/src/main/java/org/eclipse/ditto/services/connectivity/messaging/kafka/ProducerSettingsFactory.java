@@ -89,37 +89,26 @@ final class ProducerSettingsFactory {
     }
 
     private ProducerSettings<String, String> addSecurityProtocol(final ProducerSettings<String, String> settings) {
-        if (isConnectionAuthenticated()) {
-            return addAuthenticatedSecurityProtocol(settings);
-        }
-        return addUnauthenticatedSecurityProtocol(settings);
-    }
-
-    private boolean isConnectionAuthenticated() {
-        final KafkaSpecificConfig authenticationSpecificConfig = KafkaAuthenticationSpecificConfig.getInstance();
-        return authenticationSpecificConfig.isApplicable(connection);
-    }
-
-    private ProducerSettings<String, String> addAuthenticatedSecurityProtocol(
-            final ProducerSettings<String, String> settings) {
-
-        if (isConnectionSecure()) {
-            return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_SSL");
-        }
-        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_PLAINTEXT");
+        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, getSecurityProtocol(connection));
     }
 
-    private ProducerSettings<String, String> addUnauthenticatedSecurityProtocol(
-            final ProducerSettings<String, String> settings) {
-
-        if (isConnectionSecure()) {
-            return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SSL");
+    /**
+     * Determines the Kafka security protocol of the given connection based on its credentials and URI scheme.
+     *
+     * @param connection the Kafka connection.
+     * @return the value of the {@code security.protocol} property of the Kafka client.
+     */
+    static String getSecurityProtocol(final Connection connection) {
+        final boolean isSecure = "ssl".equals(connection.getProtocol());
+        if (isConnectionAuthenticated(connection)) {
+            return isSecure ? "SASL_SSL" : "SASL_PLAINTEXT";
         }
-        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "PLAINTEXT");
+        return isSecure ? "SSL" : "PLAINTEXT";
     }
 
-    private boolean isConnectionSecure() {
-        return "ssl".equals(connection.getProtocol());
+    private static boolean isConnectionAuthenticated(final Connection connection) {
+        final KafkaSpecificConfig authenticationSpecificConfig = KafkaAuthenticationSpecificConfig.getInstance();
+        return authenticationSpecificConfig.isApplicable(connection);
     }
 
 }
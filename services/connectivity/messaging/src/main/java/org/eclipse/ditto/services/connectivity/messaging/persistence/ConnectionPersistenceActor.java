@@ -78,7 +78,7 @@ import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
@@ -175,9 +175,8 @@ public final class ConnectionPersistenceActor
         this.propsFactory = propsFactory;
 
         final ActorSystem actorSystem = getContext().getSystem();
-        final ConnectivityConfig connectivityConfig = DittoConnectivityConfig.of(
-                DefaultScopedConfig.dittoScoped(actorSystem.settings().config())
-        );
+        final ConnectivityConfig connectivityConfig = DittoConfigCache.get(actorSystem)
+                .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of);
         config = connectivityConfig.getConnectionConfig();
 
         final ConnectionValidator connectionValidator =
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+
+import com.rabbitmq.client.Channel;
+
+import akka.actor.ActorRef;
+
+/**
+ * Tracks the publisher confirms of the messages published on the channel of a {@link RabbitMQPublisherActor}.
+ * <p>
+ * The channel is put into confirm mode before the first message is published on it. Messages are registered with
+ * their sequence number before publishing. Acknowledgements and rejections of the broker report the message and
+ * the time until its confirmation to the monitor of the message, record that time in the confirm timer and tell the
+ * publisher actor a {@link PublishConfirmed} message. Messages which are not confirmed before their channel is
+ * replaced are reported as failed.
+ * </p>
+ * <p>
+ * {@code publish} must only be called by the channel actor; confirms are received on the threads
+ * of the RabbitMQ client.
+ * </p>
+ */
+@ThreadSafe
+final class PublisherConfirms {
+
+    private final ActorRef publisherActor;
+    private final PreparedTimer confirmTimer;
+
+    @Nullable private volatile ChannelConfirms channelConfirms;
+
+    PublisherConfirms(final ActorRef publisherActor, final PreparedTimer confirmTimer) {
+        this.publisherActor = publisherActor;
+        this.confirmTimer = confirmTimer;
+    }
+
+    /**
+     * Publishes a message on a channel and awaits its confirmation.
+     *
+     * @param channel the current channel of the channel actor.
+     * @param publish publishes the message.
+     * @param target the target of the message.
+     * @param message the message.
+     * @param publishedMonitor the monitor to report the confirmation to.
+     * @throws IOException if the channel could not be put into confirm mode or publishing failed.
+     */
+    void publish(final Channel channel, final Publish publish, final RabbitMQTarget target,
+            final ExternalMessage message, final ConnectionMonitor publishedMonitor) throws IOException {
+
+        final ChannelConfirms confirms = getConfirmsOf(channel);
+        final long sequenceNumber = channel.getNextPublishSeqNo();
+        confirms.pending.put(sequenceNumber, new PendingConfirm(target, message, publishedMonitor));
+        try {
+            publish.publish(channel);
+        } catch (final IOException | RuntimeException e) {
+            confirms.pending.remove(sequenceNumber);
+            throw e;
+        }
+    }
+
+    private ChannelConfirms getConfirmsOf(final Channel channel) throws IOException {
+        final ChannelConfirms currentConfirms = channelConfirms;
+        if (currentConfirms != null && currentConfirms.channel == channel) {
+            return currentConfirms;
+        }
+        if (currentConfirms != null) {
+            currentConfirms.failAll();
+        }
+        final ChannelConfirms newConfirms = new ChannelConfirms(channel);
+        channel.confirmSelect();
+        channel.addConfirmListener((deliveryTag, multiple) -> newConfirms.confirm(deliveryTag, multiple, true),
+                (deliveryTag, multiple) -> newConfirms.confirm(deliveryTag, multiple, false));
+        channel.addShutdownListener(cause -> newConfirms.failAll());
+        channelConfirms = newConfirms;
+        return newConfirms;
+    }
+
+    /**
+     * Publishes a message on a channel.
+     */
+    @FunctionalInterface
+    interface Publish {
+
+        void publish(Channel channel) throws IOException;
+    }
+
+    /**
+     * Tells the publisher actor that the broker confirmed or rejected a message of a target.
+     */
+    static final class PublishConfirmed {
+
+        private final RabbitMQTarget target;
+
+        private PublishConfirmed(final RabbitMQTarget target) {
+            this.target = target;
+        }
+
+        static PublishConfirmed of(final RabbitMQTarget target) {
+            return new PublishConfirmed(target);
+        }
+
+        RabbitMQTarget getTarget() {
+            return target;
+        }
+    }
+
+    private final class ChannelConfirms {
+
+        private final Channel channel;
+        private final ConcurrentNavigableMap<Long, PendingConfirm> pending = new ConcurrentSkipListMap<>();
+
+        private ChannelConfirms(final Channel channel) {
+            this.channel = channel;
+        }
+
+        private void confirm(final long deliveryTag, final boolean multiple, final boolean ack) {
+            if (multiple) {
+                Map.Entry<Long, PendingConfirm> entry = pending.firstEntry();
+                while (entry != null && entry.getKey() <= deliveryTag) {
+                    if (pending.remove(entry.getKey(), entry.getValue())) {
+                        entry.getValue().confirm(ack);
+                    }
+                    entry = pending.firstEntry();
+                }
+            } else {
+                final PendingConfirm pendingConfirm = pending.remove(deliveryTag);
+                if (pendingConfirm != null) {
+                    pendingConfirm.confirm(ack);
+                }
+            }
+        }
+
+        private void failAll() {
+            Map.Entry<Long, PendingConfirm> entry = pending.pollFirstEntry();
+            while (entry != null) {
+                entry.getValue().fail();
+                entry = pending.pollFirstEntry();
+            }
+        }
+    }
+
+    private final class PendingConfirm {
+
+        private final RabbitMQTarget target;
+        private final ExternalMessage message;
+        private final ConnectionMonitor publishedMonitor;
+        private final long startNanos;
+
+        private PendingConfirm(final RabbitMQTarget target, final ExternalMessage message,
+                final ConnectionMonitor publishedMonitor) {
+            this.target = target;
+            this.message = message;
+            this.publishedMonitor = publishedMonitor;
+            startNanos = System.nanoTime();
+        }
+
+        private void confirm(final boolean ack) {
+            final long confirmNanos = System.nanoTime() - startNanos;
+            confirmTimer.record(confirmNanos, TimeUnit.NANOSECONDS);
+            final long confirmMillis = TimeUnit.NANOSECONDS.toMillis(confirmNanos);
+            if (ack) {
+                publishedMonitor.success(message, "Message was confirmed by the broker after <{0}> ms.",
+                        confirmMillis);
+            } else {
+                publishedMonitor.failure(message, "Message was rejected by the broker after <{0}> ms.",
+                        confirmMillis);
+            }
+            publisherActor.tell(PublishConfirmed.of(target), ActorRef.noSender());
+        }
+
+        private void fail() {
+            publishedMonitor.failure(message, "Message was not confirmed by the broker before its channel closed.");
+            publisherActor.tell(PublishConfirmed.of(target), ActorRef.noSender());
+        }
+    }
+
+}
@@ -28,9 +28,13 @@ import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
+import org.eclipse.ditto.services.connectivity.messaging.PublishWindow;
+import org.eclipse.ditto.services.connectivity.messaging.config.ConnectionConfig;
+import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 
 import com.newmotion.akka.rabbitmq.ChannelCreated;
@@ -54,6 +58,11 @@ import akka.japi.pf.ReceiveBuilder;
  * <li>{@code address="target/routingKey"}: signals are published to exchange {@code target} with routing key {@code
  * routingKey}</li>
  * </ul>
+ * <p>
+ * The publisher channel is in confirm mode. A message counts as published when the broker confirmed it. The number
+ * of unconfirmed messages per target is bounded by a {@link PublishWindow}. Messages waiting for the window are
+ * acknowledged to the mapping only when sent, which backpressures the mapping of further messages.
+ * </p>
  */
 public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTarget> {
 
@@ -64,11 +73,21 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
 
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
+    private final PublisherConfirms publisherConfirms;
+    private final PublishWindow<RabbitMQTarget> publishWindow;
+    private final int maxInFlight;
+
     @Nullable private ActorRef channelActor;
 
     @SuppressWarnings("unused")
     private RabbitMQPublisherActor(final Connection connection) {
         super(connection);
+        final ConnectionConfig connectionConfig = DittoConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of)
+                .getConnectionConfig();
+        maxInFlight = connectionConfig.getPublisherMaxInFlight();
+        publishWindow = PublishWindow.of(maxInFlight, connectionConfig.getPublisherMaxQueued());
+        publisherConfirms = new PublisherConfirms(getSelf(), newConfirmTimer());
     }
 
     /**
@@ -118,7 +137,9 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
                         return null;
                     }, false);
                     channelCreated.channel().tell(channelMessage, getSelf());
-                });
+                })
+                .match(PublisherConfirms.PublishConfirmed.class,
+                        publishConfirmed -> publishWindow.release(publishConfirmed.getTarget()));
     }
 
     @Override
@@ -140,13 +161,22 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
     protected void publishMessage(@Nullable final Target target, final RabbitMQTarget publishTarget,
             final ExternalMessage message,
             ConnectionMonitor publishedMonitor) {
+        publishMessage(target, publishTarget, message, publishedMonitor, getSender(), () -> {});
+    }
+
+    @Override
+    protected void publishMessage(@Nullable final Target target, final RabbitMQTarget publishTarget,
+            final ExternalMessage message, final ConnectionMonitor publishedMonitor, final ActorRef origin,
+            final Runnable onSent) {
         if (channelActor == null) {
             log.info("No channel available, dropping response.");
+            onSent.run();
             return;
         }
 
         if (publishTarget.getRoutingKey() == null) {
             log.warning("No routing key, dropping message.");
+            onSent.run();
             return;
         }
 
@@ -175,16 +205,36 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
                     .orElse(new byte[]{});
         }
 
+        final boolean accepted = publishWindow.offer(publishTarget, () -> {
+            publishWithConfirm(publishTarget, basicProperties, body, message, publishedMonitor);
+            onSent.run();
+        });
+        if (!accepted) {
+            onSent.run();
+            log.debug("Message dropped because more than <{}> messages to <{}> are unconfirmed", maxInFlight,
+                    publishTarget);
+            responseDroppedMonitor.failure(message,
+                    "Message dropped because the number of unconfirmed messages to the target exceeded <{0}>",
+                    maxInFlight);
+        }
+    }
+
+    private void publishWithConfirm(final RabbitMQTarget publishTarget, final AMQP.BasicProperties basicProperties,
+            final byte[] body, final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
+
+        final ActorRef self = getSelf();
         final ChannelMessage channelMessage = ChannelMessage.apply(channel -> {
             try {
                 log.debug("Publishing to exchange <{}> and routing key <{}>: {}", publishTarget.getExchange(),
                         publishTarget.getRoutingKey(), basicProperties);
-                channel.basicPublish(publishTarget.getExchange(), publishTarget.getRoutingKey(), basicProperties,
-                        body);
-                publishedMonitor.success(message);
+                publisherConfirms.publish(channel,
+                        confirmedChannel -> confirmedChannel.basicPublish(publishTarget.getExchange(),
+                                publishTarget.getRoutingKey(), basicProperties, body),
+                        publishTarget, message, publishedMonitor);
             } catch (final Exception e) {
                 log.warning("Failed to publish message to RabbitMQ: {}", e.getMessage());
                 publishedMonitor.exception(message, e);
+                self.tell(PublisherConfirms.PublishConfirmed.of(publishTarget), ActorRef.noSender());
             }
             return null;
         }, false);
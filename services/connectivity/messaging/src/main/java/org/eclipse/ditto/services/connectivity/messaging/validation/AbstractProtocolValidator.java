@@ -35,7 +35,7 @@ import org.eclipse.ditto.services.connectivity.mapping.MessageMapperFactory;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapperRegistry;
 import org.eclipse.ditto.services.connectivity.messaging.Resolvers;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 
 import akka.actor.ActorSystem;
 
@@ -145,9 +145,8 @@ public abstract class AbstractProtocolValidator {
      */
     protected void validatePayloadMappings(final Connection connection, final ActorSystem actorSystem,
             final DittoHeaders dittoHeaders) {
-        final MappingConfig mappingConfig = DittoConnectivityConfig.of(
-                DefaultScopedConfig.dittoScoped(actorSystem.settings().config())
-        ).getMappingConfig();
+        final MappingConfig mappingConfig = DittoConfigCache.get(actorSystem)
+                .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of).getMappingConfig();
         final MessageMapperFactory messageMapperFactory =
                 DefaultMessageMapperFactory.of(connection.getId(), actorSystem, mappingConfig, actorSystem.log());
 
@@ -34,15 +34,11 @@ import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidExcept
 import org.eclipse.ditto.model.connectivity.ConnectionType;
 import org.eclipse.ditto.model.connectivity.Credentials;
 import org.eclipse.ditto.model.connectivity.PayloadMapping;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
-import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
 import org.eclipse.ditto.services.connectivity.mapping.MapperLimitsConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ssl.SSLContextCreator;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 
 import akka.actor.ActorSystem;
 import akka.event.LoggingAdapter;
@@ -68,10 +64,7 @@ public final class ConnectionValidator {
                 .collect(Collectors.toMap(AbstractProtocolValidator::type, Function.identity()));
         this.specMap = Collections.unmodifiableMap(specMap);
 
-        final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
-        final ThingsFieldExpressionFactory fieldExpressionFactory =
-                new ModelBasedThingsFieldExpressionFactory();
-        queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
+        queryFilterCriteriaFactory = QueryFilterCriteriaFactory.modelBased();
         mappingNumberLimitSource = mapperLimitsConfig.getMaxSourceMappers();
         mappingNumberLimitTarget = mapperLimitsConfig.getMaxTargetMappers();
     }
@@ -229,9 +222,10 @@ public final class ConnectionValidator {
     private static void validateBlacklistedHostnames(final Connection connection, final DittoHeaders dittoHeaders,
             final ActorSystem actorSystem) {
 
-        final Collection<String> configuredBlacklistedHostnames = DittoConnectivityConfig.of(
-                DefaultScopedConfig.dittoScoped(actorSystem.settings().config())
-        ).getConnectionConfig().getBlacklistedHostnames();
+        final Collection<String> configuredBlacklistedHostnames = DittoConfigCache.get(actorSystem)
+                .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of)
+                .getConnectionConfig()
+                .getBlacklistedHostnames();
         final Collection<InetAddress> blacklisted =
                 calculateBlacklistedAddresses(configuredBlacklistedHostnames, actorSystem.log());
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link MappingWorkerPool}.
+ */
+public final class MappingWorkerPoolTest {
+
+    private static final ConnectionId BUSY = ConnectionId.of("busy");
+    private static final ConnectionId QUIET = ConnectionId.of("quiet");
+
+    private List<Runnable> scheduled;
+    private List<String> executed;
+
+    @Before
+    public void setUp() {
+        scheduled = new ArrayList<>();
+        executed = new ArrayList<>();
+    }
+
+    @Test
+    public void busyConnectionUsesIdleWorkersUpToItsCap() {
+        final MappingWorkerPool underTest = new MappingWorkerPool(scheduled::add, 4, 3);
+
+        for (int i = 0; i < 5; i++) {
+            submit(underTest, BUSY, 1);
+        }
+
+        assertThat(scheduled).hasSize(3);
+        assertThat(underTest.getInFlight(BUSY)).isEqualTo(3);
+        assertThat(underTest.getQueued(BUSY)).isEqualTo(2);
+    }
+
+    @Test
+    public void connectionsAreServedRoundRobin() {
+        final MappingWorkerPool underTest = new MappingWorkerPool(scheduled::add, 1, 10);
+        submit(underTest, BUSY, 1);
+        submit(underTest, BUSY, 1);
+        submit(underTest, BUSY, 1);
+        submit(underTest, QUIET, 1);
+
+        runAll();
+
+        assertThat(executed).containsExactly("busy", "busy", "quiet", "busy");
+    }
+
+    @Test
+    public void weightDeterminesTasksPerTurn() {
+        final MappingWorkerPool underTest = new MappingWorkerPool(scheduled::add, 1, 10);
+        submit(underTest, QUIET, 1);
+        submit(underTest, BUSY, 2);
+        submit(underTest, BUSY, 2);
+        submit(underTest, BUSY, 2);
+        submit(underTest, QUIET, 1);
+
+        runAll();
+
+        assertThat(executed).containsExactly("quiet", "busy", "busy", "quiet", "busy");
+    }
+
+    @Test
+    public void failingTaskCompletesResultExceptionally() {
+        final MappingWorkerPool underTest = new MappingWorkerPool(Runnable::run, 1, 1);
+
+        final CompletionStage<Object> result = underTest.submit(BUSY, 1, () -> {
+            throw new IllegalStateException("mapping failed");
+        });
+
+        assertThatExceptionOfType(CompletionException.class)
+                .isThrownBy(() -> result.toCompletableFuture().join())
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(underTest.getInFlight(BUSY)).isZero();
+    }
+
+    private void submit(final MappingWorkerPool pool, final ConnectionId connectionId, final int weight) {
+        pool.submit(connectionId, weight, () -> executed.add(connectionId.toString()));
+    }
+
+    private void runAll() {
+        while (!scheduled.isEmpty()) {
+            scheduled.remove(0).run();
+        }
+    }
+
+}
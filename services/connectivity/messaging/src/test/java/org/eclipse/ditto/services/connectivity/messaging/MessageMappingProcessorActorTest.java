@@ -17,6 +17,7 @@ import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Au
 import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.disableLogging;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -26,6 +27,8 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
 
@@ -79,6 +82,7 @@ import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.events.things.ThingModified;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -86,6 +90,7 @@ import org.mockito.Mockito;
 
 import com.typesafe.config.ConfigValueFactory;
 
+import akka.Done;
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
 import akka.actor.ActorSystem;
@@ -93,6 +98,7 @@ import akka.actor.Props;
 import akka.pattern.Patterns;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Tests {@link MessageMappingProcessorActor}.
@@ -231,6 +237,63 @@ public final class MessageMappingProcessorActorTest {
         }};
     }
 
+    @Test
+    public void testSignalEnrichmentOfDifferentThingsInParallel() {
+        // GIVEN: mapping parallelism of 3
+        final int parallelism = 3;
+        resetActorSystemWithMappingParallelism(parallelism);
+        final TestProbe conciergeForwarderProbe = TestProbe.apply("mockConciergeForwarderProbe", actorSystem);
+        setUpConciergeForwarder(conciergeForwarderProbe.ref());
+
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createMessageMappingProcessorActor(this);
+            final Target targetWithEnrichment = ConnectivityModelFactory.newTargetBuilder()
+                    .address("target/address")
+                    .authorizationContext(AUTHORIZATION_CONTEXT)
+                    .topics(ConnectivityModelFactory.newFilteredTopicBuilder(Topic.TWIN_EVENTS)
+                            .withExtraFields(JsonFieldSelector.newInstance("attributes/x"))
+                            .build())
+                    .build();
+
+            // WHEN: signals of more different things than the parallelism are received
+            final List<ThingId> thingIds = IntStream.rangeClosed(0, parallelism)
+                    .mapToObj(i -> ThingId.of("thing:parallel-" + i))
+                    .collect(Collectors.toList());
+            thingIds.forEach(thingId -> underTest.tell(OutboundSignalFactory.newOutboundSignal(
+                    ThingModified.of(TestConstants.Things.THING.toBuilder().setId(thingId).build(), 1,
+                            DittoHeaders.empty()),
+                    Collections.singletonList(targetWithEnrichment)), getRef()));
+
+            // THEN: the signals of as many things as the parallelism are enriched at the same time
+            final List<RetrieveThing> retrieveThings = new ArrayList<>();
+            final List<ActorRef> retrieveThingSenders = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) {
+                retrieveThings.add(conciergeForwarderProbe.expectMsgClass(RetrieveThing.class));
+                retrieveThingSenders.add(conciergeForwarderProbe.sender());
+            }
+            conciergeForwarderProbe.expectNoMessage(FiniteDuration.apply(1, TimeUnit.SECONDS));
+
+            // THEN: the remaining signal is enriched after one of the enrichments completed
+            final JsonObject extra = JsonObject.newBuilder().set("/attributes/x", 5).build();
+            retrieveThingSenders.get(0).tell(RetrieveThingResponse.of(retrieveThings.get(0).getEntityId(), extra,
+                    retrieveThings.get(0).getDittoHeaders()), conciergeForwarderProbe.ref());
+            retrieveThings.add(conciergeForwarderProbe.expectMsgClass(RetrieveThing.class));
+            retrieveThingSenders.add(conciergeForwarderProbe.sender());
+            for (int i = 1; i <= parallelism; i++) {
+                retrieveThingSenders.get(i).tell(RetrieveThingResponse.of(retrieveThings.get(i).getEntityId(),
+                        extra, retrieveThings.get(i).getDittoHeaders()), conciergeForwarderProbe.ref());
+            }
+
+            assertThat(retrieveThings.stream().map(RetrieveThing::getEntityId).collect(Collectors.toList()))
+                    .containsExactlyInAnyOrderElementsOf(thingIds);
+            for (int i = 0; i <= parallelism; i++) {
+                final PublishMappedMessage publishMappedMessage = expectMsgClass(PublishMappedMessage.class);
+                assertThat(publishMappedMessage.getOutboundSignal().getAdaptable().getPayload().getExtra())
+                        .contains(extra);
+            }
+        }};
+    }
+
     @SafeVarargs
     private static void expectPublishedMappedMessage(final PublishMappedMessage publishMappedMessage,
             final Signal<?> signal,
@@ -412,6 +475,22 @@ public final class MessageMappingProcessorActorTest {
         MockConciergeForwarderActor.create(actorSystem);
     }
 
+    private void resetActorSystemWithMappingParallelism(final int parallelism) {
+        TestKit.shutdownActorSystem(actorSystem);
+        actorSystem = ActorSystem.create("AkkaTestSystemWithMappingParallelism",
+                TestConstants.CONFIG.withValue("ditto.connectivity.mapping.parallelism",
+                        ConfigValueFactory.fromAnyRef(parallelism)));
+        MockConciergeForwarderActor.create(actorSystem);
+    }
+
+    private void resetActorSystemWithPublisherMaxQueued(final int publisherMaxQueued) {
+        TestKit.shutdownActorSystem(actorSystem);
+        actorSystem = ActorSystem.create("AkkaTestSystemWithPublisherMaxQueued",
+                TestConstants.CONFIG.withValue("ditto.connectivity.connection.publisher-max-queued",
+                        ConfigValueFactory.fromAnyRef(publisherMaxQueued)));
+        MockConciergeForwarderActor.create(actorSystem);
+    }
+
     private void testExternalMessageInDittoProtocolIsProcessed(
             @Nullable final EnforcementFilter<CharSequence> enforcement) {
         testExternalMessageInDittoProtocolIsProcessed(enforcement, null);
@@ -697,6 +776,32 @@ public final class MessageMappingProcessorActorTest {
     }
 
 
+    @Test
+    public void testPublishingIsBackpressuredByPublisherAcknowledgements() {
+        resetActorSystemWithPublisherMaxQueued(2);
+        new TestKit(actorSystem) {{
+            final ActorRef messageMappingProcessorActor = createMessageMappingProcessorActor(this);
+
+            for (int i = 0; i < 3; i++) {
+                messageMappingProcessorActor.tell(
+                        ModifyAttributeResponse.modified(KNOWN_THING_ID, JsonPointer.of("foo"),
+                                DittoHeaders.newBuilder().correlationId("cid-" + i).build()),
+                        getRef());
+            }
+
+            expectMsgClass(PublishMappedMessage.class);
+            final ActorRef firstAckRecipient = getLastSender();
+            expectMsgClass(PublishMappedMessage.class);
+            expectNoMessage();
+
+            // the acknowledgement of the first message makes room for the third one
+            firstAckRecipient.tell(Done.getInstance(), getRef());
+            final OutboundSignal.Mapped outboundSignal =
+                    expectMsgClass(PublishMappedMessage.class).getOutboundSignal();
+            assertThat(outboundSignal.getSource().getDittoHeaders().getCorrelationId()).contains("cid-2");
+        }};
+    }
+
     @Test
     public void testThingNotAccessibleExceptionRetainsTopic() {
         new TestKit(actorSystem) {{
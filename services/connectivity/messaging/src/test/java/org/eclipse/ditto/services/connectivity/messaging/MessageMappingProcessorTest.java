@@ -233,6 +233,39 @@ public final class MessageMappingProcessorTest {
                 DROPPING_MAPPER, FAILING_MAPPER, DITTO_MAPPER, DUPLICATING_MAPPER);
     }
 
+    @Test
+    public void testInboundMessagesMappedInBatch() {
+        final List<String[]> mappersOfMessages = Arrays.asList(
+                new String[]{DITTO_MAPPER},
+                new String[]{FAILING_MAPPER},
+                new String[]{FAILING_MAPPER, DITTO_MAPPER},
+                new String[]{DROPPING_MAPPER},
+                new String[]{DUPLICATING_MAPPER, DITTO_MAPPER},
+                new String[]{DITTO_MAPPER});
+        final List<ExternalMessage> externalMessages = mappersOfMessages.stream()
+                .map(mappers -> ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap())
+                        .withText(TestConstants.modifyThing())
+                        .withPayloadMapping(ConnectivityModelFactory.newPayloadMapping(mappers))
+                        .build())
+                .collect(Collectors.toList());
+        @SuppressWarnings("unchecked") final List<MappingResultHandler<MappedInboundExternalMessage, Void>> mocks =
+                externalMessages.stream()
+                        .map(externalMessage -> (MappingResultHandler<MappedInboundExternalMessage, Void>)
+                                Mockito.mock(MappingResultHandler.class))
+                        .collect(Collectors.toList());
+
+        underTest.process(externalMessages, mocks);
+
+        // mapped, dropped and failed results of each message are the same as if it was processed on its own
+        final int[][] expectedResults = {{1, 0, 0}, {0, 0, 1}, {1, 0, 1}, {0, 1, 0}, {3, 0, 0}, {1, 0, 0}};
+        for (int i = 0; i < expectedResults.length; i++) {
+            final MappingResultHandler<MappedInboundExternalMessage, Void> mock = mocks.get(i);
+            verify(mock, times(expectedResults[i][0])).onMessageMapped(any(MappedInboundExternalMessage.class));
+            verify(mock, times(expectedResults[i][1])).onMessageDropped();
+            verify(mock, times(expectedResults[i][2])).onException(any(Exception.class));
+        }
+    }
+
     @Test
     public void testInboundMessageDroppedForHonoEmptyNotificationMessagesWithDefaultMapper() {
         final Map<String, String> headers = new HashMap<>();
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link PublishWindow}.
+ */
+public final class PublishWindowTest {
+
+    @Test
+    public void sendsUpToMaxInFlightAndQueuesTheRest() {
+        final PublishWindow<String> underTest = PublishWindow.of(2, 1);
+        final List<Integer> sent = new ArrayList<>();
+
+        assertThat(underTest.offer("a", () -> sent.add(1))).isTrue();
+        assertThat(underTest.offer("a", () -> sent.add(2))).isTrue();
+        assertThat(underTest.offer("a", () -> sent.add(3))).isTrue();
+        assertThat(underTest.offer("a", () -> sent.add(4))).isFalse();
+
+        assertThat(sent).containsExactly(1, 2);
+        assertThat(underTest.getInFlight("a")).isEqualTo(2);
+        assertThat(underTest.getQueued("a")).isEqualTo(1);
+    }
+
+    @Test
+    public void releaseSendsNextQueuedMessage() {
+        final PublishWindow<String> underTest = PublishWindow.of(1, 10);
+        final List<Integer> sent = new ArrayList<>();
+        underTest.offer("a", () -> sent.add(1));
+        underTest.offer("a", () -> sent.add(2));
+
+        underTest.release("a");
+
+        assertThat(sent).containsExactly(1, 2);
+        assertThat(underTest.getInFlight("a")).isEqualTo(1);
+        assertThat(underTest.getQueued("a")).isZero();
+
+        underTest.release("a");
+
+        assertThat(underTest.getInFlight("a")).isZero();
+    }
+
+    @Test
+    public void targetsHaveSeparateWindows() {
+        final PublishWindow<String> underTest = PublishWindow.of(1, 0);
+        final List<String> sent = new ArrayList<>();
+
+        assertThat(underTest.offer("a", () -> sent.add("a"))).isTrue();
+        assertThat(underTest.offer("b", () -> sent.add("b"))).isTrue();
+        assertThat(underTest.offer("a", () -> sent.add("a"))).isFalse();
+
+        assertThat(sent).containsExactly("a", "b");
+    }
+
+    @Test
+    public void rejectsInvalidBounds() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> PublishWindow.of(0, 1));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> PublishWindow.of(1, -1));
+    }
+
+}
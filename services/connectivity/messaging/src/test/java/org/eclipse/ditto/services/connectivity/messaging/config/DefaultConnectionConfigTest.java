@@ -83,6 +83,14 @@ public final class DefaultConnectionConfigTest {
                 .as(ConnectionConfig.ConnectionConfigValue.BLACKLISTED_HOSTNAMES.getConfigPath())
                 .containsExactly("localhost");
 
+        softly.assertThat(underTest.getPublisherMaxInFlight())
+                .as(ConnectionConfig.ConnectionConfigValue.PUBLISHER_MAX_IN_FLIGHT.getConfigPath())
+                .isEqualTo(5);
+
+        softly.assertThat(underTest.getPublisherMaxQueued())
+                .as(ConnectionConfig.ConnectionConfigValue.PUBLISHER_MAX_QUEUED.getConfigPath())
+                .isEqualTo(50);
+
         softly.assertThat(underTest.getSupervisorConfig())
                 .as("supervisorConfig")
                 .satisfies(supervisorConfig -> softly.assertThat(supervisorConfig.getExponentialBackOffConfig())
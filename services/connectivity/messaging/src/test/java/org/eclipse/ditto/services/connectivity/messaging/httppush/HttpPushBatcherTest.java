@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.junit.Test;
+
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpMethods;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.Uri;
+import akka.japi.Pair;
+
+/**
+ * Tests {@link HttpPushBatcher}.
+ */
+public final class HttpPushBatcherTest {
+
+    private static final String URI = "http://localhost:8080/events";
+
+    @Test
+    public void isDisabledByDefault() {
+        assertThat(HttpPushBatcher.of(Collections.emptyMap()).isEnabled()).isFalse();
+    }
+
+    @Test
+    public void rejectsInvalidConfig() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> HttpPushBatcher.of(config(HttpPushBatcher.BATCH_SIZE, "0")));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> HttpPushBatcher.of(config(HttpPushBatcher.BATCH_LINGER_MILLIS, "soon")));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> HttpPushBatcher.of(config(HttpPushBatcher.BATCH_FORMAT, "xml")));
+    }
+
+    @Test
+    public void mergesRequestsToSameTargetIntoJsonArray() {
+        final HttpPushBatcher underTest = HttpPushBatcher.of(config(HttpPushBatcher.BATCH_SIZE, "10"));
+        final Pair<HttpRequest, HttpPushContext> first =
+                request(URI, "{\"a\":1}", HttpHeader.parse("api-key", "secret"), HttpHeader.parse("x", "1"));
+        final Pair<HttpRequest, HttpPushContext> second =
+                request(URI, "{\n\"a\":2\n}", HttpHeader.parse("api-key", "secret"), HttpHeader.parse("x", "2"));
+
+        final List<Pair<HttpRequest, HttpPushContext>> merged = underTest.merge(Arrays.asList(first, second));
+
+        assertThat(merged).hasSize(1);
+        final HttpRequest request = merged.get(0).first();
+        assertThat(bodyOf(request)).isEqualTo("[{\"a\":1},{\"a\":2}]");
+        assertThat(request.entity().getContentType()).isEqualTo(ContentTypes.APPLICATION_JSON);
+        assertThat(request.getHeader("api-key")).isPresent();
+        assertThat(request.getHeader("x")).isEmpty();
+        assertThat(merged.get(0).second().getExternalMessages())
+                .containsExactly(messageOf(first), messageOf(second));
+    }
+
+    @Test
+    public void mergesRequestsIntoNewlineDelimitedJson() {
+        final Map<String, String> config = config(HttpPushBatcher.BATCH_SIZE, "10");
+        config.put(HttpPushBatcher.BATCH_FORMAT, HttpPushBatcher.FORMAT_NDJSON);
+        final HttpPushBatcher underTest = HttpPushBatcher.of(config);
+
+        final List<Pair<HttpRequest, HttpPushContext>> merged =
+                underTest.merge(Arrays.asList(request(URI, "{\"a\":1}"), request(URI, "{\"a\":2}")));
+
+        assertThat(merged).hasSize(1);
+        assertThat(bodyOf(merged.get(0).first())).isEqualTo("{\"a\":1}\n{\"a\":2}\n");
+        assertThat(merged.get(0).first().entity().getContentType().mediaType().subType()).isEqualTo("x-ndjson");
+    }
+
+    @Test
+    public void keepsRequestsToDifferentTargetsAndBinaryRequestsApart() {
+        final HttpPushBatcher underTest = HttpPushBatcher.of(config(HttpPushBatcher.BATCH_SIZE, "10"));
+        final Pair<HttpRequest, HttpPushContext> binary = Pair.create(HttpRequest.create(URI)
+                        .withMethod(HttpMethods.POST)
+                        .withEntity(HttpEntities.create(ContentTypes.APPLICATION_OCTET_STREAM, new byte[]{1, 2})),
+                new HttpPushContext(message("binary"), Uri.create(URI)));
+        final Pair<HttpRequest, HttpPushContext> first = request(URI, "{\"a\":1}");
+        final Pair<HttpRequest, HttpPushContext> other = request(URI + "/other", "{\"a\":2}");
+
+        final List<Pair<HttpRequest, HttpPushContext>> merged = underTest.merge(Arrays.asList(binary, first, other));
+
+        assertThat(merged).containsExactly(binary, first, other);
+    }
+
+    @Test
+    public void sendsEmptyAndInvalidJsonPayloadsAloneInJsonArrayFormat() {
+        final HttpPushBatcher underTest = HttpPushBatcher.of(config(HttpPushBatcher.BATCH_SIZE, "10"));
+        final Pair<HttpRequest, HttpPushContext> first = request(URI, "{\"a\":1}");
+        final Pair<HttpRequest, HttpPushContext> empty = request(URI, "");
+        final Pair<HttpRequest, HttpPushContext> invalid = request(URI, "x");
+        final Pair<HttpRequest, HttpPushContext> second = request(URI, "{\"a\":2}");
+
+        final List<Pair<HttpRequest, HttpPushContext>> merged =
+                underTest.merge(Arrays.asList(first, empty, invalid, second));
+
+        assertThat(merged).hasSize(3);
+        assertThat(merged.subList(0, 2)).containsExactly(empty, invalid);
+        assertThat(bodyOf(merged.get(2).first())).isEqualTo("[{\"a\":1},{\"a\":2}]");
+        assertThat(merged.get(2).second().getExternalMessages()).containsExactly(messageOf(first), messageOf(second));
+    }
+
+    @Test
+    public void sendsInvalidMultiLineJsonPayloadAloneInNewlineDelimitedFormat() {
+        final Map<String, String> config = config(HttpPushBatcher.BATCH_SIZE, "10");
+        config.put(HttpPushBatcher.BATCH_FORMAT, HttpPushBatcher.FORMAT_NDJSON);
+        final HttpPushBatcher underTest = HttpPushBatcher.of(config);
+        final Pair<HttpRequest, HttpPushContext> invalid = request(URI, "{\n\"a\":");
+
+        final List<Pair<HttpRequest, HttpPushContext>> merged =
+                underTest.merge(Arrays.asList(request(URI, "{\"a\":1}"), invalid, request(URI, "{\"a\":2}")));
+
+        assertThat(merged).hasSize(2);
+        assertThat(merged.get(0)).isEqualTo(invalid);
+        assertThat(bodyOf(merged.get(1).first())).isEqualTo("{\"a\":1}\n{\"a\":2}\n");
+    }
+
+    private static Map<String, String> config(final String key, final String value) {
+        final Map<String, String> config = new HashMap<>();
+        config.put(key, value);
+        return config;
+    }
+
+    private static Pair<HttpRequest, HttpPushContext> request(final String uri, final String json,
+            final HttpHeader... headers) {
+
+        final HttpRequest request = HttpRequest.create(uri)
+                .withMethod(HttpMethods.POST)
+                .addHeaders(Arrays.asList(headers))
+                .withEntity(HttpEntities.create(ContentTypes.APPLICATION_JSON, json));
+        return Pair.create(request, new HttpPushContext(message(json), request.getUri()));
+    }
+
+    private static ExternalMessage message(final String payload) {
+        return ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap()).withText(payload).build();
+    }
+
+    private static ExternalMessage messageOf(final Pair<HttpRequest, HttpPushContext> request) {
+        return request.second().getExternalMessages().get(0);
+    }
+
+    private static String bodyOf(final HttpRequest request) {
+        return ((HttpEntity.Strict) request.entity()).getData().decodeString(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.stream.javadsl.Sink;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.kafka.KafkaConsumerActor}.
+ */
+public final class KafkaConsumerActorTest {
+
+    private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
+    private static final String TOPIC = "telemetry";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+    private static final Source SOURCE = ConnectivityModelFactory.newSourceBuilder()
+            .address(TOPIC)
+            .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+            .build();
+
+    private static ActorSystem actorSystem;
+
+    private KafkaConnectionFactory connectionFactory;
+    private ConcurrentLinkedQueue<ConsumerMessage.Committable> committed;
+
+    @BeforeClass
+    public static void initActorSystem() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                    false);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        connectionFactory = mock(KafkaConnectionFactory.class);
+        committed = new ConcurrentLinkedQueue<>();
+        when(connectionFactory.newCommitterSink()).thenReturn(Sink.foreach(committed::add));
+    }
+
+    @Test
+    public void consumedMessageIsForwardedToMappingAndCommitted() {
+        final ConsumerMessage.CommittableMessage<String, String> message = committableMessage(7L, "payload");
+        mockPartitionedSource(Collections.singletonList(message));
+
+        new TestKit(actorSystem) {{
+            final TestProbe mappingActor = TestProbe.apply(actorSystem);
+            actorSystem.actorOf(KafkaConsumerActor.props(CONNECTION_ID, TOPIC, mappingActor.ref(), SOURCE,
+                    connectionFactory, 10));
+
+            final ExternalMessage externalMessage = mappingActor.expectMsgClass(ExternalMessage.class);
+            assertThat(externalMessage.getTextPayload()).contains("payload");
+            assertThat(externalMessage.getHeaders()).containsEntry("device_id", "device-7");
+            assertThat(externalMessage.getSourceAddress()).contains(TOPIC);
+
+            Awaitility.await().untilAsserted(() ->
+                    assertThat(committed).containsExactly(message.committableOffset()));
+        }};
+    }
+
+    @Test
+    public void messagesOfPartitionAreForwardedInOrderOfOffsets() {
+        final List<ConsumerMessage.CommittableMessage<String, String>> messages = IntStream.range(0, 20)
+                .mapToObj(offset -> committableMessage(offset, "payload-" + offset))
+                .collect(Collectors.toList());
+        mockPartitionedSource(messages);
+
+        new TestKit(actorSystem) {{
+            final TestProbe mappingActor = TestProbe.apply(actorSystem);
+            actorSystem.actorOf(KafkaConsumerActor.props(CONNECTION_ID, TOPIC, mappingActor.ref(), SOURCE,
+                    connectionFactory, 3));
+
+            for (int i = 0; i < messages.size(); i++) {
+                final ExternalMessage externalMessage = mappingActor.expectMsgClass(ExternalMessage.class);
+                assertThat(externalMessage.getTextPayload()).contains("payload-" + i);
+            }
+
+            Awaitility.await().untilAsserted(() -> assertThat(committed).containsExactlyElementsOf(
+                    messages.stream()
+                            .map(ConsumerMessage.CommittableMessage::committableOffset)
+                            .collect(Collectors.toList())));
+        }};
+    }
+
+    @Test
+    public void consumersOfDifferentSourcesJoinDifferentConsumerGroups() {
+        mockPartitionedSource(Collections.emptyList());
+        final Source otherSource = ConnectivityModelFactory.newSourceBuilder()
+                .address(TOPIC)
+                .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+                .index(1)
+                .build();
+
+        new TestKit(actorSystem) {{
+            final TestProbe mappingActor = TestProbe.apply(actorSystem);
+            actorSystem.actorOf(KafkaConsumerActor.props(CONNECTION_ID, TOPIC, mappingActor.ref(), SOURCE,
+                    connectionFactory, 10));
+            actorSystem.actorOf(KafkaConsumerActor.props(CONNECTION_ID, TOPIC, mappingActor.ref(), otherSource,
+                    connectionFactory, 10));
+
+            final ArgumentCaptor<String> groupIds = ArgumentCaptor.forClass(String.class);
+            verify(connectionFactory, timeout(5000L).times(2)).newPartitionedSource(groupIds.capture(), any());
+            assertThat(groupIds.getAllValues()).doesNotHaveDuplicates()
+                    .containsExactlyInAnyOrder(ConsumerSettingsFactory.getGroupId(CONNECTION_ID, SOURCE, TOPIC),
+                            ConsumerSettingsFactory.getGroupId(CONNECTION_ID, otherSource, TOPIC));
+        }};
+    }
+
+    private void mockPartitionedSource(final List<ConsumerMessage.CommittableMessage<String, String>> messages) {
+        final Consumer.Control control = mock(Consumer.Control.class);
+        final akka.stream.javadsl.Source<Pair<TopicPartition, akka.stream.javadsl.Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed>>, Consumer.Control>
+                partitionedSource = akka.stream.javadsl.Source
+                .single(Pair.create(PARTITION, akka.stream.javadsl.Source.from(messages)))
+                .concat(akka.stream.javadsl.Source.never())
+                .mapMaterializedValue(notUsed -> control);
+        when(connectionFactory.newPartitionedSource(any(), any())).thenReturn(partitionedSource);
+    }
+
+    private static ConsumerMessage.CommittableMessage<String, String> committableMessage(final long offset,
+            final String value) {
+
+        final ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, PARTITION.partition(), offset,
+                "key", value);
+        record.headers().add(new RecordHeader("device_id",
+                ("device-" + offset).getBytes(StandardCharsets.UTF_8)));
+        return new ConsumerMessage.CommittableMessage<>(record, mock(ConsumerMessage.CommittableOffset.class));
+    }
+
+}
@@ -77,9 +77,22 @@ public final class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    public void testValidSourceAddress() {
+        final DittoHeaders emptyDittoHeaders = DittoHeaders.empty();
+        underTest.validateSource(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "telemetry"),
+                emptyDittoHeaders, () -> "");
+        underTest.validateSource(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "ditto.telemetry_1"),
+                emptyDittoHeaders, () -> "");
+    }
+
+    @Test
+    public void testInvalidSourceAddress() {
+        verifySourceIsInvalid(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events/"));
+        verifySourceIsInvalid(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "ditto*a"));
+        verifySourceIsInvalid(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "ditto/{{thing:id}}"));
+    }
 
+    private void verifySourceIsInvalid(final Source source) {
         assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
                 .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
     }
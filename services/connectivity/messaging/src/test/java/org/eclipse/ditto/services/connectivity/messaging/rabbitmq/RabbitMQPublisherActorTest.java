@@ -13,13 +13,22 @@
 package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractPublisherActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
@@ -27,16 +36,73 @@ import com.newmotion.akka.rabbitmq.ChannelCreated;
 import com.newmotion.akka.rabbitmq.ChannelMessage;
 import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmCallback;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.FiniteDuration;
 
 public class RabbitMQPublisherActorTest extends AbstractPublisherActorTest {
 
+    private static final FiniteDuration ONE_SECOND = FiniteDuration.apply(1, TimeUnit.SECONDS);
+
     private TestProbe probe;
 
+    @Test
+    public void publishesQueuedMessagesWhenInFlightMessagesAreConfirmedOrRejected() throws Exception {
+
+        new TestKit(actorSystem) {{
+
+            final TestProbe probe = new TestProbe(actorSystem);
+            setupMocks(probe);
+            final int maxInFlight = DittoConnectivityConfig.of(DefaultScopedConfig.dittoScoped(CONFIG))
+                    .getConnectionConfig()
+                    .getPublisherMaxInFlight();
+            final int messageCount = 2 * maxInFlight + 1;
+
+            final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+            publisherCreated(this, publisherActor);
+            for (int i = 0; i < messageCount; i++) {
+                publisherActor.tell(getMockOutboundSignal(), getRef());
+            }
+
+            final Channel channel = mock(Channel.class);
+            final AtomicLong nextPublishSeqNo = new AtomicLong(1L);
+            when(channel.getNextPublishSeqNo()).thenAnswer(invocation -> nextPublishSeqNo.getAndIncrement());
+
+            // omit first channel message
+            probe.expectMsgClass(ChannelMessage.class);
+            for (int i = 0; i < maxInFlight; i++) {
+                probe.expectMsgClass(ChannelMessage.class).onChannel().apply(channel);
+            }
+            probe.expectNoMessage(ONE_SECOND);
+
+            final ArgumentCaptor<ConfirmCallback> ackCallback = ArgumentCaptor.forClass(ConfirmCallback.class);
+            final ArgumentCaptor<ConfirmCallback> nackCallback = ArgumentCaptor.forClass(ConfirmCallback.class);
+            Mockito.verify(channel).addConfirmListener(ackCallback.capture(), nackCallback.capture());
+
+            // every confirmation, positive or negative, releases the next queued message
+            int published = maxInFlight;
+            for (long deliveryTag = 1L; deliveryTag <= messageCount; deliveryTag++) {
+                if (deliveryTag % 2 == 0) {
+                    nackCallback.getValue().handle(deliveryTag, false);
+                } else {
+                    ackCallback.getValue().handle(deliveryTag, false);
+                }
+                if (published < messageCount) {
+                    probe.expectMsgClass(ChannelMessage.class).onChannel().apply(channel);
+                    published++;
+                }
+            }
+            probe.expectNoMessage(ONE_SECOND);
+
+            Mockito.verify(channel, times(messageCount)).basicPublish(eq("exchange"), eq("outbound"), any(),
+                    any());
+        }};
+    }
+
     @Override
     protected void setupMocks(final TestProbe probe) {
         this.probe = probe;
@@ -62,7 +62,6 @@ import akka.actor.CoordinatedShutdown;
 import akka.actor.Props;
 import akka.actor.SupervisorStrategy;
 import akka.cluster.Cluster;
-import akka.cluster.sharding.ClusterSharding;
 import akka.cluster.sharding.ClusterShardingSettings;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.http.javadsl.ConnectHttp;
@@ -250,11 +249,11 @@ public final class ConnectivityRootActor extends DittoRootActor {
         final ClusterShardingSettings shardingSettings = ClusterShardingSettings.create(actorSystem)
                 .withRole(ConnectivityMessagingConstants.CLUSTER_ROLE);
 
-        return ClusterSharding.get(actorSystem)
-                .start(ConnectivityMessagingConstants.SHARD_REGION,
-                        connectionSupervisorProps,
-                        shardingSettings,
-                        ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem));
+        return ClusterUtil.startShardRegion(actorSystem, clusterConfig,
+                ConnectivityMessagingConstants.SHARD_REGION,
+                connectionSupervisorProps,
+                shardingSettings,
+                ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem));
     }
 
     private CompletionStage<ServerBinding> getHttpBinding(final HttpConfig httpConfig,
@@ -14,23 +14,13 @@ package org.eclipse.ditto.services.gateway.endpoints.actors;
 
 import static org.eclipse.ditto.services.gateway.util.FireAndForgetMessageUtil.isFireAndForgetMessage;
 
-import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
-import java.util.function.UnaryOperator;
 
 import org.eclipse.ditto.json.JsonRuntimeException;
-import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
-import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
-import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.messages.Message;
 import org.eclipse.ditto.model.messages.MessageTimeoutException;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
@@ -50,23 +40,14 @@ import akka.actor.ActorRef;
 import akka.actor.ReceiveTimeout;
 import akka.actor.Status;
 import akka.event.DiagnosticLoggingAdapter;
-import akka.http.javadsl.model.ContentType;
-import akka.http.javadsl.model.ContentTypes;
-import akka.http.javadsl.model.HttpEntities;
-import akka.http.javadsl.model.HttpHeader;
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.HttpResponse;
 import akka.http.javadsl.model.StatusCodes;
 import akka.http.javadsl.model.Uri;
 import akka.http.javadsl.model.headers.Location;
-import akka.http.javadsl.model.headers.RawHeader;
-import akka.http.scaladsl.model.ContentType$;
-import akka.http.scaladsl.model.EntityStreamSizeException;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.AskTimeoutException;
-import akka.util.ByteString;
 import scala.concurrent.duration.Duration;
-import scala.util.Either;
 
 /**
  * Abstract actor to handle one HTTP request. It is created with an HTTP request and a promise of an HTTP response that
@@ -80,13 +61,10 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
      */
     public static final String COMPLETE_MESSAGE = "complete";
 
-    private static final ContentType CONTENT_TYPE_JSON = ContentTypes.APPLICATION_JSON;
-    private static final ContentType CONTENT_TYPE_TEXT = ContentTypes.TEXT_PLAIN_UTF8;
-
     private final DiagnosticLoggingAdapter logger = LogUtil.obtain(this);
 
     private final ActorRef proxyActor;
-    private final HeaderTranslator headerTranslator;
+    private final HttpResponseRenderer responseRenderer;
     private final CompletableFuture<HttpResponse> httpResponseFuture;
     private final HttpConfig httpConfig;
     private final AbstractActor.Receive commandResponseAwaiting;
@@ -101,7 +79,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
             final HttpConfig httpConfig) {
 
         this.proxyActor = proxyActor;
-        this.headerTranslator = headerTranslator;
+        responseRenderer = HttpResponseRenderer.of(headerTranslator);
         this.httpResponseFuture = httpResponseFuture;
         this.httpConfig = httpConfig;
 
@@ -116,35 +94,18 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                     final HttpResponse httpResponse = HttpResponse.create().withStatus(HttpStatusCode.ACCEPTED.toInt());
                     completeWithResult(httpResponse);
                 })
-                .match(MessageCommandResponse.class, cmd -> {
-                    final HttpResponse httpResponse = handleMessageResponseMessage(cmd);
-                    completeWithResult(httpResponse);
-                })
+                .match(MessageCommandResponse.class, cmd ->
+                        completeWithResult(responseRenderer.renderMessageCommandResponse(cmd)))
                 .match(CommandResponse.class, cR -> cR instanceof WithEntity, commandResponse -> {
                     LogUtil.enhanceLogWithCorrelationId(logger, commandResponse);
                     logger.debug("Got <{}> message.", commandResponse.getType());
-                    final WithEntity<?> withEntity = (WithEntity<?>) commandResponse;
-
-                    final HttpResponse responseWithoutHeaders = HttpResponse.create()
-                            .withStatus(commandResponse.getStatusCode().toInt());
-                    final HttpResponse responseWithoutBody = enhanceResponseWithExternalDittoHeaders(
-                            responseWithoutHeaders, commandResponse.getDittoHeaders());
-
-                    if (withEntity.getEntityPlainString().isPresent()) {
-                        completeWithResult(addEntityAccordingToContentType(responseWithoutBody,
-                                withEntity.getEntityPlainString().get(),
-                                commandResponse.getDittoHeaders()));
-                    } else {
-                        completeWithResult(addEntityAccordingToContentType(responseWithoutBody,
-                                withEntity.getEntity(commandResponse.getImplementedSchemaVersion()),
-                                commandResponse.getDittoHeaders()));
-                    }
+                    completeWithResult(responseRenderer.renderCommandResponseWithEntity(commandResponse));
                 })
                 .match(CommandResponse.class, cR -> cR instanceof WithOptionalEntity, commandResponse -> {
                     LogUtil.enhanceLogWithCorrelationId(logger, commandResponse);
                     logger.debug("Got <{}> message.", commandResponse.getType());
-                    final WithOptionalEntity withOptionalEntity = (WithOptionalEntity) commandResponse;
-                    completeWithResult(createCommandResponse(request, commandResponse, withOptionalEntity));
+                    completeWithResult(responseRenderer.renderCommandResponseWithOptionalEntity(request,
+                            commandResponse, this::modifyResponse));
                 })
                 .match(ErrorResponse.class,
                         errorResponse -> handleDittoRuntimeException(errorResponse.getDittoRuntimeException()))
@@ -184,57 +145,6 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                 .build();
     }
 
-    private static boolean hasPlainTextContentType(final DittoHeaders dittoHeaders) {
-        final String contentTypeHeader = DittoHeaderDefinition.CONTENT_TYPE.name();
-        return dittoHeaders.containsKey(contentTypeHeader) &&
-                "text/plain".equalsIgnoreCase(dittoHeaders.get(contentTypeHeader));
-    }
-
-    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final JsonValue entity,
-            final DittoHeaders dittoHeaders) {
-
-        if (hasPlainTextContentType(dittoHeaders)) {
-            return response.withEntity(CONTENT_TYPE_TEXT, ByteString.fromString(entity.asString()));
-        }
-        return response.withEntity(CONTENT_TYPE_JSON, ByteString.fromString(entity.toString()));
-    }
-
-    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
-            final DittoHeaders dittoHeaders) {
-
-        final ContentType contentType = hasPlainTextContentType(dittoHeaders) ? CONTENT_TYPE_TEXT : CONTENT_TYPE_JSON;
-        return response.withEntity(contentType, ByteString.fromString(entityPlain));
-    }
-
-    private HttpResponse createCommandResponse(final HttpRequest request, final CommandResponse commandResponse,
-            final WithOptionalEntity withOptionalEntity) {
-
-        final UnaryOperator<HttpResponse> addExternalDittoHeaders =
-                response -> enhanceResponseWithExternalDittoHeaders(response, commandResponse.getDittoHeaders());
-        final UnaryOperator<HttpResponse> modifyResponseOperator =
-                response -> modifyResponse(request, commandResponse, response);
-        final Function<HttpResponse, HttpResponse> addHeaders =
-                addExternalDittoHeaders.andThen(modifyResponseOperator);
-
-        final UnaryOperator<HttpResponse> addBodyIfEntityExists =
-                createBodyAddingResponseMapper(commandResponse, withOptionalEntity);
-
-        return createHttpResponseWithHeadersAndBody(commandResponse, addHeaders, addBodyIfEntityExists);
-    }
-
-    private static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final CommandResponse commandResponse,
-            final WithOptionalEntity withOptionalEntity) {
-
-        return response -> {
-            if (StatusCodes.NO_CONTENT.equals(response.status())) {
-                return response;
-            }
-            return withOptionalEntity.getEntity(commandResponse.getImplementedSchemaVersion())
-                    .map(entity -> addEntityAccordingToContentType(response, entity, commandResponse.getDittoHeaders()))
-                    .orElse(response);
-        };
-    }
-
     /**
      * Modify an HTTP response according to the request and the command response.
      *
@@ -255,36 +165,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
     }
 
     protected Uri getUriForLocationHeader(final HttpRequest request, final CommandResponse commandResponse) {
-        if (!request.method().isIdempotent()) {
-            // only for not idempotent requests (e.g.: POST), add the "createdId" to the path:
-            final String uriStr = request.getUri().toString();
-            String createdLocation;
-            final int uriIdIndex = uriStr.indexOf(commandResponse.getEntityId().toString());
-
-            // if the URI contains the ID, but *not* at the beginning
-            if (uriIdIndex > 0) {
-                createdLocation = uriStr.substring(0, uriIdIndex) + commandResponse.getEntityId() +
-                        commandResponse.getResourcePath();
-            } else {
-                createdLocation = uriStr + "/" + commandResponse.getEntityId() + commandResponse.getResourcePath();
-            }
-
-            if (createdLocation.endsWith("/")) {
-                createdLocation = createdLocation.substring(0, createdLocation.length() - 1);
-            }
-
-            return Uri.create(createdLocation);
-        } else {
-            return request.getUri();
-        }
-    }
-
-    private static HttpResponse createHttpResponseWithHeadersAndBody(final CommandResponse commandResponse,
-            final Function<HttpResponse, HttpResponse> addHeaders, final UnaryOperator<HttpResponse> addBody) {
-
-        final HttpResponse response = HttpResponse.create().withStatus(commandResponse.getStatusCodeValue());
-
-        return addBody.apply(addHeaders.apply(response));
+        return HttpResponseRenderer.getUriForLocationHeader(request, commandResponse);
     }
 
     @Override
@@ -307,29 +188,8 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                         getContext().setReceiveTimeout(Duration.apply(messageTimeout.getSeconds(), TimeUnit.SECONDS));
                     }
                 })
-                .match(Status.Failure.class, failure -> {
-                    Throwable cause = failure.cause();
-                    if (cause instanceof JsonRuntimeException) {
-                        // wrap JsonRuntimeExceptions
-                        cause = new DittoJsonException((RuntimeException) cause);
-                    }
-
-                    if (cause instanceof DittoRuntimeException) {
-                        handleDittoRuntimeException((DittoRuntimeException) cause);
-                    } else if (cause instanceof EntityStreamSizeException) {
-                        logger.warning("Got EntityStreamSizeException when a 'Command' was expected which means that " +
-                                "the max. allowed http payload size configured in Akka was overstepped in this " +
-                                "request.");
-                        completeWithResult(
-                                HttpResponse.create().withStatus(HttpStatusCode.REQUEST_ENTITY_TOO_LARGE.toInt())
-                        );
-                    } else {
-                        logger.error(cause, "Got unknown Status.Failure when a 'Command' was expected.");
-                        completeWithResult(
-                                HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt())
-                        );
-                    }
-                })
+                .match(Status.Failure.class,
+                        failure -> completeWithResult(responseRenderer.renderFailure(failure.cause())))
                 .match(DittoRuntimeException.class, this::handleDittoRuntimeException)
                 .match(ReceiveTimeout.class, this::handleReceiveTimeout)
                 .match(Command.class, command -> { // receive Commands
@@ -353,61 +213,6 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                 .build();
     }
 
-    private HttpResponse handleMessageResponseMessage(final MessageCommandResponse<?, ?> messageCommandResponse) {
-        HttpResponse httpResponse;
-
-        final Message<?> message = messageCommandResponse.getMessage();
-        final Optional<?> optionalPayload = message.getPayload();
-        final Optional<ByteBuffer> optionalRawPayload = message.getRawPayload();
-        final Optional<HttpStatusCode> responseStatusCode = Optional.of(messageCommandResponse.getStatusCode())
-                .filter(code -> StatusCodes.lookup(code.toInt()).isPresent())
-                // only allow status code which are known to akka-http
-                .filter(code -> !HttpStatusCode.BAD_GATEWAY.equals(code));
-        // filter "bad gateway" 502 from being used as this is used Ditto internally for graceful HTTP shutdown
-
-        // if statusCode is != NO_CONTENT
-        if (responseStatusCode.map(status -> status != HttpStatusCode.NO_CONTENT).orElse(true)) {
-            final Optional<ContentType> optionalContentType = message.getContentType().map(ContentType$.MODULE$::parse)
-                    .filter(Either::isRight)
-                    .map(Either::right)
-                    .map(Either.RightProjection::get);
-
-            httpResponse = HttpResponse.create().withStatus(responseStatusCode.orElse(HttpStatusCode.OK).toInt());
-
-            if (optionalPayload.isPresent()) {
-                final Object payload = optionalPayload.get();
-
-                if (optionalContentType.isPresent()) {
-                    httpResponse = httpResponse.withEntity(
-                            HttpEntities.create(optionalContentType.get(),
-                                    ByteString.ByteStrings.fromString(payload.toString())));
-                } else {
-                    httpResponse = httpResponse.withEntity(HttpEntities.create(payload.toString()));
-                }
-            } else if (optionalRawPayload.isPresent()) {
-
-                final ByteBuffer rawPayload = optionalRawPayload.get();
-                if (optionalContentType.isPresent()) {
-                    httpResponse = httpResponse.withEntity(
-                            HttpEntities.create(optionalContentType.get(), rawPayload.array()));
-                } else {
-                    httpResponse = httpResponse.withEntity(HttpEntities.create(rawPayload.array()));
-                }
-            }
-        } else {
-            // if payload was missing OR statusCode was NO_CONTENT:
-            optionalRawPayload.ifPresent(byteBuffer -> {
-                LogUtil.enhanceLogWithCorrelationId(logger, messageCommandResponse);
-                logger.info("Response payload was set but response status code was also set to <{}>. " +
-                        "Ignoring the response payload. Command=<{}>", responseStatusCode, messageCommandResponse);
-            });
-            httpResponse =
-                    HttpResponse.create().withStatus(responseStatusCode.orElse(HttpStatusCode.NO_CONTENT).toInt());
-        }
-
-        return enhanceResponseWithExternalDittoHeaders(httpResponse, messageCommandResponse.getDittoHeaders());
-    }
-
     private void handleReceiveTimeout(final ReceiveTimeout receiveTimeout) {
         if (messageTimeout != null && !isFireAndForgetMessage) {
             logger.info("Got <{}> when a message response was expected after timeout <{}>.",
@@ -422,45 +227,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
     }
 
     private void handleDittoRuntimeException(final DittoRuntimeException exception) {
-        LogUtil.enhanceLogWithCorrelationId(logger, exception);
-        logger.info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage());
-        completeWithDittoRuntimeException(exception);
-    }
-
-    private void completeWithDittoRuntimeException(final DittoRuntimeException dre) {
-        final HttpResponse responseWithoutHeaders = buildResponseWithoutHeadersFromDittoRuntimeException(dre);
-        final HttpResponse response =
-                enhanceResponseWithExternalDittoHeaders(responseWithoutHeaders, dre.getDittoHeaders());
-
-        completeWithResult(response);
-    }
-
-    private static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
-            final DittoRuntimeException exception) {
-
-        final HttpResponse responseWithoutHeaders = HttpResponse.create().withStatus(exception.getStatusCode().toInt());
-        if (HttpStatusCode.NOT_MODIFIED.equals(exception.getStatusCode())) {
-            return responseWithoutHeaders;
-        }
-        return responseWithoutHeaders.withEntity(CONTENT_TYPE_JSON, ByteString.fromString(exception.toJsonString()));
-    }
-
-    private HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
-            final DittoHeaders allDittoHeaders) {
-
-        LogUtil.enhanceLogWithCorrelationId(logger, allDittoHeaders);
-        final Map<String, String> externalHeaders = headerTranslator.toExternalHeaders(allDittoHeaders);
-
-        if (externalHeaders.isEmpty()) {
-            logger.debug("No external headers for enhancing the response, returning it as-is.");
-            return response;
-        }
-
-        logger.debug("Enhancing response with external headers <{}>.", externalHeaders);
-        final List<HttpHeader> externalHttpHeaders = new ArrayList<>(externalHeaders.size());
-        externalHeaders.forEach((k, v) -> externalHttpHeaders.add(RawHeader.create(k, v)));
-
-        return response.withHeaders(externalHttpHeaders);
+        completeWithResult(responseRenderer.renderDittoRuntimeException(exception));
     }
 
     private void completeWithResult(final HttpResponse response) {
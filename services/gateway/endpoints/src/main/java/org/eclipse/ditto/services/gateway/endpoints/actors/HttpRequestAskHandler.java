@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+import static org.eclipse.ditto.services.gateway.util.FireAndForgetMessageUtil.isFireAndForgetMessage;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.messages.MessageTimeoutException;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayServiceUnavailableException;
+import org.eclipse.ditto.signals.commands.messages.MessageCommand;
+
+import akka.actor.ActorRef;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+
+/**
+ * Handles HTTP requests by asking the proxy actor for the response to their commands instead of creating an actor per
+ * request like {@link AbstractHttpRequestActor}. Responses are rendered the same way by {@link HttpResponseRenderer},
+ * but the configured {@link HttpRequestActorPropsFactory} is bypassed.
+ */
+@Immutable
+public final class HttpRequestAskHandler {
+
+    private final ActorRef proxyActor;
+    private final HttpResponseRenderer responseRenderer;
+    private final Duration requestTimeout;
+
+    private HttpRequestAskHandler(final ActorRef proxyActor, final HttpResponseRenderer responseRenderer,
+            final Duration requestTimeout) {
+
+        this.proxyActor = proxyActor;
+        this.responseRenderer = responseRenderer;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Returns a handler of HTTP requests.
+     *
+     * @param proxyActor proxy actor to ask for the responses to all commands.
+     * @param headerTranslator translator of Ditto headers.
+     * @param httpConfig the configuration settings of the Gateway service's HTTP endpoint.
+     * @return the handler.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static HttpRequestAskHandler of(final ActorRef proxyActor, final HeaderTranslator headerTranslator,
+            final HttpConfig httpConfig) {
+
+        checkNotNull(proxyActor, "proxyActor");
+        checkNotNull(headerTranslator, "headerTranslator");
+        checkNotNull(httpConfig, "httpConfig");
+        return new HttpRequestAskHandler(proxyActor, HttpResponseRenderer.of(headerTranslator),
+                httpConfig.getRequestTimeout());
+    }
+
+    /**
+     * Handle an HTTP request.
+     *
+     * @param request the HTTP request.
+     * @param commandFuture future of the command of the request or of the exception to respond with.
+     * @return future of the HTTP response.
+     */
+    public CompletionStage<HttpResponse> handle(final HttpRequest request,
+            final CompletionStage<Object> commandFuture) {
+
+        return commandFuture.thenCompose(commandOrException -> {
+            if (commandOrException instanceof MessageCommand) {
+                return askForMessageResponse(request, (MessageCommand<?, ?>) commandOrException);
+            } else if (commandOrException instanceof Command) {
+                return askForResponse(request, (Command<?>) commandOrException);
+            } else {
+                return CompletableFuture.completedFuture(render(request, commandOrException));
+            }
+        }).exceptionally(error -> responseRenderer.renderFailure(unwrapCompletionException(error)));
+    }
+
+    private CompletionStage<HttpResponse> askForMessageResponse(final HttpRequest request,
+            final MessageCommand<?, ?> command) {
+
+        final Optional<Duration> messageTimeout = command.getMessage().getTimeout()
+                .filter(timeout -> !isFireAndForgetMessage(command));
+        return ask(command, messageTimeout.orElse(requestTimeout))
+                .handle((response, error) -> {
+                    if (null != error && messageTimeout.isPresent() &&
+                            unwrapCompletionException(error) instanceof AskTimeoutException) {
+                        return render(request, new MessageTimeoutException(messageTimeout.get().getSeconds()));
+                    } else {
+                        return renderResponseOrError(request, command, response, error);
+                    }
+                });
+    }
+
+    private CompletionStage<HttpResponse> askForResponse(final HttpRequest request, final Command<?> command) {
+        if (!command.getDittoHeaders().isResponseRequired()) {
+            proxyActor.tell(command, ActorRef.noSender());
+            return CompletableFuture.completedFuture(HttpResponse.create().withStatus(StatusCodes.ACCEPTED));
+        }
+        return ask(command, requestTimeout)
+                .handle((response, error) -> renderResponseOrError(request, command, response, error));
+    }
+
+    private HttpResponse renderResponseOrError(final HttpRequest request, final Command<?> command,
+            @Nullable final Object response, @Nullable final Throwable error) {
+
+        if (null == error) {
+            return render(request, response);
+        }
+        final Throwable cause = unwrapCompletionException(error);
+        if (cause instanceof AskTimeoutException) {
+            // no response within the request timeout, respond like RequestTimeoutHandlingDirective
+            return render(request, GatewayServiceUnavailableException.newBuilder()
+                    .dittoHeaders(command.getDittoHeaders())
+                    .build());
+        }
+        throw new CompletionException(cause);
+    }
+
+    private CompletionStage<Object> ask(final Command<?> command, final Duration timeout) {
+        return Patterns.ask(proxyActor, command, timeout);
+    }
+
+    private HttpResponse render(final HttpRequest request, final Object reply) {
+        return responseRenderer.render(request, reply, HttpResponseRenderer::addLocationHeaderIfCreated);
+    }
+
+    private static Throwable unwrapCompletionException(final Throwable error) {
+        return error instanceof CompletionException && null != error.getCause() ? error.getCause() : error;
+    }
+
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.messages.Message;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.signals.base.WithOptionalEntity;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.ErrorResponse;
+import org.eclipse.ditto.signals.commands.base.WithEntity;
+import org.eclipse.ditto.signals.commands.messages.MessageCommandResponse;
+import org.eclipse.ditto.signals.commands.messages.SendMessageAcceptedResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.http.javadsl.model.ContentType;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.model.Uri;
+import akka.http.javadsl.model.headers.Location;
+import akka.http.javadsl.model.headers.RawHeader;
+import akka.http.scaladsl.model.ContentType$;
+import akka.http.scaladsl.model.EntityStreamSizeException;
+import akka.util.ByteString;
+import scala.util.Either;
+
+/**
+ * Renders the replies to commands of HTTP requests into HTTP responses. It is shared by the actors handling one HTTP
+ * request each and by {@link HttpRequestAskHandler}.
+ */
+@Immutable
+public final class HttpResponseRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseRenderer.class);
+
+    private static final ContentType CONTENT_TYPE_JSON = ContentTypes.APPLICATION_JSON;
+    private static final ContentType CONTENT_TYPE_TEXT = ContentTypes.TEXT_PLAIN_UTF8;
+
+    private final HeaderTranslator headerTranslator;
+
+    private HttpResponseRenderer(final HeaderTranslator headerTranslator) {
+        this.headerTranslator = headerTranslator;
+    }
+
+    /**
+     * Returns a renderer of HTTP responses.
+     *
+     * @param headerTranslator translator of Ditto headers to external headers of HTTP responses.
+     * @return the renderer.
+     */
+    public static HttpResponseRenderer of(final HeaderTranslator headerTranslator) {
+        return new HttpResponseRenderer(headerTranslator);
+    }
+
+    /**
+     * Render the reply to the command of an HTTP request.
+     *
+     * @param request the HTTP request.
+     * @param reply the reply, e.g. a command response, an HTTP response or an exception.
+     * @param responseModifier modifies HTTP responses of command responses with optional entity.
+     * @return the HTTP response.
+     */
+    public HttpResponse render(final HttpRequest request, final Object reply,
+            final ResponseModifier responseModifier) {
+
+        if (reply instanceof HttpResponse) {
+            // if an actor downstream replies with an HTTP response, simply forward it
+            return (HttpResponse) reply;
+        } else if (reply instanceof SendMessageAcceptedResponse) {
+            return HttpResponse.create().withStatus(HttpStatusCode.ACCEPTED.toInt());
+        } else if (reply instanceof MessageCommandResponse) {
+            return renderMessageCommandResponse((MessageCommandResponse<?, ?>) reply);
+        } else if (reply instanceof CommandResponse && reply instanceof WithEntity) {
+            return renderCommandResponseWithEntity((CommandResponse<?>) reply);
+        } else if (reply instanceof CommandResponse && reply instanceof WithOptionalEntity) {
+            return renderCommandResponseWithOptionalEntity(request, (CommandResponse<?>) reply, responseModifier);
+        } else if (reply instanceof ErrorResponse) {
+            return renderDittoRuntimeException(((ErrorResponse<?>) reply).getDittoRuntimeException());
+        } else if (reply instanceof CommandResponse) {
+            LogUtil.logWithCorrelationId(LOGGER, (CommandResponse<?>) reply, logger ->
+                    logger.error("Got 'CommandResponse' message which did neither implement 'WithEntity' nor " +
+                            "'WithOptionalEntity': <{}>!", reply));
+            return HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+        } else if (reply instanceof Throwable) {
+            return renderFailure((Throwable) reply);
+        } else {
+            LOGGER.warn("Got unknown message when a command response was expected: <{}>!", reply);
+            return HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+        }
+    }
+
+    /**
+     * Render a failure to handle an HTTP request.
+     *
+     * @param failure the failure.
+     * @return the HTTP response.
+     */
+    public HttpResponse renderFailure(final Throwable failure) {
+        if (failure instanceof JsonRuntimeException) {
+            return renderDittoRuntimeException(new DittoJsonException((JsonRuntimeException) failure));
+        } else if (failure instanceof DittoRuntimeException) {
+            return renderDittoRuntimeException((DittoRuntimeException) failure);
+        } else if (failure instanceof EntityStreamSizeException) {
+            LOGGER.warn("Got EntityStreamSizeException when a 'Command' was expected which means that the max. " +
+                    "allowed http payload size configured in Akka was overstepped in this request.");
+            return HttpResponse.create().withStatus(HttpStatusCode.REQUEST_ENTITY_TOO_LARGE.toInt());
+        } else {
+            LOGGER.error("Got <{}> when a command response was expected: <{}>!", failure.getClass().getSimpleName(),
+                    failure.getMessage(), failure);
+            return HttpResponse.create().withStatus(HttpStatusCode.INTERNAL_SERVER_ERROR.toInt());
+        }
+    }
+
+    /**
+     * Render a command response with entity.
+     *
+     * @param commandResponse the command response which implements {@link WithEntity}.
+     * @return the HTTP response.
+     */
+    HttpResponse renderCommandResponseWithEntity(final CommandResponse<?> commandResponse) {
+        final WithEntity<?> withEntity = (WithEntity<?>) commandResponse;
+        final HttpResponse responseWithoutHeaders = HttpResponse.create()
+                .withStatus(commandResponse.getStatusCode().toInt());
+        final HttpResponse responseWithoutBody =
+                enhanceResponseWithExternalDittoHeaders(responseWithoutHeaders, commandResponse.getDittoHeaders());
+
+        final Optional<String> entityPlainString = withEntity.getEntityPlainString();
+        if (entityPlainString.isPresent()) {
+            return addEntityAccordingToContentType(responseWithoutBody, entityPlainString.get(),
+                    commandResponse.getDittoHeaders());
+        } else {
+            return addEntityAccordingToContentType(responseWithoutBody,
+                    withEntity.getEntity(commandResponse.getImplementedSchemaVersion()),
+                    commandResponse.getDittoHeaders());
+        }
+    }
+
+    /**
+     * Render a command response with optional entity.
+     *
+     * @param request the HTTP request.
+     * @param commandResponse the command response which implements {@link WithOptionalEntity}.
+     * @param responseModifier modifies the HTTP response before its entity is added.
+     * @return the HTTP response.
+     */
+    HttpResponse renderCommandResponseWithOptionalEntity(final HttpRequest request,
+            final CommandResponse<?> commandResponse, final ResponseModifier responseModifier) {
+
+        final UnaryOperator<HttpResponse> addExternalDittoHeaders =
+                response -> enhanceResponseWithExternalDittoHeaders(response, commandResponse.getDittoHeaders());
+        final UnaryOperator<HttpResponse> modifyResponseOperator =
+                response -> responseModifier.modifyResponse(request, commandResponse, response);
+        final Function<HttpResponse, HttpResponse> addHeaders =
+                addExternalDittoHeaders.andThen(modifyResponseOperator);
+
+        final UnaryOperator<HttpResponse> addBodyIfEntityExists =
+                createBodyAddingResponseMapper(commandResponse, (WithOptionalEntity) commandResponse);
+
+        final HttpResponse response = HttpResponse.create().withStatus(commandResponse.getStatusCodeValue());
+        return addBodyIfEntityExists.apply(addHeaders.apply(response));
+    }
+
+    /**
+     * Render the response to a message command.
+     *
+     * @param messageCommandResponse the response.
+     * @return the HTTP response.
+     */
+    HttpResponse renderMessageCommandResponse(final MessageCommandResponse<?, ?> messageCommandResponse) {
+        HttpResponse httpResponse;
+
+        final Message<?> message = messageCommandResponse.getMessage();
+        final Optional<?> optionalPayload = message.getPayload();
+        final Optional<ByteBuffer> optionalRawPayload = message.getRawPayload();
+        final Optional<HttpStatusCode> responseStatusCode = Optional.of(messageCommandResponse.getStatusCode())
+                .filter(code -> StatusCodes.lookup(code.toInt()).isPresent())
+                // only allow status code which are known to akka-http
+                .filter(code -> !HttpStatusCode.BAD_GATEWAY.equals(code));
+        // filter "bad gateway" 502 from being used as this is used Ditto internally for graceful HTTP shutdown
+
+        // if statusCode is != NO_CONTENT
+        if (responseStatusCode.map(status -> status != HttpStatusCode.NO_CONTENT).orElse(true)) {
+            final Optional<ContentType> optionalContentType = message.getContentType().map(ContentType$.MODULE$::parse)
+                    .filter(Either::isRight)
+                    .map(Either::right)
+                    .map(Either.RightProjection::get);
+
+            httpResponse = HttpResponse.create().withStatus(responseStatusCode.orElse(HttpStatusCode.OK).toInt());
+
+            if (optionalPayload.isPresent()) {
+                final Object payload = optionalPayload.get();
+
+                if (optionalContentType.isPresent()) {
+                    httpResponse = httpResponse.withEntity(
+                            HttpEntities.create(optionalContentType.get(),
+                                    ByteString.ByteStrings.fromString(payload.toString())));
+                } else {
+                    httpResponse = httpResponse.withEntity(HttpEntities.create(payload.toString()));
+                }
+            } else if (optionalRawPayload.isPresent()) {
+
+                final ByteBuffer rawPayload = optionalRawPayload.get();
+                if (optionalContentType.isPresent()) {
+                    httpResponse = httpResponse.withEntity(
+                            HttpEntities.create(optionalContentType.get(), rawPayload.array()));
+                } else {
+                    httpResponse = httpResponse.withEntity(HttpEntities.create(rawPayload.array()));
+                }
+            }
+        } else {
+            // if payload was missing OR statusCode was NO_CONTENT:
+            optionalRawPayload.ifPresent(byteBuffer -> LogUtil.logWithCorrelationId(LOGGER, messageCommandResponse,
+                    logger -> logger.info("Response payload was set but response status code was also set to <{}>. " +
+                            "Ignoring the response payload. Command=<{}>", responseStatusCode,
+                            messageCommandResponse)));
+            httpResponse =
+                    HttpResponse.create().withStatus(responseStatusCode.orElse(HttpStatusCode.NO_CONTENT).toInt());
+        }
+
+        return enhanceResponseWithExternalDittoHeaders(httpResponse, messageCommandResponse.getDittoHeaders());
+    }
+
+    /**
+     * Render a DittoRuntimeException.
+     *
+     * @param exception the exception.
+     * @return the HTTP response.
+     */
+    HttpResponse renderDittoRuntimeException(final DittoRuntimeException exception) {
+        LogUtil.logWithCorrelationId(LOGGER, exception, logger ->
+                logger.info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage()));
+        final HttpResponse responseWithoutHeaders = HttpResponse.create().withStatus(exception.getStatusCode().toInt());
+        final HttpResponse response = HttpStatusCode.NOT_MODIFIED.equals(exception.getStatusCode())
+                ? responseWithoutHeaders
+                : responseWithoutHeaders.withEntity(CONTENT_TYPE_JSON,
+                ByteString.fromString(exception.toJsonString()));
+        return enhanceResponseWithExternalDittoHeaders(response, exception.getDittoHeaders());
+    }
+
+    /**
+     * Add the location header to HTTP responses of command responses with status code {@code 201 Created}.
+     *
+     * @param request the HTTP request.
+     * @param commandResponse the command response to the HTTP request.
+     * @param response the candidate HTTP response.
+     * @return the modified HTTP response.
+     */
+    public static HttpResponse addLocationHeaderIfCreated(final HttpRequest request,
+            final CommandResponse<?> commandResponse,
+            final HttpResponse response) {
+
+        if (HttpStatusCode.CREATED == commandResponse.getStatusCode()) {
+            return response.addHeader(Location.create(getUriForLocationHeader(request, commandResponse)));
+        } else {
+            return response;
+        }
+    }
+
+    /**
+     * Compute the URI of the location header of the HTTP response of a created entity.
+     *
+     * @param request the HTTP request.
+     * @param commandResponse the command response to the HTTP request.
+     * @return the URI of the created entity.
+     */
+    public static Uri getUriForLocationHeader(final HttpRequest request, final CommandResponse<?> commandResponse) {
+        if (!request.method().isIdempotent()) {
+            // only for not idempotent requests (e.g.: POST), add the "createdId" to the path:
+            final String uriStr = request.getUri().toString();
+            String createdLocation;
+            final int uriIdIndex = uriStr.indexOf(commandResponse.getEntityId().toString());
+
+            // if the URI contains the ID, but *not* at the beginning
+            if (uriIdIndex > 0) {
+                createdLocation = uriStr.substring(0, uriIdIndex) + commandResponse.getEntityId() +
+                        commandResponse.getResourcePath();
+            } else {
+                createdLocation = uriStr + "/" + commandResponse.getEntityId() + commandResponse.getResourcePath();
+            }
+
+            if (createdLocation.endsWith("/")) {
+                createdLocation = createdLocation.substring(0, createdLocation.length() - 1);
+            }
+
+            return Uri.create(createdLocation);
+        } else {
+            return request.getUri();
+        }
+    }
+
+    private static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final CommandResponse<?> commandResponse,
+            final WithOptionalEntity withOptionalEntity) {
+
+        return response -> {
+            if (StatusCodes.NO_CONTENT.equals(response.status())) {
+                return response;
+            }
+            return withOptionalEntity.getEntity(commandResponse.getImplementedSchemaVersion())
+                    .map(entity -> addEntityAccordingToContentType(response, entity, commandResponse.getDittoHeaders()))
+                    .orElse(response);
+        };
+    }
+
+    private static boolean hasPlainTextContentType(final DittoHeaders dittoHeaders) {
+        final String contentTypeHeader = DittoHeaderDefinition.CONTENT_TYPE.name();
+        return dittoHeaders.containsKey(contentTypeHeader) &&
+                "text/plain".equalsIgnoreCase(dittoHeaders.get(contentTypeHeader));
+    }
+
+    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final JsonValue entity,
+            final DittoHeaders dittoHeaders) {
+
+        if (hasPlainTextContentType(dittoHeaders)) {
+            return response.withEntity(CONTENT_TYPE_TEXT, ByteString.fromString(entity.asString()));
+        }
+        return response.withEntity(CONTENT_TYPE_JSON, ByteString.fromString(entity.toString()));
+    }
+
+    private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
+            final DittoHeaders dittoHeaders) {
+
+        final ContentType contentType = hasPlainTextContentType(dittoHeaders) ? CONTENT_TYPE_TEXT : CONTENT_TYPE_JSON;
+        return response.withEntity(contentType, ByteString.fromString(entityPlain));
+    }
+
+    private HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
+            final DittoHeaders allDittoHeaders) {
+
+        final Map<String, String> externalHeaders = headerTranslator.toExternalHeaders(allDittoHeaders);
+
+        if (externalHeaders.isEmpty()) {
+            LOGGER.debug("No external headers for enhancing the response, returning it as-is.");
+            return response;
+        }
+
+        LOGGER.debug("Enhancing response with external headers <{}>.", externalHeaders);
+        final List<HttpHeader> externalHttpHeaders = new ArrayList<>(externalHeaders.size());
+        externalHeaders.forEach((k, v) -> externalHttpHeaders.add(RawHeader.create(k, v)));
+
+        return response.withHeaders(externalHttpHeaders);
+    }
+
+    /**
+     * Modifies the HTTP response of a command response according to the HTTP request.
+     */
+    @FunctionalInterface
+    public interface ResponseModifier {
+
+        /**
+         * Modify an HTTP response according to the request and the command response.
+         *
+         * @param request the HTTP request.
+         * @param commandResponse the command response to the HTTP request.
+         * @param response the candidate HTTP response.
+         * @return the modified HTTP response.
+         */
+        HttpResponse modifyResponse(HttpRequest request, CommandResponse<?> commandResponse, HttpResponse response);
+    }
+
+}
@@ -45,6 +45,8 @@ public final class GatewayHttpConfig implements HttpConfig {
     private final boolean enableCors;
     private final Duration requestTimeout;
     private final String actorPropsFactoryFullQualifiedClassname;
+    private final boolean actorPerRequest;
+    private final int bulkModifyParallelism;
 
     private GatewayHttpConfig(final DefaultHttpConfig basicHttpConfig, final ScopedConfig scopedConfig,
             final Pattern redirectToHttpsBlacklistPattern) {
@@ -60,6 +62,8 @@ public final class GatewayHttpConfig implements HttpConfig {
         requestTimeout = scopedConfig.getDuration(GatewayHttpConfigValue.REQUEST_TIMEOUT.getConfigPath());
         actorPropsFactoryFullQualifiedClassname = scopedConfig.getString(
                 GatewayHttpConfigValue.ACTOR_PROPS_FACTORY.getConfigPath());
+        actorPerRequest = scopedConfig.getBoolean(GatewayHttpConfigValue.ACTOR_PER_REQUEST.getConfigPath());
+        bulkModifyParallelism = scopedConfig.getInt(GatewayHttpConfigValue.BULK_MODIFY_PARALLELISM.getConfigPath());
     }
 
     /**
@@ -137,6 +141,16 @@ public final class GatewayHttpConfig implements HttpConfig {
         return actorPropsFactoryFullQualifiedClassname;
     }
 
+    @Override
+    public boolean isActorPerRequest() {
+        return actorPerRequest;
+    }
+
+    @Override
+    public int getBulkModifyParallelism() {
+        return bulkModifyParallelism;
+    }
+
     @SuppressWarnings("OverlyComplexMethod")
     @Override
     public boolean equals(final Object o) {
@@ -151,6 +165,8 @@ public final class GatewayHttpConfig implements HttpConfig {
                 forceHttps == that.forceHttps &&
                 redirectToHttps == that.redirectToHttps &&
                 enableCors == that.enableCors &&
+                actorPerRequest == that.actorPerRequest &&
+                bulkModifyParallelism == that.bulkModifyParallelism &&
                 hostname.equals(that.hostname) &&
                 schemaVersions.equals(that.schemaVersions) &&
                 redirectToHttpsBlacklistPattern.equals(that.redirectToHttpsBlacklistPattern) &&
@@ -161,7 +177,8 @@ public final class GatewayHttpConfig implements HttpConfig {
     @Override
     public int hashCode() {
         return Objects.hash(hostname, port, schemaVersions, forceHttps, redirectToHttps,
-                redirectToHttpsBlacklistPattern, enableCors, requestTimeout, actorPropsFactoryFullQualifiedClassname);
+                redirectToHttpsBlacklistPattern, enableCors, requestTimeout, actorPropsFactoryFullQualifiedClassname,
+                actorPerRequest, bulkModifyParallelism);
     }
 
     @Override
@@ -176,6 +193,8 @@ public final class GatewayHttpConfig implements HttpConfig {
                 ", enableCors=" + enableCors +
                 ", requestTimeout=" + requestTimeout +
                 ", actorPropsFactoryFullQualifiedClassname=" + actorPropsFactoryFullQualifiedClassname +
+                ", actorPerRequest=" + actorPerRequest +
+                ", bulkModifyParallelism=" + bulkModifyParallelism +
                 "]";
     }
 
@@ -80,6 +80,21 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
      */
     String getActorPropsFactoryFullQualifiedClassname();
 
+    /**
+     * Indicates whether an actor should be created for each HTTP request. If not, the responses to the commands of
+     * HTTP requests are asked for and the configured props factory is not used.
+     *
+     * @return {@code true} if an actor should be created for each HTTP request, {@code false} else.
+     */
+    boolean isActorPerRequest();
+
+    /**
+     * Returns the maximum number of things a single bulk modify request modifies in parallel.
+     *
+     * @return the bulk modify parallelism.
+     */
+    int getBulkModifyParallelism();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code HttpConfig}.
@@ -122,7 +137,17 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
         /**
          * The full qualified classname of the HttpRequestActorPropsFactory to instantiate.
          */
-        ACTOR_PROPS_FACTORY("actor-props-factory", DefaultHttpRequestActorPropsFactory.class.getName())
+        ACTOR_PROPS_FACTORY("actor-props-factory", DefaultHttpRequestActorPropsFactory.class.getName()),
+
+        /**
+         * Determines whether an actor should be created for each HTTP request.
+         */
+        ACTOR_PER_REQUEST("actor-per-request", true),
+
+        /**
+         * The maximum number of things a single bulk modify request modifies in parallel.
+         */
+        BULK_MODIFY_PARALLELISM("bulk-modify-parallelism", 16)
         ;
 
         private final String path;
@@ -31,6 +31,7 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestActor;
 import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestActorPropsFactory;
+import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestAskHandler;
 import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
 import org.eclipse.ditto.services.utils.akka.AkkaClassLoader;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
@@ -78,6 +79,7 @@ public abstract class AbstractRoute extends AllDirectives {
     private final HttpConfig httpConfig;
     private final HeaderTranslator headerTranslator;
     private final HttpRequestActorPropsFactory httpRequestActorPropsFactory;
+    private final HttpRequestAskHandler httpRequestAskHandler;
 
     /**
      * Constructs the abstract route builder.
@@ -116,6 +118,7 @@ public abstract class AbstractRoute extends AllDirectives {
         httpRequestActorPropsFactory =
                 AkkaClassLoader.instantiate(actorSystem, HttpRequestActorPropsFactory.class,
                         httpConfig.getActorPropsFactoryFullQualifiedClassname());
+        httpRequestAskHandler = HttpRequestAskHandler.of(proxyActor, headerTranslator, httpConfig);
     }
 
     /**
@@ -153,9 +156,7 @@ public abstract class AbstractRoute extends AllDirectives {
             final Function<String, Command> requestJsonToCommandFunction,
             final Function<JsonValue, JsonValue> responseTransformFunction) {
 
-        final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
-
-        payloadSource
+        final CompletionStage<HttpResponse> httpResponseFuture = handleCommand(ctx, payloadSource
                 .fold(ByteString.empty(), ByteString::concat)
                 .map(ByteString::utf8String)
                 .map(requestJsonToCommandFunction)
@@ -166,14 +167,11 @@ public abstract class AbstractRoute extends AllDirectives {
                             : CommandNotSupportedException.newBuilder(schemaVersion.toInt())
                             .dittoHeaders(dittoHeaders)
                             .build();
-                })
-                .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
-                        HttpRequestActor.COMPLETE_MESSAGE))
-                .run(materializer);
+                }));
 
         // optional step: transform the response entity:
         if (responseTransformFunction != null) {
-            final CompletableFuture<HttpResponse> transformedResponse = httpResponseFuture.thenApply(response -> {
+            final CompletionStage<HttpResponse> transformedResponse = httpResponseFuture.thenApply(response -> {
                 final boolean isSuccessfulResponse = response.status().isSuccess();
                 // we have to check if response is empty, because otherwise we'll get an IOException when trying to
                 // read it
@@ -204,6 +202,29 @@ public abstract class AbstractRoute extends AllDirectives {
         }
     }
 
+    /**
+     * Handle the command of an HTTP request. Depending on the HTTP config, the command is sent to an actor created for
+     * the request or the response to the command is asked for without creating an actor.
+     *
+     * @param ctx the request context.
+     * @param commandSource source of the command of the request or of an exception to respond with.
+     * @return future of the HTTP response.
+     */
+    protected CompletionStage<HttpResponse> handleCommand(final RequestContext ctx, final Source<?, ?> commandSource) {
+        if (httpConfig.isActorPerRequest()) {
+            final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+            commandSource.to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
+                    HttpRequestActor.COMPLETE_MESSAGE))
+                    .run(materializer);
+            return httpResponseFuture;
+        } else {
+            final CompletionStage<Object> commandFuture = commandSource
+                    .map(commandOrException -> (Object) commandOrException)
+                    .runWith(Sink.head(), materializer);
+            return httpRequestAskHandler.handle(ctx.getRequest(), commandFuture);
+        }
+    }
+
     /**
      * Processes the {@link HttpResponse} by consuming the CompletionStage and returning another (or the same)
      * CompletionStage. May be used to modify the HttpResponse before it is sent back to client.
@@ -14,7 +14,6 @@ package org.eclipse.ditto.services.gateway.endpoints.routes.stats;
 
 import static org.eclipse.ditto.services.gateway.endpoints.directives.DevOpsBasicAuthenticationDirective.REALM_DEVOPS;
 
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.ditto.json.JsonObject;
@@ -22,7 +21,6 @@ import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
-import org.eclipse.ditto.services.gateway.endpoints.actors.AbstractHttpRequestActor;
 import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
 import org.eclipse.ditto.services.gateway.endpoints.directives.DevOpsBasicAuthenticationDirective;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
@@ -136,26 +134,14 @@ public final class StatsRoute extends AbstractRoute {
     private Route handleDevOpsPerRequest(final RequestContext ctx,
             final Source<ByteString, ?> payloadSource,
             final Function<String, DevOpsCommand> requestJsonToCommandFunction) {
-        final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
-
-        payloadSource
+        return completeWithFuture(handleCommand(ctx, payloadSource
                 .fold(ByteString.empty(), ByteString::concat)
                 .map(ByteString::utf8String)
-                .map(requestJsonToCommandFunction)
-                .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
-                        AbstractHttpRequestActor.COMPLETE_MESSAGE))
-                .run(materializer);
-
-        return completeWithFuture(httpResponseFuture);
+                .map(requestJsonToCommandFunction)));
     }
 
     private Route handleSudoCountThingsPerRequest(final RequestContext ctx, final SudoCountThings command) {
-        final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
-
-        Source.single(command)
-                .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
-                        AbstractHttpRequestActor.COMPLETE_MESSAGE))
-                .run(materializer);
+        final CompletionStage<HttpResponse> httpResponseFuture = handleCommand(ctx, Source.single(command));
 
         final CompletionStage<HttpResponse> allThingsCountHttpResponse = Source.fromCompletionStage(httpResponseFuture)
                 .flatMapConcat(httpResponse -> httpResponse.entity().getDataBytes())
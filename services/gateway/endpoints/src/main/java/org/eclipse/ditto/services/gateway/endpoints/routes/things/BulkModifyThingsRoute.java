@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.routes.things;
+
+import static org.eclipse.ditto.model.base.exceptions.DittoJsonException.wrapJsonRuntimeException;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingTooLargeException;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
+import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayMethodNotAllowedException;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayServiceTimeoutException;
+import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
+
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.http.javadsl.model.ContentType;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpCharsets;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.MediaTypes;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.server.PathMatchers;
+import akka.http.javadsl.server.Route;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+
+/**
+ * Builder for the Akka HTTP route {@code /things/bulk} which modifies many things with one request.
+ * <p>
+ * The request body contains one Ditto Protocol message per line (newline delimited JSON). Each message has to be a
+ * thing modify command. The commands are streamed to the proxy actor: commands of the same thing are processed in
+ * the order of the request body while commands of different things are processed in parallel, bounded by
+ * {@link HttpConfig#getBulkModifyParallelism()}. The response body is streamed as well and contains one Ditto
+ * Protocol response per line in the order of completion. Responses may be correlated to their commands by the
+ * {@code correlation-id} header which defaults to the correlation ID of the HTTP request suffixed by the line index.
+ * </p>
+ * <p>
+ * A failing command results in an error response line and does not abort the remaining commands. Commands with
+ * {@code response-required=false} are not awaited, they are answered immediately by a response line with status 202.
+ * </p>
+ */
+final class BulkModifyThingsRoute extends AbstractRoute {
+
+    static final String PATH_BULK = "bulk";
+
+    private static final ContentType CONTENT_TYPE_NDJSON =
+            ContentTypes.create(MediaTypes.applicationWithFixedCharset("x-ndjson", HttpCharsets.UTF_8, "ndjson"));
+
+    private static final ByteString LINE_SEPARATOR = ByteString.fromString("\n");
+    private static final int MAX_LINE_BYTES = 1024 * 1024;
+
+    private final ProtocolAdapter protocolAdapter;
+    private final int parallelism;
+    private final Duration askTimeout;
+
+    /**
+     * Constructs the {@code /things/bulk} route builder.
+     *
+     * @param proxyActor an actor selection of the command delegating actor.
+     * @param actorSystem the ActorSystem to use.
+     * @param httpConfig the configuration settings of the Gateway service's HTTP endpoint.
+     * @param headerTranslator translates headers from external sources or to external sources.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    BulkModifyThingsRoute(final ActorRef proxyActor,
+            final ActorSystem actorSystem,
+            final HttpConfig httpConfig,
+            final HeaderTranslator headerTranslator) {
+
+        super(proxyActor, actorSystem, httpConfig, headerTranslator);
+        protocolAdapter = DittoProtocolAdapter.of(headerTranslator);
+        parallelism = httpConfig.getBulkModifyParallelism();
+        askTimeout = httpConfig.getRequestTimeout();
+    }
+
+    /**
+     * Builds the {@code /bulk} route relative to {@code /things}.
+     *
+     * @param dittoHeaders the headers of the HTTP request.
+     * @return the {@code /bulk} route.
+     */
+    Route buildBulkModifyThingsRoute(final DittoHeaders dittoHeaders) {
+        return rawPathPrefix(PathMatchers.slash().concat(PATH_BULK), () ->
+                pathEndOrSingleSlash(() ->
+                        post(() -> // POST /things/bulk
+                                extractDataBytes(payloadSource ->
+                                        complete(HttpResponse.create()
+                                                .withStatus(StatusCodes.OK)
+                                                .withEntity(HttpEntities.createChunked(CONTENT_TYPE_NDJSON,
+                                                        modifyThings(payloadSource, dittoHeaders))))
+                                )
+                        )
+                )
+        );
+    }
+
+    private Source<ByteString, NotUsed> modifyThings(final Source<ByteString, ?> payloadSource,
+            final DittoHeaders dittoHeaders) {
+
+        final String correlationIdPrefix =
+                dittoHeaders.getCorrelationId().orElseGet(() -> UUID.randomUUID().toString());
+        return payloadSource
+                // the appended separator terminates the last line if the body does not end with one
+                .concat(Source.single(LINE_SEPARATOR))
+                .statefulMapConcat(LineFraming::new)
+                .filter(line -> line.isTooLarge() || !line.content.trim().isEmpty())
+                .zipWithIndex()
+                .map(lineWithIndex -> parseLine(lineWithIndex.first(), dittoHeaders.toBuilder()
+                        .correlationId(correlationIdPrefix + "-" + lineWithIndex.second())
+                        .build()))
+                .groupBy(parallelism, entry -> Math.floorMod(entry.getLaneKey(), parallelism))
+                .mapAsync(1, this::modifyThing)
+                .mergeSubstreams()
+                .map(responseJson -> ByteString.fromString(responseJson).concat(LINE_SEPARATOR))
+                .mapMaterializedValue(any -> NotUsed.getInstance());
+    }
+
+    private BulkModifyEntry parseLine(final Line line, final DittoHeaders entryHeaders) {
+        if (line.isTooLarge()) {
+            return BulkModifyEntry.error(ThingTooLargeException.newBuilder(line.tooLargeBytes, MAX_LINE_BYTES)
+                    .message(MessageFormat.format("The size of ''{0}'' bytes exceeds the maximal allowed line size " +
+                            "of ''{1}'' bytes.", line.tooLargeBytes, MAX_LINE_BYTES))
+                    .description("Reduce the size of each line of the bulk request in the bounds of the " +
+                            "specified limit.")
+                    .dittoHeaders(entryHeaders)
+                    .build());
+        }
+        try {
+            final JsonifiableAdaptable jsonifiableAdaptable = wrapJsonRuntimeException(line.content, entryHeaders,
+                    (s, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(s)));
+            final Signal<?> signal = protocolAdapter.fromAdaptable(jsonifiableAdaptable);
+
+            // headers of the protocol message may override the request headers except for the authorization context
+            final DittoHeaders signalHeaders = entryHeaders.toBuilder()
+                    .putHeaders(signal.getDittoHeaders())
+                    .authorizationContext(entryHeaders.getAuthorizationContext())
+                    .build();
+            if (signal instanceof ThingModifyCommand) {
+                return BulkModifyEntry.command(((ThingModifyCommand<?>) signal).setDittoHeaders(signalHeaders));
+            }
+            return BulkModifyEntry.error(GatewayMethodNotAllowedException.newBuilder(signal.getType())
+                    .message(MessageFormat.format(
+                            "The signal ''{0}'' is not allowed in a bulk modify request.", signal.getType()))
+                    .description("Only thing modify commands can be sent to the bulk modify resource.")
+                    .dittoHeaders(signalHeaders)
+                    .build());
+        } catch (final DittoRuntimeException e) {
+            return BulkModifyEntry.error(e.setDittoHeaders(entryHeaders));
+        }
+    }
+
+    private CompletionStage<String> modifyThing(final BulkModifyEntry entry) {
+        final ThingModifyCommand<?> command = entry.command;
+        if (null == command) {
+            return CompletableFuture.completedFuture(
+                    toJsonString(ThingErrorResponse.of(entry.error, entry.error.getDittoHeaders())));
+        }
+        if (!command.getDittoHeaders().isResponseRequired()) {
+            proxyActor.tell(command, ActorRef.noSender());
+            return CompletableFuture.completedFuture(toAcceptedJsonString(command));
+        }
+        return Patterns.ask(proxyActor, command, askTimeout)
+                .handle((response, throwable) -> toJsonString(toCommandResponse(command, response, throwable)));
+    }
+
+    private String toAcceptedJsonString(final ThingModifyCommand<?> command) {
+        final Adaptable commandAdaptable = protocolAdapter.toAdaptable(command);
+        final Adaptable acceptedAdaptable = ProtocolFactory.newAdaptableBuilder(commandAdaptable)
+                .withPayload(ProtocolFactory.newPayloadBuilder(commandAdaptable.getPayload().getPath())
+                        .withStatus(HttpStatusCode.ACCEPTED)
+                        .build())
+                .build();
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(acceptedAdaptable).toJsonString();
+    }
+
+    private String toJsonString(final CommandResponse<?> commandResponse) {
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(protocolAdapter.toAdaptable(commandResponse))
+                .toJsonString();
+    }
+
+    private static CommandResponse<?> toCommandResponse(final ThingModifyCommand<?> command,
+            @Nullable final Object response,
+            @Nullable final Throwable throwable) {
+
+        if (response instanceof CommandResponse) {
+            return (CommandResponse<?>) response;
+        }
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final Object error = null != throwable ? unwrapCompletionException(throwable) : response;
+        final DittoRuntimeException dittoRuntimeException;
+        if (error instanceof DittoRuntimeException) {
+            dittoRuntimeException = (DittoRuntimeException) error;
+        } else if (error instanceof AskTimeoutException) {
+            dittoRuntimeException = GatewayServiceTimeoutException.newBuilder()
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        } else {
+            dittoRuntimeException = GatewayInternalErrorException.newBuilder()
+                    .cause(error instanceof Throwable ? (Throwable) error : null)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+        return ThingErrorResponse.of(command.getThingEntityId(), dittoRuntimeException, dittoHeaders);
+    }
+
+    private static Throwable unwrapCompletionException(final Throwable throwable) {
+        if (throwable instanceof CompletionException && null != throwable.getCause()) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /**
+     * One line of a bulk modify request body: either its content or the number of bytes if it exceeded
+     * {@link #MAX_LINE_BYTES}.
+     */
+    private static final class Line {
+
+        @Nullable private final String content;
+        private final long tooLargeBytes;
+
+        private Line(@Nullable final String content, final long tooLargeBytes) {
+            this.content = content;
+            this.tooLargeBytes = tooLargeBytes;
+        }
+
+        private static Line of(final ByteString bytes) {
+            return new Line(bytes.utf8String(), 0L);
+        }
+
+        private static Line tooLarge(final long bytes) {
+            return new Line(null, bytes);
+        }
+
+        private boolean isTooLarge() {
+            return null == content;
+        }
+
+    }
+
+    /**
+     * Splits the request body into lines. Other than {@code Framing.delimiter} it does not fail the stream on a line
+     * exceeding {@link #MAX_LINE_BYTES}: the bytes of such a line are discarded and it is emitted as too large, so
+     * that it can be answered by an error response line.
+     */
+    private static final class LineFraming implements akka.japi.function.Function<ByteString, Iterable<Line>> {
+
+        private ByteString buffer = ByteString.empty();
+        private int searchFrom = 0;
+        private long discardedBytes = 0L;
+
+        @Override
+        public Iterable<Line> apply(final ByteString bytes) {
+            buffer = buffer.concat(bytes);
+            final List<Line> lines = new ArrayList<>();
+            for (int i = searchFrom; i < buffer.size(); i++) {
+                if (buffer.apply(i) == '\n') {
+                    if (discardedBytes > 0 || i > MAX_LINE_BYTES) {
+                        lines.add(Line.tooLarge(discardedBytes + i));
+                        discardedBytes = 0L;
+                    } else {
+                        lines.add(Line.of(buffer.slice(0, i)));
+                    }
+                    buffer = buffer.drop(i + 1);
+                    i = -1;
+                }
+            }
+            if (buffer.size() > MAX_LINE_BYTES || (discardedBytes > 0 && !buffer.isEmpty())) {
+                discardedBytes += buffer.size();
+                buffer = ByteString.empty();
+            }
+            searchFrom = buffer.size();
+            return lines;
+        }
+
+    }
+
+    /**
+     * One line of a bulk modify request: either a parsed command or the error which prevented parsing it.
+     */
+    private static final class BulkModifyEntry {
+
+        @Nullable private final ThingModifyCommand<?> command;
+        @Nullable private final DittoRuntimeException error;
+
+        private BulkModifyEntry(@Nullable final ThingModifyCommand<?> command,
+                @Nullable final DittoRuntimeException error) {
+
+            this.command = command;
+            this.error = error;
+        }
+
+        private static BulkModifyEntry command(final ThingModifyCommand<?> command) {
+            return new BulkModifyEntry(command, null);
+        }
+
+        private static BulkModifyEntry error(final DittoRuntimeException error) {
+            return new BulkModifyEntry(null, error);
+        }
+
+        /*
+         * Commands of the same thing share a lane so that they are processed sequentially. Errors are not
+         * processed by the proxy actor, their lane does not matter.
+         */
+        private int getLaneKey() {
+            return null != command ? command.getThingEntityId().hashCode() : 0;
+        }
+
+    }
+
+}
@@ -18,7 +18,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -33,7 +33,6 @@ import org.eclipse.ditto.model.messages.TimeoutInvalidException;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.protocoladapter.TopicPath;
-import org.eclipse.ditto.services.gateway.endpoints.actors.AbstractHttpRequestActor;
 import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
 import org.eclipse.ditto.services.gateway.endpoints.config.MessageConfig;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
@@ -55,7 +54,6 @@ import akka.http.javadsl.server.RequestContext;
 import akka.http.javadsl.server.Route;
 import akka.http.javadsl.unmarshalling.Unmarshaller;
 import akka.japi.function.Function;
-import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 import akka.util.ByteString;
 
@@ -155,6 +153,7 @@ final class MessagesRoute extends AbstractRoute {
                                                                 timeout ->
                                                                         extractDataBytes(payloadSource ->
                                                                                 handleMessage(ctx, payloadSource,
+                                                                                        dittoHeaders,
                                                                                         buildSendClaimMessage(
                                                                                                 ctx,
                                                                                                 dittoHeaders,
@@ -192,7 +191,7 @@ final class MessagesRoute extends AbstractRoute {
                                                         defaultMessageTimeout,
                                                         timeout ->
                                                                 extractDataBytes(payloadSource ->
-                                                                        handleMessage(ctx, payloadSource,
+                                                                        handleMessage(ctx, payloadSource, dittoHeaders,
                                                                                 buildSendThingMessage(
                                                                                         getMessageDirection(inboxOutbox),
                                                                                         ctx,
@@ -236,7 +235,7 @@ final class MessagesRoute extends AbstractRoute {
                                                         defaultMessageTimeout,
                                                         timeout ->
                                                                 extractDataBytes(payloadSource ->
-                                                                        handleMessage(ctx, payloadSource,
+                                                                        handleMessage(ctx, payloadSource, dittoHeaders,
                                                                                 buildSendFeatureMessage(
                                                                                         getMessageDirection(inboxOutbox),
                                                                                         ctx,
@@ -359,43 +358,57 @@ final class MessagesRoute extends AbstractRoute {
     private static MessageBuilder<Object> initMessageBuilder(final ByteBuffer payload, final ContentType contentType,
             final MessageHeaders headers) {
 
-        // reset bytebuffer offset, otherwise payload will not be appended
-        final ByteBuffer payloadWithoutOffset = ByteBuffer.wrap(payload.array());
-
-        MessageCommandSizeValidator.getInstance().ensureValidSize(() ->
-                payloadWithoutOffset.array().length, () -> headers);
+        MessageCommandSizeValidator.getInstance().ensureValidSize(payload::remaining, () -> headers);
 
         final MessageBuilder<Object> messageBuilder = MessagesModelFactory.newMessageBuilder(headers)
-                .rawPayload(payloadWithoutOffset);
-
-        final Charset charset = contentType.getCharsetOption()
-                .map(HttpCharset::nioCharset)
-                .orElse(StandardCharsets.UTF_8);
+                .rawPayload(payload);
 
-        final String payloadString = charset.decode(payload).toString();
+        // only text and JSON payloads are decoded, binary payloads are passed on as raw payload without copying them
         if (contentType.mediaType().isText()) {
-            messageBuilder.payload(payloadString);
+            messageBuilder.payload(decode(payload, contentType));
         } else if (ContentTypes.APPLICATION_JSON.equals(contentType)) {
-            messageBuilder.payload(JsonFactory.readFrom(payloadString));
+            messageBuilder.payload(JsonFactory.readFrom(decode(payload, contentType)));
         }
         return messageBuilder;
     }
 
+    private static String decode(final ByteBuffer payload, final ContentType contentType) {
+        final Charset charset = contentType.getCharsetOption()
+                .map(HttpCharset::nioCharset)
+                .orElse(StandardCharsets.UTF_8);
+
+        // decode a duplicate so that the position of the raw payload is not moved
+        return charset.decode(payload.duplicate()).toString();
+    }
+
+    /*
+     * Messages are delivered to their receivers as a whole, therefore the payload is collected here. There is no
+     * streaming mode: the collected payload is bounded by the maximum message size instead.
+     */
     private Route handleMessage(final RequestContext ctx, final Source<ByteString, Object> payloadSource,
+            final DittoHeaders dittoHeaders,
             final Function<ByteBuffer, MessageCommand<?, ?>> requestPayloadToCommandFunction) {
 
-        final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
-        payloadSource.fold(ByteString.empty(), ByteString::concat)
-                .map(ByteString::toArray)
-                .map(ByteBuffer::wrap)
-                .map(requestPayloadToCommandFunction)
-                .to(Sink.actorRef(createHttpPerRequestActor(ctx, httpResponseFuture),
-                        AbstractHttpRequestActor.COMPLETE_MESSAGE))
-                .run(materializer);
+        final CompletionStage<HttpResponse> httpResponseFuture = handleCommand(ctx, payloadSource
+                .fold(ByteString.empty(), (collected, chunk) -> appendChunk(collected, chunk, dittoHeaders))
+                .map(collected -> ByteBuffer.wrap(collected.toArray()))
+                .map(requestPayloadToCommandFunction));
 
         return completeWithFuture(preprocessResponse(httpResponseFuture));
     }
 
+    /*
+     * Appends the chunk without copying the already collected bytes and fails the stream as soon as the payload
+     * exceeds the maximum message size instead of buffering the whole request entity first.
+     */
+    private static ByteString appendChunk(final ByteString collected, final ByteString chunk,
+            final DittoHeaders dittoHeaders) {
+
+        MessageCommandSizeValidator.getInstance()
+                .ensureValidSize(() -> (long) collected.size() + chunk.size(), () -> dittoHeaders);
+        return collected.concat(chunk);
+    }
+
     private Duration checkMessageTimeout(final long timeoutInSeconds) {
         // check if the timeout is smaller than the maximum possible message-timeout and > 0:
         if (timeoutInSeconds < 0 || timeoutInSeconds > maxMessageTimeout.getSeconds()) {
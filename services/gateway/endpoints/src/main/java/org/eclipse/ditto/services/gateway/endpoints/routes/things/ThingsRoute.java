@@ -84,6 +84,7 @@ public final class ThingsRoute extends AbstractRoute {
 
     private final FeaturesRoute featuresRoute;
     private final MessagesRoute messagesRoute;
+    private final BulkModifyThingsRoute bulkModifyThingsRoute;
 
     /**
      * Constructs the {@code /things} route builder.
@@ -109,6 +110,7 @@ public final class ThingsRoute extends AbstractRoute {
                 headerTranslator);
         messagesRoute = new MessagesRoute(proxyActor, actorSystem, messageConfig, claimMessageConfig, httpConfig,
                 headerTranslator);
+        bulkModifyThingsRoute = new BulkModifyThingsRoute(proxyActor, actorSystem, httpConfig, headerTranslator);
     }
 
     private static Thing createThingForPost(final String jsonString) {
@@ -169,6 +171,8 @@ public final class ThingsRoute extends AbstractRoute {
         return rawPathPrefix(PathMatchers.slash().concat(PATH_THINGS), () ->
                 concat(
                         things(ctx, dittoHeaders),
+                        // /things/bulk
+                        bulkModifyThingsRoute.buildBulkModifyThingsRoute(dittoHeaders),
                         rawPathPrefix(PathMatchers.slash().concat(PathMatchers.segment()),
                                 // /things/<thingId>
                                 thingId -> buildThingEntryRoute(ctx, dittoHeaders, ThingId.of(thingId))
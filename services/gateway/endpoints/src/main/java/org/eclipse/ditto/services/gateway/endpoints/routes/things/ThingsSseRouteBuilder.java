@@ -39,9 +39,7 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.SignalEnrichmentFailedException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
@@ -123,10 +121,7 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
     public static ThingsSseRouteBuilder getInstance(final ActorRef streamingActor,
             final StreamingConfig streamingConfig) {
         checkNotNull(streamingActor, "streamingActor");
-        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
-                new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
-
-        return new ThingsSseRouteBuilder(streamingActor, streamingConfig, queryFilterCriteriaFactory);
+        return new ThingsSseRouteBuilder(streamingActor, streamingConfig, QueryFilterCriteriaFactory.modelBased());
     }
 
     @Override
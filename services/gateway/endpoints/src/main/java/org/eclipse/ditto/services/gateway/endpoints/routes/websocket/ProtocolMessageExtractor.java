@@ -31,6 +31,7 @@ import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonParseOptions;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.services.gateway.streaming.Jwt;
+import org.eclipse.ditto.services.gateway.streaming.RequestStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StreamControlMessage;
@@ -38,8 +39,8 @@ import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 
 /**
  * Extracts WebSocket Protocol message from the given payload string and returns a {@link StartStreaming},
- * {@link StopStreaming} instance or {@code null} if the payload did not contain one of the defined
- * {@link ProtocolMessageType}.
+ * {@link StopStreaming}, {@link RequestStreaming} instance or {@code null} if the payload did not contain one of the
+ * defined {@link ProtocolMessageType}.
  */
 final class ProtocolMessageExtractor implements Function<String, Optional<StreamControlMessage>> {
 
@@ -48,6 +49,9 @@ final class ProtocolMessageExtractor implements Function<String, Optional<Stream
     private static final String PARAM_NAMESPACES = "namespaces";
     private static final String PARAM_JWT = "jwtToken";
     private static final String PARAM_EXTRA_FIELDS = "extraFields";
+    private static final String PARAM_DEMAND = "demand";
+    private static final String PARAM_COALESCE = "coalesce";
+    private static final String PARAM_N = "n";
     private static final JsonParseOptions JSON_PARSE_OPTIONS = JsonParseOptions.newBuilder()
             .withoutUrlDecoding()
             .build();
@@ -79,6 +83,8 @@ final class ProtocolMessageExtractor implements Function<String, Optional<Stream
                         result = getJwt(protocolMessage);
                     } else if (protocolMessageType.isStartSending()) {
                         result = getStartStreaming(protocolMessageType, protocolMessage);
+                    } else if (protocolMessageType.isRequest()) {
+                        result = getRequestStreaming(protocolMessageType, protocolMessage);
                     } else {
                         result = getStopStreaming(protocolMessageType);
                     }
@@ -136,9 +142,40 @@ final class ProtocolMessageExtractor implements Function<String, Optional<Stream
                 .withNamespaces(getNamespaces(params.get(PARAM_NAMESPACES)))
                 .withFilter(params.get(PARAM_FILTER))
                 .withExtraFields(getExtraFields(params.get(PARAM_EXTRA_FIELDS)))
+                .withDemand(getDemand(params.get(PARAM_DEMAND), 0L))
+                .withCoalescing(Boolean.parseBoolean(params.get(PARAM_COALESCE)))
                 .build();
     }
 
+    /**
+     * Returns the demand of a request protocol message, e.g. {@code REQUEST-EVENTS?n=10}, which defaults to 1.
+     * Request messages with an invalid demand are no protocol messages and rejected as such.
+     */
+    @Nullable
+    private RequestStreaming getRequestStreaming(final ProtocolMessageType protocolMessageType,
+            final String protocolMsg) {
+
+        final Map<String, String> params = determineParams(protocolMsg);
+        @Nullable final Long demand = getDemand(params.getOrDefault(PARAM_N, "1"), 1L);
+        if (null == demand) {
+            return null;
+        }
+        return new RequestStreaming(protocolMessageType.getStreamingTypeOrThrow(), connectionCorrelationId, demand);
+    }
+
+    @Nullable
+    private static Long getDemand(@Nullable final String demandParam, final long minimum) {
+        if (null != demandParam) {
+            try {
+                final long demand = Long.parseLong(demandParam);
+                return minimum <= demand ? demand : null;
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
     private static List<String> getNamespaces(@Nullable final String namespacesParam) {
         if (null != namespacesParam && !namespacesParam.isEmpty()) {
             return Arrays.asList(namespacesParam.split(","));
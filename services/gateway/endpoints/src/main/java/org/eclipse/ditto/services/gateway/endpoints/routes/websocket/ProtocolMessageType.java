@@ -64,6 +64,26 @@ enum ProtocolMessageType {
      */
     STOP_SEND_LIVE_EVENTS("STOP-SEND-LIVE-EVENTS", StreamingType.LIVE_EVENTS),
 
+    /**
+     * Message indicating additional demand of the client for twin events.
+     */
+    REQUEST_EVENTS("REQUEST-EVENTS", StreamingType.EVENTS),
+
+    /**
+     * Message indicating additional demand of the client for live messages.
+     */
+    REQUEST_MESSAGES("REQUEST-MESSAGES", StreamingType.MESSAGES),
+
+    /**
+     * Message indicating additional demand of the client for live commands.
+     */
+    REQUEST_LIVE_COMMANDS("REQUEST-LIVE-COMMANDS", StreamingType.LIVE_COMMANDS),
+
+    /**
+     * Message indicating additional demand of the client for live events.
+     */
+    REQUEST_LIVE_EVENTS("REQUEST-LIVE-EVENTS", StreamingType.LIVE_EVENTS),
+
     /**
      * Message indicating that a new JSON Web Token was send.
      */
@@ -101,6 +121,15 @@ enum ProtocolMessageType {
         return identifier.startsWith("START");
     }
 
+    /**
+     * Indicates whether this protocol message type denotes a message which requests additional signals.
+     *
+     * @return {@code true} if this protocol message type denotes a message for requesting, {@code false} else.
+     */
+    public boolean isRequest() {
+        return identifier.startsWith("REQUEST");
+    }
+
     /**
      * Expects this ProtocolMessage to have a streaming type and tries to return the streaming type.
      * If this ProtocolMessage does not have a streaming type a NoSuchElementException is thrown.
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link HttpRequestAskHandler}.
+ */
+public final class HttpRequestAskHandlerTest {
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void startActorSystem() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @AfterClass
+    public static void shutdownActorSystem() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void respondsWithServiceUnavailableIfNoResponseArrivesWithinRequestTimeout() throws Exception {
+        final HttpConfig httpConfig = mock(HttpConfig.class);
+        when(httpConfig.getRequestTimeout()).thenReturn(Duration.ofMillis(200L));
+        final TestProbe proxyActorProbe = TestProbe.apply(actorSystem);
+        final HttpRequestAskHandler underTest =
+                HttpRequestAskHandler.of(proxyActorProbe.ref(), HeaderTranslator.empty(), httpConfig);
+        final RetrieveThing retrieveThing = RetrieveThing.of(ThingId.of("thing:id"),
+                DittoHeaders.newBuilder().randomCorrelationId().build());
+
+        final HttpResponse response = underTest.handle(HttpRequest.create(),
+                CompletableFuture.completedFuture(retrieveThing))
+                .toCompletableFuture()
+                .get(5L, TimeUnit.SECONDS);
+
+        proxyActorProbe.expectMsg(retrieveThing);
+        assertThat(response.status().intValue()).isEqualTo(HttpStatusCode.SERVICE_UNAVAILABLE.toInt());
+    }
+
+}
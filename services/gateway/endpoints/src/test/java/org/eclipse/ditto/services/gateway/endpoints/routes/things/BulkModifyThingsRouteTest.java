@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.routes.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
+import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayMethodNotAllowedException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.server.Route;
+import akka.http.javadsl.testkit.TestRoute;
+import akka.http.javadsl.testkit.TestRouteResult;
+
+/**
+ * Tests {@link BulkModifyThingsRoute}.
+ */
+public final class BulkModifyThingsRouteTest extends EndpointTestBase {
+
+    private static final JsonFieldDefinition<Integer> STATUS = JsonFieldDefinition.ofInt("status");
+
+    private static final String MODIFY_ATTRIBUTE =
+            "{\"topic\":\"org.eclipse.ditto/%s/things/twin/commands/modify\",\"path\":\"/attributes/a\",\"value\":1}";
+    private static final String RETRIEVE_THING =
+            "{\"topic\":\"org.eclipse.ditto/t1/things/twin/commands/retrieve\",\"path\":\"/\"}";
+
+    private TestRoute underTest;
+
+    @Before
+    public void setUp() {
+        final ActorSystem actorSystem = system();
+        final ProtocolAdapterProvider adapterProvider = ProtocolAdapterProvider.load(protocolConfig, actorSystem);
+
+        final ThingsRoute thingsRoute = new ThingsRoute(createDummyResponseActor(message -> {
+            if (message instanceof ModifyAttribute) {
+                final ModifyAttribute modifyAttribute = (ModifyAttribute) message;
+                return Optional.of(ModifyAttributeResponse.modified(modifyAttribute.getThingEntityId(),
+                        JsonPointer.of("a"), modifyAttribute.getDittoHeaders()));
+            }
+            return Optional.empty();
+        }), actorSystem, messageConfig, claimMessageConfig, httpConfig, adapterProvider.getHttpHeaderTranslator());
+
+        final Route route = extractRequestContext(ctx -> thingsRoute.buildThingsRoute(ctx, DittoHeaders.empty()));
+        underTest = testRoute(route);
+    }
+
+    @Test
+    public void eachLineIsAnsweredWithOneResponseLine() {
+        final String body = String.join("\n",
+                String.format(MODIFY_ATTRIBUTE, "t1"),
+                String.format(MODIFY_ATTRIBUTE, "t2"),
+                String.format(MODIFY_ATTRIBUTE, "t1"));
+
+        final TestRouteResult result = underTest.run(HttpRequest.POST("/things/bulk")
+                .withEntity(ContentTypes.APPLICATION_JSON, body));
+
+        result.assertStatusCode(StatusCodes.OK);
+        assertThat(getStatusCodes(result.entityString())).containsExactly(204, 204, 204);
+    }
+
+    @Test
+    public void failingLinesDoNotAbortTheBulk() {
+        final String body = String.join("\n",
+                "{\"topic\":",
+                RETRIEVE_THING,
+                "",
+                String.format(MODIFY_ATTRIBUTE, "t1"));
+
+        final TestRouteResult result = underTest.run(HttpRequest.POST("/things/bulk")
+                .withEntity(ContentTypes.APPLICATION_JSON, body));
+
+        result.assertStatusCode(StatusCodes.OK);
+        final List<JsonObject> responses = getResponses(result.entityString());
+        assertThat(getStatusCodes(result.entityString())).containsExactlyInAnyOrder(400, 405, 204);
+        assertThat(responses)
+                .anySatisfy(response -> assertThat(response.getValue("value/error"))
+                        .contains(JsonValue.of(GatewayMethodNotAllowedException.ERROR_CODE)));
+    }
+
+    @Test
+    public void tooLargeLineIsAnsweredWithErrorLine() {
+        final char[] largeValue = new char[1024 * 1024];
+        Arrays.fill(largeValue, 'x');
+        final String body = String.join("\n",
+                "{\"topic\":\"org.eclipse.ditto/t1/things/twin/commands/modify\",\"path\":\"/attributes/a\"," +
+                        "\"value\":\"" + new String(largeValue) + "\"}",
+                String.format(MODIFY_ATTRIBUTE, "t2"));
+
+        final TestRouteResult result = underTest.run(HttpRequest.POST("/things/bulk")
+                .withEntity(ContentTypes.APPLICATION_JSON, body));
+
+        result.assertStatusCode(StatusCodes.OK);
+        assertThat(getStatusCodes(result.entityString())).containsExactlyInAnyOrder(413, 204);
+    }
+
+    @Test
+    public void linesNotRequiringResponseAreAcceptedImmediately() {
+        final String body = String.join("\n",
+                "{\"topic\":\"org.eclipse.ditto/t1/things/twin/commands/modify\",\"path\":\"/attributes/a\"," +
+                        "\"headers\":{\"response-required\":false},\"value\":1}",
+                String.format(MODIFY_ATTRIBUTE, "t2"));
+
+        final TestRouteResult result = underTest.run(HttpRequest.POST("/things/bulk")
+                .withEntity(ContentTypes.APPLICATION_JSON, body));
+
+        result.assertStatusCode(StatusCodes.OK);
+        assertThat(getStatusCodes(result.entityString())).containsExactlyInAnyOrder(202, 204);
+    }
+
+    private static List<JsonObject> getResponses(final String entityString) {
+        return Arrays.stream(entityString.split("\n"))
+                .map(JsonObject::of)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Integer> getStatusCodes(final String entityString) {
+        return getResponses(entityString).stream()
+                .map(response -> response.getValueOrThrow(STATUS))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -12,20 +12,29 @@
  */
 package org.eclipse.ditto.services.gateway.endpoints.routes.things;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.services.gateway.endpoints.EndpointTestConstants.KNOWN_FEATURE_ID;
 import static org.eclipse.ditto.services.gateway.endpoints.EndpointTestConstants.KNOWN_SUBJECT_WITH_SLASHES;
 import static org.eclipse.ditto.services.gateway.endpoints.EndpointTestConstants.KNOWN_THING_ID;
 import static org.eclipse.ditto.services.gateway.endpoints.EndpointTestConstants.UNKNOWN_PATH;
 
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.messages.Message;
 import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
 import org.eclipse.ditto.services.gateway.endpoints.EndpointTestConstants;
 import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
+import org.eclipse.ditto.signals.commands.messages.SendThingMessage;
 import org.junit.Before;
 import org.junit.Test;
 
 import akka.actor.ActorSystem;
+import akka.http.javadsl.model.ContentTypes;
 import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
 import akka.http.javadsl.model.StatusCodes;
 import akka.http.javadsl.server.Route;
 import akka.http.javadsl.testkit.TestRoute;
@@ -183,4 +192,30 @@ public final class MessagesRouteTest extends EndpointTestBase {
         final TestRouteResult result = thingsMessagesTestRoute.run(HttpRequest.POST(INBOX_MESSAGES_PATH + "32"));
         result.assertStatusCode(StatusCodes.NOT_FOUND);
     }
+
+    @Test
+    public void postBinaryThingsInboxMessageKeepsRawPayloadWithoutDecodingIt() {
+        final byte[] binaryPayload = new byte[64 * 1024];
+        for (int i = 0; i < binaryPayload.length; i++) {
+            binaryPayload[i] = (byte) i;
+        }
+        final AtomicReference<Object> receivedCommand = new AtomicReference<>();
+        final MessagesRoute binaryMessagesRoute = new MessagesRoute(createDummyResponseActor(message -> {
+            receivedCommand.set(message);
+            return Optional.of(HttpResponse.create().withStatus(StatusCodes.ACCEPTED));
+        }), system(), messageConfig, claimMessageConfig, httpConfig,
+                ProtocolAdapterProvider.load(protocolConfig, system()).getHttpHeaderTranslator());
+        final TestRoute binaryMessagesTestRoute = testRoute(extractRequestContext(
+                ctx -> binaryMessagesRoute.buildThingsInboxOutboxRoute(ctx, DittoHeaders.empty(), KNOWN_THING_ID)));
+
+        final TestRouteResult result = binaryMessagesTestRoute.run(HttpRequest.POST(INBOX_MESSAGES_SUBJECT_PATH)
+                .withEntity(ContentTypes.APPLICATION_OCTET_STREAM, binaryPayload));
+
+        result.assertStatusCode(StatusCodes.ACCEPTED);
+        assertThat(receivedCommand.get()).isInstanceOf(SendThingMessage.class);
+        final Message<?> message = ((SendThingMessage<?>) receivedCommand.get()).getMessage();
+        assertThat(message.getPayload()).isEmpty();
+        assertThat(message.getRawPayload()).contains(ByteBuffer.wrap(binaryPayload));
+    }
+
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.routes.things;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
+import org.eclipse.ditto.services.gateway.endpoints.config.GatewayHttpConfig;
+import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingDefinition;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.model.headers.RawHeader;
+import akka.http.javadsl.server.Route;
+import akka.http.javadsl.testkit.TestRoute;
+import akka.http.javadsl.testkit.TestRouteResult;
+
+/**
+ * Tests {@link ThingsRoute} handling requests without an actor per request.
+ */
+public final class ThingsRouteAskTest extends EndpointTestBase {
+
+    private TestRoute underTest;
+
+    @Before
+    public void setUp() {
+        final ActorSystem actorSystem = system();
+        final ProtocolAdapterProvider adapterProvider = ProtocolAdapterProvider.load(protocolConfig, actorSystem);
+
+        final HttpConfig askingHttpConfig = GatewayHttpConfig.of(DefaultScopedConfig.newInstance(
+                DefaultScopedConfig.dittoScoped(ConfigFactory.parseString(
+                        "ditto.gateway.http.actor-per-request = false").withFallback(createTestConfig())),
+                "gateway"));
+
+        final ThingsRoute thingsRoute = new ThingsRoute(createDummyResponseActor(), actorSystem, messageConfig,
+                claimMessageConfig, askingHttpConfig, adapterProvider.getHttpHeaderTranslator());
+
+        final Route route = extractRequestContext(ctx -> thingsRoute.buildThingsRoute(ctx, DittoHeaders.empty()));
+        underTest = testRoute(route);
+    }
+
+    @Test
+    public void respondsWithCommandResponse() {
+        final TestRouteResult result = underTest.run(HttpRequest.PUT("/things/org.eclipse.ditto%3At1/definition")
+                .withEntity("null"));
+
+        result.assertStatusCode(StatusCodes.OK);
+        assertThat(JsonObject.of(result.entityString())).contains(JsonKey.of("type"), ModifyThingDefinition.TYPE);
+    }
+
+    @Test
+    public void respondsWithExceptionOfInvalidRequest() {
+        final TestRouteResult result = underTest.run(HttpRequest.PUT("/things/org.eclipse.ditto%3At1/definition")
+                .withEntity("hello:world:123"));
+
+        result.assertStatusCode(StatusCodes.BAD_REQUEST);
+        assertThat(JsonObject.of(result.entityString())).contains(JsonKey.of("error"), "json.invalid");
+    }
+
+    @Test
+    public void acceptsCommandWithoutRequiredResponse() {
+        final TestRouteResult result = underTest.run(HttpRequest.PUT("/things/org.eclipse.ditto%3At1/definition")
+                .withEntity("null")
+                .addHeader(RawHeader.create("response-required", "false")));
+
+        result.assertStatusCode(StatusCodes.ACCEPTED);
+    }
+
+}
@@ -29,6 +29,7 @@ import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.services.gateway.streaming.Jwt;
+import org.eclipse.ditto.services.gateway.streaming.RequestStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StreamControlMessage;
@@ -215,6 +216,24 @@ public final class ProtocolMessageExtractorTest {
             assertThat(underTest.apply(protocolMessageType + requestParams)).contains(expected);
         }
 
+        @Test
+        public void startSendingWithDemandAndCoalescing() {
+            final StartStreaming expected = StartStreaming.getBuilder(streamingType, correlationId, authContext)
+                    .withDemand(10L)
+                    .withCoalescing(true)
+                    .build();
+
+            assertThat(underTest.apply(protocolMessageType + "?demand=10&coalesce=true")).contains(expected);
+        }
+
+        @Test
+        public void startSendingWithInvalidDemand() {
+            final StartStreaming expected =
+                    StartStreaming.getBuilder(streamingType, correlationId, authContext).build();
+
+            assertThat(underTest.apply(protocolMessageType + "?demand=many")).contains(expected);
+        }
+
         @Test
         public void startSendingWithStrangeAppendix() {
             final StartStreaming expected =
@@ -262,4 +281,53 @@ public final class ProtocolMessageExtractorTest {
 
     }
 
+    @RunWith(Parameterized.class)
+    public static final class RequestTest {
+
+        @Parameterized.Parameter
+        public ProtocolMessageType protocolMessageType;
+
+        private String correlationId;
+        private ProtocolMessageExtractor underTest;
+
+        @Parameterized.Parameters(name = "{0}")
+        public static List<ProtocolMessageType> requestProtocolMessageTypes() {
+            return Arrays.stream(ProtocolMessageType.values())
+                    .filter(ProtocolMessageType::isRequest)
+                    .collect(Collectors.toList());
+        }
+
+        @Before
+        public void setUp() {
+            correlationId = String.valueOf(UUID.randomUUID());
+            underTest = new ProtocolMessageExtractor(Mockito.mock(AuthorizationContext.class), correlationId);
+        }
+
+        @Test
+        public void request() {
+            final StreamControlMessage expected =
+                    new RequestStreaming(protocolMessageType.getStreamingTypeOrThrow(), correlationId, 25L);
+
+            assertThat(underTest.apply(protocolMessageType + "?n=25")).contains(expected);
+        }
+
+        @Test
+        public void requestWithoutDemandRequestsOne() {
+            final StreamControlMessage expected =
+                    new RequestStreaming(protocolMessageType.getStreamingTypeOrThrow(), correlationId, 1L);
+
+            assertThat(underTest.apply(protocolMessageType.toString())).contains(expected);
+        }
+
+        @Test
+        public void requestWithInvalidDemandIsNoProtocolMessage() {
+            try (final AutoCloseableSoftAssertions softly = new AutoCloseableSoftAssertions()) {
+                softly.assertThat(underTest.apply(protocolMessageType + "?n=0")).isEmpty();
+                softly.assertThat(underTest.apply(protocolMessageType + "?n=-3")).isEmpty();
+                softly.assertThat(underTest.apply(protocolMessageType + "?n=many")).isEmpty();
+            }
+        }
+
+    }
+
 }
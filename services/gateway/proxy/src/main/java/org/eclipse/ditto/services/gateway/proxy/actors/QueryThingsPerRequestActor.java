@@ -29,6 +29,7 @@ import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.services.gateway.endpoints.config.GatewayHttpConfig;
 import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+import org.eclipse.ditto.services.models.thingsearch.ThingsSearchConstants;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThings;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
@@ -52,6 +53,11 @@ import akka.event.DiagnosticLoggingAdapter;
  * This is needed in gateway so that we can maintain the max. cluster-message size in Ditto while still being able to
  * respond to searches with max. 200 search results.
  * </p>
+ * <p>
+ * Queries with the header {@link ThingsSearchConstants#SEARCH_FROM_INDEX_HEADER} set to {@code true} are answered by
+ * "things-search" with things projected out of the search index, which are passed on without retrieving them if the
+ * response still carries the header.
+ * </p>
  */
 final class QueryThingsPerRequestActor extends AbstractActor {
 
@@ -116,8 +122,9 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                             .map(ThingId::of)
                             .collect(Collectors.toList());
 
-                    if (queryThingsResponseThingIds.isEmpty()) {
-                        // shortcut - for no search results we don't have to lookup the things
+                    if (queryThingsResponseThingIds.isEmpty() || isSearchFromIndex(qtr)) {
+                        // shortcut - for no search results or results projected out of the search index we don't
+                        // have to lookup the things
                         originatingSender.tell(qtr, getSelf());
                         stopMyself();
                     } else {
@@ -162,6 +169,12 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 .build();
     }
 
+    private static boolean isSearchFromIndex(final QueryThingsResponse queryThingsResponse) {
+        // "things-search" removes the header from responses with only the IDs of things too large to be projected
+        return Boolean.parseBoolean(
+                queryThingsResponse.getDittoHeaders().get(ThingsSearchConstants.SEARCH_FROM_INDEX_HEADER));
+    }
+
     /**
      * Extracts selected fields from {@link #queryThings} and ensures that the Thing ID is one of those fields.
      * If no fields are selected, this means that all fields should be returned.
@@ -23,6 +23,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
+import org.eclipse.ditto.services.models.thingsearch.ThingsSearchConstants;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThings;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
@@ -153,6 +154,47 @@ public final class QueryThingsPerRequestActorTest {
                 QueryThingsResponse.of(SearchResult.newBuilder().add(definition, definition).build(), dittoHeaders));
     }
 
+    @Test
+    public void passOnThingsProjectedOutOfSearchIndex() {
+        final DittoHeaders searchFromIndexHeaders = dittoHeaders.toBuilder()
+                .putHeader(ThingsSearchConstants.SEARCH_FROM_INDEX_HEADER, "true")
+                .build();
+        final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(searchFromIndexHeaders));
+        final JsonObject definition = JsonObject.newBuilder().set("definition", "vacuum:cleaner:1548").build();
+        final SearchResult searchResult = SearchResult.newBuilder()
+                .addAll(asArrayWithExtra(definition, ThingId.of("thing:1"), ThingId.of("thing:2")))
+                .build();
+        final QueryThingsResponse queryThingsResponse = QueryThingsResponse.of(searchResult, searchFromIndexHeaders);
+
+        // WHEN: QueryThingsResponse carries the things projected out of the search index
+        underTest.tell(queryThingsResponse, ActorRef.noSender());
+
+        // THEN: the things are not retrieved
+        originalSenderProbe.expectMsg(queryThingsResponse);
+        aggregatorProbe.expectNoMessage();
+    }
+
+    @Test
+    public void retrieveThingsWhenSearchIndexRespondedWithIdsOnly() {
+        final DittoHeaders searchFromIndexHeaders = dittoHeaders.toBuilder()
+                .putHeader(ThingsSearchConstants.SEARCH_FROM_INDEX_HEADER, "true")
+                .build();
+        final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(searchFromIndexHeaders));
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final SearchResult searchResult = forIdItems(thingId1, thingId2);
+
+        // WHEN: the projected things were too large, so the response has only IDs and not the header
+        underTest.tell(QueryThingsResponse.of(searchResult, dittoHeaders), ActorRef.noSender());
+
+        // THEN: the things are retrieved as usual
+        aggregatorProbe.expectMsg(RetrieveThings.getBuilder(thingId1, thingId2)
+                .dittoHeaders(dittoHeaders)
+                .build());
+        aggregatorProbe.reply(RetrieveThingsResponse.of(asArray(thingId1, thingId2), "thing", dittoHeaders));
+        originalSenderProbe.expectMsg(QueryThingsResponse.of(searchResult, dittoHeaders));
+    }
+
     @Test
     public void reportOutOfSyncThings() {
         final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders));
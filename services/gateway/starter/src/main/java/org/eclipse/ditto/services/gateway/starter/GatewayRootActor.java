@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.gateway.starter;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
@@ -50,9 +51,11 @@ import org.eclipse.ditto.services.gateway.streaming.actors.StreamingActor;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.services.utils.config.LocalHostAddressSupplier;
@@ -70,6 +73,7 @@ import akka.actor.ActorSystem;
 import akka.actor.CoordinatedShutdown;
 import akka.actor.Props;
 import akka.cluster.Cluster;
+import akka.cluster.sharding.ClusterSharding;
 import akka.dispatch.MessageDispatcher;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.event.Logging;
@@ -116,8 +120,20 @@ final class GatewayRootActor extends DittoRootActor {
                 ConciergeEnforcerClusterRouterFactory.createConciergeEnforcerClusterRouter(getContext(),
                         numberOfShards);
 
-        final ActorRef conciergeForwarder = startChildActor(ConciergeForwarderActor.ACTOR_NAME,
-                ConciergeForwarderActor.props(pubSubMediator, conciergeEnforcerRouter));
+        final Props conciergeForwarderProps;
+        if (gatewayConfig.isDirectThingCommands()) {
+            log.info("Sending twin thing commands directly to the Things service.");
+            final ActorRef thingsShardRegionProxy = ClusterSharding.get(actorSystem)
+                    .startProxy(ThingsMessagingConstants.SHARD_REGION,
+                            Optional.of(ThingsMessagingConstants.CLUSTER_ROLE),
+                            ShardRegionExtractor.of(numberOfShards, actorSystem));
+            conciergeForwarderProps = ConciergeForwarderActor.propsWithDirectThingCommands(pubSubMediator,
+                    conciergeEnforcerRouter, thingsShardRegionProxy);
+        } else {
+            conciergeForwarderProps = ConciergeForwarderActor.props(pubSubMediator, conciergeEnforcerRouter);
+        }
+        final ActorRef conciergeForwarder =
+                startChildActor(ConciergeForwarderActor.ACTOR_NAME, conciergeForwarderProps);
 
         final ActorRef proxyActor = startChildActor(AbstractProxyActor.ACTOR_NAME,
                 ProxyActor.props(pubSubMediator, devOpsCommandsActor, conciergeForwarder));
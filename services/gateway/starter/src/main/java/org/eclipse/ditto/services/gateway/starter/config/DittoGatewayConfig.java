@@ -32,6 +32,7 @@ import org.eclipse.ditto.services.gateway.security.config.DefaultCachesConfig;
 import org.eclipse.ditto.services.gateway.streaming.DefaultStreamingConfig;
 import org.eclipse.ditto.services.gateway.streaming.StreamingConfig;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.config.WithConfigPath;
 import org.eclipse.ditto.services.utils.metrics.config.MetricsConfig;
@@ -56,6 +57,7 @@ public final class DittoGatewayConfig implements GatewayConfig, WithConfigPath {
     private final AuthenticationConfig authenticationConfig;
     private final StreamingConfig streamingConfig;
     private final PublicHealthConfig publicHealthConfig;
+    private final boolean directThingCommands;
 
     private DittoGatewayConfig(final ScopedConfig dittoScopedConfig) {
 
@@ -69,6 +71,11 @@ public final class DittoGatewayConfig implements GatewayConfig, WithConfigPath {
         authenticationConfig = DefaultAuthenticationConfig.of(dittoServiceConfig);
         streamingConfig = DefaultStreamingConfig.of(dittoServiceConfig);
         publicHealthConfig = DefaultPublicHealthConfig.of(dittoServiceConfig);
+
+        final ScopedConfig gatewayScopedConfig =
+                ConfigWithFallback.newInstance(dittoScopedConfig, CONFIG_PATH, GatewayConfigValue.values());
+        directThingCommands =
+                gatewayScopedConfig.getBoolean(GatewayConfigValue.DIRECT_THING_COMMANDS.getConfigPath());
     }
 
     /**
@@ -118,6 +125,11 @@ public final class DittoGatewayConfig implements GatewayConfig, WithConfigPath {
         return publicHealthConfig;
     }
 
+    @Override
+    public boolean isDirectThingCommands() {
+        return directThingCommands;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
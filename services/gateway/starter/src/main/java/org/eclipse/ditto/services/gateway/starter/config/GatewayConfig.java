@@ -20,6 +20,7 @@ import org.eclipse.ditto.services.gateway.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.gateway.security.config.AuthenticationConfig;
 import org.eclipse.ditto.services.gateway.security.config.CachesConfig;
 import org.eclipse.ditto.services.gateway.streaming.StreamingConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.protocol.config.WithProtocolConfig;
 
 /**
@@ -79,4 +80,43 @@ public interface GatewayConfig extends ServiceSpecificConfig, WithProtocolConfig
      */
     PublicHealthConfig getPublicHealthConfig();
 
+    /**
+     * Indicates whether twin thing commands are sent directly to the Things service to be enforced next to the thing
+     * entities instead of being enforced by the concierge service.
+     *
+     * @return {@code true} if thing commands are sent directly to the Things service.
+     */
+    boolean isDirectThingCommands();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GatewayConfig}.
+     */
+    enum GatewayConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether twin thing commands are sent directly to the Things service.
+         */
+        DIRECT_THING_COMMANDS("direct-thing-commands", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        GatewayConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
@@ -30,6 +30,7 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
 
     private final int subscriberBackpressureQueueSize;
     private final int publisherBackpressureBufferSize;
+    private final int subscriptionBufferSize;
     private final double throttlingRejectionFactor;
     private final ThrottlingConfig throttlingConfig;
 
@@ -38,6 +39,7 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
                 scopedConfig.getInt(WebsocketConfigValue.SUBSCRIBER_BACKPRESSURE_QUEUE_SIZE.getConfigPath());
         publisherBackpressureBufferSize =
                 scopedConfig.getInt(WebsocketConfigValue.PUBLISHER_BACKPRESSURE_BUFFER_SIZE.getConfigPath());
+        subscriptionBufferSize = scopedConfig.getInt(WebsocketConfigValue.SUBSCRIPTION_BUFFER_SIZE.getConfigPath());
         throttlingRejectionFactor =
                 scopedConfig.getDouble(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath());
         throttlingConfig = ThrottlingConfig.of(scopedConfig);
@@ -65,6 +67,11 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         return publisherBackpressureBufferSize;
     }
 
+    @Override
+    public int getSubscriptionBufferSize() {
+        return subscriptionBufferSize;
+    }
+
     @Override
     public double getThrottlingRejectionFactor() {
         return throttlingRejectionFactor;
@@ -86,13 +93,14 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         final DefaultWebsocketConfig that = (DefaultWebsocketConfig) o;
         return subscriberBackpressureQueueSize == that.subscriberBackpressureQueueSize &&
                 publisherBackpressureBufferSize == that.publisherBackpressureBufferSize &&
+                subscriptionBufferSize == that.subscriptionBufferSize &&
                 Double.compare(throttlingRejectionFactor, that.throttlingRejectionFactor) == 0 &&
                 Objects.equals(throttlingConfig, that.throttlingConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(subscriberBackpressureQueueSize, publisherBackpressureBufferSize,
+        return Objects.hash(subscriberBackpressureQueueSize, publisherBackpressureBufferSize, subscriptionBufferSize,
                 throttlingRejectionFactor, throttlingConfig);
     }
 
@@ -101,6 +109,7 @@ final class DefaultWebsocketConfig implements WebsocketConfig {
         return getClass().getSimpleName() + " [" +
                 "subscriberBackpressureQueueSize=" + subscriberBackpressureQueueSize +
                 ", publisherBackpressureBufferSize=" + publisherBackpressureBufferSize +
+                ", subscriptionBufferSize=" + subscriptionBufferSize +
                 ", throttlingRejectionFactor=" + throttlingRejectionFactor +
                 ", throttlingConfig=" + throttlingConfig +
                 "]";
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
+
+/**
+ * Message indicating additional demand for entities of a specified {@link StreamingType} of a "streaming" connection
+ * whose streaming was started with an initial demand.
+ */
+@Immutable
+public final class RequestStreaming implements StreamControlMessage {
+
+    private final StreamingType streamingType;
+    private final String connectionCorrelationId;
+    private final long demand;
+
+    /**
+     * Constructs a new {@code RequestStreaming} object.
+     *
+     * @param streamingType the type of entity to request.
+     * @param connectionCorrelationId the correlation ID of the connection/session.
+     * @param demand the number of additional entities the client is ready to receive.
+     * @throws NullPointerException if {@code streamingType} or {@code connectionCorrelationId} is {@code null}.
+     * @throws IllegalArgumentException if {@code demand} is not positive.
+     */
+    public RequestStreaming(final StreamingType streamingType, final String connectionCorrelationId,
+            final long demand) {
+
+        this.streamingType = checkNotNull(streamingType, "streamingType");
+        this.connectionCorrelationId = checkNotNull(connectionCorrelationId, "connectionCorrelationId");
+        this.demand = checkArgument(demand, d -> 0 < d, () -> "The demand must be positive!");
+    }
+
+    /**
+     * @return the Streaming type of what streaming to request.
+     */
+    public StreamingType getStreamingType() {
+        return streamingType;
+    }
+
+    public String getConnectionCorrelationId() {
+        return connectionCorrelationId;
+    }
+
+    /**
+     * @return the number of additional entities the client is ready to receive.
+     */
+    public long getDemand() {
+        return demand;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RequestStreaming that = (RequestStreaming) o;
+        return streamingType == that.streamingType &&
+                Objects.equals(connectionCorrelationId, that.connectionCorrelationId) &&
+                demand == that.demand;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(streamingType, connectionCorrelationId, demand);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "streamingType=" + streamingType +
+                ", connectionCorrelationId=" + connectionCorrelationId +
+                ", demand=" + demand +
+                "]";
+    }
+
+}
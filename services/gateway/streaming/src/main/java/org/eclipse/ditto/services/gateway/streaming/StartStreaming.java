@@ -39,6 +39,8 @@ public final class StartStreaming implements StreamControlMessage {
     private final List<String> namespaces;
     @Nullable private final String filter;
     @Nullable private final JsonFieldSelector extraFields;
+    @Nullable private final Long demand;
+    private final boolean coalescing;
 
     private StartStreaming(final StartStreamingBuilder builder) {
         streamingType = builder.streamingType;
@@ -50,6 +52,8 @@ public final class StartStreaming implements StreamControlMessage {
                 : Collections.emptyList();
         filter = Objects.toString(builder.filter, null);
         extraFields = builder.extraFields;
+        demand = builder.demand;
+        coalescing = builder.coalescing;
     }
 
     /**
@@ -106,6 +110,26 @@ public final class StartStreaming implements StreamControlMessage {
         return Optional.ofNullable(extraFields);
     }
 
+    /**
+     * Returns the initial demand of the client if the streaming is flow-controlled by the client. Signals are then
+     * only emitted as long as there is demand; the client signals additional demand with {@link RequestStreaming}.
+     *
+     * @return the initial demand or an empty Optional if signals are emitted without flow control.
+     */
+    public Optional<Long> getDemand() {
+        return Optional.ofNullable(demand);
+    }
+
+    /**
+     * Indicates whether signals buffered for lack of demand are coalesced, i.e. whether a buffered event is replaced
+     * by a later event of the same entity and resource.
+     *
+     * @return {@code true} if buffered events are coalesced.
+     */
+    public boolean isCoalescing() {
+        return coalescing;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -120,13 +144,15 @@ public final class StartStreaming implements StreamControlMessage {
                 Objects.equals(authorizationContext, that.authorizationContext) &&
                 Objects.equals(namespaces, that.namespaces) &&
                 Objects.equals(filter, that.filter) &&
-                Objects.equals(extraFields, that.extraFields);
+                Objects.equals(extraFields, that.extraFields) &&
+                Objects.equals(demand, that.demand) &&
+                coalescing == that.coalescing;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(streamingType, connectionCorrelationId, authorizationContext, namespaces, filter,
-                extraFields);
+                extraFields, demand, coalescing);
     }
 
     @Override
@@ -138,6 +164,8 @@ public final class StartStreaming implements StreamControlMessage {
                 ", namespaces=" + namespaces +
                 ", eventFilter=" + filter +
                 ", extraFields=" + extraFields +
+                ", demand=" + demand +
+                ", coalescing=" + coalescing +
                 "]";
     }
 
@@ -154,6 +182,8 @@ public final class StartStreaming implements StreamControlMessage {
         @Nullable private Collection<String> namespaces;
         @Nullable private CharSequence filter;
         @Nullable private JsonFieldSelector extraFields;
+        @Nullable private Long demand;
+        private boolean coalescing;
 
         private StartStreamingBuilder(final StreamingType streamingType, final CharSequence connectionCorrelationId,
                 final AuthorizationContext authorizationContext) {
@@ -164,6 +194,8 @@ public final class StartStreaming implements StreamControlMessage {
             namespaces = null;
             filter = null;
             extraFields = null;
+            demand = null;
+            coalescing = false;
         }
 
         /**
@@ -200,6 +232,29 @@ public final class StartStreaming implements StreamControlMessage {
             return this;
         }
 
+        /**
+         * Sets the initial demand of the client which makes the streaming flow-controlled by the client.
+         *
+         * @param demand the number of signals the client is ready to receive or {@code null} if signals should be
+         * emitted without flow control.
+         * @return this builder instance to allow method chaining.
+         */
+        public StartStreamingBuilder withDemand(@Nullable final Long demand) {
+            this.demand = demand;
+            return this;
+        }
+
+        /**
+         * Determines whether events buffered for lack of demand are coalesced per entity and resource.
+         *
+         * @param coalescing whether buffered events are coalesced.
+         * @return this builder instance to allow method chaining.
+         */
+        public StartStreamingBuilder withCoalescing(final boolean coalescing) {
+            this.coalescing = coalescing;
+            return this;
+        }
+
         /**
          * Builds an instance of StartStreaming with the properties of this builder.
          *
@@ -47,6 +47,15 @@ public interface WebsocketConfig {
      */
     int getPublisherBackpressureBufferSize();
 
+    /**
+     * Returns the max number of signals buffered for a single flow-controlled subscription of a web socket client
+     * while the client has no outstanding demand.
+     * The oldest buffered signals are dropped if this size is reached.
+     *
+     * @return the buffer size.
+     */
+    int getSubscriptionBufferSize();
+
     /**
      * Returns the factor of maximum throughput at which rejections were sent.
      * This threshold should never be reached unless Akka HTTP or the underlying TCP implementation is broken.
@@ -73,6 +82,7 @@ public interface WebsocketConfig {
                 getSubscriberBackpressureQueueSize());
         map.put(WebsocketConfigValue.PUBLISHER_BACKPRESSURE_BUFFER_SIZE.getConfigPath(),
                 getPublisherBackpressureBufferSize());
+        map.put(WebsocketConfigValue.SUBSCRIPTION_BUFFER_SIZE.getConfigPath(), getSubscriptionBufferSize());
         map.put(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath(), getThrottlingRejectionFactor());
         return ConfigFactory.parseMap(map)
                 .withFallback(getThrottlingConfig().render())
@@ -95,6 +105,11 @@ public interface WebsocketConfig {
          */
         PUBLISHER_BACKPRESSURE_BUFFER_SIZE("publisher.backpressure-buffer-size", 200),
 
+        /**
+         * The max number of signals buffered for a single flow-controlled subscription without demand.
+         */
+        SUBSCRIPTION_BUFFER_SIZE("subscription.buffer-size", 100),
+
         /**
          * The factor of maximum throughput at which rejections were sent.
          */
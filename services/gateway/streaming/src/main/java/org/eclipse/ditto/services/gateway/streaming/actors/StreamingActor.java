@@ -29,6 +29,7 @@ import org.eclipse.ditto.services.gateway.streaming.DefaultStreamingConfig;
 import org.eclipse.ditto.services.gateway.streaming.InvalidJwt;
 import org.eclipse.ditto.services.gateway.streaming.Jwt;
 import org.eclipse.ditto.services.gateway.streaming.RefreshSession;
+import org.eclipse.ditto.services.gateway.streaming.RequestStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StreamingConfig;
@@ -127,7 +128,8 @@ public final class StreamingActor extends AbstractActorWithTimers
                     eventAndResponsePublisher.forward(connect, getContext());
                     final String connectionCorrelationId = connect.getConnectionCorrelationId();
                     getContext().actorOf(
-                            StreamingSessionActor.props(connect, dittoProtocolSub, eventAndResponsePublisher),
+                            StreamingSessionActor.props(connect, dittoProtocolSub, eventAndResponsePublisher,
+                                    streamingConfig.getWebsocketConfig().getSubscriptionBufferSize()),
                             connectionCorrelationId);
                 })
                 .match(StartStreaming.class,
@@ -138,6 +140,10 @@ public final class StreamingActor extends AbstractActorWithTimers
                         stopStreaming -> forwardToSessionActor(stopStreaming.getConnectionCorrelationId(),
                                 stopStreaming)
                 )
+                .match(RequestStreaming.class,
+                        requestStreaming -> forwardToSessionActor(requestStreaming.getConnectionCorrelationId(),
+                                requestStreaming)
+                )
                 .match(Jwt.class, this::refreshWebSocketSession)
                 .build()
                 .orElse(retrieveConfigBehavior())
@@ -12,12 +12,15 @@
  */
 package org.eclipse.ditto.services.gateway.streaming.actors;
 
+import java.text.MessageFormat;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -26,20 +29,18 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.exceptions.TooManyRequestsException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
 import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
-import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.gateway.streaming.CloseStreamExceptionally;
 import org.eclipse.ditto.services.gateway.streaming.Connect;
 import org.eclipse.ditto.services.gateway.streaming.InvalidJwt;
 import org.eclipse.ditto.services.gateway.streaming.RefreshSession;
+import org.eclipse.ditto.services.gateway.streaming.RequestStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
@@ -65,6 +66,11 @@ import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Actor handling a single streaming connection / session.
+ * <p>
+ * Signals of a streaming type which the client started with an initial demand are only emitted as long as the client
+ * has outstanding demand and are buffered otherwise. Command responses, errors and acknowledgements are always
+ * emitted.
+ * </p>
  */
 final class StreamingSessionActor extends AbstractActor {
 
@@ -75,6 +81,8 @@ final class StreamingSessionActor extends AbstractActor {
     private final ActorRef eventAndResponsePublisher;
     private final Set<StreamingType> outstandingSubscriptionAcks;
     private final Map<StreamingType, StreamingSession> streamingSessions;
+    private final Map<StreamingType, SubscriptionDemand<SessionedJsonifiable>> subscriptionDemands;
+    private final int subscriptionBufferSize;
     private final DittoDiagnosticLoggingAdapter logger;
 
     @Nullable private Cancellable sessionTerminationCancellable;
@@ -82,7 +90,7 @@ final class StreamingSessionActor extends AbstractActor {
 
     @SuppressWarnings("unused")
     private StreamingSessionActor(final Connect connect, final DittoProtocolSub dittoProtocolSub,
-            final ActorRef eventAndResponsePublisher) {
+            final ActorRef eventAndResponsePublisher, final int subscriptionBufferSize) {
 
         jsonSchemaVersion = connect.getJsonSchemaVersion();
         connectionCorrelationId = connect.getConnectionCorrelationId();
@@ -92,6 +100,8 @@ final class StreamingSessionActor extends AbstractActor {
         outstandingSubscriptionAcks = EnumSet.noneOf(StreamingType.class);
         authorizationContext = AuthorizationModelFactory.emptyAuthContext();
         streamingSessions = new EnumMap<>(StreamingType.class);
+        subscriptionDemands = new EnumMap<>(StreamingType.class);
+        this.subscriptionBufferSize = subscriptionBufferSize;
         logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
         logger.setCorrelationId(connectionCorrelationId);
         connect.getSessionExpirationTime().ifPresent(expiration ->
@@ -108,12 +118,14 @@ final class StreamingSessionActor extends AbstractActor {
      * @param dittoProtocolSub manager of subscriptions.
      * @param eventAndResponsePublisher the {@link org.eclipse.ditto.services.gateway.streaming.actors.EventAndResponsePublisher}
      * actor.
+     * @param subscriptionBufferSize the max number of signals buffered for a flow-controlled subscription.
      * @return the Akka configuration Props object.
      */
     static Props props(final Connect connect, final DittoProtocolSub dittoProtocolSub,
-            final ActorRef eventAndResponsePublisher) {
+            final ActorRef eventAndResponsePublisher, final int subscriptionBufferSize) {
 
-        return Props.create(StreamingSessionActor.class, connect, dittoProtocolSub, eventAndResponsePublisher);
+        return Props.create(StreamingSessionActor.class, connect, dittoProtocolSub, eventAndResponsePublisher,
+                subscriptionBufferSize);
     }
 
     @Override
@@ -157,7 +169,7 @@ final class StreamingSessionActor extends AbstractActor {
                     final StreamingSession session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
                             startStreaming.getExtraFields().orElse(null));
                     streamingSessions.put(startStreaming.getStreamingType(), session);
-
+                    startSubscriptionDemand(startStreaming);
 
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster ...",
                             type, startStreaming.getStreamingType().name());
@@ -175,6 +187,7 @@ final class StreamingSessionActor extends AbstractActor {
                             type, stopStreaming.getStreamingType().name());
 
                     streamingSessions.remove(stopStreaming.getStreamingType());
+                    subscriptionDemands.remove(stopStreaming.getStreamingType());
 
                     // In Cluster: Unsubscribe
                     final AcknowledgeUnsubscription unsubscribeAck =
@@ -190,6 +203,7 @@ final class StreamingSessionActor extends AbstractActor {
                                 .thenAccept(ack -> getSelf().tell(unsubscribeAck, getSelf()));
                     }
                 })
+                .match(RequestStreaming.class, this::requestSignals)
                 .match(RefreshSession.class, refreshSession -> {
                     cancelSessionTimeout();
                     checkAuthorizationContextAndStartSessionTimer(refreshSession);
@@ -226,7 +240,8 @@ final class StreamingSessionActor extends AbstractActor {
                     " EventAndResponsePublisher about it", signal.getType(), type);
         } else {
             // check if this session is "allowed" to receive the Signal
-            @Nullable final StreamingSession session = streamingSessions.get(determineStreamingType(signal));
+            final StreamingType streamingType = determineStreamingType(signal);
+            @Nullable final StreamingSession session = streamingSessions.get(streamingType);
             if (null != session && isSessionAllowedToReceiveSignal(signal, session)) {
                     logger.debug("Got Signal <{}> in <{}> session, telling EventAndResponsePublisher about it: {}",
                             signal.getType(), type, signal);
@@ -237,12 +252,79 @@ final class StreamingSessionActor extends AbstractActor {
                             .build();
                     final SessionedJsonifiable sessionedJsonifiable =
                             SessionedJsonifiable.signal(signal, sessionHeaders, session);
-                    eventAndResponsePublisher.tell(sessionedJsonifiable, getSelf());
+                    publishSignal(streamingType, signal, sessionedJsonifiable);
             }
         }
         logger.setCorrelationId(connectionCorrelationId);
     }
 
+    private void publishSignal(final StreamingType streamingType, final Signal<?> signal,
+            final SessionedJsonifiable sessionedJsonifiable) {
+
+        @Nullable final SubscriptionDemand<SessionedJsonifiable> subscriptionDemand =
+                subscriptionDemands.get(streamingType);
+        if (null == subscriptionDemand) {
+            eventAndResponsePublisher.tell(sessionedJsonifiable, getSelf());
+        } else {
+            subscriptionDemand.offer(sessionedJsonifiable, getCoalescingKey(signal))
+                    .forEach(jsonifiable -> eventAndResponsePublisher.tell(jsonifiable, getSelf()));
+            if (1L == subscriptionDemand.getDropped()) {
+                // report only the first dropped signal until the client requests signals again
+                reportDroppedSignals(streamingType);
+            }
+        }
+    }
+
+    private void startSubscriptionDemand(final StartStreaming startStreaming) {
+        final StreamingType streamingType = startStreaming.getStreamingType();
+        final Optional<Long> demand = startStreaming.getDemand();
+        if (demand.isPresent()) {
+            logger.debug("Starting <{}> subscription with demand <{}> in <{}> session.", streamingType, demand.get(),
+                    type);
+            subscriptionDemands.put(streamingType,
+                    SubscriptionDemand.of(demand.get(), subscriptionBufferSize, startStreaming.isCoalescing()));
+        } else {
+            subscriptionDemands.remove(streamingType);
+        }
+    }
+
+    private void requestSignals(final RequestStreaming requestStreaming) {
+        final StreamingType streamingType = requestStreaming.getStreamingType();
+        @Nullable final SubscriptionDemand<SessionedJsonifiable> subscriptionDemand =
+                subscriptionDemands.get(streamingType);
+        if (null != subscriptionDemand) {
+            subscriptionDemand.request(requestStreaming.getDemand())
+                    .forEach(jsonifiable -> eventAndResponsePublisher.tell(jsonifiable, getSelf()));
+        } else {
+            logger.debug("Got demand for <{}> in <{}> session which has no flow-controlled subscription for it.",
+                    streamingType, type);
+        }
+    }
+
+    private void reportDroppedSignals(final StreamingType streamingType) {
+        logger.info("Buffer of <{}> subscription in <{}> session is full, dropping the oldest signals.",
+                streamingType, type);
+        final TooManyRequestsException exception = TooManyRequestsException.newBuilder()
+                .message(MessageFormat.format("The buffer of the <{0}> subscription is full.", streamingType))
+                .description("The oldest buffered signals are dropped until more signals are requested. " +
+                        "Request signals faster or start the subscription with coalescing.")
+                .dittoHeaders(DittoHeaders.newBuilder().correlationId(connectionCorrelationId).build())
+                .build();
+        eventAndResponsePublisher.tell(SessionedJsonifiable.error(exception), getSelf());
+    }
+
+    /**
+     * Events of the same entity and resource may replace each other in the buffer of a coalescing subscription;
+     * all other signals are never coalesced.
+     */
+    @Nullable
+    private static Object getCoalescingKey(final Signal<?> signal) {
+        if (signal instanceof Event) {
+            return Arrays.asList(String.valueOf(signal.getEntityId()), signal.getResourcePath());
+        }
+        return null;
+    }
+
     private boolean isSessionAllowedToReceiveSignal(final Signal<?> signal,  final StreamingSession session) {
         final DittoHeaders headers = signal.getDittoHeaders();
         final boolean isAuthorizedToRead = authorizationContext.isAuthorized(headers.getReadGrantedSubjects(),
@@ -327,13 +409,7 @@ final class StreamingSessionActor extends AbstractActor {
     }
 
     private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
-        final ThingsFieldExpressionFactory fieldExpressionFactory =
-                new ModelBasedThingsFieldExpressionFactory();
-        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
-                new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
-
-        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
+        return QueryFilterCriteriaFactory.modelBased().filterCriteria(filter, dittoHeaders);
     }
 
     private void acknowledgeSubscription(final StreamingType streamingType, final ActorRef self) {
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Outstanding demand of a client for a single flow-controlled subscription of a streaming session together with the
+ * signals which are buffered while there is no demand.
+ * <p>
+ * The buffer is bounded: if it is full, the oldest buffered signal is dropped. If the subscription is coalescing,
+ * a buffered signal is replaced by a later signal with the same coalescing key, which keeps only the latest change
+ * per entity and resource and thus bounds the buffer by the number of changed resources.
+ * </p>
+ *
+ * @param <T> type of the buffered signals.
+ */
+@NotThreadSafe
+final class SubscriptionDemand<T> {
+
+    private final int bufferSize;
+    private final boolean coalescing;
+    private final LinkedHashMap<Object, T> buffer;
+
+    private long demand;
+    private long dropped;
+
+    private SubscriptionDemand(final long initialDemand, final int bufferSize, final boolean coalescing) {
+        this.bufferSize = bufferSize;
+        this.coalescing = coalescing;
+        buffer = new LinkedHashMap<>();
+        demand = initialDemand;
+        dropped = 0L;
+    }
+
+    /**
+     * Creates a new {@code SubscriptionDemand}.
+     *
+     * @param initialDemand the demand of the client when starting the subscription.
+     * @param bufferSize the maximum number of buffered signals.
+     * @param coalescing whether buffered signals are replaced by later signals with the same coalescing key.
+     * @param <T> type of the buffered signals.
+     * @return the subscription demand.
+     */
+    static <T> SubscriptionDemand<T> of(final long initialDemand, final int bufferSize, final boolean coalescing) {
+        return new SubscriptionDemand<>(initialDemand, Math.max(1, bufferSize), coalescing);
+    }
+
+    /**
+     * Offers a signal to the subscription.
+     *
+     * @param signal the signal.
+     * @param coalescingKey the key by which a buffered signal is replaced if the subscription is coalescing, or
+     * {@code null} if the signal must never replace another one.
+     * @return the signals to emit now: the signal itself if there is demand, nothing otherwise.
+     */
+    List<T> offer(final T signal, @Nullable final Object coalescingKey) {
+        if (0 < demand && buffer.isEmpty()) {
+            --demand;
+            return Collections.singletonList(signal);
+        }
+        final Object key = coalescing && null != coalescingKey ? coalescingKey : new Object();
+        // remove first so that a replaced signal moves to the end of the buffer
+        buffer.remove(key);
+        buffer.put(key, signal);
+        if (buffer.size() > bufferSize) {
+            final Iterator<Map.Entry<Object, T>> iterator = buffer.entrySet().iterator();
+            iterator.next();
+            iterator.remove();
+            ++dropped;
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Adds demand of the client to this subscription.
+     *
+     * @param n the additional demand.
+     * @return the buffered signals to emit now, oldest first.
+     */
+    List<T> request(final long n) {
+        demand = saturatedAdd(demand, n);
+        final List<T> result = new ArrayList<>((int) Math.min(demand, buffer.size()));
+        final Iterator<T> iterator = buffer.values().iterator();
+        while (0 < demand && iterator.hasNext()) {
+            result.add(iterator.next());
+            iterator.remove();
+            --demand;
+        }
+        dropped = 0L;
+        return result;
+    }
+
+    /**
+     * Returns the number of signals dropped since the client requested signals the last time.
+     *
+     * @return the number of dropped signals.
+     */
+    long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Returns the number of currently buffered signals.
+     *
+     * @return the number of buffered signals.
+     */
+    int getBuffered() {
+        return buffer.size();
+    }
+
+    private static long saturatedAdd(final long x, final long y) {
+        final long sum = x + y;
+        return sum < 0L ? Long.MAX_VALUE : sum;
+    }
+
+}
@@ -70,6 +70,9 @@ public final class DefaultWebsocketConfigTest {
         softly.assertThat(underTest.getPublisherBackpressureBufferSize())
                 .as(WebsocketConfigValue.PUBLISHER_BACKPRESSURE_BUFFER_SIZE.getConfigPath())
                 .isEqualTo(WebsocketConfigValue.PUBLISHER_BACKPRESSURE_BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getSubscriptionBufferSize())
+                .as(WebsocketConfigValue.SUBSCRIPTION_BUFFER_SIZE.getConfigPath())
+                .isEqualTo(WebsocketConfigValue.SUBSCRIPTION_BUFFER_SIZE.getDefaultValue());
         softly.assertThat(underTest.getThrottlingRejectionFactor())
                 .as(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath())
                 .isCloseTo((Double) WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getDefaultValue(),
@@ -86,6 +89,9 @@ public final class DefaultWebsocketConfigTest {
         softly.assertThat(underTest.getPublisherBackpressureBufferSize())
                 .as(WebsocketConfigValue.PUBLISHER_BACKPRESSURE_BUFFER_SIZE.getConfigPath())
                 .isEqualTo(42);
+        softly.assertThat(underTest.getSubscriptionBufferSize())
+                .as(WebsocketConfigValue.SUBSCRIPTION_BUFFER_SIZE.getConfigPath())
+                .isEqualTo(17);
         softly.assertThat(underTest.getThrottlingRejectionFactor())
                 .as(WebsocketConfigValue.THROTTLING_REJECTION_FACTOR.getConfigPath())
                 .isCloseTo(1.875, Percentage.withPercentage(1.0));
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link RequestStreaming}.
+ */
+public final class RequestStreamingTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(RequestStreaming.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(RequestStreaming.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNullStreamingType() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new RequestStreaming(null, "my-correlation-id", 1L))
+                .withMessage("The streamingType must not be null!")
+                .withNoCause();
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNonPositiveDemand() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new RequestStreaming(StreamingType.EVENTS, "my-correlation-id", 0L))
+                .withMessage("The demand must be positive!")
+                .withNoCause();
+    }
+
+    @Test
+    public void gettersReturnExpected() {
+        final StreamingType streamingType = StreamingType.EVENTS;
+        final String connectionCorrelationId = "my-correlation-id";
+
+        final RequestStreaming underTest = new RequestStreaming(streamingType, connectionCorrelationId, 42L);
+
+        final SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(underTest.getStreamingType()).isEqualTo(streamingType);
+        softly.assertThat(underTest.getConnectionCorrelationId()).isEqualTo(connectionCorrelationId);
+        softly.assertThat(underTest.getDemand()).isEqualTo(42L);
+        softly.assertAll();
+    }
+
+}
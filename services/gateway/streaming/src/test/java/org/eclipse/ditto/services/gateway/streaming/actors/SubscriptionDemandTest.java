@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SubscriptionDemand}.
+ */
+public final class SubscriptionDemandTest {
+
+    @Test
+    public void emitsImmediatelyWhileThereIsDemand() {
+        final SubscriptionDemand<String> underTest = SubscriptionDemand.of(2L, 10, false);
+
+        assertThat(underTest.offer("a", null)).containsExactly("a");
+        assertThat(underTest.offer("b", null)).containsExactly("b");
+        assertThat(underTest.offer("c", null)).isEmpty();
+        assertThat(underTest.getBuffered()).isEqualTo(1);
+    }
+
+    @Test
+    public void requestEmitsBufferedSignalsInOrder() {
+        final SubscriptionDemand<String> underTest = SubscriptionDemand.of(0L, 10, false);
+        underTest.offer("a", null);
+        underTest.offer("b", null);
+        underTest.offer("c", null);
+
+        assertThat(underTest.request(2L)).containsExactly("a", "b");
+        assertThat(underTest.request(5L)).containsExactly("c");
+        assertThat(underTest.offer("d", null)).containsExactly("d");
+    }
+
+    @Test
+    public void dropsOldestSignalIfBufferIsFull() {
+        final SubscriptionDemand<String> underTest = SubscriptionDemand.of(0L, 2, false);
+        underTest.offer("a", null);
+        underTest.offer("b", null);
+        underTest.offer("c", null);
+
+        assertThat(underTest.getDropped()).isEqualTo(1L);
+        assertThat(underTest.request(Long.MAX_VALUE)).containsExactly("b", "c");
+        assertThat(underTest.getDropped()).isZero();
+    }
+
+    @Test
+    public void coalescingReplacesBufferedSignalWithSameKey() {
+        final SubscriptionDemand<String> underTest = SubscriptionDemand.of(0L, 2, true);
+        underTest.offer("thing1-v1", "thing1");
+        underTest.offer("thing2-v1", "thing2");
+        underTest.offer("thing1-v2", "thing1");
+        underTest.offer("thing1-v3", "thing1");
+
+        assertThat(underTest.getDropped()).isZero();
+        assertThat(underTest.request(10L)).containsExactly("thing2-v1", "thing1-v3");
+    }
+
+    @Test
+    public void nonCoalescingSubscriptionKeepsSignalsWithSameKey() {
+        final SubscriptionDemand<String> underTest = SubscriptionDemand.of(0L, 10, false);
+        underTest.offer("thing1-v1", "thing1");
+        underTest.offer("thing1-v2", "thing1");
+
+        assertThat(underTest.request(10L)).containsExactly("thing1-v1", "thing1-v2");
+    }
+
+    @Test
+    public void demandDoesNotOverflow() {
+        final SubscriptionDemand<String> underTest = SubscriptionDemand.of(Long.MAX_VALUE, 10, false);
+        underTest.request(Long.MAX_VALUE);
+
+        assertThat(underTest.offer("a", null)).containsExactly("a");
+    }
+
+}
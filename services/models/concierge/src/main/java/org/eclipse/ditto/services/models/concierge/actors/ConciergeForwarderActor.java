@@ -16,11 +16,16 @@ import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingCons
 
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.services.models.concierge.ConciergeWrapper;
+import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
+import org.eclipse.ditto.services.models.things.UnenforcedThingCommand;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -33,6 +38,10 @@ import akka.japi.pf.ReceiveBuilder;
  * Actor which acts as a client to the concierge service. It forwards messages either to the concierge's appropriate
  * enforcer (in case of a command referring to a single entity) or to the concierge's dispatcher actor (in
  * case of commands not referring to a single entity such as search commands).
+ * <p>
+ * If a things shard region is given, twin thing commands bypass the concierge service and are sent as
+ * {@link UnenforcedThingCommand} directly to the shard region, where they are enforced next to the thing entity.
+ * </p>
  */
 public class ConciergeForwarderActor extends AbstractActor {
 
@@ -46,13 +55,21 @@ public class ConciergeForwarderActor extends AbstractActor {
     private final ActorRef pubSubMediator;
     private final ActorRef conciergeEnforcer;
     private final Function<Signal<?>, Signal<?>> signalTransformer;
+    @Nullable private final ActorRef thingsShardRegion;
 
     @SuppressWarnings("unused")
     private ConciergeForwarderActor(final ActorRef pubSubMediator, final ActorRef conciergeEnforcer,
             final Function<Signal<?>, Signal<?>> signalTransformer) {
+        this(pubSubMediator, conciergeEnforcer, signalTransformer, null);
+    }
+
+    @SuppressWarnings("unused")
+    private ConciergeForwarderActor(final ActorRef pubSubMediator, final ActorRef conciergeEnforcer,
+            final Function<Signal<?>, Signal<?>> signalTransformer, @Nullable final ActorRef thingsShardRegion) {
         this.pubSubMediator = pubSubMediator;
         this.conciergeEnforcer = conciergeEnforcer;
         this.signalTransformer = signalTransformer;
+        this.thingsShardRegion = thingsShardRegion;
     }
 
     /**
@@ -81,6 +98,22 @@ public class ConciergeForwarderActor extends AbstractActor {
         return Props.create(ConciergeForwarderActor.class, pubSubMediator, conciergeEnforcer, signalTransformer);
     }
 
+    /**
+     * Creates Akka configuration object Props for this actor which sends twin thing commands directly to the things
+     * shard region. The Things service must enable co-located enforcement.
+     *
+     * @param pubSubMediator the PubSub mediator Actor.
+     * @param conciergeEnforcer the ActorRef of the concierge EnforcerActor.
+     * @param thingsShardRegion the things shard region or a proxy of it.
+     * @return the Akka configuration Props object.
+     */
+    public static Props propsWithDirectThingCommands(final ActorRef pubSubMediator, final ActorRef conciergeEnforcer,
+            final ActorRef thingsShardRegion) {
+
+        return Props.create(ConciergeForwarderActor.class, pubSubMediator, conciergeEnforcer,
+                Function.<Signal<?>>identity(), thingsShardRegion);
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
@@ -114,6 +147,9 @@ public class ConciergeForwarderActor extends AbstractActor {
             final DistributedPubSubMediator.Send msg = wrapForPubSub(transformedSignal);
             log.debug("Forwarding message to concierge-dispatcherActor via pub/sub: <{}>.", msg);
             pubSubMediator.forward(msg, ctx);
+        } else if (null != thingsShardRegion && isTwinThingCommand(transformedSignal)) {
+            log.info("Forwarding signal with ID <{}> and type <{}> to things shard region", signalId, signalType);
+            thingsShardRegion.forward(UnenforcedThingCommand.of((ThingCommand<?>) transformedSignal), ctx);
         } else {
             log.info("Forwarding signal with ID <{}> and type <{}> to concierge enforcer", signalId, signalType);
             final Object msg = ConciergeWrapper.wrapForEnforcerRouter(transformedSignal);
@@ -122,6 +158,10 @@ public class ConciergeForwarderActor extends AbstractActor {
         }
     }
 
+    private static boolean isTwinThingCommand(final Signal<?> signal) {
+        return signal instanceof ThingCommand && !StreamingType.isLiveSignal(signal);
+    }
+
     private static DistributedPubSubMediator.Send wrapForPubSub(final Signal<?> signal) {
         return DistPubSubAccess.send(DISPATCHER_ACTOR_PATH, signal);
     }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.concierge.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.services.models.things.UnenforcedThingCommand;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.routing.ConsistentHashingRouter;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ConciergeForwarderActor}.
+ */
+public final class ConciergeForwarderActorTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:forwarded");
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void start() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @After
+    public void stop() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    public void sendsTwinThingCommandsToThingsShardRegion() {
+        new TestKit(actorSystem) {{
+            final TestProbe pubSubMediator = TestProbe.apply(actorSystem);
+            final TestProbe conciergeEnforcer = TestProbe.apply(actorSystem);
+            final TestProbe thingsShardRegion = TestProbe.apply(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(ConciergeForwarderActor.propsWithDirectThingCommands(
+                    pubSubMediator.ref(), conciergeEnforcer.ref(), thingsShardRegion.ref()));
+
+            final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, DittoHeaders.empty());
+            underTest.tell(retrieveThing, getRef());
+
+            final UnenforcedThingCommand unenforced = thingsShardRegion.expectMsgClass(UnenforcedThingCommand.class);
+            assertThat((Object) unenforced.getCommand()).isEqualTo(retrieveThing);
+            assertThat(thingsShardRegion.sender()).isEqualTo(getRef());
+            conciergeEnforcer.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void sendsLiveThingCommandsToConcierge() {
+        new TestKit(actorSystem) {{
+            final TestProbe pubSubMediator = TestProbe.apply(actorSystem);
+            final TestProbe conciergeEnforcer = TestProbe.apply(actorSystem);
+            final TestProbe thingsShardRegion = TestProbe.apply(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(ConciergeForwarderActor.propsWithDirectThingCommands(
+                    pubSubMediator.ref(), conciergeEnforcer.ref(), thingsShardRegion.ref()));
+
+            final ModifyAttribute liveCommand = ModifyAttribute.of(THING_ID, JsonPointer.of("live"),
+                    JsonValue.of(true),
+                    DittoHeaders.newBuilder().channel(TopicPath.Channel.LIVE.getName()).build());
+            underTest.tell(liveCommand, getRef());
+
+            final ConsistentHashingRouter.ConsistentHashableEnvelope envelope =
+                    conciergeEnforcer.expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+            assertThat(envelope.message()).isEqualTo(liveCommand);
+            thingsShardRegion.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void sendsTwinThingCommandsToConciergeWithoutThingsShardRegion() {
+        new TestKit(actorSystem) {{
+            final TestProbe pubSubMediator = TestProbe.apply(actorSystem);
+            final TestProbe conciergeEnforcer = TestProbe.apply(actorSystem);
+            final ActorRef underTest =
+                    actorSystem.actorOf(ConciergeForwarderActor.props(pubSubMediator.ref(), conciergeEnforcer.ref()));
+
+            final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, DittoHeaders.empty());
+            underTest.tell(retrieveThing, getRef());
+
+            final ConsistentHashingRouter.ConsistentHashableEnvelope envelope =
+                    conciergeEnforcer.expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+            assertThat(envelope.message()).isEqualTo(retrieveThing);
+        }};
+    }
+
+}
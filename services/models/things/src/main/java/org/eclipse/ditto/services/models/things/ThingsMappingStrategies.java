@@ -38,6 +38,8 @@ public final class ThingsMappingStrategies extends AbstractGlobalMappingStrategi
                 .add(ThingTag.class, jsonObject -> ThingTag.fromJson(jsonObject))  // do not replace with lambda!
                 .add(BatchedEntityIdWithRevisions.typeOf(ThingTag.class),
                         BatchedEntityIdWithRevisions.deserializer(jsonObject -> ThingTag.fromJson(jsonObject)))
+                .add(UnenforcedThingCommand.class,
+                        (jsonObject, dittoHeaders) -> UnenforcedThingCommand.fromJson(jsonObject, dittoHeaders))
                 .build().getStrategies();
     }
 
@@ -38,6 +38,11 @@ public final class ThingsMessagingConstants {
      */
     public static final String THINGS_SNAPSHOT_STREAMING_ACTOR_PATH = ROOT_ACTOR_PATH + "/snapshotStreamingActor";
 
+    /**
+     * Path of the actor enforcing unenforced thing commands if co-located enforcement is enabled.
+     */
+    public static final String ENFORCER_ACTOR_PATH = ROOT_ACTOR_PATH + "/enforcer";
+
     /**
      * Name of the shard region for Thing entities.
      */
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.things;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.WithId;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+
+/**
+ * A thing command which was not yet authorized. It is sent directly to the things shard region and must be enforced
+ * by the Things service before it reaches the thing entity. A things shard without co-located enforcement rejects it.
+ */
+@Immutable
+public final class UnenforcedThingCommand
+        implements Jsonifiable<JsonObject>, WithDittoHeaders<UnenforcedThingCommand>, WithId {
+
+    private final ThingCommand<?> command;
+
+    private UnenforcedThingCommand(final ThingCommand<?> command) {
+        this.command = command;
+    }
+
+    /**
+     * Returns a new {@code UnenforcedThingCommand}.
+     *
+     * @param command the thing command to enforce.
+     * @return the wrapped command.
+     * @throws NullPointerException if {@code command} is {@code null}.
+     */
+    public static UnenforcedThingCommand of(final ThingCommand<?> command) {
+        return new UnenforcedThingCommand(checkNotNull(command, "command"));
+    }
+
+    /**
+     * Creates a new {@code UnenforcedThingCommand} from the JSON of the wrapped command.
+     *
+     * @param jsonObject the JSON of the thing command.
+     * @param dittoHeaders the headers of the thing command.
+     * @return the wrapped command.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonObject} is not the JSON of a thing command.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code jsonObject} is not a known command.
+     */
+    public static UnenforcedThingCommand fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        checkNotNull(jsonObject, "JSON object");
+        final Command<?> command = GlobalCommandRegistry.getInstance().parse(jsonObject, dittoHeaders);
+        if (!(command instanceof ThingCommand)) {
+            throw new IllegalArgumentException("Not a thing command: <" + command + ">");
+        }
+        return of((ThingCommand<?>) command);
+    }
+
+    /**
+     * Returns the thing command to enforce.
+     *
+     * @return the command.
+     */
+    public ThingCommand<?> getCommand() {
+        return command;
+    }
+
+    @Override
+    public ThingId getEntityId() {
+        return command.getThingEntityId();
+    }
+
+    @Override
+    public DittoHeaders getDittoHeaders() {
+        return command.getDittoHeaders();
+    }
+
+    @Override
+    public UnenforcedThingCommand setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(command.setDittoHeaders(dittoHeaders));
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return command.toJson();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final UnenforcedThingCommand that = (UnenforcedThingCommand) o;
+        return Objects.equals(command, that.command);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(command);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "command=" + command +
+                "]";
+    }
+
+}
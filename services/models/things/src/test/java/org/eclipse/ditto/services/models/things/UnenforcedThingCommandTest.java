@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.signals.commands.namespaces.PurgeNamespace;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteAttribute;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link UnenforcedThingCommand}.
+ */
+public final class UnenforcedThingCommandTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .correlationId("unenforced")
+            .authorizationSubjects("test:subject")
+            .build();
+
+    @Test
+    public void jsonRoundTripKeepsCommandAndHeaders() {
+        final DeleteAttribute command =
+                DeleteAttribute.of(TestConstants.Thing.THING_ID, JsonPointer.of("location"), DITTO_HEADERS);
+        final UnenforcedThingCommand underTest = UnenforcedThingCommand.of(command);
+
+        final UnenforcedThingCommand deserialized =
+                UnenforcedThingCommand.fromJson(underTest.toJson(), underTest.getDittoHeaders());
+
+        assertThat(deserialized).isEqualTo(underTest);
+        assertThat(deserialized.getCommand()).isEqualTo(command);
+        assertThat((CharSequence) deserialized.getEntityId()).isEqualTo(TestConstants.Thing.THING_ID);
+    }
+
+    @Test
+    public void fromJsonRejectsOtherCommands() {
+        final PurgeNamespace purgeNamespace = PurgeNamespace.of("org.eclipse.ditto", DITTO_HEADERS);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> UnenforcedThingCommand.fromJson(purgeNamespace.toJson(), DITTO_HEADERS));
+    }
+
+}
@@ -48,6 +48,12 @@ public final class ThingsSearchConstants {
      */
     public static final String SEARCH_ACTOR_PATH = ROOT_ACTOR_PATH + "/thingsSearch";
 
+    /**
+     * Header of a query command which opts in to results projected out of the eventually consistent search index
+     * instead of things retrieved from the things service if its value is {@code true}.
+     */
+    public static final String SEARCH_FROM_INDEX_HEADER = "search-from-index";
+
     /*
      * Inhibit instantiation of this utility class.
      */
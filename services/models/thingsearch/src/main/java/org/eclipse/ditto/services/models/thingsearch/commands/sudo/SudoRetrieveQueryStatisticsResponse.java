@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+
+/**
+ * Response to a {@link SudoRetrieveQueryStatistics} containing the statistics of the shapes of search queries.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = SudoRetrieveQueryStatisticsResponse.TYPE)
+public final class SudoRetrieveQueryStatisticsResponse
+        extends AbstractCommandResponse<SudoRetrieveQueryStatisticsResponse>
+        implements ThingSearchSudoCommandResponse<SudoRetrieveQueryStatisticsResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + SudoRetrieveQueryStatistics.NAME;
+
+    private final JsonObject queryStatistics;
+
+    private SudoRetrieveQueryStatisticsResponse(final JsonObject queryStatistics, final DittoHeaders dittoHeaders) {
+        super(TYPE, HttpStatusCode.OK, dittoHeaders);
+        this.queryStatistics = queryStatistics;
+    }
+
+    /**
+     * Returns a new instance of {@code SudoRetrieveQueryStatisticsResponse}.
+     *
+     * @param queryStatistics the statistics of the shapes of search queries.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return a new retrieve command response object.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrieveQueryStatisticsResponse of(final JsonObject queryStatistics,
+            final DittoHeaders dittoHeaders) {
+
+        checkNotNull(queryStatistics, "query statistics");
+
+        return new SudoRetrieveQueryStatisticsResponse(queryStatistics, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrieveQueryStatistics} command from a JSON string.
+     *
+     * @param jsonString the JSON string of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveQueryStatisticsResponse fromJson(final String jsonString,
+            final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrieveQueryStatistics} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveQueryStatisticsResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+        return new CommandResponseJsonDeserializer<SudoRetrieveQueryStatisticsResponse>(TYPE, jsonObject)
+                .deserialize(statusCode ->
+                        of(jsonObject.getValueOrThrow(JsonFields.PAYLOAD).asObject(), dittoHeaders));
+    }
+
+    /**
+     * Returns the statistics of the shapes of search queries.
+     *
+     * @return the statistics.
+     */
+    public JsonObject getQueryStatistics() {
+        return queryStatistics;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.PAYLOAD, queryStatistics, predicate);
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return queryStatistics;
+    }
+
+    @Override
+    public SudoRetrieveQueryStatisticsResponse setEntity(final JsonValue entity) {
+        checkNotNull(entity, "entity");
+        return of(entity.asObject(), getDittoHeaders());
+    }
+
+    @Override
+    public SudoRetrieveQueryStatisticsResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(queryStatistics, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), queryStatistics);
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067"})
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SudoRetrieveQueryStatisticsResponse that = (SudoRetrieveQueryStatisticsResponse) o;
+        return that.canEqual(this) &&
+                Objects.equals(queryStatistics, that.queryStatistics) &&
+                super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(final Object other) {
+        return other instanceof SudoRetrieveQueryStatisticsResponse;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [queryStatistics=" + queryStatistics + "]";
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
+import org.junit.Test;
+import org.mutabilitydetector.unittesting.MutabilityMatchers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests the {@link SudoRetrieveQueryStatistics}.
+ */
+public final class SudoRetrieveQueryStatisticsTest {
+
+    private static final String JSON_V1 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.ID, SudoRetrieveQueryStatistics.NAME)
+            .build().toString();
+
+    private static final String JSON_V2 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.TYPE, SudoRetrieveQueryStatistics.TYPE)
+            .build().toString();
+
+    /** */
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoRetrieveQueryStatistics.class,
+                MutabilityMatchers.areImmutable(),
+                provided(AuthorizationContext.class, JsonFieldSelector.class).isAlsoImmutable());
+    }
+
+    /** */
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoRetrieveQueryStatistics.class)
+                .usingGetClass()
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    /** */
+    @Test
+    public void toJsonWithSchemaVersion1ReturnsExpected() {
+        final SudoRetrieveQueryStatistics underTest = SudoRetrieveQueryStatistics.of(DittoHeaders.empty());
+        final JsonValue jsonValue = underTest.toJson(JsonSchemaVersion.V_1, FieldType.regularOrSpecial());
+
+        assertThat(jsonValue.toString()).isEqualTo(JSON_V1);
+    }
+
+    /** */
+    @Test
+    public void toJsonWithSchemaVersion2ReturnsExpected() {
+        final SudoRetrieveQueryStatistics underTest = SudoRetrieveQueryStatistics.of(DittoHeaders.empty());
+        final JsonValue jsonValue = underTest.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+
+        assertThat(jsonValue.toString()).isEqualTo(JSON_V2);
+    }
+
+}
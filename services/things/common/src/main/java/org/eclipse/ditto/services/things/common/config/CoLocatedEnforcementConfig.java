@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.concierge.common.CachesConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for enforcing thing commands inside the Things service next to the thing entities.
+ */
+@Immutable
+public interface CoLocatedEnforcementConfig {
+
+    /**
+     * Indicates whether thing commands sent directly to the things shard region are enforced by the Things service.
+     *
+     * @return {@code true} if co-located enforcement is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the config of the caches of the co-located enforcer.
+     *
+     * @return the config.
+     */
+    CachesConfig getCachesConfig();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code CoLocatedEnforcementConfig}.
+     */
+    enum CoLocatedEnforcementConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether co-located enforcement is enabled.
+         */
+        ENABLED("enabled", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        private CoLocatedEnforcementConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.common.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.concierge.common.CachesConfig;
+import org.eclipse.ditto.services.concierge.common.DefaultCachesConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of the co-located enforcement config.
+ */
+@Immutable
+public final class DefaultCoLocatedEnforcementConfig implements CoLocatedEnforcementConfig {
+
+    private static final String CONFIG_PATH = "co-located-enforcement";
+
+    private final boolean enabled;
+    private final CachesConfig cachesConfig;
+
+    private DefaultCoLocatedEnforcementConfig(final ScopedConfig scopedConfig) {
+        enabled = scopedConfig.getBoolean(CoLocatedEnforcementConfigValue.ENABLED.getConfigPath());
+        cachesConfig = DefaultCachesConfig.of(scopedConfig);
+    }
+
+    /**
+     * Returns an instance of the co-located enforcement config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the co-located enforcement config at
+     * {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCoLocatedEnforcementConfig of(final Config config) {
+        return new DefaultCoLocatedEnforcementConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CoLocatedEnforcementConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public CachesConfig getCachesConfig() {
+        return cachesConfig;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCoLocatedEnforcementConfig that = (DefaultCoLocatedEnforcementConfig) o;
+        return enabled == that.enabled &&
+                Objects.equals(cachesConfig, that.cachesConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, cachesConfig);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", cachesConfig=" + cachesConfig +
+                "]";
+    }
+
+}
@@ -47,6 +47,7 @@ public final class DittoThingsConfig implements ThingsConfig {
     private final HealthCheckConfig healthCheckConfig;
     private final TagsConfig tagsConfig;
     private final ThingConfig thingConfig;
+    private final CoLocatedEnforcementConfig coLocatedEnforcementConfig;
 
     private DittoThingsConfig(final ScopedConfig dittoScopedConfig) {
         serviceSpecificConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -56,6 +57,7 @@ public final class DittoThingsConfig implements ThingsConfig {
         healthCheckConfig = DefaultHealthCheckConfig.of(dittoScopedConfig);
         tagsConfig = DefaultTagsConfig.of(serviceSpecificConfig);
         thingConfig = DefaultThingConfig.of(serviceSpecificConfig);
+        coLocatedEnforcementConfig = DefaultCoLocatedEnforcementConfig.of(serviceSpecificConfig);
     }
 
     /**
@@ -120,6 +122,11 @@ public final class DittoThingsConfig implements ThingsConfig {
         return thingConfig;
     }
 
+    @Override
+    public CoLocatedEnforcementConfig getCoLocatedEnforcementConfig() {
+        return coLocatedEnforcementConfig;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -135,13 +142,14 @@ public final class DittoThingsConfig implements ThingsConfig {
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
                 Objects.equals(tagsConfig, that.tagsConfig) &&
-                Objects.equals(thingConfig, that.thingConfig);
+                Objects.equals(thingConfig, that.thingConfig) &&
+                Objects.equals(coLocatedEnforcementConfig, that.coLocatedEnforcementConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(serviceSpecificConfig, logIncomingMessages, persistenceOperationsConfig, mongoDbConfig,
-                healthCheckConfig, tagsConfig, thingConfig);
+                healthCheckConfig, tagsConfig, thingConfig, coLocatedEnforcementConfig);
     }
 
     @Override
@@ -154,6 +162,7 @@ public final class DittoThingsConfig implements ThingsConfig {
                 ", healthCheckConfig=" + healthCheckConfig +
                 ", tagsConfig=" + tagsConfig +
                 ", thingConfig=" + thingConfig +
+                ", coLocatedEnforcementConfig=" + coLocatedEnforcementConfig +
                 "]";
     }
 
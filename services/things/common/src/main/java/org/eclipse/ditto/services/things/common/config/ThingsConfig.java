@@ -43,6 +43,13 @@ public interface ThingsConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     ThingConfig getThingConfig();
 
+    /**
+     * Returns the configuration settings for enforcing thing commands next to the thing entities.
+     *
+     * @return the config.
+     */
+    CoLocatedEnforcementConfig getCoLocatedEnforcementConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for {@code ThingsConfig}.
      */
@@ -24,7 +24,7 @@ import org.eclipse.ditto.services.things.common.config.ThingConfig;
 import org.eclipse.ditto.services.things.persistence.actors.strategies.commands.ThingCommandStrategies;
 import org.eclipse.ditto.services.things.persistence.actors.strategies.events.ThingEventStrategies;
 import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
@@ -72,9 +72,8 @@ public final class ThingPersistenceActor
             final SnapshotAdapter<Thing> snapshotAdapter) {
 
         super(thingId, snapshotAdapter);
-        final DittoThingsConfig thingsConfig = DittoThingsConfig.of(
-                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        );
+        final DittoThingsConfig thingsConfig = DittoConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoThingsConfig.class, DittoThingsConfig::of);
         thingConfig = thingsConfig.getThingConfig();
         this.distributedPub = distributedPub;
     }
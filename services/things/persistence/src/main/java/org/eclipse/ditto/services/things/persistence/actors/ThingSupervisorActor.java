@@ -23,8 +23,10 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.models.things.UnenforcedThingCommand;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
@@ -33,6 +35,7 @@ import org.eclipse.ditto.signals.events.things.ThingEvent;
 import akka.actor.ActorKilledException;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Supervisor for {@link ThingPersistenceActor} which means it will create, start and watch it as child actor.
@@ -41,12 +44,17 @@ import akka.actor.Props;
  * Between the termination of the child and the restart, this actor answers to all requests with a
  * {@link ThingUnavailableException} as fail fast strategy.
  * </p>
+ * <p>
+ * If co-located enforcement is enabled, {@link UnenforcedThingCommand}s are passed to the enforcer of this instance,
+ * which sends the authorized commands back through the shard region. Otherwise they are rejected.
+ * </p>
  */
 public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<ThingId> {
 
     private final ActorRef pubSubMediator;
     private final DistributedPub<ThingEvent> distributedPub;
     private final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory;
+    private final boolean coLocatedEnforcement;
 
     @SuppressWarnings("unused")
     private ThingSupervisorActor(final ActorRef pubSubMediator,
@@ -56,6 +64,7 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
         this.pubSubMediator = pubSubMediator;
         this.distributedPub = distributedPub;
         this.thingPersistenceActorPropsFactory = thingPersistenceActorPropsFactory;
+        coLocatedEnforcement = getThingsConfig().getCoLocatedEnforcementConfig().isEnabled();
     }
 
     /**
@@ -108,10 +117,32 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
     @Override
     @Nonnull
     protected ExponentialBackOffConfig getExponentialBackOffConfig() {
-        return DittoThingsConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+        return getThingsConfig()
                 .getThingConfig()
                 .getSupervisorConfig()
                 .getExponentialBackOffConfig();
     }
 
+    @Override
+    protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
+        receiveBuilder.match(UnenforcedThingCommand.class, this::enforce);
+    }
+
+    private void enforce(final UnenforcedThingCommand unenforcedThingCommand) {
+        if (coLocatedEnforcement) {
+            getContext().actorSelection(ThingsMessagingConstants.ENFORCER_ACTOR_PATH)
+                    .forward(unenforcedThingCommand.getCommand(), getContext());
+        } else {
+            log.warning("Got <{}> although co-located enforcement is disabled; rejecting it.",
+                    unenforcedThingCommand.getCommand().getType());
+            getSender().tell(getUnavailableExceptionBuilder(unenforcedThingCommand.getEntityId())
+                    .dittoHeaders(unenforcedThingCommand.getDittoHeaders())
+                    .build(), getSelf());
+        }
+    }
+
+    private DittoThingsConfig getThingsConfig() {
+        return DittoConfigCache.get(getContext().getSystem()).getOrCreate(DittoThingsConfig.class, DittoThingsConfig::of);
+    }
+
 }
@@ -67,6 +67,7 @@ import org.eclipse.ditto.model.things.ThingLifecycle;
 import org.eclipse.ditto.model.things.ThingRevision;
 import org.eclipse.ditto.model.things.ThingTooLargeException;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.things.UnenforcedThingCommand;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.test.Retry;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
@@ -203,6 +204,29 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void supervisorRejectsUnenforcedThingCommandWithoutCoLocatedEnforcement() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = getIdOrThrow(thing);
+                final ActorRef underTest = createSupervisorActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // the command must neither be enforced nor reach the thing without enforcement
+                final ModifyAttribute modifyAttribute =
+                        ModifyAttribute.of(thingId, JsonPointer.of("unenforced"), JsonValue.of(true), dittoHeadersV2);
+                underTest.tell(UnenforcedThingCommand.of(modifyAttribute), getRef());
+                expectMsgClass(ThingUnavailableException.class);
+
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                expectMsgEquals(retrieveThingResponse(thing, thing.toJson(), dittoHeadersV2));
+            }
+        };
+    }
+
     @Test
     public void tryToModifyFeaturePropertyAndReceiveCorrectErrorCode() {
         final ThingId thingId = ThingId.of("org.eclipse.ditto", "myThing");
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.FeatureProperties;
+import org.eclipse.ditto.model.things.FeaturePropertiesBuilder;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.things.persistence.actors.strategies.events.ThingEventStrategies;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for applying {@link FeaturePropertyModified} events to a thing with many feature properties.
+ * <p>
+ * Large JSON objects share their structure when they are modified. The benchmark with copied fields disables
+ * structural sharing via the system property {@code ditto.json.persistent-fields-threshold} in order to compare
+ * against copying all fields on each modification.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class ThingEventStrategiesBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "benchmark");
+    private static final String FEATURE_ID = "sensors";
+    private static final int EVENTS = 1_000;
+
+    private static final ThingEventStrategies STRATEGIES = ThingEventStrategies.getInstance();
+
+    @Param({"100", "2000"})
+    private int propertyCount;
+
+    private Thing thing;
+    private FeaturePropertyModified[] events;
+
+    @Setup
+    public void setUp() {
+        final FeaturePropertiesBuilder propertiesBuilder = FeatureProperties.newBuilder();
+        for (int i = 0; i < propertyCount; i++) {
+            propertiesBuilder.set("property" + i, i);
+        }
+        final FeatureProperties properties = propertiesBuilder.build();
+        thing = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setFeature(Feature.newBuilder().properties(properties).withId(FEATURE_ID).build())
+                .setRevision(0L)
+                .build();
+
+        events = new FeaturePropertyModified[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            events[i] = FeaturePropertyModified.of(THING_ID, FEATURE_ID,
+                    JsonPointer.of("property" + (i * 31 % propertyCount)), JsonValue.of(-i), i + 1L,
+                    DittoHeaders.empty());
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Thing applyFeaturePropertyModifiedEvents() {
+        return applyEvents();
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dditto.json.persistent-fields-threshold=2147483647")
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Thing applyFeaturePropertyModifiedEventsWithCopiedFields() {
+        return applyEvents();
+    }
+
+    private Thing applyEvents() {
+        Thing result = thing;
+        for (final FeaturePropertyModified event : events) {
+            result = STRATEGIES.handle(event, result, event.getRevision());
+        }
+        return result;
+    }
+
+}
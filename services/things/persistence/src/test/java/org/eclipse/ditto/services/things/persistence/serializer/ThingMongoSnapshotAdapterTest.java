@@ -17,9 +17,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.bson.BsonDocument;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.persistence.SnapshotMetadata;
 import akka.persistence.SnapshotOffer;
 
@@ -48,4 +51,32 @@ public final class ThingMongoSnapshotAdapterTest {
         assertThat(restoredThing).isEqualTo(thing);
     }
 
+    @Test
+    public void compressedSnapshotRoundtripReturnsExpected() {
+        final ThingMongoSnapshotAdapter compressingAdapter = new ThingMongoSnapshotAdapter(
+                DefaultSnapshotConfig.of(ConfigFactory.parseString("snapshot.compression-threshold = 1")));
+        final Thing thing = TestConstants.Thing.THING_V2;
+
+        final BsonDocument compressed = (BsonDocument) compressingAdapter.toSnapshotStore(thing);
+
+        assertThat(compressed.containsKey("_data")).isTrue();
+        assertThat(compressed.getString("thingId").getValue()).isEqualTo(TestConstants.Thing.THING_ID.toString());
+        assertThat(compressed.containsKey("attributes")).isFalse();
+        assertThat(underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, compressed))).isEqualTo(thing);
+    }
+
+    @Test
+    public void estimatesSizeOfCompressedSnapshotsOnly() {
+        final ThingMongoSnapshotAdapter compressingAdapter = new ThingMongoSnapshotAdapter(
+                DefaultSnapshotConfig.of(ConfigFactory.parseString("snapshot.compression-threshold = 1")));
+        final Thing thing = TestConstants.Thing.THING_V2;
+
+        final BsonDocument compressed = (BsonDocument) compressingAdapter.toSnapshotStore(thing);
+        final BsonDocument uncompressed = (BsonDocument) underTest.toSnapshotStore(thing);
+
+        assertThat(underTest.estimateSize(new SnapshotOffer(SNAPSHOT_METADATA, compressed)))
+                .isEqualTo(compressed.getInt32("_size").getValue());
+        assertThat(underTest.estimateSize(new SnapshotOffer(SNAPSHOT_METADATA, uncompressed))).isZero();
+    }
+
 }
\ No newline at end of file
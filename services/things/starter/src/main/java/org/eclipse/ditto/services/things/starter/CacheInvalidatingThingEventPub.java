@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.starter;
+
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
+import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.events.things.AclEntryCreated;
+import org.eclipse.ditto.signals.events.things.AclEntryDeleted;
+import org.eclipse.ditto.signals.events.things.AclEntryModified;
+import org.eclipse.ditto.signals.events.things.AclModified;
+import org.eclipse.ditto.signals.events.things.PolicyIdCreated;
+import org.eclipse.ditto.signals.events.things.PolicyIdModified;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSelection;
+
+/**
+ * Publishes thing events and invalidates the cache entries of the co-located enforcer for the thing of each event
+ * which may change its authorization. All events of the things hosted by this instance pass here, no matter whether
+ * the command was enforced by the co-located enforcer or by the concierge service.
+ */
+final class CacheInvalidatingThingEventPub implements DistributedPub<ThingEvent> {
+
+    private final DistributedPub<ThingEvent> delegate;
+    private final ActorSelection enforcer;
+
+    private CacheInvalidatingThingEventPub(final DistributedPub<ThingEvent> delegate,
+            final ActorSelection enforcer) {
+
+        this.delegate = delegate;
+        this.enforcer = enforcer;
+    }
+
+    /**
+     * Returns a new {@code CacheInvalidatingThingEventPub}.
+     *
+     * @param delegate the distributed pub to publish the events with.
+     * @param enforcer the co-located enforcer whose cache entries to invalidate.
+     * @return the distributed pub.
+     */
+    static CacheInvalidatingThingEventPub of(final DistributedPub<ThingEvent> delegate,
+            final ActorSelection enforcer) {
+
+        return new CacheInvalidatingThingEventPub(delegate, enforcer);
+    }
+
+    @Override
+    public ActorRef getPublisher() {
+        return delegate.getPublisher();
+    }
+
+    @Override
+    public Object wrapForPublication(final ThingEvent message) {
+        return delegate.wrapForPublication(message);
+    }
+
+    @Override
+    public void publish(final ThingEvent message, final ActorRef sender) {
+        if (changesAuthorization(message)) {
+            final EntityIdWithResourceType entityId =
+                    EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, message.getThingEntityId());
+            enforcer.tell(InvalidateCacheEntry.of(entityId), ActorRef.noSender());
+        }
+        delegate.publish(message, sender);
+    }
+
+    private static boolean changesAuthorization(final ThingEvent<?> event) {
+        return event instanceof ThingCreated ||
+                event instanceof ThingModified ||
+                event instanceof ThingDeleted ||
+                event instanceof PolicyIdCreated ||
+                event instanceof PolicyIdModified ||
+                event instanceof AclModified ||
+                event instanceof AclEntryCreated ||
+                event instanceof AclEntryModified ||
+                event instanceof AclEntryDeleted;
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.starter;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.concierge.common.CachesConfig;
+import org.eclipse.ditto.services.concierge.enforcement.DefaultPreEnforcement;
+import org.eclipse.ditto.services.concierge.enforcement.EnforcementProvider;
+import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
+import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
+import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
+import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
+import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
+import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.AclEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+
+import akka.actor.ActorContext;
+import akka.actor.ActorRef;
+import akka.cluster.sharding.ClusterSharding;
+import akka.dispatch.MessageDispatcher;
+
+/**
+ * Starts the enforcer of thing commands which runs next to the thing entities of this instance.
+ * <p>
+ * The enforcer only enforces twin thing commands; live signals and policy commands are still enforced by the
+ * concierge service. Its caches are invalidated by the events of the things hosted by this instance and by the
+ * policy events of the whole cluster.
+ * </p>
+ */
+final class CoLocatedEnforcerActorFactory {
+
+    private static final String ENFORCER_CACHE_METRIC_NAME_PREFIX = "ditto_things_co_located_enforcer_cache_";
+    private static final String ID_CACHE_METRIC_NAME_PREFIX = "ditto_things_co_located_id_cache_";
+
+    private CoLocatedEnforcerActorFactory() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Starts the co-located enforcer and the actors it depends on as children of the given context.
+     *
+     * @param context the context of the Things root actor.
+     * @param cachesConfig the config of the enforcer's caches.
+     * @param pubSubMediator the pub-sub mediator.
+     * @param thingsShardRegion the things shard region of this instance.
+     * @param shardRegionExtractor the shard region extractor.
+     * @param numberOfShards the number of shards of the cluster.
+     * @param blockedNamespaces the blocked namespaces.
+     * @return the enforcer.
+     */
+    static ActorRef startEnforcerActor(final ActorContext context,
+            final CachesConfig cachesConfig,
+            final ActorRef pubSubMediator,
+            final ActorRef thingsShardRegion,
+            final ShardRegionExtractor shardRegionExtractor,
+            final int numberOfShards,
+            final BlockedNamespaces blockedNamespaces) {
+
+        final ActorRef policiesShardRegionProxy = ClusterSharding.get(context.system())
+                .startProxy(PoliciesMessagingConstants.SHARD_REGION,
+                        Optional.of(PoliciesMessagingConstants.CLUSTER_ROLE), shardRegionExtractor);
+
+        // retrieving policies to copy them must be authorized by the concierge service
+        final ActorRef conciergeEnforcerRouter =
+                ConciergeEnforcerClusterRouterFactory.createConciergeEnforcerClusterRouter(context, numberOfShards);
+        final ActorRef conciergeForwarder =
+                context.actorOf(ConciergeForwarderActor.props(pubSubMediator, conciergeEnforcerRouter),
+                        ConciergeForwarderActor.ACTOR_NAME);
+
+        return startEnforcerActor(context, cachesConfig, pubSubMediator, thingsShardRegion, policiesShardRegionProxy,
+                conciergeForwarder, blockedNamespaces);
+    }
+
+    /**
+     * Starts the co-located enforcer and the cache invalidator of policy events as children of the given context.
+     *
+     * @param context the context of the Things root actor.
+     * @param cachesConfig the config of the enforcer's caches.
+     * @param pubSubMediator the pub-sub mediator.
+     * @param thingsShardRegion the things shard region of this instance.
+     * @param policiesShardRegion the policies shard region or a proxy of it.
+     * @param conciergeForwarder the forwarder of commands which must be enforced by the concierge service.
+     * @param blockedNamespaces the blocked namespaces.
+     * @return the enforcer.
+     */
+    static ActorRef startEnforcerActor(final ActorContext context,
+            final CachesConfig cachesConfig,
+            final ActorRef pubSubMediator,
+            final ActorRef thingsShardRegion,
+            final ActorRef policiesShardRegion,
+            final ActorRef conciergeForwarder,
+            final BlockedNamespaces blockedNamespaces) {
+
+        final MessageDispatcher dispatcher = context.system().dispatcher();
+        final Duration askTimeout = cachesConfig.getAskTimeout();
+
+        final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache =
+                CacheFactory.createCache(new ThingEnforcementIdCacheLoader(askTimeout, thingsShardRegion),
+                        cachesConfig.getIdCacheConfig(),
+                        ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE,
+                        dispatcher);
+
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
+                CacheFactory.createCache(new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegion),
+                        cachesConfig.getEnforcerCacheConfig(),
+                        ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
+                        dispatcher,
+                        (key, entry) -> entry.getWeight());
+
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache =
+                CacheFactory.createCache(new AclEnforcerCacheLoader(askTimeout, thingsShardRegion),
+                        cachesConfig.getEnforcerCacheConfig(),
+                        ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl",
+                        dispatcher,
+                        (key, entry) -> entry.getWeight());
+
+        final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer =
+                DefaultPreEnforcement.newPreEnforcer(blockedNamespaces, PlaceholderSubstitution.newInstance());
+
+        final Set<EnforcementProvider<?>> enforcementProviders =
+                Collections.singleton(new ThingCommandEnforcement.Provider(thingsShardRegion,
+                        policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer));
+
+        final ActorRef enforcer = context.actorOf(EnforcerActor.props(pubSubMediator, enforcementProviders,
+                conciergeForwarder, preEnforcer, thingIdCache, aclEnforcerCache, policyEnforcerCache),
+                EnforcerActor.ACTOR_NAME);
+
+        context.actorOf(PolicyEventCacheInvalidator.props(pubSubMediator, enforcer),
+                PolicyEventCacheInvalidator.ACTOR_NAME);
+
+        return enforcer;
+    }
+
+}
@@ -13,12 +13,15 @@
 package org.eclipse.ditto.services.things.starter;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.argumentNotEmpty;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorPropsFactory;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
@@ -30,21 +33,27 @@ import akka.actor.Props;
 @Immutable
 final class DefaultThingPersistenceActorPropsFactory implements ThingPersistenceActorPropsFactory {
 
-    private DefaultThingPersistenceActorPropsFactory() {}
+    private final ThingMongoSnapshotAdapter snapshotAdapter;
+
+    private DefaultThingPersistenceActorPropsFactory(final ThingMongoSnapshotAdapter snapshotAdapter) {
+        this.snapshotAdapter = snapshotAdapter;
+    }
 
     /**
      * Returns an instance of {@code ThingPersistenceActorPropsFactory}.
      *
+     * @param snapshotConfig the config of thing snapshots.
      * @return the instance.
      * @throws NullPointerException if any argument is {@code null}.
      */
-    static DefaultThingPersistenceActorPropsFactory getInstance() {
-        return new DefaultThingPersistenceActorPropsFactory();
+    static DefaultThingPersistenceActorPropsFactory getInstance(final SnapshotConfig snapshotConfig) {
+        checkNotNull(snapshotConfig, "snapshotConfig");
+        return new DefaultThingPersistenceActorPropsFactory(new ThingMongoSnapshotAdapter(snapshotConfig));
     }
 
     @Override
     public Props props(final ThingId thingId, final DistributedPub<ThingEvent> distributedPub) {
         argumentNotEmpty(thingId);
-        return ThingPersistenceActor.props(thingId, distributedPub);
+        return ThingPersistenceActor.props(thingId, distributedPub, snapshotAdapter);
     }
 }
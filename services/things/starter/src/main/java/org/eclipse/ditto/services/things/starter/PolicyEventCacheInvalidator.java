@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.starter;
+
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Invalidates the policy enforcer of the co-located enforcer on each policy event, wherever the policy was modified.
+ * Subscribes in a group of its own so that each instance of the Things service receives every policy event.
+ */
+final class PolicyEventCacheInvalidator extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    static final String ACTOR_NAME = "policyEventCacheInvalidator";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ActorRef enforcer;
+
+    @SuppressWarnings("unused")
+    private PolicyEventCacheInvalidator(final ActorRef pubSubMediator, final ActorRef enforcer) {
+        this.enforcer = enforcer;
+        final String group = ACTOR_NAME + "-" + Cluster.get(getContext().getSystem()).selfUniqueAddress().longUid();
+        pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(PolicyEvent.TYPE_PREFIX, group, getSelf()), getSelf());
+    }
+
+    /**
+     * Create Props object for this actor.
+     *
+     * @param pubSubMediator the pub-sub mediator to subscribe for policy events.
+     * @param enforcer the co-located enforcer.
+     * @return the Props.
+     */
+    static Props props(final ActorRef pubSubMediator, final ActorRef enforcer) {
+        return Props.create(PolicyEventCacheInvalidator.class, pubSubMediator, enforcer);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(PolicyEvent.class, this::invalidate)
+                .match(DistributedPubSubMediator.SubscribeAck.class, ack ->
+                        log.debug("Subscribed for policy events: <{}>", ack))
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    private void invalidate(final PolicyEvent<?> policyEvent) {
+        final EntityIdWithResourceType entityId =
+                EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyEvent.getPolicyEntityId());
+        enforcer.tell(InvalidateCacheEntry.of(entityId), getSelf());
+    }
+
+}
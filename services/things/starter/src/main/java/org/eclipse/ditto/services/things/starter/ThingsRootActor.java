@@ -23,6 +23,7 @@ import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.things.common.config.CoLocatedEnforcementConfig;
 import org.eclipse.ditto.services.things.common.config.ThingsConfig;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorPropsFactory;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceOperationsActor;
@@ -30,6 +31,7 @@ import org.eclipse.ditto.services.things.persistence.actors.ThingSupervisorActor
 import org.eclipse.ditto.services.things.persistence.actors.ThingsPersistenceStreamingActorCreator;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
+import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsResponseSupplier;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
@@ -40,6 +42,7 @@ import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.MetricsReporterConfig;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
@@ -53,7 +56,6 @@ import akka.actor.ActorSystem;
 import akka.actor.CoordinatedShutdown;
 import akka.actor.Props;
 import akka.cluster.Cluster;
-import akka.cluster.sharding.ClusterSharding;
 import akka.cluster.sharding.ClusterShardingSettings;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.http.javadsl.ConnectHttp;
@@ -90,13 +92,29 @@ public final class ThingsRootActor extends DittoRootActor {
         final ShardRegionExtractor shardRegionExtractor =
                 ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem);
         final ThingEventPubSubFactory pubSubFactory = ThingEventPubSubFactory.of(getContext(), shardRegionExtractor);
-        final DistributedPub<ThingEvent> distributedPub = pubSubFactory.startDistributedPub();
+        final CoLocatedEnforcementConfig coLocatedEnforcementConfig = thingsConfig.getCoLocatedEnforcementConfig();
+        final DistributedPub<ThingEvent> distributedPub;
+        if (coLocatedEnforcementConfig.isEnabled()) {
+            distributedPub = CacheInvalidatingThingEventPub.of(pubSubFactory.startDistributedPub(),
+                    getContext().actorSelection(ThingsMessagingConstants.ENFORCER_ACTOR_PATH));
+        } else {
+            distributedPub = pubSubFactory.startDistributedPub();
+        }
 
-        final ActorRef thingsShardRegion = ClusterSharding.get(actorSystem)
-                .start(ThingsMessagingConstants.SHARD_REGION,
-                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory),
-                        ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE),
-                        shardRegionExtractor);
+        final ActorRef thingsShardRegion = ClusterUtil.startShardRegion(actorSystem, clusterConfig,
+                ThingsMessagingConstants.SHARD_REGION,
+                getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory),
+                ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE),
+                shardRegionExtractor);
+
+        // all members with the role "blocked-namespaces-aware" must run the replicator of the blocked namespaces
+        final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
+        if (coLocatedEnforcementConfig.isEnabled()) {
+            log.info("Starting co-located enforcement of thing commands.");
+            CoLocatedEnforcerActorFactory.startEnforcerActor(getContext(),
+                    coLocatedEnforcementConfig.getCachesConfig(), pubSubMediator, thingsShardRegion,
+                    shardRegionExtractor, clusterConfig.getNumberOfShards(), blockedNamespaces);
+        }
 
         startChildActor(ThingPersistenceOperationsActor.ACTOR_NAME,
                 ThingPersistenceOperationsActor.props(pubSubMediator, thingsConfig.getMongoDbConfig(),
@@ -16,6 +16,7 @@ import org.eclipse.ditto.services.base.DittoService;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.things.common.config.ThingsConfig;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,8 +64,9 @@ public final class ThingsService extends DittoService<ThingsConfig> {
     protected Props getMainRootActorProps(final ThingsConfig thingsConfig, final ActorRef pubSubMediator,
             final ActorMaterializer materializer) {
 
+        final SnapshotConfig snapshotConfig = thingsConfig.getThingConfig().getSnapshotConfig();
         return ThingsRootActor.props(thingsConfig, pubSubMediator, materializer,
-                DefaultThingPersistenceActorPropsFactory.getInstance());
+                DefaultThingPersistenceActorPropsFactory.getInstance(snapshotConfig));
     }
 
 }
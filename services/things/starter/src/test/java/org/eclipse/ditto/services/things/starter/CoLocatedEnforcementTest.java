@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.starter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
+import org.eclipse.ditto.services.models.things.UnenforcedThingCommand;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
+import org.eclipse.ditto.services.things.persistence.actors.ThingSupervisorActor;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
+import org.eclipse.ditto.signals.commands.things.exceptions.AttributeNotModifiableException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.testkit.TestActor;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the co-located enforcement of thing commands from the thing supervisor through the enforcer of the Things
+ * service to the things shard region.
+ */
+public final class CoLocatedEnforcementTest {
+
+    private static final Config CONFIG = ConfigFactory.load("co-located-enforcement-test");
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:co-located");
+    private static final PolicyId POLICY_ID = PolicyId.of("org.eclipse.ditto:co-located");
+    private static final String AUTHORIZED_SUBJECT = SubjectIssuer.GOOGLE + ":authorized";
+    private static final String UNAUTHORIZED_SUBJECT = SubjectIssuer.GOOGLE + ":unauthorized";
+
+    private ActorSystem actorSystem;
+    private TestProbe thingsShardRegion;
+    private ActorRef thingSupervisor;
+
+    @Before
+    public void start() throws Exception {
+        actorSystem = ActorSystem.create(getClass().getSimpleName(), CONFIG);
+
+        final TestProbe pubSubMediator = TestProbe.apply(actorSystem);
+        thingsShardRegion = TestProbe.apply(actorSystem);
+        final TestProbe policiesShardRegion = TestProbe.apply(actorSystem);
+        policiesShardRegion.setAutoPilot(new ReplyingAutoPilot(SudoRetrievePolicy.class,
+                SudoRetrievePolicyResponse.of(POLICY_ID, newPolicy(), DittoHeaders.empty())));
+
+        actorSystem.actorOf(Props.create(ThingsRootStub.class, pubSubMediator.ref(), thingsShardRegion.ref(),
+                policiesShardRegion.ref()), ThingsRootActor.ACTOR_NAME);
+
+        thingSupervisor = actorSystem.actorOf(
+                ThingSupervisorActor.props(pubSubMediator.ref(), new DiscardingPub(pubSubMediator.ref()),
+                        (thingId, pub) -> Props.create(IdleActor.class)),
+                URLEncoder.encode(THING_ID.toString(), StandardCharsets.UTF_8.name()));
+    }
+
+    @After
+    public void stop() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    public void rejectsCommandOfUnauthorizedSubject() {
+        new TestKit(actorSystem) {{
+            thingSupervisor.tell(UnenforcedThingCommand.of(newModifyAttribute(UNAUTHORIZED_SUBJECT)), getRef());
+
+            answerSudoRetrieveThing();
+            expectMsgClass(AttributeNotModifiableException.class);
+            thingsShardRegion.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void sendsCommandOfAuthorizedSubjectToThingsShardRegion() {
+        new TestKit(actorSystem) {{
+            final ModifyAttribute modifyAttribute = newModifyAttribute(AUTHORIZED_SUBJECT);
+            thingSupervisor.tell(UnenforcedThingCommand.of(modifyAttribute), getRef());
+
+            answerSudoRetrieveThing();
+            final ModifyAttribute enforced = thingsShardRegion.expectMsgClass(ModifyAttribute.class);
+            assertThat((CharSequence) enforced.getThingEntityId()).isEqualTo(THING_ID);
+            assertThat(enforced.getAttributePointer()).isEqualTo(modifyAttribute.getAttributePointer());
+            assertThat(thingsShardRegion.sender()).isEqualTo(getRef());
+
+            thingsShardRegion.reply(ModifyAttributeResponse.modified(THING_ID, enforced.getAttributePointer(),
+                    enforced.getDittoHeaders()));
+            expectMsgClass(ModifyAttributeResponse.class);
+        }};
+    }
+
+    private void answerSudoRetrieveThing() {
+        thingsShardRegion.expectMsgClass(SudoRetrieveThing.class);
+        thingsShardRegion.reply(SudoRetrieveThingResponse.of(Thing.newBuilder()
+                .setId(THING_ID)
+                .setPolicyId(POLICY_ID)
+                .setRevision(1L)
+                .build()
+                .toJson(JsonSchemaVersion.V_2, FieldType.all()), DittoHeaders.empty()));
+    }
+
+    private static ModifyAttribute newModifyAttribute(final String subject) {
+        return ModifyAttribute.of(THING_ID, JsonPointer.of("location"), JsonValue.of("kitchen"),
+                DittoHeaders.newBuilder()
+                        .authorizationSubjects(subject)
+                        .schemaVersion(JsonSchemaVersion.V_2)
+                        .build());
+    }
+
+    private static Policy newPolicy() {
+        return PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .setRevision(1L)
+                .forLabel("authorized")
+                .setSubject(SubjectIssuer.GOOGLE, "authorized")
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()), "READ", "WRITE")
+                .build();
+    }
+
+    /**
+     * Stands in for the Things root actor, so that the enforcer is found at its usual path.
+     */
+    private static final class ThingsRootStub extends AbstractActor {
+
+        @SuppressWarnings("unused")
+        private ThingsRootStub(final ActorRef pubSubMediator, final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion) {
+
+            final DittoThingsConfig thingsConfig =
+                    DittoThingsConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()));
+            CoLocatedEnforcerActorFactory.startEnforcerActor(getContext(),
+                    thingsConfig.getCoLocatedEnforcementConfig().getCachesConfig(), pubSubMediator,
+                    thingsShardRegion, policiesShardRegion, TestProbe.apply(getContext().getSystem()).ref(),
+                    BlockedNamespaces.of(getContext().getSystem()));
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder().build();
+        }
+    }
+
+    private static final class IdleActor extends AbstractActor {
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder().build();
+        }
+    }
+
+    private static final class ReplyingAutoPilot extends TestActor.AutoPilot {
+
+        private final Class<?> requestClass;
+        private final Object reply;
+
+        private ReplyingAutoPilot(final Class<?> requestClass, final Object reply) {
+            this.requestClass = requestClass;
+            this.reply = reply;
+        }
+
+        @Override
+        public TestActor.AutoPilot run(final ActorRef sender, final Object msg) {
+            if (requestClass.isInstance(msg)) {
+                sender.tell(reply, ActorRef.noSender());
+            }
+            return this;
+        }
+    }
+
+    private static final class DiscardingPub implements DistributedPub<ThingEvent> {
+
+        private final ActorRef publisher;
+
+        private DiscardingPub(final ActorRef publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public ActorRef getPublisher() {
+            return publisher;
+        }
+
+        @Override
+        public Object wrapForPublication(final ThingEvent message) {
+            return message;
+        }
+    }
+
+}
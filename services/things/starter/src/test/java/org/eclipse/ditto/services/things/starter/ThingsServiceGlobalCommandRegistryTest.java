@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.things.starter;
 
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
 import org.eclipse.ditto.services.models.streaming.SudoStreamPids;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.utils.health.RetrieveHealth;
@@ -26,12 +27,15 @@ import org.eclipse.ditto.signals.commands.policies.modify.DeleteSubject;
 import org.eclipse.ditto.signals.commands.policies.query.RetrieveResource;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveFeature;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 
 public final class ThingsServiceGlobalCommandRegistryTest extends GlobalCommandRegistryTestCases {
 
     public ThingsServiceGlobalCommandRegistryTest() {
         super(SudoStreamPids.class,
                 SudoRetrieveThing.class,
+                SudoRetrievePolicy.class,
+                QueryThings.class,
                 RetrieveFeature.class,
                 ModifyFeatureProperty.class,
                 ExecutePiggybackCommand.class,
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.things.starter;
 
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
 import org.eclipse.ditto.services.utils.test.GlobalCommandResponseRegistryTestCases;
@@ -27,18 +28,22 @@ import org.eclipse.ditto.signals.commands.policies.query.RetrieveResourceRespons
 import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeaturePropertyResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveFeatureResponse;
+import org.eclipse.ditto.signals.commands.thingsearch.SearchErrorResponse;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
 
 public final class ThingsServiceGlobalCommandResponseRegistryTest extends GlobalCommandResponseRegistryTestCases {
 
     public ThingsServiceGlobalCommandResponseRegistryTest() {
-        super(
-                SudoRetrieveThingResponse.class,
+        super(SudoRetrieveThingResponse.class,
+                SudoRetrievePolicyResponse.class,
+                QueryThingsResponse.class,
                 RetrieveFeatureResponse.class,
                 ModifyFeaturePropertyResponse.class,
                 SendClaimMessageResponse.class,
                 PurgeNamespaceResponse.class,
                 RetrieveResourceResponse.class,
                 DeleteSubjectResponse.class,
+                SearchErrorResponse.class,
                 ThingErrorResponse.class,
                 PolicyErrorResponse.class,
                 RetrieveLoggerConfigResponse.class,
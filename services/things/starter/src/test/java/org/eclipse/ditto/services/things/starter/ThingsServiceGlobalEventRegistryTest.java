@@ -13,12 +13,16 @@
 package org.eclipse.ditto.services.things.starter;
 
 import org.eclipse.ditto.services.utils.test.GlobalEventRegistryTestCases;
+import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
 import org.eclipse.ditto.signals.events.things.FeatureDeleted;
 
 public final class ThingsServiceGlobalEventRegistryTest extends GlobalEventRegistryTestCases {
 
     public ThingsServiceGlobalEventRegistryTest() {
-        super(FeatureDeleted.class);
+        super(
+                ResourceDeleted.class,
+                FeatureDeleted.class
+        );
     }
 
 }
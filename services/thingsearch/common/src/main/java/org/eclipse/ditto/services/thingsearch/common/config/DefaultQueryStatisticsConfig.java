@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link QueryStatisticsConfig}.
+ */
+@Immutable
+public final class DefaultQueryStatisticsConfig implements QueryStatisticsConfig {
+
+    /**
+     * Path where the query statistics config values are expected.
+     */
+    static final String CONFIG_PATH = "query-statistics";
+
+    private final boolean enabled;
+    private final int maxShapes;
+    private final int explainInterval;
+    private final double inefficiencyRatio;
+    private final boolean learnHints;
+
+    private DefaultQueryStatisticsConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(QueryStatisticsConfigValue.ENABLED.getConfigPath());
+        maxShapes = config.getInt(QueryStatisticsConfigValue.MAX_SHAPES.getConfigPath());
+        explainInterval = config.getInt(QueryStatisticsConfigValue.EXPLAIN_INTERVAL.getConfigPath());
+        inefficiencyRatio = config.getDouble(QueryStatisticsConfigValue.INEFFICIENCY_RATIO.getConfigPath());
+        learnHints = config.getBoolean(QueryStatisticsConfigValue.LEARN_HINTS.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultQueryStatisticsConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the query statistics config at {@code CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultQueryStatisticsConfig of(final Config config) {
+        return new DefaultQueryStatisticsConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, QueryStatisticsConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxShapes() {
+        return maxShapes;
+    }
+
+    @Override
+    public int getExplainInterval() {
+        return explainInterval;
+    }
+
+    @Override
+    public double getInefficiencyRatio() {
+        return inefficiencyRatio;
+    }
+
+    @Override
+    public boolean isLearnHints() {
+        return learnHints;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultQueryStatisticsConfig that = (DefaultQueryStatisticsConfig) o;
+        return enabled == that.enabled &&
+                maxShapes == that.maxShapes &&
+                explainInterval == that.explainInterval &&
+                Double.compare(that.inefficiencyRatio, inefficiencyRatio) == 0 &&
+                learnHints == that.learnHints;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxShapes, explainInterval, inefficiencyRatio, learnHints);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxShapes=" + maxShapes +
+                ", explainInterval=" + explainInterval +
+                ", inefficiencyRatio=" + inefficiencyRatio +
+                ", learnHints=" + learnHints +
+                "]";
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings for the statistics of the shapes of search queries.
+ */
+@Immutable
+public interface QueryStatisticsConfig {
+
+    /**
+     * Indicates whether the statistics of query shapes are recorded.
+     *
+     * @return {@code true} if statistics are recorded, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of distinct query shapes to record statistics for. Queries of further shapes are
+     * only counted.
+     *
+     * @return the maximum number of query shapes.
+     */
+    int getMaxShapes();
+
+    /**
+     * Returns the number of successful executions of a query shape after which it is explained again in order to
+     * record the number of examined index keys and documents, or 0 to never explain queries.
+     *
+     * @return the explain interval.
+     */
+    int getExplainInterval();
+
+    /**
+     * Returns the ratio of examined documents to returned documents above which the queries of a shape are reported
+     * as inefficient.
+     *
+     * @return the ratio.
+     */
+    double getInefficiencyRatio();
+
+    /**
+     * Indicates whether the index which examined the fewest keys and documents when explaining a query shape should be
+     * used as hint for all queries of that shape which have no hint configured for their namespaces.
+     *
+     * @return {@code true} if hints are learned, {@code false} else.
+     */
+    boolean isLearnHints();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * QueryStatisticsConfig.
+     */
+    enum QueryStatisticsConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether the statistics of query shapes are recorded.
+         */
+        ENABLED("enabled", true),
+
+        /**
+         * The maximum number of distinct query shapes to record statistics for.
+         */
+        MAX_SHAPES("max-shapes", 1000),
+
+        /**
+         * The number of executions of a query shape after which it is explained again.
+         */
+        EXPLAIN_INTERVAL("explain-interval", 100),
+
+        /**
+         * The ratio of examined to returned documents above which queries are reported as inefficient.
+         */
+        INEFFICIENCY_RATIO("inefficiency-ratio", 10.0),
+
+        /**
+         * Determines whether the best index found by explaining a query shape is used as hint for it.
+         */
+        LEARN_HINTS("learn-hints", false);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private QueryStatisticsConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
@@ -61,6 +61,13 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     StreamConfig getStreamConfig();
 
+    /**
+     * Returns the configuration settings for the statistics of query shapes.
+     *
+     * @return the config.
+     */
+    QueryStatisticsConfig getQueryStatisticsConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for SearchConfig.
      */
@@ -41,4 +41,36 @@ public final class KeyEscapeUtil {
                 .replace("$", FAKE_DOLLAR)
                 .replace(".", FAKE_DOT);
     }
+
+    /**
+     * Reverts {@link #escape(String)}.
+     *
+     * @param str the escaped String
+     * @return the original String
+     */
+    public static String unescape(final String str) {
+        requireNonNull(str);
+        if (str.indexOf('~') < 0) {
+            return str;
+        }
+        final StringBuilder builder = new StringBuilder(str.length());
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c == '~' && i + 1 < str.length()) {
+                final char escaped = str.charAt(++i);
+                if (escaped == '0') {
+                    builder.append('~');
+                } else if (escaped == '1') {
+                    builder.append('$');
+                } else if (escaped == '2') {
+                    builder.append('.');
+                } else {
+                    builder.append(c).append(escaped);
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryStatisticsConfig.QueryStatisticsConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultQueryStatisticsConfig}.
+ */
+public final class DefaultQueryStatisticsConfigTest {
+
+    private static Config queryStatisticsTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        queryStatisticsTestConfig = ConfigFactory.load("query-statistics-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultQueryStatisticsConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultQueryStatisticsConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultQueryStatisticsConfig underTest = DefaultQueryStatisticsConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryStatisticsConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(QueryStatisticsConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxShapes())
+                .as(QueryStatisticsConfigValue.MAX_SHAPES.getConfigPath())
+                .isEqualTo(QueryStatisticsConfigValue.MAX_SHAPES.getDefaultValue());
+        softly.assertThat(underTest.getExplainInterval())
+                .as(QueryStatisticsConfigValue.EXPLAIN_INTERVAL.getConfigPath())
+                .isEqualTo(QueryStatisticsConfigValue.EXPLAIN_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getInefficiencyRatio())
+                .as(QueryStatisticsConfigValue.INEFFICIENCY_RATIO.getConfigPath())
+                .isEqualTo(QueryStatisticsConfigValue.INEFFICIENCY_RATIO.getDefaultValue());
+        softly.assertThat(underTest.isLearnHints())
+                .as(QueryStatisticsConfigValue.LEARN_HINTS.getConfigPath())
+                .isEqualTo(QueryStatisticsConfigValue.LEARN_HINTS.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultQueryStatisticsConfig underTest = DefaultQueryStatisticsConfig.of(queryStatisticsTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryStatisticsConfigValue.ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.getMaxShapes())
+                .as(QueryStatisticsConfigValue.MAX_SHAPES.getConfigPath())
+                .isEqualTo(50);
+        softly.assertThat(underTest.getExplainInterval())
+                .as(QueryStatisticsConfigValue.EXPLAIN_INTERVAL.getConfigPath())
+                .isEqualTo(10);
+        softly.assertThat(underTest.getInefficiencyRatio())
+                .as(QueryStatisticsConfigValue.INEFFICIENCY_RATIO.getConfigPath())
+                .isEqualTo(2.5);
+        softly.assertThat(underTest.isLearnHints())
+                .as(QueryStatisticsConfigValue.LEARN_HINTS.getConfigPath())
+                .isTrue();
+    }
+
+}
@@ -74,4 +74,13 @@ public final class Indices {
                 Arrays.asList(KEY_VALUE, GLOBAL_READ, POLICY, NAMESPACE, DELETE_AT));
     }
 
+    /**
+     * Gets the indices which support search queries.
+     *
+     * @return the indices
+     */
+    public static List<Index> forQueries() {
+        return Collections.unmodifiableList(Arrays.asList(KEY_VALUE, GLOBAL_READ, NAMESPACE));
+    }
+
 }
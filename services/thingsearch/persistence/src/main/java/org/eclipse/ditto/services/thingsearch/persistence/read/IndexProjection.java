@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.MongoSortKeyMappingFunction.mapSortKey;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED_PATH;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.thingsearch.common.util.KeyEscapeUtil;
+import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+/**
+ * Projects things out of the documents of the search index instead of retrieving them from the things service.
+ * <p>
+ * The hierarchical copy of a thing in the index document is restricted to the values which the flattened values of
+ * the same document grant to the authorization subjects. As the search index is eventually consistent, every
+ * projected thing contains the revision of its index document.
+ * </p>
+ */
+@Immutable
+final class IndexProjection {
+
+    private static final String FIELD_REVOKED_PATH = FIELD_INTERNAL + DOT + FIELD_REVOKED;
+
+    @Nullable private final Set<String> authorizationSubjectIds;
+    @Nullable private final JsonFieldSelector fields;
+
+    private IndexProjection(@Nullable final Set<String> authorizationSubjectIds,
+            @Nullable final JsonFieldSelector fields) {
+
+        this.authorizationSubjectIds = authorizationSubjectIds;
+        this.fields = fields;
+    }
+
+    /**
+     * Create a projection.
+     *
+     * @param authorizationSubjectIds authorization subjects whose read grants restrict the projected values, or null
+     * to project all values.
+     * @param fields the fields to project, or null to project all fields.
+     * @return the projection.
+     */
+    static IndexProjection of(@Nullable final List<String> authorizationSubjectIds,
+            @Nullable final JsonFieldSelector fields) {
+
+        return new IndexProjection(authorizationSubjectIds == null ? null : new HashSet<>(authorizationSubjectIds),
+                fields);
+    }
+
+    /**
+     * Compute the MongoDB projection of the fields required by this projection and by the sort options.
+     *
+     * @param sortOptions the sort options of the query.
+     * @return the MongoDB projection.
+     */
+    Bson toMongoProjection(final List<SortOption> sortOptions) {
+        final List<String> paths = new ArrayList<>();
+        paths.add(FIELD_ID);
+        paths.add(FIELD_REVISION);
+        paths.add(FIELD_PATH_KEY);
+        paths.add(FIELD_GRANTED_PATH);
+        paths.add(FIELD_REVOKED_PATH);
+        if (fields == null) {
+            paths.add(FIELD_SORTING);
+        } else {
+            fields.getPointers().forEach(pointer -> paths.add(mapSortKey(FIELD_SORTING + pointer)));
+        }
+        sortOptions.forEach(sortOption -> paths.add(GetSortBsonVisitor.path(sortOption.getSortExpression())));
+
+        // MongoDB rejects projections containing a path together with one of its sub-paths
+        final Document projection = new Document();
+        paths.stream()
+                .filter(path -> paths.stream().noneMatch(otherPath -> path.startsWith(otherPath + DOT)))
+                .forEach(path -> projection.append(path, true));
+        return projection;
+    }
+
+    /**
+     * Project a thing out of an index document.
+     *
+     * @param document the index document projected by {@link #toMongoProjection(List)}.
+     * @return the projected thing with its ID and the revision of the index document.
+     */
+    JsonObject project(final Document document) {
+        final BsonDocument bsonDocument = BsonUtil.toBsonDocument(document);
+        final Set<String> readableKeys = getReadableKeys(bsonDocument);
+        final BsonValue sortingValue = bsonDocument.get(FIELD_SORTING);
+        final JsonValue filteredThing = sortingValue == null
+                ? null
+                : filter(JsonPointer.empty(), sortingValue, readableKeys);
+        final JsonObject thing = filteredThing != null && filteredThing.isObject()
+                ? filteredThing.asObject()
+                : JsonObject.empty();
+
+        final JsonObjectBuilder builder = JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, bsonDocument.getString(FIELD_ID).getValue())
+                .setAll(fields == null ? thing : thing.get(fields));
+        final BsonValue revision = bsonDocument.get(FIELD_REVISION);
+        if (revision != null && revision.isNumber()) {
+            builder.set(Thing.JsonFields.REVISION, revision.asNumber().longValue());
+        }
+        return builder.build();
+    }
+
+    @Nullable
+    private Set<String> getReadableKeys(final BsonDocument document) {
+        if (authorizationSubjectIds == null) {
+            return null;
+        }
+        final Set<String> readableKeys = new HashSet<>();
+        final BsonValue flattenedValues = document.get(FIELD_INTERNAL);
+        if (flattenedValues != null && flattenedValues.isArray()) {
+            for (final BsonValue flattenedValue : flattenedValues.asArray()) {
+                if (flattenedValue.isDocument() && isReadable(flattenedValue.asDocument())) {
+                    readableKeys.add(flattenedValue.asDocument().getString(FIELD_INTERNAL_KEY).getValue());
+                }
+            }
+        }
+        return readableKeys;
+    }
+
+    private boolean isReadable(final BsonDocument flattenedValue) {
+        return containsAnySubject(flattenedValue.get(FIELD_GRANTED)) &&
+                !containsAnySubject(flattenedValue.get(FIELD_REVOKED));
+    }
+
+    private boolean containsAnySubject(@Nullable final BsonValue subjects) {
+        return subjects != null && subjects.isArray() && subjects.asArray()
+                .stream()
+                .anyMatch(subject -> subject.isString() &&
+                        authorizationSubjectIds.contains(subject.asString().getValue()));
+    }
+
+    /**
+     * Filter a value of the hierarchical copy of a thing. Array elements are filtered with the key of their array,
+     * because that is how they are flattened.
+     *
+     * @return the filtered value or null if nothing of it is readable.
+     */
+    @Nullable
+    private static JsonValue filter(final JsonPointer key, final BsonValue value,
+            @Nullable final Set<String> readableKeys) {
+
+        if (value.isDocument()) {
+            final BsonDocument document = value.asDocument();
+            if (document.isEmpty()) {
+                return isReadable(key, readableKeys) ? JsonObject.empty() : null;
+            }
+            final JsonObjectBuilder builder = JsonObject.newBuilder();
+            for (final Map.Entry<String, BsonValue> entry : document.entrySet()) {
+                final JsonKey childKey = JsonKey.of(KeyEscapeUtil.unescape(entry.getKey()));
+                final JsonValue childValue = filter(key.addLeaf(childKey), entry.getValue(), readableKeys);
+                if (childValue != null) {
+                    builder.set(childKey, childValue);
+                }
+            }
+            final JsonObject result = builder.build();
+            return result.isEmpty() ? null : result;
+        } else if (value.isArray()) {
+            final BsonArray array = value.asArray();
+            if (array.isEmpty()) {
+                return isReadable(key, readableKeys) ? JsonFactory.newArray() : null;
+            }
+            final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+            for (final BsonValue element : array) {
+                final JsonValue filteredElement = filter(key, element, readableKeys);
+                if (filteredElement != null) {
+                    builder.add(filteredElement);
+                }
+            }
+            return builder.isEmpty() ? null : builder.build();
+        } else {
+            return isReadable(key, readableKeys) ? toJsonValue(value) : null;
+        }
+    }
+
+    private static boolean isReadable(final JsonPointer key, @Nullable final Set<String> readableKeys) {
+        return readableKeys == null || readableKeys.contains(key.toString());
+    }
+
+    private static JsonValue toJsonValue(final BsonValue value) {
+        switch (value.getBsonType()) {
+            case NULL:
+                return JsonFactory.nullLiteral();
+            case BOOLEAN:
+                return JsonValue.of(value.asBoolean().getValue());
+            case INT32:
+                return JsonValue.of(value.asInt32().getValue());
+            case INT64:
+                return JsonValue.of(value.asInt64().getValue());
+            case DOUBLE:
+                return JsonValue.of(value.asDouble().getValue());
+            case STRING:
+                return JsonValue.of(value.asString().getValue());
+            default:
+                // the index contains only values written by JsonToBson
+                return JsonValue.of(value.toString());
+        }
+    }
+
+}
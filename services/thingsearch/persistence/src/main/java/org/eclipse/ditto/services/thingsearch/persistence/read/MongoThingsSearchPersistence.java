@@ -26,11 +26,13 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -39,6 +41,8 @@ import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
@@ -46,6 +50,7 @@ import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceResultEntry;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryStatisticsConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
 import org.eclipse.ditto.services.thingsearch.persistence.Indices;
@@ -74,8 +79,10 @@ import akka.NotUsed;
 import akka.actor.ActorSystem;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
+import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 import scala.PartialFunction;
 
@@ -84,12 +91,15 @@ import scala.PartialFunction;
  */
 public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
+    private final MongoDatabase database;
     private final MongoCollection<Document> collection;
     private final LoggingAdapter log;
 
+    private final ActorMaterializer materializer;
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    @Nullable private final QueryStatistics queryStatistics;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -98,31 +108,38 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      * @param actorSystem the Akka ActorSystem.
      */
     public MongoThingsSearchPersistence(final DittoMongoClient mongoClient, final ActorSystem actorSystem) {
-        final MongoDatabase database = mongoClient.getDefaultDatabase();
+        database = mongoClient.getDefaultDatabase();
         // configure search persistence to stress the primary as little as possible and tolerate inconsistency
         collection = database
                 .getCollection(PersistenceConstants.THINGS_COLLECTION_NAME)
                 .withReadPreference(ReadPreference.secondaryPreferred());
 
         log = Logging.getLogger(actorSystem, getClass());
-        final ActorMaterializer materializer = ActorMaterializer.create(actorSystem);
+        materializer = ActorMaterializer.create(actorSystem);
         indexInitializer = IndexInitializer.of(database, materializer);
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        queryStatistics = null;
     }
 
     private MongoThingsSearchPersistence(
+            final MongoDatabase database,
             final MongoCollection<Document> collection,
             final LoggingAdapter log,
+            final ActorMaterializer materializer,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            @Nullable final QueryStatistics queryStatistics) {
 
+        this.database = database;
         this.collection = collection;
         this.log = log;
+        this.materializer = materializer;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.queryStatistics = queryStatistics;
     }
 
     /**
@@ -133,7 +150,22 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(database, collection, log, materializer, indexInitializer,
+                maxQueryTime, hints, queryStatistics);
+    }
+
+    /**
+     * Create a copy of this object which records statistics of the shapes of its search queries.
+     *
+     * @param queryStatisticsConfig the config of the query statistics.
+     * @return copy of this object with query statistics configured.
+     */
+    public MongoThingsSearchPersistence withQueryStatistics(final QueryStatisticsConfig queryStatisticsConfig) {
+        final QueryStatistics queryStatistics = queryStatisticsConfig.isEnabled()
+                ? QueryStatistics.of(queryStatisticsConfig)
+                : null;
+        return new MongoThingsSearchPersistence(database, collection, log, materializer, indexInitializer,
+                maxQueryTime, hints, queryStatistics);
     }
 
     @Override
@@ -171,6 +203,14 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .map(SearchNamespaceReportResult::new);
     }
 
+    @Override
+    public Source<JsonObject, NotUsed> retrieveQueryStatistics() {
+        final JsonObject statistics = queryStatistics != null
+                ? queryStatistics.toJson()
+                : JsonObject.newBuilder().set("enabled", false).build();
+        return Source.single(statistics);
+    }
+
     @Override
     public Source<Long, NotUsed> count(final Query query,
             @Nullable final List<String> authorizationSubjectIds) {
@@ -202,9 +242,50 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         checkNotNull(query, "query");
 
+        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        return find(query, authorizationSubjectIds, namespaces, projection, MongoThingsSearchPersistence::toId)
+                .log("findAll");
+    }
+
+    @Override
+    public Source<ResultList<JsonObject>, NotUsed> findAllProjected(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonFieldSelector fields) {
+
+        checkNotNull(query, "query");
+
+        final IndexProjection indexProjection = IndexProjection.of(authorizationSubjectIds, fields);
+        final Bson projection = indexProjection.toMongoProjection(query.getSortOptions());
+        return find(query, authorizationSubjectIds, namespaces, projection, indexProjection::project)
+                .log("findAllProjected");
+    }
+
+    @Override
+    public Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound) {
+        final Bson notDeletedFilter = Filters.exists(FIELD_DELETE_AT, false);
+        final Bson filter = lowerBound.isDummy()
+                ? notDeletedFilter
+                : Filters.and(notDeletedFilter, Filters.gt(FIELD_ID, lowerBound.toString()));
+        final Bson relevantFieldsProjection =
+                Projections.include(FIELD_ID, FIELD_REVISION, FIELD_POLICY_ID, FIELD_POLICY_REVISION,
+                        FIELD_PATH_MODIFIED);
+        final Bson sortById = Sorts.ascending(FIELD_ID);
+        final Publisher<Document> publisher = collection.find(filter)
+                .projection(relevantFieldsProjection)
+                .sort(sortById);
+        return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
+    }
+
+    private <T> Source<ResultList<T>, NotUsed> find(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            final Bson projection,
+            final Function<Document, T> resultMapper) {
+
         final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
         if (log.isDebugEnabled()) {
-            log.debug("findAll with query filter <{}>.", queryFilter);
+            log.debug("find with query filter <{}>.", queryFilter);
         }
 
         final Bson sortOptions = getMongoSort(query);
@@ -212,11 +293,18 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final int limit = query.getLimit();
         final int skip = query.getSkip();
         final int limitPlusOne = limit + 1;
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+
+        final Optional<QueryStatistics.ShapeStatistics> shapeStatistics = queryStatistics == null
+                ? Optional.empty()
+                : queryStatistics.getShapeStatistics(QueryShape.of(queryFilter, sortOptions, namespaces));
+        final Optional<Bson> configuredHint = hints.getHint(namespaces);
+        final Bson hint = configuredHint.orElseGet(() ->
+                shapeStatistics.flatMap(QueryStatistics.ShapeStatistics::getLearnedHint).orElse(null));
+        final long startNanos = System.nanoTime();
 
         return Source.fromPublisher(
                 collection.find(queryFilter, Document.class)
-                        .hint(hints.getHint(namespaces).orElse(null))
+                        .hint(hint)
                         .sort(sortOptions)
                         .limit(limitPlusOne)
                         .skip(skip)
@@ -224,56 +312,128 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                         .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
-                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
-                .mapError(handleMongoExecutionTimeExceededException())
-                .log("findAll");
+                .mapError(new PFBuilder<Throwable, Throwable>()
+                        .matchAny(error -> {
+                            shapeStatistics.ifPresent(statistics -> recordFailedExecution(statistics, startNanos,
+                                    error instanceof MongoExecutionTimeoutException));
+                            return error;
+                        })
+                        .build())
+                .map(resultsPlus0ne -> {
+                    shapeStatistics.ifPresent(statistics -> recordExecution(statistics, startNanos,
+                            resultsPlus0ne.size(), queryFilter, sortOptions, hint, !configuredHint.isPresent(), skip,
+                            limitPlusOne));
+                    return toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(), resultMapper);
+                })
+                .mapError(handleMongoExecutionTimeExceededException());
     }
 
-    @Override
-    public Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound) {
-        final Bson notDeletedFilter = Filters.exists(FIELD_DELETE_AT, false);
-        final Bson filter = lowerBound.isDummy()
-                ? notDeletedFilter
-                : Filters.and(notDeletedFilter, Filters.gt(FIELD_ID, lowerBound.toString()));
-        final Bson relevantFieldsProjection =
-                Projections.include(FIELD_ID, FIELD_REVISION, FIELD_POLICY_ID, FIELD_POLICY_REVISION,
-                        FIELD_PATH_MODIFIED);
-        final Bson sortById = Sorts.ascending(FIELD_ID);
-        final Publisher<Document> publisher = collection.find(filter)
-                .projection(relevantFieldsProjection)
-                .sort(sortById);
-        return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
+    private void recordExecution(final QueryStatistics.ShapeStatistics shapeStatistics, final long startNanos,
+            final int returned, final BsonDocument filter, final Bson sort, @Nullable final Bson hint,
+            final boolean mayLearnHint, final int skip, final int limit) {
+
+        final QueryStatisticsConfig config = queryStatistics.getConfig();
+        final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (shapeStatistics.recordExecution(millis, returned, config.getExplainInterval())) {
+            explainSampledExecution(shapeStatistics, filter, sort, hint, mayLearnHint, skip, limit);
+        }
     }
 
-    private ResultList<ThingId> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
-            final List<SortOption> sortOptions) {
+    private static void recordFailedExecution(final QueryStatistics.ShapeStatistics shapeStatistics,
+            final long startNanos, final boolean timedOut) {
+
+        final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        shapeStatistics.recordFailedExecution(millis, timedOut);
+    }
+
+    private void explainSampledExecution(final QueryStatistics.ShapeStatistics shapeStatistics,
+            final BsonDocument filter, final Bson sort, @Nullable final Bson hint, final boolean mayLearnHint,
+            final int skip, final int limit) {
+
+        // explanations are sampled asynchronously in order not to delay the search results
+        explain(filter, sort, hint, skip, limit)
+                .thenAccept(shapeStatistics::recordExplanation)
+                .exceptionally(error -> {
+                    log.warning("Failed to explain query of shape <{}>: {}", shapeStatistics.getShape(),
+                            error.getMessage());
+                    return null;
+                });
+        if (queryStatistics.getConfig().isLearnHints() && mayLearnHint) {
+            learnHint(shapeStatistics, filter, sort, skip, limit);
+        }
+    }
+
+    /**
+     * Explain the query with each index supporting search queries and remember the index with which the fewest keys
+     * and documents are examined as hint for further queries of the same shape.
+     */
+    private void learnHint(final QueryStatistics.ShapeStatistics shapeStatistics, final BsonDocument filter,
+            final Bson sort, final int skip, final int limit) {
+
+        Source.from(Indices.forQueries())
+                .mapAsync(1, index -> explain(filter, sort, index.getKeys(), skip, limit)
+                        .thenApply(explanation -> Pair.create(index, explanation)))
+                .runWith(Sink.seq(), materializer)
+                .thenAccept(explanations -> explanations.stream()
+                        .min(Comparator.comparingLong(pair -> pair.second().getCost()))
+                        .ifPresent(best -> shapeStatistics.learnHint(best.first())))
+                .exceptionally(error -> {
+                    log.warning("Failed to learn hint for query of shape <{}>: {}", shapeStatistics.getShape(),
+                            error.getMessage());
+                    return null;
+                });
+    }
+
+    private CompletionStage<QueryStatistics.Explanation> explain(final BsonDocument filter, final Bson sort,
+            @Nullable final Bson hint, final int skip, final int limit) {
+
+        final Document findCommand = new Document("find", PersistenceConstants.THINGS_COLLECTION_NAME)
+                .append("filter", filter)
+                .append("sort", BsonUtil.toBsonDocument(sort))
+                .append("skip", skip)
+                .append("limit", limit)
+                .append("maxTimeMS", maxQueryTime.toMillis());
+        if (hint != null) {
+            findCommand.append("hint", BsonUtil.toBsonDocument(hint));
+        }
+        final Document explainCommand = new Document("explain", findCommand).append("verbosity", "executionStats");
+        return Source.fromPublisher(database.runCommand(explainCommand, ReadPreference.secondaryPreferred()))
+                .map(QueryStatistics.Explanation::of)
+                .runWith(Sink.head(), materializer);
+    }
+
+    private <T> ResultList<T> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
+            final List<SortOption> sortOptions, final Function<Document, T> resultMapper) {
 
         log.debug("Creating paged ResultList from parameters: resultsPlusOne=<{}>,skip={},limit={}",
                 resultsPlus0ne, skip, limit);
 
-        final ResultList<ThingId> pagedResultList;
+        final ResultList<T> pagedResultList;
         if (resultsPlus0ne.size() <= limit || limit <= 0) {
-            pagedResultList = new ResultListImpl<>(toIds(resultsPlus0ne), ResultList.NO_NEXT_PAGE);
+            pagedResultList = new ResultListImpl<>(mapResults(resultsPlus0ne, resultMapper), ResultList.NO_NEXT_PAGE);
         } else {
             // MongoDB returned limit + 1 items. However only <limit> items are of interest per page.
             final List<Document> results = resultsPlus0ne.subList(0, limit);
             final Document lastResult = results.get(limit - 1);
             final long nextPageOffset = (long) skip + limit;
             final JsonArray sortValues = GetSortBsonVisitor.sortValuesAsArray(lastResult, sortOptions);
-            pagedResultList = new ResultListImpl<>(toIds(results), nextPageOffset, sortValues);
+            pagedResultList = new ResultListImpl<>(mapResults(results, resultMapper), nextPageOffset, sortValues);
         }
 
         log.debug("Returning paged ResultList: {}", pagedResultList);
         return pagedResultList;
     }
 
-    private static List<ThingId> toIds(final List<Document> docs) {
+    private static <T> List<T> mapResults(final List<Document> docs, final Function<Document, T> resultMapper) {
         return docs.stream()
-                .map(doc -> doc.getString(FIELD_ID))
-                .map(ThingId::of)
+                .map(resultMapper)
                 .collect(Collectors.toList());
     }
 
+    private static ThingId toId(final Document doc) {
+        return ThingId.of(doc.getString(FIELD_ID));
+    }
+
     private static BsonDocument getMongoFilter(final Query query,
             @Nullable final List<String> authorizationSubjectIds) {
 
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+/**
+ * The shape of a search query: its MongoDB filter with all values replaced by placeholders except the keys of
+ * flattened values, i. e. the paths the query filters by, together with its sort keys and namespaces.
+ * Queries of the same shape differ only in the values they compare with and in the authorization subjects they are
+ * restricted to.
+ */
+@Immutable
+final class QueryShape {
+
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+
+    private static final Set<String> NON_QUERY_FIELDS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(FIELD_INTERNAL, FIELD_INTERNAL_KEY, FIELD_INTERNAL_VALUE, FIELD_GRANTED, FIELD_REVOKED,
+                    FIELD_GLOBAL_READ, FIELD_DELETE_AT)));
+
+    private final BsonDocument filter;
+    private final BsonDocument sort;
+    @Nullable private final List<String> namespaces;
+    private final String key;
+
+    private QueryShape(final BsonDocument filter, final BsonDocument sort, @Nullable final List<String> namespaces) {
+        this.filter = filter;
+        this.sort = sort;
+        this.namespaces = namespaces;
+        key = filter.toJson() + sort.toJson() + namespaces;
+    }
+
+    /**
+     * Compute the shape of a query.
+     *
+     * @param filter the MongoDB filter of the query.
+     * @param sort the MongoDB sort of the query.
+     * @param namespaces the namespaces of the query, or null if it searches in all namespaces.
+     * @return the shape.
+     */
+    static QueryShape of(final BsonDocument filter, final Bson sort, @Nullable final Set<String> namespaces) {
+        final List<String> sortedNamespaces =
+                namespaces == null ? null : Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(namespaces)));
+        return new QueryShape(normalize(filter, "").asDocument(), BsonUtil.toBsonDocument(sort), sortedNamespaces);
+    }
+
+    /**
+     * @return a string identifying the shape.
+     */
+    String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the paths and root level fields the query filters by.
+     */
+    Set<String> getFilterKeys() {
+        final Set<String> filterKeys = new TreeSet<>();
+        collectFilterKeys(filter, "", filterKeys);
+        return filterKeys;
+    }
+
+    /**
+     * @return the fields the query sorts by.
+     */
+    Set<String> getSortKeys() {
+        return Collections.unmodifiableSet(sort.keySet());
+    }
+
+    /**
+     * @return JSON representation of the shape.
+     */
+    JsonObject toJson() {
+        final JsonObject json = JsonObject.newBuilder()
+                .set("filter", JsonFactory.readFrom(filter.toJson()))
+                .set("filterKeys", toJsonArray(getFilterKeys()))
+                .set("sortKeys", toJsonArray(getSortKeys()))
+                .build();
+        return namespaces == null ? json : json.setValue("namespaces", toJsonArray(namespaces));
+    }
+
+    private static JsonArray toJsonArray(final Iterable<String> strings) {
+        final List<JsonValue> values = new ArrayList<>();
+        strings.forEach(string -> values.add(JsonValue.of(string)));
+        return values.stream().collect(JsonCollectors.valuesToArray());
+    }
+
+    private static BsonValue normalize(final BsonValue value, final String fieldName) {
+        if (value.isDocument()) {
+            final BsonDocument normalized = new BsonDocument();
+            for (final Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                normalized.append(entry.getKey(), normalize(entry.getValue(), entry.getKey()));
+            }
+            return normalized;
+        } else if (value.isArray() && value.asArray().stream().allMatch(BsonValue::isDocument)) {
+            // arrays of documents are operands of logical operators such as $and and $or
+            final BsonArray normalized = new BsonArray();
+            value.asArray().forEach(element -> normalized.add(normalize(element, fieldName)));
+            return normalized;
+        } else if (FIELD_INTERNAL_KEY.equals(fieldName) && value.isString()) {
+            return value;
+        } else {
+            return PLACEHOLDER;
+        }
+    }
+
+    private static void collectFilterKeys(final BsonValue value, final String fieldName, final Set<String> keys) {
+        if (value.isDocument()) {
+            value.asDocument().forEach((childName, childValue) -> {
+                if (!childName.startsWith("$") && !NON_QUERY_FIELDS.contains(childName)) {
+                    // a root level field such as _id or _namespace
+                    keys.add(childName);
+                }
+                collectFilterKeys(childValue, childName, keys);
+            });
+        } else if (value.isArray()) {
+            value.asArray().forEach(element -> collectFilterKeys(element, fieldName, keys));
+        } else if (FIELD_INTERNAL_KEY.equals(fieldName) && value.isString()) {
+            keys.add(value.asString().getValue());
+        }
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final QueryShape that = (QueryShape) o;
+        return Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "key=" + key +
+                "]";
+    }
+
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryStatisticsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
+
+/**
+ * Statistics of the executions of search queries grouped by their {@link QueryShape}.
+ */
+@ThreadSafe
+final class QueryStatistics {
+
+    private static final String COLLECTION_SCAN = "COLLSCAN";
+
+    private final QueryStatisticsConfig config;
+    private final ConcurrentMap<QueryShape, ShapeStatistics> shapes;
+    private final LongAdder untrackedQueries;
+
+    private QueryStatistics(final QueryStatisticsConfig config) {
+        this.config = config;
+        shapes = new ConcurrentHashMap<>();
+        untrackedQueries = new LongAdder();
+    }
+
+    /**
+     * Create empty query statistics.
+     *
+     * @param config the query statistics config.
+     * @return the statistics.
+     */
+    static QueryStatistics of(final QueryStatisticsConfig config) {
+        return new QueryStatistics(config);
+    }
+
+    /**
+     * @return the query statistics config.
+     */
+    QueryStatisticsConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Look up the statistics of a query shape. Statistics are created for unknown shapes as long as the maximum
+     * number of shapes is not reached.
+     *
+     * @param shape the query shape.
+     * @return the statistics of the shape, or an empty optional if too many shapes are tracked already.
+     */
+    Optional<ShapeStatistics> getShapeStatistics(final QueryShape shape) {
+        final ShapeStatistics knownShapeStatistics = shapes.get(shape);
+        if (knownShapeStatistics != null) {
+            return Optional.of(knownShapeStatistics);
+        } else if (shapes.size() >= config.getMaxShapes()) {
+            untrackedQueries.increment();
+            return Optional.empty();
+        } else {
+            return Optional.of(shapes.computeIfAbsent(shape, ShapeStatistics::new));
+        }
+    }
+
+    /**
+     * @return JSON representation of the statistics with the shapes of the highest total execution time first.
+     */
+    JsonObject toJson() {
+        return JsonObject.newBuilder()
+                .set("shapes", shapes.values()
+                        .stream()
+                        .sorted(Comparator.comparingLong(ShapeStatistics::getTotalMillis).reversed())
+                        .map(shapeStatistics -> shapeStatistics.toJson(config.getInefficiencyRatio()))
+                        .collect(JsonCollectors.valuesToArray()))
+                .set("untrackedQueries", untrackedQueries.sum())
+                .build();
+    }
+
+    /**
+     * Statistics of the executions of queries of one shape.
+     */
+    @ThreadSafe
+    static final class ShapeStatistics {
+
+        private final QueryShape shape;
+
+        // all mutable fields are guarded by this
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+        private long totalReturned;
+        private long failed;
+        private long timedOut;
+        private long explained;
+        private long totalKeysExamined;
+        private long totalDocsExamined;
+        private long totalReturnedWhenExplained;
+        @Nullable private Explanation lastExplanation;
+        @Nullable private Index learnedHint;
+
+        private ShapeStatistics(final QueryShape shape) {
+            this.shape = shape;
+        }
+
+        /**
+         * Record an execution of a query of this shape.
+         *
+         * @param millis the execution time in milliseconds.
+         * @param returned the number of returned documents.
+         * @param explainInterval the number of executions after which to explain the query again, or 0 to never
+         * explain it.
+         * @return whether the query should be explained.
+         */
+        synchronized boolean recordExecution(final long millis, final int returned, final int explainInterval) {
+            count++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+            totalReturned += returned;
+            return shouldExplain(explainInterval);
+        }
+
+        /**
+         * Record an execution of a query of this shape which failed, e.g. because it exceeded its maximum time.
+         * Failed executions are never explained, as explaining them would take at least as long as the failed
+         * execution itself.
+         *
+         * @param millis the execution time in milliseconds until the failure.
+         * @param timedOut whether the query exceeded its maximum time.
+         */
+        synchronized void recordFailedExecution(final long millis, final boolean timedOut) {
+            count++;
+            failed++;
+            if (timedOut) {
+                this.timedOut++;
+            }
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+        }
+
+        private boolean shouldExplain(final int explainInterval) {
+            final long succeeded = count - failed;
+            return explainInterval > 0 && (succeeded - 1) % explainInterval == 0;
+        }
+
+        /**
+         * @return the shape of the recorded queries.
+         */
+        QueryShape getShape() {
+            return shape;
+        }
+
+        /**
+         * Record the explanation of a query of this shape.
+         *
+         * @param explanation the explanation.
+         */
+        synchronized void recordExplanation(final Explanation explanation) {
+            explained++;
+            totalKeysExamined += explanation.keysExamined;
+            totalDocsExamined += explanation.docsExamined;
+            totalReturnedWhenExplained += explanation.returned;
+            lastExplanation = explanation;
+        }
+
+        /**
+         * Remember the index to use as hint for queries of this shape.
+         *
+         * @param index the index.
+         */
+        synchronized void learnHint(final Index index) {
+            learnedHint = index;
+        }
+
+        /**
+         * @return the keys of the index learned for this shape if any.
+         */
+        synchronized Optional<Bson> getLearnedHint() {
+            return Optional.ofNullable(learnedHint).map(Index::getKeys);
+        }
+
+        private synchronized long getTotalMillis() {
+            return totalMillis;
+        }
+
+        private synchronized JsonObject toJson(final double inefficiencyRatio) {
+            final JsonObjectBuilder builder = JsonObject.newBuilder()
+                    .set("shape", shape.toJson())
+                    .set("count", count)
+                    .set("totalMillis", totalMillis)
+                    .set("maxMillis", maxMillis)
+                    .set("averageMillis", count == 0 ? 0.0 : (double) totalMillis / count)
+                    .set("averageReturned", count == failed ? 0.0 : (double) totalReturned / (count - failed))
+                    .set("failed", failed)
+                    .set("timedOut", timedOut)
+                    .set("explained", explained);
+            if (lastExplanation != null) {
+                final double docsExaminedPerReturned =
+                        (double) totalDocsExamined / Math.max(1L, totalReturnedWhenExplained);
+                final boolean inefficient = docsExaminedPerReturned > inefficiencyRatio ||
+                        COLLECTION_SCAN.equals(lastExplanation.index);
+                builder.set("lastExplanation", lastExplanation.toJson())
+                        .set("averageKeysExamined", (double) totalKeysExamined / explained)
+                        .set("averageDocsExamined", (double) totalDocsExamined / explained)
+                        .set("docsExaminedPerReturned", docsExaminedPerReturned)
+                        .set("inefficient", inefficient);
+                if (inefficient) {
+                    builder.set("recommendation", "Configure a hint for the namespaces of this shape or create an " +
+                            "index supporting its filter keys and sort keys.");
+                }
+            }
+            if (learnedHint != null) {
+                builder.set("learnedHint", learnedHint.getName());
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * The execution statistics of an explained query.
+     */
+    @Immutable
+    static final class Explanation {
+
+        private final String index;
+        private final long keysExamined;
+        private final long docsExamined;
+        private final long returned;
+
+        private Explanation(final String index, final long keysExamined, final long docsExamined,
+                final long returned) {
+            this.index = index;
+            this.keysExamined = keysExamined;
+            this.docsExamined = docsExamined;
+            this.returned = returned;
+        }
+
+        /**
+         * Read the result of an {@code explain} command with verbosity {@code executionStats}.
+         *
+         * @param explainResult the result.
+         * @return the explanation.
+         */
+        static Explanation of(final Document explainResult) {
+            final Document queryPlanner = getDocument(explainResult, "queryPlanner");
+            final Document winningPlan = queryPlanner == null ? null : getDocument(queryPlanner, "winningPlan");
+            final Document executionStats = getDocument(explainResult, "executionStats");
+            return new Explanation(findIndexName(winningPlan),
+                    getLong(executionStats, "totalKeysExamined"),
+                    getLong(executionStats, "totalDocsExamined"),
+                    getLong(executionStats, "nReturned"));
+        }
+
+        /**
+         * @return the number of examined index keys and documents which is the cost of the query.
+         */
+        long getCost() {
+            return keysExamined + docsExamined;
+        }
+
+        private JsonObject toJson() {
+            return JsonObject.newBuilder()
+                    .set("index", index)
+                    .set("keysExamined", keysExamined)
+                    .set("docsExamined", docsExamined)
+                    .set("returned", returned)
+                    .build();
+        }
+
+        private static String findIndexName(@Nullable final Document plan) {
+            if (plan == null) {
+                return COLLECTION_SCAN;
+            }
+            final Object indexName = plan.get("indexName");
+            if (indexName instanceof String) {
+                return (String) indexName;
+            }
+            final Document inputStage = getDocument(plan, "inputStage");
+            if (inputStage != null) {
+                return findIndexName(inputStage);
+            }
+            final Object inputStages = plan.get("inputStages");
+            if (inputStages instanceof List && !((List<?>) inputStages).isEmpty() &&
+                    ((List<?>) inputStages).get(0) instanceof Document) {
+                return findIndexName((Document) ((List<?>) inputStages).get(0));
+            }
+            return COLLECTION_SCAN;
+        }
+
+        @Nullable
+        private static Document getDocument(final Document document, final String key) {
+            final Object value = document.get(key);
+            return value instanceof Document ? (Document) value : null;
+        }
+
+        private static long getLong(@Nullable final Document document, final String key) {
+            final Object value = document == null ? null : document.get(key);
+            return value instanceof Number ? ((Number) value).longValue() : 0L;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "index=" + index +
+                    ", keysExamined=" + keysExamined +
+                    ", docsExamined=" + docsExamined +
+                    ", returned=" + returned +
+                    "]";
+        }
+    }
+
+}
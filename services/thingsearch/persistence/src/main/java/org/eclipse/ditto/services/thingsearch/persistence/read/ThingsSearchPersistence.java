@@ -18,6 +18,8 @@ import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.ThingId;
@@ -47,6 +49,13 @@ public interface ThingsSearchPersistence {
      */
     Source<SearchNamespaceReportResult, NotUsed> generateNamespaceCountReport();
 
+    /**
+     * Retrieve the statistics of the shapes of executed search queries.
+     *
+     * @return Source that emits the statistics.
+     */
+    Source<JsonObject, NotUsed> retrieveQueryStatistics();
+
     /**
      * Returns the count of documents found by the given {@code query}.
      *
@@ -78,6 +87,21 @@ public interface ThingsSearchPersistence {
     Source<ResultList<ThingId>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Returns the found things projected out of the search index without retrieving them from the things service.
+     * The projected values are restricted to those readable by the authorization subjects according to the search
+     * index, which is eventually consistent. Therefore each projected thing contains the revision of its index entry.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @param fields the fields to project, or null to project all fields.
+     * @return an {@link Source} which emits the projected things.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     */
+    Source<ResultList<JsonObject>, NotUsed> findAllProjected(Query query, List<String> authorizationSubjectIds,
+            @Nullable Set<String> namespaces, @Nullable JsonFieldSelector fields);
+
     /**
      * Start a stream of metadata of all search index entries not marked for deletion.
      * Do not consider authorization.
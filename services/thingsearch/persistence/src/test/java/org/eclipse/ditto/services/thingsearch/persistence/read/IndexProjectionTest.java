@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Tests {@link IndexProjection}.
+ */
+public final class IndexProjectionTest {
+
+    private static final List<String> SUBJECTS = Collections.singletonList("user");
+
+    private static final Document INDEX_DOCUMENT = new Document()
+            .append("_id", "org.eclipse.ditto:thing")
+            .append("_revision", 5L)
+            .append("s", new Document()
+                    .append("thingId", "org.eclipse.ditto:thing")
+                    .append("_revision", 4L)
+                    .append("attributes", new Document()
+                            .append("model~2name", "lamp")
+                            .append("secret", "42")
+                            .append("tags", Arrays.asList(new Document("a", 1).append("b", 2), new Document("a", 3)))
+                            .append("empty", new Document())))
+            .append("d", Arrays.asList(
+                    flattenedValue("/thingId", "user"),
+                    flattenedValue("/_revision", "user"),
+                    flattenedValue("/attributes/model.name", "user"),
+                    flattenedValue("/attributes/secret", "admin"),
+                    flattenedValue("/attributes/tags/a", "user"),
+                    flattenedValue("/attributes/tags/b", "user").append("r", Collections.singletonList("user")),
+                    flattenedValue("/attributes/empty", "user")));
+
+    @Test
+    public void projectsReadableValuesWithRevisionOfIndex() {
+        final JsonObject thing = IndexProjection.of(SUBJECTS, null).project(INDEX_DOCUMENT);
+
+        assertThat(thing).isEqualTo(JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thing")
+                .set("_revision", 5L)
+                .set("attributes", JsonObject.newBuilder()
+                        .set("model.name", "lamp")
+                        .set("tags", JsonArray.of("[{\"a\":1},{\"a\":3}]"))
+                        .set("empty", JsonObject.empty())
+                        .build())
+                .build());
+    }
+
+    @Test
+    public void projectsSelectedFields() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("attributes/model.name", "attributes/secret");
+
+        final JsonObject thing = IndexProjection.of(SUBJECTS, fields).project(INDEX_DOCUMENT);
+
+        assertThat(thing).isEqualTo(JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thing")
+                .set("attributes", JsonObject.newBuilder().set("model.name", "lamp").build())
+                .set("_revision", 5L)
+                .build());
+    }
+
+    @Test
+    public void projectsEverythingWithoutAuthorizationSubjects() {
+        final JsonObject thing = IndexProjection.of(null, null).project(INDEX_DOCUMENT);
+
+        assertThat(thing.getValue("attributes/secret")).contains(JsonValue.of("42"));
+    }
+
+    @Test
+    public void mongoProjectionContainsNoPathTogetherWithItsSubPath() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("attributes", "attributes/model.name");
+
+        final Document projection =
+                (Document) IndexProjection.of(SUBJECTS, fields).toMongoProjection(Collections.emptyList());
+
+        assertThat(projection.keySet())
+                .containsExactlyInAnyOrder("_id", "_revision", "d.k", "d.g", "d.r", "s.attributes");
+    }
+
+    private static Document flattenedValue(final String key, final String grantedSubject) {
+        return new Document()
+                .append("k", key)
+                .append("g", Collections.singletonList(grantedSubject))
+                .append("r", Collections.emptyList());
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.Test;
+
+import com.mongodb.client.model.Sorts;
+
+/**
+ * Tests {@link QueryShape}.
+ */
+public final class QueryShapeTest {
+
+    private static final String FILTER = "{\"$and\":[" +
+            "{\"d\":{\"$elemMatch\":{\"k\":\"/attributes/manufacturer\",\"v\":\"%s\",\"g\":{\"$in\":[\"%s\"]}}}}," +
+            "{\"_namespace\":{\"$in\":[\"%s\"]}}]}";
+
+    @Test
+    public void queriesWithDifferentValuesHaveSameShape() {
+        final QueryShape shape1 = QueryShape.of(filter("ACME", "user1", "org.eclipse.ditto"),
+                Sorts.ascending("_id"), new HashSet<>(Arrays.asList("a", "b")));
+        final QueryShape shape2 = QueryShape.of(filter("Bosch", "user2", "org.eclipse.ditto.other"),
+                Sorts.ascending("_id"), new HashSet<>(Arrays.asList("b", "a")));
+
+        assertThat(shape1).isEqualTo(shape2);
+        assertThat(shape1.getKey()).doesNotContain("ACME", "user1", "org.eclipse.ditto");
+    }
+
+    @Test
+    public void queriesWithDifferentKeysOrSortHaveDifferentShapes() {
+        final BsonDocument filter = filter("ACME", "user1", "org.eclipse.ditto");
+        final BsonDocument otherFilter = BsonDocument.parse(filter.toJson().replace("manufacturer", "model"));
+
+        final QueryShape shape = QueryShape.of(filter, Sorts.ascending("_id"), null);
+
+        assertThat(shape).isNotEqualTo(QueryShape.of(otherFilter, Sorts.ascending("_id"), null));
+        assertThat(shape).isNotEqualTo(QueryShape.of(filter, Sorts.descending("_id"), null));
+        assertThat(shape).isNotEqualTo(QueryShape.of(filter, Sorts.ascending("_id"), Collections.singleton("a")));
+    }
+
+    @Test
+    public void filterKeysContainPathsAndRootLevelFields() {
+        final QueryShape shape =
+                QueryShape.of(filter("ACME", "user1", "org.eclipse.ditto"), new Document("s.attributes.x", 1), null);
+
+        assertThat(shape.getFilterKeys()).containsExactly("/attributes/manufacturer", "_namespace");
+        assertThat(shape.getSortKeys()).containsExactly("s.attributes.x");
+    }
+
+    private static BsonDocument filter(final String value, final String subject, final String namespace) {
+        return BsonDocument.parse(String.format(FILTER, value, subject, namespace));
+    }
+
+}
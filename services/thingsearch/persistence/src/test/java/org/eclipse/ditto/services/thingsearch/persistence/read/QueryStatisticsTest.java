@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultQueryStatisticsConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.Indices;
+import org.junit.Test;
+
+import com.mongodb.client.model.Sorts;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link QueryStatistics}.
+ */
+public final class QueryStatisticsTest {
+
+    private static final QueryShape SHAPE =
+            QueryShape.of(BsonDocument.parse("{\"_id\":\"x:y\"}"), Sorts.ascending("_id"), null);
+
+    private static final QueryShape OTHER_SHAPE =
+            QueryShape.of(BsonDocument.parse("{\"_namespace\":\"x\"}"), Sorts.ascending("_id"), null);
+
+    private final QueryStatistics underTest = QueryStatistics.of(DefaultQueryStatisticsConfig.of(
+            ConfigFactory.parseString("query-statistics { max-shapes = 1, explain-interval = 2 }")));
+
+    @Test
+    public void explainsFirstExecutionAndThenEveryInterval() {
+        final QueryStatistics.ShapeStatistics shapeStatistics = underTest.getShapeStatistics(SHAPE).orElseThrow(
+                AssertionError::new);
+
+        assertThat(shapeStatistics.recordExecution(5L, 1, 2)).isTrue();
+        assertThat(shapeStatistics.recordExecution(5L, 1, 2)).isFalse();
+        assertThat(shapeStatistics.recordExecution(5L, 1, 2)).isTrue();
+        assertThat(shapeStatistics.recordExecution(5L, 1, 0)).isFalse();
+    }
+
+    @Test
+    public void recordsFailedAndTimedOutExecutions() {
+        final QueryStatistics.ShapeStatistics shapeStatistics = underTest.getShapeStatistics(SHAPE).orElseThrow(
+                AssertionError::new);
+
+        assertThat(shapeStatistics.recordExecution(10L, 4, 2)).isTrue();
+        shapeStatistics.recordFailedExecution(30000L, true);
+        shapeStatistics.recordFailedExecution(20L, false);
+
+        final JsonObject json = underTest.toJson().getValue(JsonPointer.of("shapes/0"))
+                .map(JsonValue::asObject)
+                .orElseThrow(AssertionError::new);
+
+        assertThat(json.getValue("count")).contains(JsonValue.of(3L));
+        assertThat(json.getValue("failed")).contains(JsonValue.of(2L));
+        assertThat(json.getValue("timedOut")).contains(JsonValue.of(1L));
+        assertThat(json.getValue("maxMillis")).contains(JsonValue.of(30000L));
+        assertThat(json.getValue("averageReturned")).contains(JsonValue.of(4.0));
+    }
+
+    @Test
+    public void explainsOnlySuccessfulExecutions() {
+        final QueryStatistics.ShapeStatistics shapeStatistics = underTest.getShapeStatistics(SHAPE).orElseThrow(
+                AssertionError::new);
+
+        shapeStatistics.recordFailedExecution(30000L, true);
+        assertThat(shapeStatistics.recordExecution(5L, 1, 2)).isTrue();
+        shapeStatistics.recordFailedExecution(30000L, true);
+        assertThat(shapeStatistics.recordExecution(5L, 1, 2)).isFalse();
+        assertThat(shapeStatistics.recordExecution(5L, 1, 2)).isTrue();
+    }
+
+    @Test
+    public void countsQueriesOfUntrackedShapes() {
+        assertThat(underTest.getShapeStatistics(SHAPE)).isPresent();
+        assertThat(underTest.getShapeStatistics(SHAPE)).isPresent();
+        assertThat(underTest.getShapeStatistics(OTHER_SHAPE)).isEmpty();
+
+        final JsonObject json = underTest.toJson();
+        assertThat(json.getValue("shapes").map(JsonValue::asArray).map(JsonArray::getSize)).contains(1);
+        assertThat(json.getValue("untrackedQueries")).contains(JsonValue.of(1L));
+    }
+
+    @Test
+    public void reportsCollectionScansAsInefficient() {
+        final QueryStatistics.ShapeStatistics shapeStatistics = underTest.getShapeStatistics(SHAPE).orElseThrow(
+                AssertionError::new);
+        shapeStatistics.recordExecution(100L, 1, 2);
+        shapeStatistics.recordExplanation(QueryStatistics.Explanation.of(explainResult(
+                new Document("stage", "COLLSCAN"), 0L, 1000L, 1L)));
+
+        final JsonObject json = underTest.toJson().getValue(JsonPointer.of("shapes/0"))
+                .map(JsonValue::asObject)
+                .orElseThrow(AssertionError::new);
+
+        assertThat(json.getValue("inefficient")).contains(JsonValue.of(true));
+        assertThat(json.getValue("docsExaminedPerReturned")).contains(JsonValue.of(1000.0));
+        assertThat(json.getValue("lastExplanation/index")).contains(JsonValue.of("COLLSCAN"));
+        assertThat(json.getValue("recommendation")).isPresent();
+    }
+
+    @Test
+    public void readsIndexNameOfNestedInputStage() {
+        final Document winningPlan = new Document("stage", "LIMIT")
+                .append("inputStage", new Document("stage", "FETCH")
+                        .append("inputStage", new Document("stage", "IXSCAN").append("indexName", "v_wildcard")));
+
+        final QueryStatistics.Explanation explanation =
+                QueryStatistics.Explanation.of(explainResult(winningPlan, 3L, 2L, 2L));
+
+        assertThat(explanation.getCost()).isEqualTo(5L);
+        assertThat(explanation.toString()).contains("index=v_wildcard");
+    }
+
+    @Test
+    public void learnsHint() {
+        final QueryStatistics.ShapeStatistics shapeStatistics = underTest.getShapeStatistics(SHAPE).orElseThrow(
+                AssertionError::new);
+        assertThat(shapeStatistics.getLearnedHint()).isEmpty();
+
+        shapeStatistics.learnHint(Indices.forQueries().get(0));
+
+        assertThat(shapeStatistics.getLearnedHint()).contains(Indices.forQueries().get(0).getKeys());
+    }
+
+    private static Document explainResult(final Document winningPlan, final long keysExamined,
+            final long docsExamined, final long returned) {
+
+        return new Document("queryPlanner", new Document("winningPlan", winningPlan))
+                .append("executionStats", new Document("totalKeysExamined", keysExamined)
+                        .append("totalDocsExamined", docsExamined)
+                        .append("nReturned", returned));
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.thingsearch.starter.actors;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -32,8 +33,11 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
+import org.eclipse.ditto.services.models.thingsearch.ThingsSearchConstants;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveQueryStatistics;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveQueryStatisticsResponse;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
@@ -48,6 +52,8 @@ import org.eclipse.ditto.signals.commands.thingsearch.query.CountThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
 
+import com.typesafe.config.Config;
+
 import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -73,7 +79,10 @@ import akka.stream.javadsl.Source;
  * Query executes against the passed {@link ThingsSearchPersistence}.
  * <p>
  * The ThingsSearchPersistence returns only Thing IDs. Thus to provide complete Thing information to the requester,
- * things have to be retrieved from Things Service via distributed pub/sub.
+ * things have to be retrieved from Things Service via distributed pub/sub. Queries with the header
+ * {@link ThingsSearchConstants#SEARCH_FROM_INDEX_HEADER} set to {@code true} are answered with things projected out of
+ * the search index instead, unless these exceed half of the maximum cluster message size. Then the response contains
+ * only the thing IDs and not the header so that the things are retrieved as usual.
  */
 public final class SearchActor extends AbstractActor {
 
@@ -90,11 +99,18 @@ public final class SearchActor extends AbstractActor {
     private static final String QUERY_TYPE_TAG = "query_type";
     private static final String API_VERSION_TAG = "api_version";
 
+    /**
+     * Config path of the maximum size of a message sent within the cluster.
+     */
+    private static final String MAX_FRAME_SIZE_CONFIG_PATH = "akka.remote.artery.advanced.maximum-frame-size";
+    private static final long DEFAULT_MAX_FRAME_SIZE = 256 * 1024L;
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final QueryParser queryParser;
     private final ThingsSearchPersistence searchPersistence;
     private final ActorMaterializer materializer;
+    private final long maxProjectedItemsBytes;
 
     @SuppressWarnings("unused")
     private SearchActor(
@@ -104,6 +120,7 @@ public final class SearchActor extends AbstractActor {
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
         materializer = ActorMaterializer.create(getContext());
+        maxProjectedItemsBytes = getMaxProjectedItemsBytes(getContext().getSystem().settings().config());
     }
 
     /**
@@ -128,6 +145,7 @@ public final class SearchActor extends AbstractActor {
                 .match(SudoCountThings.class, this::sudoCount)
                 .match(QueryThings.class, this::query)
                 .match(SudoRetrieveNamespaceReport.class, this::namespaceReport)
+                .match(SudoRetrieveQueryStatistics.class, this::queryStatistics)
                 .matchAny(any -> log.warning("Got unknown message '{}'", any))
                 .build();
     }
@@ -142,6 +160,17 @@ public final class SearchActor extends AbstractActor {
                 .to(getSender());
     }
 
+    private void queryStatistics(final SudoRetrieveQueryStatistics retrieveQueryStatistics) {
+        final DittoHeaders dittoHeaders = retrieveQueryStatistics.getDittoHeaders();
+        LogUtil.enhanceLogWithCorrelationId(log, dittoHeaders.getCorrelationId());
+        log.info("Processing SudoRetrieveQueryStatistics command: {}", retrieveQueryStatistics);
+
+        Patterns.pipe(searchPersistence.retrieveQueryStatistics()
+                .map(statistics -> SudoRetrieveQueryStatisticsResponse.of(statistics, dittoHeaders))
+                .runWith(Sink.head(), materializer), getContext().dispatcher())
+                .to(getSender());
+    }
+
     private void count(final CountThings countThings) {
         executeCount(countThings, queryParser::parse, false);
     }
@@ -232,6 +261,18 @@ public final class SearchActor extends AbstractActor {
                                 searchTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
                         final List<String> subjectIds = command.getDittoHeaders().getAuthorizationSubjects();
+                        if (isSearchFromIndex(command)) {
+                            final Source<ResultList<JsonObject>, NotUsed> findAllProjectedResult =
+                                    searchPersistence.findAllProjected(query, subjectIds, namespaces,
+                                            command.getFields().orElse(null));
+                            return processSearchPersistenceResult(findAllProjectedResult, dittoHeaders)
+                                    .via(Flow.fromFunction(result -> {
+                                        stopTimer(databaseAccessTimer);
+                                        return result;
+                                    }))
+                                    .map(things -> toProjectedQueryThingsResponse(command, cursor.orElse(null),
+                                            things));
+                        }
                         final Source<ResultList<ThingId>, NotUsed> findAllResult =
                                 searchPersistence.findAll(query, subjectIds, namespaces);
                         return processSearchPersistenceResult(findAllResult, dittoHeaders)
@@ -311,6 +352,59 @@ public final class SearchActor extends AbstractActor {
         }
     }
 
+    private QueryThingsResponse toProjectedQueryThingsResponse(final QueryThings queryThings,
+            @Nullable ThingsSearchCursor cursor,
+            final ResultList<JsonObject> things) {
+
+        final DittoHeaders dittoHeaders = queryThings.getDittoHeaders();
+        LogUtil.enhanceLogWithCorrelationId(log, dittoHeaders.getCorrelationId());
+        if (things.isEmpty()) {
+            return QueryThingsResponse.of(SearchModelFactory.emptySearchResult(), dittoHeaders);
+        } else {
+            // respond with the things projected out of the search index, the gateway does not look them up
+            final JsonArray items = things.stream().collect(JsonCollectors.valuesToArray());
+            final int itemsBytes = items.toString().getBytes(StandardCharsets.UTF_8).length;
+            if (itemsBytes > maxProjectedItemsBytes) {
+                // fall back to only responding with the thing IDs so that the gateway retrieves the things
+                log.info("Projected things of <{}> bytes exceed the maximum of <{}> bytes, responding with their IDs.",
+                        itemsBytes, maxProjectedItemsBytes);
+                final JsonArray thingIds = things.stream()
+                        .map(thing -> JsonObject.newBuilder()
+                                .set(Thing.JsonFields.ID, thing.getValueOrThrow(Thing.JsonFields.ID))
+                                .build())
+                        .collect(JsonCollectors.valuesToArray());
+                final SearchResult searchResults =
+                        SearchModelFactory.newSearchResult(thingIds, things.nextPageOffset());
+                final SearchResult processedResults =
+                        ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, things);
+                final DittoHeaders headersWithoutSearchFromIndex = dittoHeaders.toBuilder()
+                        .removeHeader(ThingsSearchConstants.SEARCH_FROM_INDEX_HEADER)
+                        .build();
+
+                return QueryThingsResponse.of(processedResults, headersWithoutSearchFromIndex);
+            }
+            final SearchResult searchResults = SearchModelFactory.newSearchResult(items, things.nextPageOffset());
+            final SearchResult processedResults =
+                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, things);
+
+            return QueryThingsResponse.of(processedResults, dittoHeaders);
+        }
+    }
+
+    /**
+     * Leaves half of the maximum cluster message size for headers and the serialization overhead of the response.
+     */
+    private static long getMaxProjectedItemsBytes(final Config config) {
+        final long maxFrameSize = config.hasPath(MAX_FRAME_SIZE_CONFIG_PATH)
+                ? config.getBytes(MAX_FRAME_SIZE_CONFIG_PATH)
+                : DEFAULT_MAX_FRAME_SIZE;
+        return maxFrameSize / 2;
+    }
+
+    private static boolean isSearchFromIndex(final QueryThings queryThings) {
+        return Boolean.parseBoolean(queryThings.getDittoHeaders().get(ThingsSearchConstants.SEARCH_FROM_INDEX_HEADER));
+    }
+
     private static StartedTimer startNewTimer(final JsonSchemaVersion version, final String queryType) {
         return DittoMetrics.expiringTimer(TRACING_THINGS_SEARCH)
                 .tag(QUERY_TYPE_TAG, queryType)
@@ -149,7 +149,8 @@ public final class SearchRootActor extends DittoRootActor {
                     log.info("Applying MongoDB hints <{}>.", mongoHintsByNamespace);
                     return persistence.withHintsByNamespace(mongoHintsByNamespace);
                 })
-                .orElse(persistence);
+                .orElse(persistence)
+                .withQueryStatistics(searchConfig.getQueryStatisticsConfig());
     }
 
     private ActorRef initializeSearchActor(final LimitsConfig limitsConfig,
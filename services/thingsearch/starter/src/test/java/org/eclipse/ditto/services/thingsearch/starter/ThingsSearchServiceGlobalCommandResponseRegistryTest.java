@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.thingsearch.starter;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReportResponse;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveQueryStatisticsResponse;
 import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
 import org.eclipse.ditto.services.utils.test.GlobalCommandResponseRegistryTestCases;
 import org.eclipse.ditto.signals.commands.common.RetrieveConfigResponse;
@@ -52,7 +53,8 @@ public final class ThingsSearchServiceGlobalCommandResponseRegistryTest extends
                 RetrieveConfigResponse.class,
                 RetrieveHealthResponse.class,
                 PurgeEntitiesResponse.class,
-                SudoRetrieveNamespaceReportResponse.class
+                SudoRetrieveNamespaceReportResponse.class,
+                SudoRetrieveQueryStatisticsResponse.class
         );
     }
 
@@ -24,7 +24,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.DittoConfigCache;
 import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.services.utils.pubsub.DistributedSub;
@@ -65,8 +65,8 @@ final class NewEventForwarder extends AbstractActorWithTimers {
 
         this.thingEventSub = thingEventSub;
 
-        final DittoSearchConfig searchConfig =
-                DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()));
+        final DittoSearchConfig searchConfig = DittoConfigCache.get(getContext().getSystem())
+                .getOrCreate(DittoSearchConfig.class, DittoSearchConfig::of);
         final UpdaterConfig updaterConfig = searchConfig.getUpdaterConfig();
         final ClusterConfig clusterConfig = searchConfig.getClusterConfig();
 
@@ -15,9 +15,12 @@ package org.eclipse.ditto.services.utils.akka.controlflow;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.exceptions.TooManyRequestsException;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
@@ -28,20 +31,16 @@ import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorEx
 
 import akka.NotUsed;
 import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
 import akka.japi.function.Function;
 import akka.japi.pf.ReceiveBuilder;
 import akka.stream.ActorMaterializer;
 import akka.stream.ActorMaterializerSettings;
 import akka.stream.Attributes;
-import akka.stream.FlowShape;
-import akka.stream.Graph;
 import akka.stream.OverflowStrategy;
 import akka.stream.QueueOfferResult;
 import akka.stream.Supervision;
 import akka.stream.javadsl.Flow;
-import akka.stream.javadsl.GraphDSL;
-import akka.stream.javadsl.Merge;
-import akka.stream.javadsl.Partition;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.SourceQueue;
@@ -58,10 +57,10 @@ public abstract class AbstractGraphActor<T, M> extends AbstractActor {
 
     /**
      * For {@code signals} marked with a DittoHeader with that key, the "special enforcement lane" shall be used &ndash;
-     * meaning that those messages are processed not based on the hash of their ID but in a common "special lane".
+     * meaning that those messages are processed not in the lane of their ID but in a common "special lane".
      * <p>
      * Be aware that when using this, all those signals will be effectively sequentially processed but they could
-     * be processed in parallel to other signals whose IDs have the same hash partition in {@link AbstractGraphActor}.
+     * be processed in parallel to other signals with the same ID in {@link AbstractGraphActor}.
      * </p>
      */
     public static final String DITTO_INTERNAL_SPECIAL_ENFORCEMENT_LANE = "ditto-internal-special-enforcement-lane";
@@ -105,7 +104,7 @@ public abstract class AbstractGraphActor<T, M> extends AbstractActor {
     protected abstract T mapMessage(M message);
 
     /**
-     * Called before handling the actual message via the {@link #processMessageFlow()} in order to being able to enhance
+     * Called before handling the actual message via {@link #processMessage(Object)} in order to being able to enhance
      * the message.
      *
      * @param message the message to be handled.
@@ -116,9 +115,13 @@ public abstract class AbstractGraphActor<T, M> extends AbstractActor {
     }
 
     /**
-     * @return the Flow processing the messages of type {@code T} this graph actor handles.
+     * Processes a message of type {@code T} this graph actor handles. The next message of the same entity is not
+     * processed before the returned stage completed. Called inside the stream; must be thread-safe.
+     *
+     * @param message the message to process.
+     * @return the processed messages to be handled by the {@link #processedMessageSink()}.
      */
-    protected abstract Flow<T, T, NotUsed> processMessageFlow();
+    protected abstract CompletionStage<List<T>> processMessage(T message);
 
     /**
      * @return the Sink handling the processed messages of type {@code T} this graph actor handles.
@@ -126,13 +129,14 @@ public abstract class AbstractGraphActor<T, M> extends AbstractActor {
     protected abstract Sink<T, ?> processedMessageSink();
 
     /**
-     * @return the buffer size used for the Source queue.
+     * @return the buffer size used for the Source queue and for the messages waiting for their entity lane. Messages
+     * exceeding the buffer are rejected with a {@link TooManyRequestsException}.
      */
     protected abstract int getBufferSize();
 
     /**
-     * @return parallelism to use for processing messages in parallel. When configured too low, throughput of
-     * messages which perform blocking operations will be bad.
+     * @return the maximum number of entities whose messages are processed in parallel. When configured too low,
+     * throughput of messages which perform blocking operations will be bad.
      */
     protected abstract int getParallelism();
 
@@ -180,9 +184,9 @@ public abstract class AbstractGraphActor<T, M> extends AbstractActor {
                 .via(Flow.fromFunction(this::beforeProcessMessage))
                 .log("graph-actor-stream-2-preprocessed", logger)
                 .withAttributes(streamLogLevels)
-                // partition by the message's ID in order to maintain order per ID
-                .via(partitionById(processMessageFlow(), getParallelism()))
-                .log("graph-actor-stream-3-partitioned", logger)
+                // process each ID in its own lane in order to maintain order per ID
+                .via(processInEntityLanes())
+                .log("graph-actor-stream-3-processed", logger)
                 .withAttributes(streamLogLevels)
                 .to(processedMessageSink())
                 .run(materializer);
@@ -194,33 +198,16 @@ public abstract class AbstractGraphActor<T, M> extends AbstractActor {
     }
 
     /**
-     * Partitions the passed in {@code flowToPartition} based on the flowing through IDs of {@link WithId} messages.
-     * That means that e.g. each Thing-ID gets its own partition, so messages to that Thing are sequentially processed
-     * and thus the order is maintained.
+     * Processes the messages in {@link EntityLanes} based on the IDs of {@link WithId} messages.
+     * That means that e.g. each Thing-ID gets its own lane, so messages to that Thing are sequentially processed
+     * and thus the order is maintained, while messages to other Things are processed in parallel up to
+     * {@link #getParallelism()}.
      *
-     * @param flowToPartition the Flow to apply the partitioning on.
-     * @param parallelism the parallelism to use (how many partitions to process in parallel) - which should be based
-     * on the amount of available CPUs.
-     * @return the partitioning flow
+     * @return the flow processing messages in entity lanes.
      */
-    private static <T> Flow<T, T, NotUsed> partitionById(final Graph<FlowShape<T, T>, NotUsed> flowToPartition,
-            final int parallelism) {
-
-        final int parallelismWithSpecialLane = parallelism + 1;
-
-        final IdPartitioner<T> partitioner = IdPartitioner.of(DITTO_INTERNAL_SPECIAL_ENFORCEMENT_LANE, parallelism);
-
-        return Flow.fromGraph(GraphDSL.create(Partition.<T>create(parallelismWithSpecialLane, partitioner),
-                Merge.<T>create(parallelismWithSpecialLane, true),
-                (nA, nB) -> nA,
-                (builder, partition, merge) -> {
-                    for (int i = 0; i < parallelismWithSpecialLane; i++) {
-                        builder.from(partition.out(i))
-                                .via(builder.add(flowToPartition))
-                                .toInlet(merge.in(i));
-                    }
-                    return FlowShape.of(partition.in(), merge.out());
-                }));
+    private Flow<T, T, NotUsed> processInEntityLanes() {
+        return Flow.fromGraph(EntityLanes.<T, T>of(IdLaneKey.of(DITTO_INTERNAL_SPECIAL_ENFORCEMENT_LANE),
+                this::processMessage, getParallelism(), getBufferSize()));
     }
 
     /**
@@ -253,14 +240,19 @@ public abstract class AbstractGraphActor<T, M> extends AbstractActor {
         }
         logger.discardCorrelationId();
         receiveCounter.increment();
-        sourceQueue.offer(mapMessage(match)).handle(this::incrementEnqueueCounters);
+        final ActorRef sender = getSender();
+        sourceQueue.offer(mapMessage(match))
+                .handle((result, error) -> incrementEnqueueCounters(match, sender, result, error));
     }
 
-    private Void incrementEnqueueCounters(final QueueOfferResult result, final Throwable error) {
+    private Void incrementEnqueueCounters(final M match, final ActorRef sender, final QueueOfferResult result,
+            final Throwable error) {
+
         if (QueueOfferResult.enqueued().equals(result)) {
             enqueueSuccessCounter.increment();
         } else if (QueueOfferResult.dropped().equals(result)) {
             enqueueDroppedCounter.increment();
+            rejectDropped(match, sender);
         } else if (result instanceof QueueOfferResult.Failure) {
             final QueueOfferResult.Failure failure = (QueueOfferResult.Failure) result;
             logger.error(failure.cause(), "Enqueue failed!");
@@ -272,6 +264,16 @@ public abstract class AbstractGraphActor<T, M> extends AbstractActor {
         return null;
     }
 
+    private void rejectDropped(final M match, final ActorRef sender) {
+        if (match instanceof WithDittoHeaders) {
+            // reply instead of dropping silently so that the sender need not wait for its timeout
+            final TooManyRequestsException tooManyRequests = TooManyRequestsException.newBuilder()
+                    .dittoHeaders(((WithDittoHeaders<?>) match).getDittoHeaders())
+                    .build();
+            sender.tell(tooManyRequests, ActorRef.noSender());
+        }
+    }
+
     private void handleUnknownThrowable(final Throwable unknownThrowable) {
         logger.warning("Received unknown Throwable <{}>!", unknownThrowable);
         final GatewayInternalErrorException gatewayInternalError = GatewayInternalErrorException.newBuilder()
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import akka.stream.Attributes;
+import akka.stream.FlowShape;
+import akka.stream.Inlet;
+import akka.stream.Outlet;
+import akka.stream.stage.AbstractInHandler;
+import akka.stream.stage.AbstractOutHandler;
+import akka.stream.stage.AsyncCallback;
+import akka.stream.stage.GraphStage;
+import akka.stream.stage.GraphStageLogic;
+import akka.stream.stage.GraphStageLogicWithLogging;
+
+/**
+ * Processes elements in logical lanes, one lane per key, e.g. per entity ID.
+ * <ul>
+ * <li>Elements of the same lane are processed one after another in the order of their arrival.</li>
+ * <li>Elements of different lanes are processed concurrently, but at most {@code maxActiveLanes} at a time. Thus the
+ * effective parallelism grows with the number of distinct keys in flight instead of being fixed by a hash
+ * partitioning where unrelated keys may block each other.</li>
+ * <li>Elements waiting for their lane or for a free slot are buffered. When {@code maxBuffered} elements are waiting,
+ * the stage backpressures upstream.</li>
+ * </ul>
+ * Results are emitted in the order in which their processing completes, which maintains the order per lane.
+ *
+ * @param <T> type of elements.
+ * @param <R> type of results.
+ */
+public final class EntityLanes<T, R> extends GraphStage<FlowShape<T, R>> {
+
+    private final Inlet<T> in = Inlet.create("EntityLanes.in");
+    private final Outlet<R> out = Outlet.create("EntityLanes.out");
+    private final FlowShape<T, R> shape = FlowShape.of(in, out);
+
+    private final Function<T, Object> laneKey;
+    private final Function<T, CompletionStage<List<R>>> processor;
+    private final int maxActiveLanes;
+    private final int maxBuffered;
+
+    private EntityLanes(final Function<T, Object> laneKey,
+            final Function<T, CompletionStage<List<R>>> processor,
+            final int maxActiveLanes,
+            final int maxBuffered) {
+
+        this.laneKey = laneKey;
+        this.processor = processor;
+        this.maxActiveLanes = maxActiveLanes;
+        this.maxBuffered = maxBuffered;
+    }
+
+    /**
+     * Create an {@code EntityLanes} stage.
+     *
+     * @param laneKey computes the lane of an element. Keys must implement {@code equals} and {@code hashCode}.
+     * @param processor processes an element asynchronously and produces any number of results.
+     * @param maxActiveLanes how many lanes may process an element at the same time.
+     * @param maxBuffered how many elements may wait for processing before upstream is backpressured.
+     * @param <T> type of elements.
+     * @param <R> type of results.
+     * @return the stage.
+     * @throws NullPointerException if {@code laneKey} or {@code processor} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxActiveLanes} or {@code maxBuffered} is not positive.
+     */
+    public static <T, R> EntityLanes<T, R> of(final Function<T, Object> laneKey,
+            final Function<T, CompletionStage<List<R>>> processor,
+            final int maxActiveLanes,
+            final int maxBuffered) {
+
+        if (maxActiveLanes <= 0 || maxBuffered <= 0) {
+            throw new IllegalArgumentException("maxActiveLanes and maxBuffered must be positive, but were <" +
+                    maxActiveLanes + "> and <" + maxBuffered + ">.");
+        }
+        return new EntityLanes<>(checkNotNull(laneKey, "laneKey"), checkNotNull(processor, "processor"),
+                maxActiveLanes, maxBuffered);
+    }
+
+    @Override
+    public FlowShape<T, R> shape() {
+        return shape;
+    }
+
+    @Override
+    public GraphStageLogic createLogic(final Attributes inheritedAttributes) {
+        return new EntityLanesLogic();
+    }
+
+    private final class EntityLanesLogic extends GraphStageLogicWithLogging {
+
+        // elements waiting for their lane or for a free slot; lanes are removed when they run empty
+        private final Map<Object, Queue<T>> waitingLanes = new HashMap<>();
+
+        // lanes processing an element right now
+        private final Set<Object> activeLanes = new HashSet<>();
+
+        // idle lanes with waiting elements in the order in which they became ready
+        private final Queue<Object> readyLanes = new ArrayDeque<>();
+
+        // results of completed elements waiting for downstream demand
+        private final Queue<R> results = new ArrayDeque<>();
+
+        private int buffered = 0;
+
+        private AsyncCallback<Completion<R>> onProcessed;
+
+        private EntityLanesLogic() {
+            super(shape);
+
+            setHandler(in, new AbstractInHandler() {
+                @Override
+                public void onPush() {
+                    enqueue(grab(in));
+                    dispatch();
+                    considerPull();
+                }
+
+                @Override
+                public void onUpstreamFinish() {
+                    considerComplete();
+                }
+            });
+
+            setHandler(out, new AbstractOutHandler() {
+                @Override
+                public void onPull() {
+                    considerPush();
+                    considerPull();
+                    considerComplete();
+                }
+            });
+        }
+
+        @Override
+        public void preStart() {
+            onProcessed = createAsyncCallback(this::processed);
+            pull(in);
+        }
+
+        private void enqueue(final T element) {
+            final Object key = laneKey.apply(element);
+            final Queue<T> lane = waitingLanes.get(key);
+            if (lane != null) {
+                lane.add(element);
+                buffered++;
+            } else if (!activeLanes.contains(key) && activeLanes.size() < maxActiveLanes) {
+                start(key, element);
+            } else {
+                final Queue<T> newLane = new ArrayDeque<>();
+                newLane.add(element);
+                waitingLanes.put(key, newLane);
+                buffered++;
+                if (!activeLanes.contains(key)) {
+                    readyLanes.add(key);
+                }
+            }
+        }
+
+        private void start(final Object key, final T element) {
+            activeLanes.add(key);
+            try {
+                processor.apply(element).whenComplete((processedResults, error) ->
+                        onProcessed.invoke(new Completion<>(key, processedResults, error)));
+            } catch (final RuntimeException e) {
+                log().error(e, "Processing of element in lane <{}> failed", key);
+                activeLanes.remove(key);
+                considerReady(key);
+            }
+        }
+
+        private void processed(final Completion<R> completion) {
+            if (completion.error != null) {
+                log().error(completion.error, "Processing of element in lane <{}> failed", completion.key);
+            } else if (completion.results != null) {
+                results.addAll(completion.results);
+            }
+            activeLanes.remove(completion.key);
+            considerReady(completion.key);
+            dispatch();
+            considerPush();
+            considerPull();
+            considerComplete();
+        }
+
+        private void considerReady(final Object key) {
+            if (waitingLanes.containsKey(key)) {
+                readyLanes.add(key);
+            }
+        }
+
+        private void dispatch() {
+            while (activeLanes.size() < maxActiveLanes && !readyLanes.isEmpty()) {
+                final Object key = readyLanes.poll();
+                final Queue<T> lane = waitingLanes.get(key);
+                final T element = lane.poll();
+                buffered--;
+                if (lane.isEmpty()) {
+                    waitingLanes.remove(key);
+                }
+                start(key, element);
+            }
+        }
+
+        private void considerPush() {
+            if (isAvailable(out) && !results.isEmpty()) {
+                push(out, results.poll());
+            }
+        }
+
+        private void considerPull() {
+            if (!isClosed(in) && !hasBeenPulled(in) && buffered + results.size() < maxBuffered) {
+                pull(in);
+            }
+        }
+
+        private void considerComplete() {
+            if (isClosed(in) && activeLanes.isEmpty() && buffered == 0 && results.isEmpty()) {
+                completeStage();
+            }
+        }
+    }
+
+    private static final class Completion<R> {
+
+        private final Object key;
+        @Nullable private final List<R> results;
+        @Nullable private final Throwable error;
+
+        private Completion(final Object key, @Nullable final List<R> results, @Nullable final Throwable error) {
+            this.key = key;
+            this.results = results;
+            this.error = error;
+        }
+    }
+
+}
@@ -15,6 +15,8 @@ package org.eclipse.ditto.services.utils.akka.controlflow;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.argumentNotEmpty;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.function.Function;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.entity.id.EntityId;
@@ -22,63 +24,60 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.signals.base.WithId;
 
-import akka.japi.function.Function;
-
 /**
- * Determines the partition number for a given message which implements {@link WithId}.
- * That means that e. g. each Thing ID gets its own partition, so messages to that Thing are sequentially processed
+ * Determines the lane of {@link EntityLanes} for a given message which implements {@link WithId}.
+ * That means that e. g. each Thing ID gets its own lane, so messages to that Thing are sequentially processed
  * and thus the order is maintained.
  *
- * @param <T> the type of the message to get the partition number for.
+ * @param <T> the type of the message to get the lane for.
  */
 @Immutable
-final class IdPartitioner<T> implements Function<T, Integer> {
+final class IdLaneKey<T> implements Function<T, Object> {
 
-    private static final long serialVersionUID = -7938270762761873804L;
+    /**
+     * The key of the "special lane" shared by all messages marked with the special enforcement lane header.
+     */
+    static final String SPECIAL_LANE = "special-enforcement-lane";
 
     private final String specialEnforcementLaneHeaderKey;
-    private final int parallelism;
 
-    private IdPartitioner(final String specialEnforcementLaneHeaderKey, final int parallelism) {
+    private IdLaneKey(final String specialEnforcementLaneHeaderKey) {
         this.specialEnforcementLaneHeaderKey = specialEnforcementLaneHeaderKey;
-        this.parallelism = parallelism;
     }
 
     /**
-     * Returns an instance of {@code IdPartitioner}.
+     * Returns an instance of {@code IdLaneKey}.
      *
      * @param specialEnforcementLaneHeaderKey for {@code signals} marked with a DittoHeader with that key, the
-     * "special enforcement lane" shall be used &ndash; meaning that those messages are processed not based on the hash
-     * of their ID but in a common "special lane".
-     * @param parallelism the parallelism to use (how many partitions to process in parallel) - which should be based
-     * on the amount of available CPUs.
+     * "special enforcement lane" shall be used &ndash; meaning that those messages are processed not in the lane of
+     * their ID but in a common "special lane".
      * @return the instance.
      * @throws NullPointerException if {@code specialEnforcementLaneHeaderKey} is {@code null}.
      * @throws IllegalArgumentException if {@code specialEnforcementLaneHeaderKey} is empty.
-     * @param <T> the type of the message to get the partition number for.
+     * @param <T> the type of the message to get the lane for.
      */
-    public static <T> IdPartitioner<T> of(final String specialEnforcementLaneHeaderKey, final int parallelism) {
+    public static <T> IdLaneKey<T> of(final String specialEnforcementLaneHeaderKey) {
         argumentNotEmpty(specialEnforcementLaneHeaderKey, "specialEnforcementLaneHeaderKey");
-        return new IdPartitioner<>(specialEnforcementLaneHeaderKey, parallelism);
+        return new IdLaneKey<>(specialEnforcementLaneHeaderKey);
     }
 
     @Override
-    public Integer apply(final T message) {
-        final int result;
+    public Object apply(final T message) {
+        final Object result;
         if (isForSpecialLane(checkNotNull(message, "message"))) {
-            result = 0; // 0 is a special "lane" which is required in some special cases
+            result = SPECIAL_LANE;
         } else if (message instanceof WithId) {
-            final int hashCode = getAppropriateHashCode((WithId) message);
-            result = Math.abs(hashCode % parallelism) + 1;
+            result = getAppropriateKey((WithId) message);
         } else {
-            result = 0;
+            // messages without ID have no order to maintain
+            result = message;
         }
         return result;
     }
 
     /**
      * Checks whether a special lane is required for the passed {@code msg}. This is for example required when during
-     * an enforcement another call to the enforcer is done, the hash of the 2 messages might collide and block
+     * an enforcement another call to the enforcer is done, the 2 messages might have the same ID and block
      * each other.
      *
      * @param msg the message to check for whether to use the special lane.
@@ -92,15 +91,15 @@ final class IdPartitioner<T> implements Function<T, Integer> {
         return false;
     }
 
-    private static int getAppropriateHashCode(final WithId message) {
+    private static Object getAppropriateKey(final WithId message) {
         final EntityId id = message.getEntityId();
         if (!id.isDummy()) {
-            return id.hashCode();
+            return id;
         }
 
         // e. g. the case for RetrieveThings command - in that case it is important that not all
-        // RetrieveThings message are processed in the same "lane", so use msg hash instead:
-        return message.hashCode();
+        // RetrieveThings message are processed in the same lane, so use the message itself instead:
+        return message;
     }
 
 }
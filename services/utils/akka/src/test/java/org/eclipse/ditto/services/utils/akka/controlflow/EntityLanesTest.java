@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Source;
+import akka.stream.testkit.TestSubscriber;
+import akka.stream.testkit.javadsl.TestSink;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link EntityLanes}.
+ */
+public final class EntityLanesTest {
+
+    private ActorSystem system;
+    private ActorMaterializer materializer;
+    private BlockingQueue<String> started;
+    private Map<String, CompletableFuture<List<String>>> processing;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create();
+        materializer = ActorMaterializer.create(system);
+        started = new LinkedBlockingQueue<>();
+        processing = new ConcurrentHashMap<>();
+    }
+
+    @After
+    public void shutdown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void processesLanesInParallelAndElementsOfOneLaneInOrder() throws Exception {
+        final TestSubscriber.Probe<String> sink = run(2, "a1", "a2", "b1");
+        sink.request(10);
+
+        assertThat(awaitStarted()).isEqualTo("a1");
+        assertThat(awaitStarted()).isEqualTo("b1");
+        assertThat(started.poll(200L, TimeUnit.MILLISECONDS)).isNull();
+
+        complete("b1");
+        sink.expectNext("b1-done");
+        complete("a1");
+        sink.expectNext("a1-done");
+
+        assertThat(awaitStarted()).isEqualTo("a2");
+        complete("a2");
+        sink.expectNext("a2-done");
+        sink.expectComplete();
+    }
+
+    @Test
+    public void limitsNumberOfActiveLanes() throws Exception {
+        final TestSubscriber.Probe<String> sink = run(1, "a1", "b1");
+        sink.request(10);
+
+        assertThat(awaitStarted()).isEqualTo("a1");
+        assertThat(started.poll(200L, TimeUnit.MILLISECONDS)).isNull();
+
+        complete("a1");
+        sink.expectNext("a1-done");
+        assertThat(awaitStarted()).isEqualTo("b1");
+        complete("b1");
+        sink.expectNext("b1-done");
+        sink.expectComplete();
+    }
+
+    @Test
+    public void continuesLaneAfterFailedElement() throws Exception {
+        final TestSubscriber.Probe<String> sink = run(2, "a1", "a2");
+        sink.request(10);
+
+        assertThat(awaitStarted()).isEqualTo("a1");
+        processing.get("a1").completeExceptionally(new IllegalStateException("expected"));
+
+        assertThat(awaitStarted()).isEqualTo("a2");
+        complete("a2");
+        sink.expectNext("a2-done");
+        sink.expectComplete();
+    }
+
+    private TestSubscriber.Probe<String> run(final int maxActiveLanes, final String... elements) {
+        final EntityLanes<String, String> underTest = EntityLanes.of(element -> element.charAt(0),
+                element -> {
+                    final CompletableFuture<List<String>> future = new CompletableFuture<>();
+                    processing.put(element, future);
+                    started.add(element);
+                    return future;
+                }, maxActiveLanes, 10);
+
+        return Source.from(Arrays.asList(elements))
+                .via(underTest)
+                .runWith(TestSink.probe(system), materializer);
+    }
+
+    private String awaitStarted() throws InterruptedException {
+        return started.poll(3L, TimeUnit.SECONDS);
+    }
+
+    private void complete(final String element) {
+        processing.get(element).complete(Collections.singletonList(element + "-done"));
+    }
+
+}
@@ -32,29 +32,28 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 /**
- * Unit test for {@link IdPartitioner}.
+ * Unit test for {@link IdLaneKey}.
  */
-public final class IdPartitionerTest {
+public final class IdLaneKeyTest {
 
     private static final String SPECIAL_ENFORCEMENT_LANE_HEADER_KEY = "ditto-internal-special-enforcement-lane";
-    private static final int PARALLELISM = 10;
 
-    private IdPartitioner<Object> underTest;
+    private IdLaneKey<Object> underTest;
 
     @Before
     public void setUp() {
-        underTest = IdPartitioner.of(SPECIAL_ENFORCEMENT_LANE_HEADER_KEY, PARALLELISM);
+        underTest = IdLaneKey.of(SPECIAL_ENFORCEMENT_LANE_HEADER_KEY);
     }
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(IdPartitioner.class, areImmutable());
+        assertInstancesOf(IdLaneKey.class, areImmutable());
     }
 
     @Test
     public void tryToGetInstanceWithNullHeaderKey() {
         assertThatNullPointerException()
-                .isThrownBy(() -> IdPartitioner.of(null, 1))
+                .isThrownBy(() -> IdLaneKey.of(null))
                 .withMessage("The specialEnforcementLaneHeaderKey must not be null!")
                 .withNoCause();
     }
@@ -62,51 +61,51 @@ public final class IdPartitionerTest {
     @Test
     public void tryToGetInstanceWithEmptyHeaderKey() {
         assertThatIllegalArgumentException()
-                .isThrownBy(() -> IdPartitioner.of("", 1))
+                .isThrownBy(() -> IdLaneKey.of(""))
                 .withMessage("The argument 'specialEnforcementLaneHeaderKey' must not be empty!")
                 .withNoCause();
     }
 
     @Test
-    public void specialLaneEvaluatesToZero() {
+    public void specialLaneEvaluatesToSpecialLane() {
         final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
                 .putHeader(SPECIAL_ENFORCEMENT_LANE_HEADER_KEY, "")
                 .build();
         final WithDittoHeaders<?> message = Mockito.mock(WithDittoHeaders.class);
         Mockito.when(message.getDittoHeaders()).thenReturn(dittoHeaders);
 
-        assertThat(underTest.apply(message)).isZero();
+        assertThat(underTest.apply(message)).isEqualTo(IdLaneKey.SPECIAL_LANE);
     }
 
     @Test
-    public void messageWithoutDittoHeadersAndWithoutIdEvaluatesToZero() {
-        assertThat(underTest.apply(new Object())).isZero();
+    public void messageWithoutDittoHeadersAndWithoutIdEvaluatesToItself() {
+        final Object message = new Object();
+
+        assertThat(underTest.apply(message)).isSameAs(message);
     }
 
     @Test
-    public void messageWithDummyIdEvaluatesToExpected() {
+    public void messageWithDummyIdEvaluatesToItself() {
         final EntityId entityId = Mockito.mock(EntityId.class);
         Mockito.when(entityId.isDummy()).thenReturn(true);
         final WithId message = Mockito.mock(WithId.class);
         Mockito.when(message.getEntityId()).thenReturn(entityId);
-        final int expected = Math.abs(message.hashCode() % PARALLELISM) + 1;
 
-        assertThat(underTest.apply(message)).isEqualTo(expected);
+        assertThat(underTest.apply(message)).isSameAs(message);
     }
 
     @Test
-    public void messageWithRealIdEvaluatesToExpected() {
+    public void messageWithRealIdEvaluatesToId() {
         final EntityId entityId = Mockito.mock(EntityId.class);
         Mockito.when(entityId.isDummy()).thenReturn(false);
         final WithId message = Mockito.mock(WithId.class);
         Mockito.when(message.getEntityId()).thenReturn(entityId);
-        final int expected = Math.abs(entityId.hashCode() % PARALLELISM) + 1;
 
-        assertThat(underTest.apply(message)).isEqualTo(expected);
+        assertThat(underTest.apply(message)).isSameAs(entityId);
     }
 
     @Test
-    public void twoDifferentMessagesWithSameThingIdEvaluateToSamePartitionNumber() {
+    public void twoDifferentMessagesWithSameThingIdEvaluateToSameLane() {
         final ThingId thingId = ThingId.generateRandom();
         final DittoHeaders dittoHeaders = DittoHeaders.empty();
         final RetrieveThing retrieveThing = RetrieveThing.of(thingId, dittoHeaders);
@@ -114,10 +113,10 @@ public final class IdPartitionerTest {
                 ModifyFeatureProperty.of(thingId, "myFeature", JsonPointer.of("some/property"), JsonValue.of(false),
                         dittoHeaders);
 
-        final Integer partitionNumberForRetrieveThing = underTest.apply(retrieveThing);
-        final Integer partitionNumberForModifyFeatureProperty = underTest.apply(modifyFeatureProperty);
+        final Object laneForRetrieveThing = underTest.apply(retrieveThing);
+        final Object laneForModifyFeatureProperty = underTest.apply(modifyFeatureProperty);
 
-        assertThat(partitionNumberForRetrieveThing).isEqualTo(partitionNumberForModifyFeatureProperty);
+        assertThat(laneForRetrieveThing).isEqualTo(laneForModifyFeatureProperty);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.things.AccessControlList;
+
+/**
+ * Estimates the memory footprint of enforcers for caches bounded by weight.
+ * <p>
+ * An enforcer holds every subject, resource and permission of the policy or ACL it was created from, so its size grows
+ * linearly with their number. The estimate only counts them in order to not serialize the policy or ACL on each load.
+ * </p>
+ */
+@Immutable
+final class EnforcerWeights {
+
+    /**
+     * Bytes of an enforcer without any entries.
+     */
+    private static final long BASE_BYTES = 1024L;
+
+    /**
+     * Bytes per policy entry for its label and index structures.
+     */
+    private static final long BYTES_PER_POLICY_ENTRY = 512L;
+
+    /**
+     * Bytes per subject of a policy entry: its ID and type.
+     */
+    private static final long BYTES_PER_SUBJECT = 256L;
+
+    /**
+     * Bytes per resource of a policy entry: its path and the granted and revoked permissions.
+     */
+    private static final long BYTES_PER_RESOURCE = 512L;
+
+    /**
+     * Bytes per ACL entry: the authorization subject and its permissions.
+     */
+    private static final long BYTES_PER_ACL_ENTRY = 256L;
+
+    private EnforcerWeights() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Estimates the size in bytes of an enforcer created from the given policy.
+     *
+     * @param policy the policy.
+     * @return the estimated size.
+     */
+    static int estimate(final Policy policy) {
+        long estimate = BASE_BYTES;
+        for (final PolicyEntry policyEntry : policy) {
+            estimate += BYTES_PER_POLICY_ENTRY +
+                    policyEntry.getSubjects().getSize() * BYTES_PER_SUBJECT +
+                    policyEntry.getResources().getSize() * BYTES_PER_RESOURCE;
+        }
+        return toInt(estimate);
+    }
+
+    /**
+     * Estimates the size in bytes of an enforcer created from the given ACL.
+     *
+     * @param accessControlList the ACL.
+     * @return the estimated size.
+     */
+    static int estimate(final AccessControlList accessControlList) {
+        return toInt(BASE_BYTES + accessControlList.getSize() * BYTES_PER_ACL_ENTRY);
+    }
+
+    private static int toInt(final long estimate) {
+        return (int) Math.min(Integer.MAX_VALUE, estimate);
+    }
+
+}
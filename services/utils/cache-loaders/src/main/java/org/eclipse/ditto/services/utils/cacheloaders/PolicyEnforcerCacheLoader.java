@@ -80,7 +80,7 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
             final Policy policy = sudoRetrievePolicyResponse.getPolicy();
             final long revision = policy.getRevision().map(PolicyRevision::toLong)
                     .orElseThrow(badPolicyResponse("no revision"));
-            return Entry.of(revision, PolicyEnforcers.defaultEvaluator(policy));
+            return Entry.of(revision, PolicyEnforcers.defaultEvaluator(policy), EnforcerWeights.estimate(policy));
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
@@ -27,6 +27,7 @@ import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Weigher;
 
 /**
  * Creates a cache configured by a {@link org.eclipse.ditto.services.utils.cache.config.CacheConfig}.
@@ -86,7 +87,8 @@ public final class CacheFactory {
     }
 
     /**
-     * Creates a cache.
+     * Creates a cache. As the cache has no loader, entries are not refreshed and "refresh-after-write" is ignored.
+     * If the cache is bounded by weight, each entry weighs 1.
      *
      * @param cacheConfig the {@link org.eclipse.ditto.services.utils.cache.config.CacheConfig} which defines the cache's configuration.
      * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
@@ -99,11 +101,11 @@ public final class CacheFactory {
     public static <K, V> Cache<K, V> createCache(final CacheConfig cacheConfig, @Nullable final String cacheName,
             final Executor executor) {
 
-        return CaffeineCache.of(caffeine(cacheConfig, executor), cacheName);
+        return CaffeineCache.of(caffeine(cacheConfig, executor, Weigher.singletonWeigher()), cacheName);
     }
 
     /**
-     * Creates a cache.
+     * Creates a cache. If the cache is bounded by weight, each entry weighs 1.
      *
      * @param cacheLoader the cache loader.
      * @param cacheConfig the the cache's configuration.
@@ -119,17 +121,53 @@ public final class CacheFactory {
             @Nullable final String cacheName,
             final Executor executor) {
 
+        return createCache(cacheLoader, cacheConfig, cacheName, executor, Weigher.singletonWeigher());
+    }
+
+    /**
+     * Creates a cache whose entries are weighed by the given weigher if the cache is bounded by weight.
+     *
+     * @param cacheLoader the cache loader.
+     * @param cacheConfig the the cache's configuration.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @param weigher estimates the size of entries in bytes.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <K, V> Cache<K, V> createCache(final AsyncCacheLoader<K, V> cacheLoader,
+            final CacheConfig cacheConfig,
+            @Nullable final String cacheName,
+            final Executor executor,
+            final Weigher<? super K, ? super V> weigher) {
+
         checkNotNull(cacheLoader, "AsyncCacheLoader");
 
-        return CaffeineCache.of(caffeine(cacheConfig, executor), cacheLoader, cacheName);
+        final Caffeine<K, V> caffeine = caffeine(cacheConfig, executor, weigher);
+        if (!cacheConfig.getRefreshAfterWrite().isZero()) {
+            // reloads the entry in the background on the next access and serves the old value meanwhile
+            caffeine.refreshAfterWrite(cacheConfig.getRefreshAfterWrite());
+        }
+        return CaffeineCache.of(caffeine, cacheLoader, cacheName);
     }
 
-    private static Caffeine<Object, Object> caffeine(final CacheConfig cacheConfig, final Executor executor) {
+    private static <K, V> Caffeine<K, V> caffeine(final CacheConfig cacheConfig, final Executor executor,
+            final Weigher<? super K, ? super V> weigher) {
+
         checkNotNull(cacheConfig, "CacheConfig");
         checkNotNull(executor, "Executor");
+        checkNotNull(weigher, "Weigher");
 
-        final Caffeine<Object, Object> caffeine = Caffeine.newBuilder();
-        caffeine.maximumSize(cacheConfig.getMaximumSize());
+        @SuppressWarnings("unchecked") final Caffeine<K, V> caffeine =
+                (Caffeine<K, V>) (Caffeine<?, ?>) Caffeine.newBuilder();
+        if (0L < cacheConfig.getMaximumWeight()) {
+            caffeine.maximumWeight(cacheConfig.getMaximumWeight());
+            caffeine.weigher(weigher);
+        } else {
+            caffeine.maximumSize(cacheConfig.getMaximumSize());
+        }
 
         if (!cacheConfig.getExpireAfterCreate().isZero()) {
             // special case "expire-after-create" needs the following API invocation of Caffeine:
@@ -19,6 +19,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.BiFunction;
 
 import javax.annotation.Nullable;
@@ -40,6 +41,13 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
 
     private static final AsyncCacheLoader<?, ?> NULL_CACHE_LOADER =
             (k, executor) -> CompletableFuture.completedFuture(null);
+
+    /**
+     * Number of stripes of the invalidation generations; keys with the same hash modulo this number share a stripe.
+     */
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    private final AtomicLongArray invalidationGenerations;
     @Nullable
     private final MetricsStatsCounter metricStatsCounter;
     private final AsyncLoadingCache<K, V> asyncLoadingCache;
@@ -50,17 +58,24 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
             final AsyncCacheLoader<K, V> loader,
             @Nullable final String cacheName) {
 
+        invalidationGenerations = new AtomicLongArray(INVALIDATION_STRIPES);
         if (cacheName != null) {
-            this.metricStatsCounter =
-                    MetricsStatsCounter.of(cacheName, this::getMaxCacheSize, this::getCurrentCacheSize);
+            this.metricStatsCounter = MetricsStatsCounter.of(cacheName, this::getMaxCacheSize,
+                    this::getCurrentCacheSize, this::getCurrentCacheWeight);
             caffeine.recordStats(() -> metricStatsCounter);
-            this.asyncLoadingCache = caffeine.buildAsync(loader);
-            this.synchronousCacheView = asyncLoadingCache.synchronous();
         } else {
-            this.asyncLoadingCache = caffeine.buildAsync(loader);
-            this.synchronousCacheView = asyncLoadingCache.synchronous();
             this.metricStatsCounter = null;
         }
+        this.asyncLoadingCache = caffeine.buildAsync(new RefreshGuardingCacheLoader(loader));
+        this.synchronousCacheView = asyncLoadingCache.synchronous();
+    }
+
+    private long getInvalidationGeneration(final K key) {
+        return invalidationGenerations.get(Math.floorMod(key.hashCode(), INVALIDATION_STRIPES));
+    }
+
+    private void incrementInvalidationGeneration(final K key) {
+        invalidationGenerations.incrementAndGet(Math.floorMod(key.hashCode(), INVALIDATION_STRIPES));
     }
 
     @SuppressWarnings({"squid:S2583", "ConstantConditions"})
@@ -73,6 +88,19 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         return synchronousCacheView.estimatedSize();
     }
 
+    @SuppressWarnings({"squid:S2583", "ConstantConditions"})
+    private Long getCurrentCacheWeight() {
+        if (synchronousCacheView == null) {
+            // This can occur if this method is called by metricStatsCounter before the cache has been initialized.
+            return 0L;
+        }
+
+        return synchronousCacheView.policy()
+                .eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
     @SuppressWarnings({"squid:S2583", "ConstantConditions"})
     private Long getMaxCacheSize() {
         if (synchronousCacheView == null) {
@@ -196,6 +224,7 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         requireNonNull(key);
 
         final boolean currentlyExisting = asyncLoadingCache.getIfPresent(key) != null;
+        incrementInvalidationGeneration(key);
         synchronousCacheView.invalidate(key);
 
         if (metricStatsCounter != null) {
@@ -211,6 +240,7 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
     // optimized batch invalidation method for caffeine
     @Override
     public void invalidateAll(final Collection<K> keys) {
+        keys.forEach(this::incrementInvalidationGeneration);
         synchronousCacheView.invalidateAll(keys);
     }
 
@@ -229,6 +259,40 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         return synchronousCacheView.asMap();
     }
 
+    /**
+     * Guards and counts the background reloads of entries which were accessed after "refresh-after-write".
+     * <p>
+     * Caffeine stores the result of a reload even if the entry was invalidated while reloading, which would put back
+     * an outdated value, e.g. an enforcer loaded before the policy was modified. Therefore a reload which was
+     * overtaken by an invalidation of its key completes with {@code null}, which makes Caffeine discard the entry so
+     * that the next access loads it again.
+     * </p>
+     */
+    private final class RefreshGuardingCacheLoader implements AsyncCacheLoader<K, V> {
+
+        private final AsyncCacheLoader<K, V> delegate;
+
+        private RefreshGuardingCacheLoader(final AsyncCacheLoader<K, V> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CompletableFuture<V> asyncLoad(final K key, final Executor executor) {
+            return delegate.asyncLoad(key, executor);
+        }
+
+        @Override
+        public CompletableFuture<V> asyncReload(final K key, final V oldValue, final Executor executor) {
+            if (metricStatsCounter != null) {
+                metricStatsCounter.recordRefresh();
+            }
+            final long generation = getInvalidationGeneration(key);
+            return delegate.asyncReload(key, oldValue, executor)
+                    .thenApply(newValue -> generation == getInvalidationGeneration(key) ? newValue : null);
+        }
+
+    }
+
     // TODO: replace uses of this method by AsyncCache without loader once Caffeine releases it.
     private static <K, V> AsyncCacheLoader<K, V> getTypedNullCacheLoader() {
         @SuppressWarnings("unchecked") final AsyncCacheLoader<K, V> nullCacheLoader =
@@ -78,9 +78,18 @@ public final class MetricsStatsCounter implements StatsCounter {
          */
         ESTIMATED_SIZE(CACHE_PREFIX + "_estimated-size"),
         /**
-         * The maximum size of the cache.
+         * The maximum size of the cache; the maximum weight if the cache is bounded by weight.
          */
         MAX_SIZE(CACHE_PREFIX + "_max-size"),
+        /**
+         * The estimated sum of the weights of the cache entries if the cache is bounded by weight.
+         */
+        ESTIMATED_WEIGHT(CACHE_PREFIX + "_estimated-weight"),
+        /**
+         * Number of entries which were reloaded in the background because they were accessed after
+         * "refresh-after-write".
+         */
+        REFRESHES(CACHE_PREFIX + "_refreshes"),
         /**
          * Estimated cache invalidations (manual, in contrast to {@link #EVICTIONS}). The value is estimated, it may
          * be not completely correct in case of parallel loads or evictions.
@@ -125,13 +134,16 @@ public final class MetricsStatsCounter implements StatsCounter {
     private final Counter evictionWeight;
     private final Gauge estimatedSize;
     private final Gauge maxSize;
+    private final Gauge estimatedWeight;
+    private final Counter refreshCount;
     private final Counter estimatedInvalidations;
     private final Counter estimatedInvalidationsWithoutItem;
     private final Supplier<Long> maxSizeSupplier;
     private final Supplier<Long> estimatedSizeSupplier;
+    private final Supplier<Long> estimatedWeightSupplier;
 
     private MetricsStatsCounter(final String cacheName, final Supplier<Long> maxSizeSupplier,
-            final Supplier<Long> estimatedSizeSupplier) {
+            final Supplier<Long> estimatedSizeSupplier, final Supplier<Long> estimatedWeightSupplier) {
         hitCount = DittoMetrics.counter(MetricName.HITS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         missCount = DittoMetrics.counter(MetricName.MISSES.getValue()).tag(CACHE_NAME_TAG, cacheName);
         totalLoadTime = DittoMetrics.timer(MetricName.TOTAL_LOAD_TIME.getValue()).tag(CACHE_NAME_TAG, cacheName);
@@ -141,12 +153,15 @@ public final class MetricsStatsCounter implements StatsCounter {
         evictionWeight = DittoMetrics.counter(MetricName.EVICTIONS_WEIGHT.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedSize = DittoMetrics.gauge(MetricName.ESTIMATED_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
         maxSize = DittoMetrics.gauge(MetricName.MAX_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        estimatedWeight = DittoMetrics.gauge(MetricName.ESTIMATED_WEIGHT.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        refreshCount = DittoMetrics.counter(MetricName.REFRESHES.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedInvalidations =
                 DittoMetrics.counter(MetricName.ESTIMATED_INVALIDATIONS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedInvalidationsWithoutItem =
                 DittoMetrics.counter(MetricName.ESTIMATED_INVALIDATIONS_WITHOUT_ITEM.getValue()).tag(CACHE_NAME_TAG, cacheName);
         this.maxSizeSupplier = maxSizeSupplier;
         this.estimatedSizeSupplier = estimatedSizeSupplier;
+        this.estimatedWeightSupplier = estimatedWeightSupplier;
     }
 
     /**
@@ -155,11 +170,12 @@ public final class MetricsStatsCounter implements StatsCounter {
      * @param cacheName The name of the cache.
      * @param maxSizeSupplier supplier for the maximum size of the cache
      * @param estimatedSizeSupplier supplier for the estimated size of the cache.
+     * @param estimatedWeightSupplier supplier for the estimated weight of the cache.
      * @return the instance.
      */
     static MetricsStatsCounter of(final String cacheName, final Supplier<Long> maxSizeSupplier,
-            final Supplier<Long> estimatedSizeSupplier) {
-        return new MetricsStatsCounter(cacheName, maxSizeSupplier, estimatedSizeSupplier);
+            final Supplier<Long> estimatedSizeSupplier, final Supplier<Long> estimatedWeightSupplier) {
+        return new MetricsStatsCounter(cacheName, maxSizeSupplier, estimatedSizeSupplier, estimatedWeightSupplier);
     }
 
     @Override
@@ -210,6 +226,13 @@ public final class MetricsStatsCounter implements StatsCounter {
         estimatedInvalidationsWithoutItem.increment();
     }
 
+    /**
+     * Records the start of a background reload of an entry.
+     */
+    void recordRefresh() {
+        refreshCount.increment();
+    }
+
     @Override
     public CacheStats snapshot() {
         return new CacheStats(
@@ -232,6 +255,7 @@ public final class MetricsStatsCounter implements StatsCounter {
     private void updateCacheSizeMetrics() {
         maxSize.set(maxSizeSupplier.get());
         estimatedSize.set(estimatedSizeSupplier.get());
+        estimatedWeight.set(estimatedWeightSupplier.get());
     }
 
 }
@@ -31,6 +31,14 @@ public interface CacheConfig {
      */
     long getMaximumSize();
 
+    /**
+     * Returns the maximum weight of a cache, i. e. the maximum sum of the estimated sizes of its entries in bytes.
+     * If positive, the cache is bounded by weight instead of by {@link #getMaximumSize()}.
+     *
+     * @return the maximum weight or {@code 0} if the cache is bounded by its number of entries.
+     */
+    long getMaximumWeight();
+
     /**
      * Returns duration after which a written cache entry expires.
      *
@@ -53,6 +61,15 @@ public interface CacheConfig {
      */
     Duration getExpireAfterCreate();
 
+    /**
+     * Returns the duration after which a written cache entry is reloaded in the background on its next access.
+     * Until the reload completes, the old value is returned.
+     * Deactivated when {@link Duration#ZERO} is configured.
+     *
+     * @return the duration between write and refresh.
+     */
+    Duration getRefreshAfterWrite();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for {@code CacheConfig}.
      */
@@ -63,6 +80,11 @@ public interface CacheConfig {
          */
         MAXIMUM_SIZE("maximum-size", 50_000L),
 
+        /**
+         * The maximum cache weight in bytes; 0 bounds the cache by its size.
+         */
+        MAXIMUM_WEIGHT("maximum-weight", 0L),
+
         /**
          * Duration after which a written cache entry expires.
          */
@@ -76,7 +98,12 @@ public interface CacheConfig {
         /**
          * Duration after which an accessed cache entry expires.
          */
-        EXPIRE_AFTER_CREATE("expire-after-create", Duration.ZERO);
+        EXPIRE_AFTER_CREATE("expire-after-create", Duration.ZERO),
+
+        /**
+         * Duration after which a written cache entry is refreshed asynchronously.
+         */
+        REFRESH_AFTER_WRITE("refresh-after-write", Duration.ZERO);
 
         private final String path;
         private final Object defaultValue;
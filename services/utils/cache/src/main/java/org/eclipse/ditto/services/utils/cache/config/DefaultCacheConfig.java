@@ -28,15 +28,19 @@ import com.typesafe.config.Config;
 public final class DefaultCacheConfig implements CacheConfig {
 
     private final long maximumSize;
+    private final long maximumWeight;
     private final Duration expireAfterWrite;
     private final Duration expireAfterAccess;
     private final Duration expireAfterCreate;
+    private final Duration refreshAfterWrite;
 
     private DefaultCacheConfig(final ConfigWithFallback configWithFallback) {
         maximumSize = configWithFallback.getLong(CacheConfigValue.MAXIMUM_SIZE.getConfigPath());
+        maximumWeight = configWithFallback.getBytes(CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath());
         expireAfterWrite = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath());
         expireAfterAccess = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath());
         expireAfterCreate = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_CREATE.getConfigPath());
+        refreshAfterWrite = configWithFallback.getDuration(CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath());
     }
 
     /**
@@ -56,6 +60,11 @@ public final class DefaultCacheConfig implements CacheConfig {
         return maximumSize;
     }
 
+    @Override
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
     @Override
     public Duration getExpireAfterWrite() {
         return expireAfterWrite;
@@ -71,6 +80,11 @@ public final class DefaultCacheConfig implements CacheConfig {
         return expireAfterCreate;
     }
 
+    @Override
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -81,23 +95,28 @@ public final class DefaultCacheConfig implements CacheConfig {
         }
         final DefaultCacheConfig that = (DefaultCacheConfig) o;
         return maximumSize == that.maximumSize &&
+                maximumWeight == that.maximumWeight &&
                 Objects.equals(expireAfterWrite, that.expireAfterWrite) &&
                 Objects.equals(expireAfterAccess, that.expireAfterAccess)&&
-                Objects.equals(expireAfterCreate, that.expireAfterCreate);
+                Objects.equals(expireAfterCreate, that.expireAfterCreate) &&
+                Objects.equals(refreshAfterWrite, that.refreshAfterWrite);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maximumSize, expireAfterWrite, expireAfterAccess, expireAfterCreate);
+        return Objects.hash(maximumSize, maximumWeight, expireAfterWrite, expireAfterAccess, expireAfterCreate,
+                refreshAfterWrite);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maximumSize=" + maximumSize +
+                ", maximumWeight=" + maximumWeight +
                 ", expireAfterWrite=" + expireAfterWrite +
                 ", expireAfterAccess=" + expireAfterAccess +
                 ", expireAfterCreate=" + expireAfterCreate +
+                ", refreshAfterWrite=" + refreshAfterWrite +
                 "]";
     }
 
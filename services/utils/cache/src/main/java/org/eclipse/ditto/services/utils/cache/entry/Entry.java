@@ -17,12 +17,30 @@ package org.eclipse.ditto.services.utils.cache.entry;
  */
 public interface Entry<T> {
 
+    /**
+     * The weight of entries whose size is not estimated.
+     */
+    int DEFAULT_WEIGHT = 1;
+
     static <T> Entry<T> permanent(final T value) {
-        return new ExistentEntry<>(Long.MAX_VALUE, value);
+        return new ExistentEntry<>(Long.MAX_VALUE, value, DEFAULT_WEIGHT);
     }
 
     static <T> Entry<T> of(final long revision, final T value) {
-        return new ExistentEntry<>(revision, value);
+        return new ExistentEntry<>(revision, value, DEFAULT_WEIGHT);
+    }
+
+    /**
+     * Creates an entry with the estimated size of its value.
+     *
+     * @param revision the revision of the value.
+     * @param value the value.
+     * @param weight the estimated size of the value in bytes.
+     * @param <T> the type of the value.
+     * @return the entry.
+     */
+    static <T> Entry<T> of(final long revision, final T value, final int weight) {
+        return new ExistentEntry<>(revision, value, weight);
     }
 
     static <T> Entry<T> nonexistent() {
@@ -48,4 +66,11 @@ public interface Entry<T> {
      */
     T getValueOrThrow();
 
+    /**
+     * Returns the estimated size of this entry in bytes for caches bounded by weight.
+     *
+     * @return the weight or {@link #DEFAULT_WEIGHT} if the size was not estimated.
+     */
+    int getWeight();
+
 }
@@ -24,10 +24,12 @@ final class ExistentEntry<T> implements Entry<T> {
 
     private final long revision;
     private final T value;
+    private final int weight;
 
-    ExistentEntry(final long revision, final T value) {
+    ExistentEntry(final long revision, final T value, final int weight) {
         this.revision = revision;
         this.value = value;
+        this.weight = weight;
     }
 
     @Override
@@ -45,6 +47,11 @@ final class ExistentEntry<T> implements Entry<T> {
         return true;
     }
 
+    @Override
+    public int getWeight() {
+        return weight;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -54,12 +61,12 @@ final class ExistentEntry<T> implements Entry<T> {
             return false;
         }
         final ExistentEntry<?> that = (ExistentEntry<?>) o;
-        return revision == that.revision && Objects.equals(value, that.value);
+        return revision == that.revision && weight == that.weight && Objects.equals(value, that.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(revision, value);
+        return Objects.hash(revision, value, weight);
     }
 
     @Override
@@ -67,6 +74,7 @@ final class ExistentEntry<T> implements Entry<T> {
         return getClass().getSimpleName() + " [" +
                 "revision=" + revision +
                 ", value=" + value +
+                ", weight=" + weight +
                 "]";
     }
 
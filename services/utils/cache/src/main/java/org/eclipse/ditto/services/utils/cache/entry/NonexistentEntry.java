@@ -39,6 +39,11 @@ final class NonexistentEntry<T> implements Entry<T> {
         return false;
     }
 
+    @Override
+    public int getWeight() {
+        return DEFAULT_WEIGHT;
+    }
+
     @SuppressWarnings("unchecked")
     static <T> NonexistentEntry<T> getInstance() {
         return (NonexistentEntry<T>) INSTANCE;
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Tests {@link CaffeineCache}.
+ */
+public final class CaffeineCacheTest {
+
+    private static final String KEY = "key";
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CompletableFuture<String> pendingReload = new CompletableFuture<>();
+
+    private CaffeineCache<String, String> underTest;
+
+    @Before
+    public void setUp() {
+        final AsyncCacheLoader<String, String> loader = new AsyncCacheLoader<String, String>() {
+            @Override
+            public CompletableFuture<String> asyncLoad(final String key, final Executor executor) {
+                return CompletableFuture.completedFuture("load-" + loads.incrementAndGet());
+            }
+
+            @Override
+            public CompletableFuture<String> asyncReload(final String key, final String oldValue,
+                    final Executor executor) {
+                return pendingReload;
+            }
+        };
+        underTest = CaffeineCache.of(Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .ticker(ticker::get)
+                .refreshAfterWrite(1, TimeUnit.MINUTES), loader, "test-cache");
+    }
+
+    @Test
+    public void refreshReplacesValueIfNotInvalidated() {
+        assertThat(underTest.get(KEY).join()).contains("load-1");
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+        // serves the cached value while reloading
+        assertThat(underTest.get(KEY).join()).contains("load-1");
+        pendingReload.complete("reload");
+
+        assertThat(underTest.get(KEY).join()).contains("reload");
+    }
+
+    @Test
+    public void refreshOvertakenByInvalidationDoesNotPutBackOutdatedValue() {
+        assertThat(underTest.get(KEY).join()).contains("load-1");
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        assertThat(underTest.get(KEY).join()).contains("load-1");
+
+        underTest.invalidate(KEY);
+        pendingReload.complete("outdated");
+
+        assertThat(underTest.getIfPresent(KEY).join()).isEmpty();
+        assertThat(underTest.get(KEY).join()).contains("load-2");
+    }
+
+}
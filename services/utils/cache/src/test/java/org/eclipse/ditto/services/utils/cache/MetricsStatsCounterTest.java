@@ -64,6 +64,12 @@ public final class MetricsStatsCounterTest {
     private final Gauge maxSize = DittoMetrics
             .gauge(MetricsStatsCounter.MetricName.MAX_SIZE.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
+    private final Gauge estimatedWeight = DittoMetrics
+            .gauge(MetricsStatsCounter.MetricName.ESTIMATED_WEIGHT.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
+    private final Counter refreshCount = DittoMetrics
+            .counter(MetricsStatsCounter.MetricName.REFRESHES.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
     private final Counter estimatedInvalidations = DittoMetrics
             .counter(MetricsStatsCounter.MetricName.ESTIMATED_INVALIDATIONS.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
@@ -79,6 +85,8 @@ public final class MetricsStatsCounterTest {
         evictionWeight.reset();
         estimatedSize.reset();
         maxSize.reset();
+        estimatedWeight.reset();
+        refreshCount.reset();
         estimatedInvalidations.reset();
     }
 
@@ -170,11 +178,51 @@ public final class MetricsStatsCounterTest {
         });
     }
 
+    @Test
+    public void weights() {
+        // GIVEN
+        final Caffeine<Integer, Integer> caffeine =
+                Caffeine.newBuilder().maximumWeight(MAXIMUM_SIZE).weigher((Integer key, Integer value) -> value);
+        final CaffeineCache<Integer, Integer> cache = CaffeineCache.of(caffeine, identityLoader(), TEST_CACHE_NAME);
+
+        // WHEN
+        cache.get(3).join();
+        cache.get(4).join();
+        cache.get(5).join();
+        cache.invalidate(5);
+
+        // THEN
+        waitUntilAsserted(() -> {
+            assertThat(maxSize.get()).isEqualTo(MAXIMUM_SIZE);
+            assertThat(estimatedWeight.get()).isEqualTo(7L);
+        });
+    }
+
+    @Test
+    public void refreshes() {
+        // GIVEN
+        final Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .refreshAfterWrite(1, TimeUnit.NANOSECONDS);
+        final CaffeineCache<Integer, Integer> cache = CaffeineCache.of(caffeine, identityLoader(), TEST_CACHE_NAME);
+        cache.get(0).join();
+
+        // WHEN / THEN
+        waitUntilAsserted(() -> {
+            // each access after the refresh interval reloads the entry in the background
+            assertThat(cache.get(0).join()).contains(0);
+            assertThat(refreshCount.getCount()).isPositive();
+        });
+    }
+
     private CaffeineCache<Integer, Integer> createCaffeineCache() {
         final Caffeine<Object, Object> caffeine = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE);
-        final AsyncCacheLoader<Integer, Integer> loader = (key, executor) -> CompletableFuture.completedFuture(key);
 
-        return CaffeineCache.of(caffeine, loader, TEST_CACHE_NAME);
+        return CaffeineCache.of(caffeine, identityLoader(), TEST_CACHE_NAME);
+    }
+
+    private static AsyncCacheLoader<Integer, Integer> identityLoader() {
+        return (key, executor) -> CompletableFuture.completedFuture(key);
     }
 
     private <K, V> void requestNTimes(final Cache<K, V> cache, final K key, final long requests) {
@@ -64,12 +64,18 @@ public final class DefaultCacheConfigTest {
         softly.assertThat(underTest.getMaximumSize())
                 .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
                 .isEqualTo(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaximumWeight())
+                .as(CacheConfig.CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath())
+                .isEqualTo(CacheConfig.CacheConfigValue.MAXIMUM_WEIGHT.getDefaultValue());
         softly.assertThat(underTest.getExpireAfterWrite())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                 .isEqualTo(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getDefaultValue());
         softly.assertThat(underTest.getExpireAfterAccess())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath())
                 .isEqualTo(CacheConfig.CacheConfigValue.EXPIRE_AFTER_ACCESS.getDefaultValue());
+        softly.assertThat(underTest.getRefreshAfterWrite())
+                .as(CacheConfig.CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath())
+                .isEqualTo(CacheConfig.CacheConfigValue.REFRESH_AFTER_WRITE.getDefaultValue());
     }
 
     @Test
@@ -79,12 +85,18 @@ public final class DefaultCacheConfigTest {
         softly.assertThat(underTest.getMaximumSize())
                 .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
                 .isEqualTo(4711);
+        softly.assertThat(underTest.getMaximumWeight())
+                .as(CacheConfig.CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath())
+                .isEqualTo(64L * 1024 * 1024);
         softly.assertThat(underTest.getExpireAfterWrite())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                 .isEqualTo(Duration.ofMinutes(3));
         softly.assertThat(underTest.getExpireAfterAccess())
                 .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath())
                 .isEqualTo(Duration.ofMinutes(4));
+        softly.assertThat(underTest.getRefreshAfterWrite())
+                .as(CacheConfig.CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(2));
     }
 
 }
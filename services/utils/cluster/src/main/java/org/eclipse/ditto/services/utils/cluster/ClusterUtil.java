@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.utils.cluster;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
+
 import akka.actor.ActorContext;
 import akka.actor.ActorRef;
 import akka.actor.ActorRefFactory;
@@ -21,6 +23,9 @@ import akka.actor.ActorSystem;
 import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.SupervisorStrategy;
+import akka.cluster.sharding.ClusterSharding;
+import akka.cluster.sharding.ClusterShardingSettings;
+import akka.cluster.sharding.ShardCoordinator;
 import akka.cluster.singleton.ClusterSingletonManager;
 import akka.cluster.singleton.ClusterSingletonManagerSettings;
 import akka.cluster.singleton.ClusterSingletonProxy;
@@ -142,4 +147,42 @@ public final class ClusterUtil {
         return actorRefFactory.actorOf(singletonManagerProps, actorName);
     }
 
+    /**
+     * Start a shard region. If load-aware shard allocation is enabled, the messages of the shards hosted by this
+     * member are counted and reported and shards are allocated and rebalanced by their message rates; otherwise Akka's
+     * least shard allocation strategy is used.
+     *
+     * @param system the actor system.
+     * @param clusterConfig the cluster config.
+     * @param typeName the name of the entity type.
+     * @param entityProps Props of the entity actors.
+     * @param settings the sharding settings.
+     * @param extractor the extractor of entity and shard IDs.
+     * @return reference of the shard region.
+     */
+    public static ActorRef startShardRegion(final ActorSystem system,
+            final ClusterConfig clusterConfig,
+            final String typeName,
+            final Props entityProps,
+            final ClusterShardingSettings settings,
+            final ShardRegionExtractor extractor) {
+
+        final ClusterSharding clusterSharding = ClusterSharding.get(system);
+        if (!clusterConfig.isLoadAwareShardAllocationEnabled()) {
+            return clusterSharding.start(typeName, entityProps, settings, extractor);
+        }
+
+        final String role = settings.role().isDefined() ? settings.role().get() : "";
+        final ShardLoadCounter loadCounter = ShardLoadCounter.of(clusterConfig.getNumberOfShards());
+        final ShardLoads shardLoads = ShardLoads.create(system, typeName, role);
+        system.actorOf(ShardLoadReporter.props(loadCounter, shardLoads, clusterConfig.getShardLoadReportInterval()),
+                ShardLoadReporter.ACTOR_NAME_PREFIX + typeName);
+
+        final ShardCoordinator.ShardAllocationStrategy allocationStrategy =
+                LoadAwareShardAllocationStrategy.of(shardLoads, clusterConfig.getShardLoadImbalanceThreshold(),
+                        settings.tuningParameters().leastShardAllocationMaxSimultaneousRebalance());
+        return clusterSharding.start(typeName, entityProps, settings, extractor.withLoadCounter(loadCounter),
+                allocationStrategy, PoisonPill.getInstance());
+    }
+
 }
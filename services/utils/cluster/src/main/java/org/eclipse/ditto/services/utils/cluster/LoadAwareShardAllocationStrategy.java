@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import akka.actor.ActorRef;
+import akka.cluster.sharding.ShardCoordinator;
+import akka.dispatch.Futures;
+import scala.collection.JavaConverters;
+import scala.collection.immutable.IndexedSeq;
+import scala.concurrent.Future;
+
+/**
+ * Shard allocation strategy which allocates new shards to the shard region with the least message rate and moves hot
+ * shards away from overloaded shard regions.
+ * <p>
+ * The message rates of the shards are read from {@link ShardLoads}. As long as no rates are known, shards are balanced
+ * by their number like Akka's least shard allocation strategy. The number of shards handed off at the same time is
+ * bounded by {@code akka.cluster.sharding.least-shard-allocation-strategy.max-simultaneous-rebalance}.
+ * </p>
+ */
+public final class LoadAwareShardAllocationStrategy extends ShardCoordinator.AbstractShardAllocationStrategy {
+
+    private final ShardLoads shardLoads;
+    private final ShardLoadBalancer balancer;
+    private final int maxSimultaneousRebalance;
+
+    private LoadAwareShardAllocationStrategy(final ShardLoads shardLoads, final ShardLoadBalancer balancer,
+            final int maxSimultaneousRebalance) {
+
+        this.shardLoads = shardLoads;
+        this.balancer = balancer;
+        this.maxSimultaneousRebalance = maxSimultaneousRebalance;
+    }
+
+    /**
+     * Returns a new {@code LoadAwareShardAllocationStrategy}.
+     *
+     * @param shardLoads the distributed data providing the message rates of the shards.
+     * @param imbalanceThreshold the relative difference of the message rates of the most and the least loaded shard
+     * region up to which no shards are rebalanced.
+     * @param maxSimultaneousRebalance the maximum number of shards to hand off at the same time.
+     * @return the strategy.
+     * @throws NullPointerException if {@code shardLoads} is {@code null}.
+     * @throws IllegalArgumentException if {@code imbalanceThreshold} is negative.
+     */
+    public static LoadAwareShardAllocationStrategy of(final ShardLoads shardLoads, final double imbalanceThreshold,
+            final int maxSimultaneousRebalance) {
+
+        return new LoadAwareShardAllocationStrategy(checkNotNull(shardLoads, "shardLoads"),
+                ShardLoadBalancer.of(imbalanceThreshold), maxSimultaneousRebalance);
+    }
+
+    @Override
+    public Future<ActorRef> allocateShard(final ActorRef requester, final String shardId,
+            final Map<ActorRef, IndexedSeq<String>> currentShardAllocations) {
+
+        final ActorRef region = balancer.selectRegion(toJava(currentShardAllocations), shardLoads.getLatestLoads())
+                .orElse(requester);
+        return Futures.successful(region);
+    }
+
+    @Override
+    public Future<Set<String>> rebalance(final Map<ActorRef, IndexedSeq<String>> currentShardAllocations,
+            final Set<String> rebalanceInProgress) {
+
+        final Set<String> shardsToRebalance = balancer.selectShardsToRebalance(toJava(currentShardAllocations),
+                shardLoads.getLatestLoads(), rebalanceInProgress,
+                maxSimultaneousRebalance - rebalanceInProgress.size());
+        return Futures.successful(shardsToRebalance);
+    }
+
+    private static Map<ActorRef, List<String>> toJava(final Map<ActorRef, IndexedSeq<String>> allocations) {
+        final Map<ActorRef, List<String>> result = new HashMap<>();
+        allocations.forEach((region, shards) -> result.put(region, JavaConverters.seqAsJavaList(shards)));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "balancer=" + balancer +
+                ", maxSimultaneousRebalance=" + maxSimultaneousRebalance +
+                "]";
+    }
+
+}
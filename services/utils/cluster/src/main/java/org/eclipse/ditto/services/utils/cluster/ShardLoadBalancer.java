@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Decides where to allocate shards and which shards to rebalance based on the load of each shard.
+ * <p>
+ * The load of a shard region is the sum of the loads of its shards. New shards are allocated to the least loaded
+ * region. Rebalancing repeatedly moves the most loaded shard of the most loaded region whose load is smaller than the
+ * difference to the least loaded region, so that each move strictly reduces the imbalance, until the regions differ by
+ * no more than the imbalance threshold. If no loads are known, each shard counts as one so that the shards are
+ * balanced by their number.
+ * </p>
+ * <p>
+ * The balancer is independent of Akka in order to simulate allocations; the type parameter {@code R} identifies shard
+ * regions.
+ * </p>
+ */
+@Immutable
+final class ShardLoadBalancer {
+
+    private static final long UNKNOWN_LOAD = 1L;
+
+    private final double imbalanceThreshold;
+
+    private ShardLoadBalancer(final double imbalanceThreshold) {
+        this.imbalanceThreshold = imbalanceThreshold;
+    }
+
+    /**
+     * Returns a new {@code ShardLoadBalancer}.
+     *
+     * @param imbalanceThreshold the relative difference of the loads of the most and the least loaded region up to
+     * which no shards are rebalanced.
+     * @return the balancer.
+     * @throws IllegalArgumentException if {@code imbalanceThreshold} is negative.
+     */
+    static ShardLoadBalancer of(final double imbalanceThreshold) {
+        if (imbalanceThreshold < 0.0) {
+            throw new IllegalArgumentException("The imbalance threshold must not be negative!");
+        }
+        return new ShardLoadBalancer(imbalanceThreshold);
+    }
+
+    /**
+     * Selects the region to allocate a shard to.
+     *
+     * @param allocations the shards of each region.
+     * @param shardLoads the loads of shards by their IDs; if empty, the shards are balanced by their number.
+     * @param <R> the type of the region identifiers.
+     * @return the least loaded region or an empty Optional if there is no region.
+     */
+    <R> Optional<R> selectRegion(final Map<R, ? extends Collection<String>> allocations,
+            final Map<String, Long> shardLoads) {
+
+        R result = null;
+        long resultLoad = Long.MAX_VALUE;
+        int resultShards = Integer.MAX_VALUE;
+        for (final Map.Entry<R, ? extends Collection<String>> entry : allocations.entrySet()) {
+            final Collection<String> shards = entry.getValue();
+            final long load = sumLoads(shards, shardLoads, Collections.emptySet());
+            if (load < resultLoad || (load == resultLoad && shards.size() < resultShards)) {
+                result = entry.getKey();
+                resultLoad = load;
+                resultShards = shards.size();
+            }
+        }
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Selects the shards to move from the most loaded regions.
+     *
+     * @param allocations the shards of each region.
+     * @param shardLoads the loads of shards by their IDs; if empty, the shards are balanced by their number.
+     * @param rebalanceInProgress the shards which are currently moved.
+     * @param maxShards the maximum number of shards to select.
+     * @param <R> the type of the region identifiers.
+     * @return the shards to rebalance.
+     */
+    <R> Set<String> selectShardsToRebalance(final Map<R, ? extends Collection<String>> allocations,
+            final Map<String, Long> shardLoads, final Set<String> rebalanceInProgress, final int maxShards) {
+
+        if (allocations.size() < 2 || maxShards <= 0) {
+            return Collections.emptySet();
+        }
+
+        final Map<R, List<String>> shardsOfRegions = new HashMap<>();
+        final Map<R, Long> regionLoads = new HashMap<>();
+        allocations.forEach((region, shards) -> {
+            final List<String> movableShards = new ArrayList<>(shards);
+            movableShards.removeAll(rebalanceInProgress);
+            shardsOfRegions.put(region, movableShards);
+            regionLoads.put(region, sumLoads(movableShards, shardLoads, rebalanceInProgress));
+        });
+
+        final Set<String> result = new LinkedHashSet<>();
+        while (result.size() < maxShards) {
+            final R mostLoaded = findRegion(regionLoads, true);
+            final R leastLoaded = findRegion(regionLoads, false);
+            final long maxLoad = regionLoads.get(mostLoaded);
+            final long gap = maxLoad - regionLoads.get(leastLoaded);
+            if (gap <= 0 || gap <= imbalanceThreshold * maxLoad) {
+                break;
+            }
+            final String shard = findHottestShardBelow(shardsOfRegions.get(mostLoaded), shardLoads, gap);
+            if (null == shard) {
+                break;
+            }
+            // simulate the move in order to select further shards on the updated loads
+            final long load = getLoad(shard, shardLoads);
+            shardsOfRegions.get(mostLoaded).remove(shard);
+            regionLoads.put(mostLoaded, maxLoad - load);
+            regionLoads.merge(leastLoaded, load, Long::sum);
+            result.add(shard);
+        }
+        return result;
+    }
+
+    private static <R> R findRegion(final Map<R, Long> regionLoads, final boolean mostLoaded) {
+        R result = null;
+        long resultLoad = 0L;
+        for (final Map.Entry<R, Long> entry : regionLoads.entrySet()) {
+            final long load = entry.getValue();
+            if (null == result || (mostLoaded ? load > resultLoad : load < resultLoad)) {
+                result = entry.getKey();
+                resultLoad = load;
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static String findHottestShardBelow(final Collection<String> shards, final Map<String, Long> shardLoads,
+            final long maxExclusiveLoad) {
+
+        String result = null;
+        long resultLoad = 0L;
+        for (final String shard : shards) {
+            final long load = getLoad(shard, shardLoads);
+            if (load > resultLoad && load < maxExclusiveLoad) {
+                result = shard;
+                resultLoad = load;
+            }
+        }
+        return result;
+    }
+
+    private static long sumLoads(final Collection<String> shards, final Map<String, Long> shardLoads,
+            final Set<String> excludedShards) {
+
+        long result = 0L;
+        for (final String shard : shards) {
+            if (!excludedShards.contains(shard)) {
+                result += getLoad(shard, shardLoads);
+            }
+        }
+        return result;
+    }
+
+    private static long getLoad(final String shard, final Map<String, Long> shardLoads) {
+        if (shardLoads.isEmpty()) {
+            return UNKNOWN_LOAD;
+        }
+        return shardLoads.getOrDefault(shard, 0L);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "imbalanceThreshold=" + imbalanceThreshold +
+                "]";
+    }
+
+}
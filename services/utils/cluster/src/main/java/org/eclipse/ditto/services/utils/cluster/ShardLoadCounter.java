@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Counts the messages which are delivered to the entities of the shards hosted by the local shard region.
+ */
+@ThreadSafe
+public final class ShardLoadCounter {
+
+    private final LongAdder[] counters;
+
+    private ShardLoadCounter(final int numberOfShards) {
+        counters = new LongAdder[numberOfShards];
+        for (int shard = 0; shard < numberOfShards; shard++) {
+            counters[shard] = new LongAdder();
+        }
+    }
+
+    /**
+     * Returns a new {@code ShardLoadCounter}.
+     *
+     * @param numberOfShards the number of shards of the shard region.
+     * @return the counter.
+     * @throws IllegalArgumentException if {@code numberOfShards} is not positive.
+     */
+    public static ShardLoadCounter of(final int numberOfShards) {
+        if (numberOfShards <= 0) {
+            throw new IllegalArgumentException("The number of shards must be positive!");
+        }
+        return new ShardLoadCounter(numberOfShards);
+    }
+
+    /**
+     * Counts a message delivered to an entity of the given shard.
+     *
+     * @param shard the number of the shard.
+     */
+    void increment(final int shard) {
+        counters[shard].increment();
+    }
+
+    /**
+     * Returns the number of messages per shard ID counted since the last call and resets the counts. Shards without
+     * messages are omitted.
+     *
+     * @return the message counts by shard ID.
+     */
+    Map<String, Long> sumThenReset() {
+        final Map<String, Long> result = new HashMap<>();
+        for (int shard = 0; shard < counters.length; shard++) {
+            final long count = counters[shard].sumThenReset();
+            if (0 < count) {
+                result.put(Integer.toString(shard), count);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.Props;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.Replicator;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Periodically reports the message rates of the shards hosted by this member to the {@link ShardLoads} and keeps the
+ * latest rates reported by all members available for the {@link LoadAwareShardAllocationStrategy}.
+ */
+public final class ShardLoadReporter extends AbstractActorWithTimers {
+
+    /**
+     * Prefix of this actor's name.
+     */
+    public static final String ACTOR_NAME_PREFIX = "shardLoadReporter-";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ShardLoadCounter loadCounter;
+    private final ShardLoads shardLoads;
+    private final Duration reportInterval;
+    private final Set<String> shardsWithLoad;
+
+    @SuppressWarnings("unused")
+    private ShardLoadReporter(final ShardLoadCounter loadCounter, final ShardLoads shardLoads,
+            final Duration reportInterval) {
+
+        this.loadCounter = loadCounter;
+        this.shardLoads = shardLoads;
+        this.reportInterval = reportInterval;
+        shardsWithLoad = new HashSet<>();
+        shardLoads.subscribeForChanges(getSelf());
+        getTimers().startPeriodicTimer(Control.REPORT, Control.REPORT, reportInterval);
+    }
+
+    /**
+     * Create Props object for this actor.
+     *
+     * @param loadCounter the counter of the messages of the shards hosted by this member.
+     * @param shardLoads the distributed data to report the message rates to.
+     * @param reportInterval the interval of the reports.
+     * @return the Props.
+     */
+    public static Props props(final ShardLoadCounter loadCounter, final ShardLoads shardLoads,
+            final Duration reportInterval) {
+
+        return Props.create(ShardLoadReporter.class, loadCounter, shardLoads, reportInterval);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.REPORT, this::report)
+                .match(Replicator.Changed.class, this::updateLatestLoads)
+                .matchAny(this::logUnhandled)
+                .build();
+    }
+
+    private void report(final Control report) {
+        final long intervalMillis = Math.max(1L, reportInterval.toMillis());
+        final Map<String, Long> messagesPerSecond = new HashMap<>();
+        loadCounter.sumThenReset().forEach((shard, count) ->
+                // round up so that shards with few messages are distinguishable from idle ones
+                messagesPerSecond.put(shard, (count * 1000L + intervalMillis - 1) / intervalMillis));
+
+        // shards which became idle or were handed off report zero once
+        shardsWithLoad.removeAll(messagesPerSecond.keySet());
+        shardsWithLoad.forEach(shard -> messagesPerSecond.put(shard, 0L));
+        shardsWithLoad.clear();
+        messagesPerSecond.forEach((shard, rate) -> {
+            if (0L < rate) {
+                shardsWithLoad.add(shard);
+            }
+        });
+
+        if (!messagesPerSecond.isEmpty()) {
+            log.debug("Reporting messages per second of shards: <{}>", messagesPerSecond);
+            shardLoads.report(messagesPerSecond).exceptionally(error -> {
+                log.warning("Failed to report shard loads: <{}>", error);
+                return null;
+            });
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updateLatestLoads(final Replicator.Changed<?> changed) {
+        final LWWMap<String, Long> loads = (LWWMap<String, Long>) changed.dataValue();
+        shardLoads.setLatestLoads(loads.getEntries());
+    }
+
+    private void logUnhandled(final Object message) {
+        log.warning("Unhandled: <{}>", message);
+    }
+
+    private enum Control {
+        REPORT
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.services.utils.ddata.DistributedData;
+
+import akka.actor.ActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.LWWMapKey;
+import akka.cluster.ddata.Replicator;
+import akka.cluster.ddata.SelfUniqueAddress;
+
+/**
+ * Distributed data of the message rates of the shards of one shard region type.
+ * <p>
+ * Each member writes the message rates of the shards it hosts; the most recent write of a shard wins so that the
+ * rate reported by its current host replaces the one of its former host. The data is replicated to the members of
+ * the shard region's role.
+ * </p>
+ */
+public final class ShardLoads extends DistributedData<LWWMap<String, Long>> {
+
+    /**
+     * Prefix of the name of the replicator actor.
+     */
+    public static final String ACTOR_NAME_PREFIX = "shardLoadsReplicator-";
+
+    private static final Key<LWWMap<String, Long>> KEY = LWWMapKey.create("ShardLoads");
+
+    private final SelfUniqueAddress selfUniqueAddress;
+    private volatile Map<String, Long> latestLoads;
+
+    private ShardLoads(final ActorSystem system, final String typeName, final String role) {
+        super(DistributedData.createConfig(system, ACTOR_NAME_PREFIX + typeName, role), system, system.dispatcher());
+        selfUniqueAddress = SelfUniqueAddress.apply(Cluster.get(system).selfUniqueAddress());
+        latestLoads = Collections.emptyMap();
+    }
+
+    /**
+     * Creates the distributed data of the shard loads of a shard region type and its replicator actor.
+     *
+     * @param system the actor system where the replicator actor will be created.
+     * @param typeName the type name of the shard region.
+     * @param role the cluster role of the members hosting the shard region or an empty string for all members.
+     * @return the distributed data.
+     */
+    public static ShardLoads create(final ActorSystem system, final String typeName, final String role) {
+        return new ShardLoads(system, typeName, role);
+    }
+
+    /**
+     * Writes the message rates of shards hosted by this member to the local replica.
+     *
+     * @param messagesPerSecond the message rates by shard ID.
+     * @return future that completes after the local replica is updated.
+     */
+    public CompletionStage<Void> report(final Map<String, Long> messagesPerSecond) {
+        return update(Replicator.writeLocal(), loads -> {
+            LWWMap<String, Long> result = loads;
+            for (final Map.Entry<String, Long> entry : messagesPerSecond.entrySet()) {
+                result = result.put(selfUniqueAddress, entry.getKey(), entry.getValue());
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Returns the message rates of all shards by shard ID as last received from the replicator.
+     *
+     * @return the message rates or an empty map if no rates are known yet.
+     */
+    public Map<String, Long> getLatestLoads() {
+        return latestLoads;
+    }
+
+    /**
+     * Sets the message rates received from the replicator.
+     *
+     * @param loads the rates by shard ID.
+     */
+    void setLatestLoads(final Map<String, Long> loads) {
+        latestLoads = Collections.unmodifiableMap(new HashMap<>(loads));
+    }
+
+    @Override
+    protected Key<LWWMap<String, Long>> getKey() {
+        return KEY;
+    }
+
+    @Override
+    protected LWWMap<String, Long> getInitialValue() {
+        return LWWMap.empty();
+    }
+
+}
@@ -22,6 +22,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.IntStream;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
@@ -39,10 +41,13 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
 
     private final int numberOfShards;
     private final MappingStrategies mappingStrategies;
+    @Nullable private final ShardLoadCounter loadCounter;
 
-    private ShardRegionExtractor(final int numberOfShards, final MappingStrategies mappingStrategies) {
+    private ShardRegionExtractor(final int numberOfShards, final MappingStrategies mappingStrategies,
+            @Nullable final ShardLoadCounter loadCounter) {
         this.numberOfShards = numberOfShards;
         this.mappingStrategies = checkNotNull(mappingStrategies, "mapping strategies");
+        this.loadCounter = loadCounter;
     }
 
     /**
@@ -54,7 +59,7 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
      */
     public static ShardRegionExtractor of(final int numberOfShards, final ActorSystem actorSystem) {
         final MappingStrategies mappingStrategies = MappingStrategies.loadMappingStrategies(actorSystem);
-        return new ShardRegionExtractor(numberOfShards, mappingStrategies);
+        return new ShardRegionExtractor(numberOfShards, mappingStrategies, null);
     }
 
     /**
@@ -65,7 +70,19 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
      * @param mappingStrategy the strategy for parsing incoming messages.
      */
     public static ShardRegionExtractor of(final int numberOfShards, final MappingStrategies mappingStrategy) {
-        return new ShardRegionExtractor(numberOfShards, mappingStrategy);
+        return new ShardRegionExtractor(numberOfShards, mappingStrategy, null);
+    }
+
+    /**
+     * Returns a copy of this extractor which counts the messages delivered to the entities of each shard hosted by the
+     * local shard region.
+     *
+     * @param loadCounter the counter of the messages per shard.
+     * @return the new extractor.
+     * @throws NullPointerException if {@code loadCounter} is {@code null}.
+     */
+    public ShardRegionExtractor withLoadCounter(final ShardLoadCounter loadCounter) {
+        return new ShardRegionExtractor(numberOfShards, mappingStrategies, checkNotNull(loadCounter, "loadCounter"));
     }
 
     @Override
@@ -95,22 +112,33 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
             entity = message;
         }
 
+        // only the shard hosting the entity extracts the entity message
+        if (null != loadCounter) {
+            final String entityId = entityId(entity);
+            if (null != entityId) {
+                loadCounter.increment(shardNumber(entityId));
+            }
+        }
         return entity;
     }
 
-    @SuppressWarnings({"squid:S2676"})
     @Override
     public String shardId(final Object message) {
         final String entityId = entityId(message);
         if (entityId != null) {
-            final int hashcode = entityId.hashCode();
-            // make sure not to negate Integer.MIN_VALUE because -Integer.MIN_VALUE == Integer.MIN_VALUE < 0.
-            final int nonNegativeHashcode = hashcode == Integer.MIN_VALUE ? 0 : Math.abs(hashcode);
-            return Integer.toString(nonNegativeHashcode % numberOfShards);
+            return Integer.toString(shardNumber(entityId));
         }
         return null;
     }
 
+    @SuppressWarnings({"squid:S2676"})
+    private int shardNumber(final String entityId) {
+        final int hashcode = entityId.hashCode();
+        // make sure not to negate Integer.MIN_VALUE because -Integer.MIN_VALUE == Integer.MIN_VALUE < 0.
+        final int nonNegativeHashcode = hashcode == Integer.MIN_VALUE ? 0 : Math.abs(hashcode);
+        return nonNegativeHashcode % numberOfShards;
+    }
+
     /**
      * Get shard IDs that are not active.
      *
@@ -147,12 +175,13 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
         if (o == null || getClass() != o.getClass())
             return false;
         final ShardRegionExtractor that = (ShardRegionExtractor) o;
-        return numberOfShards == that.numberOfShards && Objects.equals(mappingStrategies, that.mappingStrategies);
+        return numberOfShards == that.numberOfShards && Objects.equals(mappingStrategies, that.mappingStrategies) &&
+                Objects.equals(loadCounter, that.loadCounter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(numberOfShards, mappingStrategies);
+        return Objects.hash(numberOfShards, mappingStrategies, loadCounter);
     }
 
     @Override
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.utils.cluster.config;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -39,6 +40,28 @@ public interface ClusterConfig {
      */
     Collection<String> getClusterStatusRolesBlacklist();
 
+    /**
+     * Indicates whether shards are allocated and rebalanced according to their message rates instead of their number.
+     *
+     * @return whether load aware shard allocation is enabled.
+     */
+    boolean isLoadAwareShardAllocationEnabled();
+
+    /**
+     * Returns the interval in which each member reports the message rates of its shards.
+     *
+     * @return the report interval.
+     */
+    Duration getShardLoadReportInterval();
+
+    /**
+     * Returns the relative difference between the loads of the most and the least loaded shard region up to which the
+     * load is considered as balanced, e. g. {@code 0.2} for 20 % of the load of the most loaded shard region.
+     *
+     * @return the imbalance threshold.
+     */
+    double getShardLoadImbalanceThreshold();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ClusterConfig}.
@@ -56,7 +79,22 @@ public interface ClusterConfig {
         CLUSTER_STATUS_ROLES_BLACKLIST("cluster-status-roles-blacklist", Arrays.asList(
                 "dc-default",
                 "blocked-namespaces-aware"
-        ));
+        )),
+
+        /**
+         * Whether shards are allocated and rebalanced according to their message rates.
+         */
+        LOAD_AWARE_SHARD_ALLOCATION_ENABLED("shard-allocation.load-aware", false),
+
+        /**
+         * The interval in which each member reports the message rates of its shards.
+         */
+        SHARD_LOAD_REPORT_INTERVAL("shard-allocation.load-report-interval", Duration.ofSeconds(10L)),
+
+        /**
+         * The relative load difference of shard regions up to which their load is considered as balanced.
+         */
+        SHARD_LOAD_IMBALANCE_THRESHOLD("shard-allocation.load-imbalance-threshold", 0.2);
 
         private final String path;
         private final Object defaultValue;
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.utils.cluster.config;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,11 +32,19 @@ public final class DefaultClusterConfig implements ClusterConfig {
 
     private final int numberOfShards;
     private final List<String> clusterStatusRolesBlacklist;
+    private final boolean loadAwareShardAllocationEnabled;
+    private final Duration shardLoadReportInterval;
+    private final double shardLoadImbalanceThreshold;
 
     private DefaultClusterConfig(final ConfigWithFallback config) {
         numberOfShards = config.getInt(ClusterConfigValue.NUMBER_OF_SHARDS.getConfigPath());
         clusterStatusRolesBlacklist = Collections.unmodifiableList(
                 new ArrayList<>(config.getStringList(ClusterConfigValue.CLUSTER_STATUS_ROLES_BLACKLIST.getConfigPath())));
+        loadAwareShardAllocationEnabled =
+                config.getBoolean(ClusterConfigValue.LOAD_AWARE_SHARD_ALLOCATION_ENABLED.getConfigPath());
+        shardLoadReportInterval = config.getDuration(ClusterConfigValue.SHARD_LOAD_REPORT_INTERVAL.getConfigPath());
+        shardLoadImbalanceThreshold =
+                config.getDouble(ClusterConfigValue.SHARD_LOAD_IMBALANCE_THRESHOLD.getConfigPath());
     }
 
     /**
@@ -60,6 +69,21 @@ public final class DefaultClusterConfig implements ClusterConfig {
         return clusterStatusRolesBlacklist;
     }
 
+    @Override
+    public boolean isLoadAwareShardAllocationEnabled() {
+        return loadAwareShardAllocationEnabled;
+    }
+
+    @Override
+    public Duration getShardLoadReportInterval() {
+        return shardLoadReportInterval;
+    }
+
+    @Override
+    public double getShardLoadImbalanceThreshold() {
+        return shardLoadImbalanceThreshold;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -70,12 +94,16 @@ public final class DefaultClusterConfig implements ClusterConfig {
         }
         final DefaultClusterConfig that = (DefaultClusterConfig) o;
         return numberOfShards == that.numberOfShards &&
-                Objects.equals(clusterStatusRolesBlacklist, that.clusterStatusRolesBlacklist);
+                loadAwareShardAllocationEnabled == that.loadAwareShardAllocationEnabled &&
+                Double.compare(that.shardLoadImbalanceThreshold, shardLoadImbalanceThreshold) == 0 &&
+                Objects.equals(clusterStatusRolesBlacklist, that.clusterStatusRolesBlacklist) &&
+                Objects.equals(shardLoadReportInterval, that.shardLoadReportInterval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(numberOfShards, clusterStatusRolesBlacklist);
+        return Objects.hash(numberOfShards, clusterStatusRolesBlacklist, loadAwareShardAllocationEnabled,
+                shardLoadReportInterval, shardLoadImbalanceThreshold);
     }
 
     @Override
@@ -83,6 +111,9 @@ public final class DefaultClusterConfig implements ClusterConfig {
         return getClass().getSimpleName() + " [" +
                 "numberOfShards=" + numberOfShards +
                 ", clusterStatusRolesBlacklist=" + clusterStatusRolesBlacklist +
+                ", loadAwareShardAllocationEnabled=" + loadAwareShardAllocationEnabled +
+                ", shardLoadReportInterval=" + shardLoadReportInterval +
+                ", shardLoadImbalanceThreshold=" + shardLoadImbalanceThreshold +
                 "]";
     }
 }
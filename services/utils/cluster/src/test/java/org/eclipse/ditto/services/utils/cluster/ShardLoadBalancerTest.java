@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ShardLoadBalancer}.
+ */
+public final class ShardLoadBalancerTest {
+
+    private static final int NUMBER_OF_SHARDS = 40;
+    private static final int NUMBER_OF_REGIONS = 4;
+    private static final int MAX_SIMULTANEOUS_REBALANCE = 3;
+
+    private final ShardLoadBalancer underTest = ShardLoadBalancer.of(0.2);
+
+    @Test
+    public void allocatesToLeastLoadedRegion() {
+        final Map<String, List<String>> allocations = new HashMap<>();
+        allocations.put("region-0", shards(0, 2));
+        allocations.put("region-1", shards(2, 10));
+        final Map<String, Long> loads = new HashMap<>();
+        loads.put("0", 500L);
+        loads.put("1", 500L);
+
+        assertThat(underTest.selectRegion(allocations, loads)).contains("region-1");
+    }
+
+    @Test
+    public void allocatesByNumberOfShardsWithoutLoads() {
+        final Map<String, List<String>> allocations = new HashMap<>();
+        allocations.put("region-0", shards(0, 2));
+        allocations.put("region-1", shards(2, 10));
+
+        assertThat(underTest.selectRegion(allocations, Collections.emptyMap())).contains("region-0");
+    }
+
+    @Test
+    public void doesNotRebalanceShardsInProgress() {
+        final Map<String, List<String>> allocations = new HashMap<>();
+        allocations.put("region-0", shards(0, 10));
+        allocations.put("region-1", new ArrayList<>());
+        final Set<String> inProgress = new HashSet<>(shards(0, 5));
+
+        final Set<String> selected =
+                underTest.selectShardsToRebalance(allocations, Collections.emptyMap(), inProgress, 10);
+
+        assertThat(selected).doesNotContainAnyElementsOf(inProgress).hasSize(2);
+    }
+
+    @Test
+    public void balancesNumberOfShardsWithoutLoads() {
+        final Map<String, List<String>> allocations = new HashMap<>();
+        allocations.put("region-0", shards(0, 20));
+        allocations.put("region-1", new ArrayList<>());
+
+        simulateRebalancing(allocations, Collections.emptyMap());
+
+        assertThat(allocations.get("region-0").size() - allocations.get("region-1").size()).isBetween(-2, 2);
+    }
+
+    @Test
+    public void rebalancesHotShardsOfSkewedLoad() {
+        // Zipf-like load: few shards receive most of the messages and all of them start on one region
+        final Map<String, Long> loads = new HashMap<>();
+        for (int shard = 0; shard < NUMBER_OF_SHARDS; shard++) {
+            loads.put(Integer.toString(shard), 1000L / (shard + 1));
+        }
+        final Map<String, List<String>> allocations = new HashMap<>();
+        for (int region = 0; region < NUMBER_OF_REGIONS; region++) {
+            allocations.put("region-" + region, new ArrayList<>());
+        }
+        allocations.get("region-0").addAll(shards(0, 10));
+        for (int shard = 10; shard < NUMBER_OF_SHARDS; shard++) {
+            allocations.get("region-" + (1 + shard % (NUMBER_OF_REGIONS - 1))).add(Integer.toString(shard));
+        }
+        final long initialMaxLoad = maxRegionLoad(allocations, loads);
+
+        final int rounds = simulateRebalancing(allocations, loads);
+
+        final long totalLoad = loads.values().stream().mapToLong(Long::longValue).sum();
+        final long maxLoad = maxRegionLoad(allocations, loads);
+        assertThat(rounds).isPositive();
+        assertThat(maxLoad).isLessThan(initialMaxLoad / 2);
+        assertThat((double) maxLoad).isLessThanOrEqualTo(1.25 * totalLoad / NUMBER_OF_REGIONS);
+        assertThat(allocations.values().stream().mapToInt(List::size).sum()).isEqualTo(NUMBER_OF_SHARDS);
+    }
+
+    /**
+     * Runs rounds of rebalancing like the shard coordinator until no shard is selected anymore.
+     *
+     * @return the number of rounds which moved shards.
+     */
+    private int simulateRebalancing(final Map<String, List<String>> allocations, final Map<String, Long> loads) {
+        int rounds = 0;
+        while (true) {
+            final Set<String> selected = underTest.selectShardsToRebalance(allocations, loads, Collections.emptySet(),
+                    MAX_SIMULTANEOUS_REBALANCE);
+            assertThat(selected.size()).isLessThanOrEqualTo(MAX_SIMULTANEOUS_REBALANCE);
+            if (selected.isEmpty()) {
+                return rounds;
+            }
+            assertThat(rounds).describedAs("rebalancing must terminate").isLessThan(NUMBER_OF_SHARDS);
+            allocations.values().forEach(shards -> shards.removeAll(selected));
+            for (final String shard : selected) {
+                final String region = underTest.selectRegion(allocations, loads).orElseThrow(AssertionError::new);
+                allocations.get(region).add(shard);
+            }
+            rounds++;
+        }
+    }
+
+    private static long maxRegionLoad(final Map<String, List<String>> allocations, final Map<String, Long> loads) {
+        return allocations.values()
+                .stream()
+                .mapToLong(shards -> shards.stream().mapToLong(loads::get).sum())
+                .max()
+                .orElse(0L);
+    }
+
+    private static List<String> shards(final int fromInclusive, final int toExclusive) {
+        final List<String> result = new ArrayList<>();
+        for (int shard = fromInclusive; shard < toExclusive; shard++) {
+            result.add(Integer.toString(shard));
+        }
+        return result;
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.utils.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -116,4 +117,18 @@ public final class ShardRegionExtractorTest {
         assertThat(actual).isEqualTo(errorResponse);
     }
 
+
+    @Test
+    public void countsEntityMessagesPerShard() {
+        final ShardLoadCounter loadCounter = ShardLoadCounter.of(NUMBER_OF_SHARDS);
+        final ShardRegionExtractor underTestWithCounter = underTest.withLoadCounter(loadCounter);
+        final CreateThing createThing = CreateThing.of(Thing.newBuilder().setId(THING_ID).build(), null, DITTO_HEADERS);
+
+        underTestWithCounter.entityMessage(createThing);
+        underTestWithCounter.entityMessage(createThing);
+
+        assertThat(loadCounter.sumThenReset()).containsOnly(entry(underTestWithCounter.shardId(createThing), 2L));
+        assertThat(loadCounter.sumThenReset()).isEmpty();
+    }
+
 }
@@ -16,6 +16,7 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.time.Duration;
 import java.util.Arrays;
 
 import org.assertj.core.api.JUnitSoftAssertions;
@@ -67,6 +68,15 @@ public final class DefaultClusterConfigTest {
         softly.assertThat(underTest.getClusterStatusRolesBlacklist())
                 .as(ClusterConfig.ClusterConfigValue.CLUSTER_STATUS_ROLES_BLACKLIST.getConfigPath())
                 .isEqualTo(ClusterConfig.ClusterConfigValue.CLUSTER_STATUS_ROLES_BLACKLIST.getDefaultValue());
+        softly.assertThat(underTest.isLoadAwareShardAllocationEnabled())
+                .as(ClusterConfig.ClusterConfigValue.LOAD_AWARE_SHARD_ALLOCATION_ENABLED.getConfigPath())
+                .isEqualTo(ClusterConfig.ClusterConfigValue.LOAD_AWARE_SHARD_ALLOCATION_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getShardLoadReportInterval())
+                .as(ClusterConfig.ClusterConfigValue.SHARD_LOAD_REPORT_INTERVAL.getConfigPath())
+                .isEqualTo(ClusterConfig.ClusterConfigValue.SHARD_LOAD_REPORT_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getShardLoadImbalanceThreshold())
+                .as(ClusterConfig.ClusterConfigValue.SHARD_LOAD_IMBALANCE_THRESHOLD.getConfigPath())
+                .isEqualTo(ClusterConfig.ClusterConfigValue.SHARD_LOAD_IMBALANCE_THRESHOLD.getDefaultValue());
     }
 
     @Test
@@ -79,6 +89,15 @@ public final class DefaultClusterConfigTest {
         softly.assertThat(underTest.getClusterStatusRolesBlacklist())
                 .as(ClusterConfig.ClusterConfigValue.CLUSTER_STATUS_ROLES_BLACKLIST.getConfigPath())
                 .isEqualTo(Arrays.asList("barney", "fred", "wilma"));
+        softly.assertThat(underTest.isLoadAwareShardAllocationEnabled())
+                .as(ClusterConfig.ClusterConfigValue.LOAD_AWARE_SHARD_ALLOCATION_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getShardLoadReportInterval())
+                .as(ClusterConfig.ClusterConfigValue.SHARD_LOAD_REPORT_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
+        softly.assertThat(underTest.getShardLoadImbalanceThreshold())
+                .as(ClusterConfig.ClusterConfigValue.SHARD_LOAD_IMBALANCE_THRESHOLD.getConfigPath())
+                .isEqualTo(0.5);
     }
 
     @Test
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.config;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Actor system extension which memoizes config objects which are derived from the {@code "ditto"} scoped config of
+ * the actor system.
+ * <p>
+ * Parsing a config object like {@code DittoConnectivityConfig} walks and validates the whole HOCON tree below its
+ * config path. As the actor system config never changes during the lifetime of the actor system, it is sufficient to
+ * do this once per actor system and to hand out the same immutable instance to every actor which requires it.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * final DittoConnectivityConfig connectivityConfig = DittoConfigCache.get(getContext().getSystem())
+ *         .getOrCreate(DittoConnectivityConfig.class, DittoConnectivityConfig::of);
+ * </pre>
+ * </p>
+ *
+ * @since 1.1.0
+ */
+@ThreadSafe
+public final class DittoConfigCache implements Extension {
+
+    private final DefaultScopedConfig dittoScopedConfig;
+    private final Map<Class<?>, Object> configs;
+
+    private DittoConfigCache(final DefaultScopedConfig dittoScopedConfig) {
+        this.dittoScopedConfig = dittoScopedConfig;
+        configs = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the {@code DittoConfigCache} of the given actor system.
+     *
+     * @param actorSystem the actor system to get the config cache for.
+     * @return the config cache.
+     * @throws NullPointerException if {@code actorSystem} is {@code null}.
+     * @throws DittoConfigError if the config of {@code actorSystem} does not contain a nested config at
+     * {@code "ditto"}.
+     */
+    public static DittoConfigCache get(final ActorSystem actorSystem) {
+        checkNotNull(actorSystem, "actorSystem");
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Returns the {@code "ditto"} scoped config of the actor system.
+     * The instance is created only once per actor system.
+     *
+     * @return the ditto scoped config.
+     */
+    public DefaultScopedConfig getDittoScopedConfig() {
+        return dittoScopedConfig;
+    }
+
+    /**
+     * Returns the memoized config object of the given type.
+     * If no such config object was created yet, it is created by applying the given factory to the {@code "ditto"}
+     * scoped config of the actor system.
+     * The factory is invoked at most once per type and actor system; thus the created config object has to be
+     * immutable.
+     *
+     * @param configClass the type of the config object which serves as key of the cache.
+     * @param configFactory creates the config object from the ditto scoped config, e. g.
+     * {@code DittoConnectivityConfig::of}.
+     * @param <T> the type of the config object.
+     * @return the memoized config object.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws DittoConfigError if {@code configFactory} failed to create the config object.
+     */
+    public <T> T getOrCreate(final Class<T> configClass,
+            final Function<? super ScopedConfig, ? extends T> configFactory) {
+
+        checkNotNull(configClass, "configClass");
+        checkNotNull(configFactory, "configFactory");
+        final Object config =
+                configs.computeIfAbsent(configClass, key -> checkNotNull(configFactory.apply(dittoScopedConfig),
+                        "created config"));
+        return configClass.cast(config);
+    }
+
+    /**
+     * ID of the actor system extension which memoizes config objects.
+     */
+    private static final class ExtensionId extends AbstractExtensionId<DittoConfigCache> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public DittoConfigCache createExtension(final ExtendedActorSystem system) {
+            return new DittoConfigCache(DefaultScopedConfig.dittoScoped(system.settings().config()));
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.config.DittoConfigCache}.
+ */
+public final class DittoConfigCacheTest {
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void startActorSystem() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName(), ConfigFactory.load("test.conf"));
+    }
+
+    @After
+    public void stopActorSystem() {
+        if (null != actorSystem) {
+            actorSystem.terminate();
+        }
+    }
+
+    @Test
+    public void getReturnsSameInstanceForSameActorSystem() {
+        assertThat(DittoConfigCache.get(actorSystem)).isSameAs(DittoConfigCache.get(actorSystem));
+    }
+
+    @Test
+    public void dittoScopedConfigHasDittoConfigPath() {
+        final DefaultScopedConfig dittoScopedConfig = DittoConfigCache.get(actorSystem).getDittoScopedConfig();
+
+        assertThat(dittoScopedConfig.getConfigPath()).isEqualTo(ScopedConfig.DITTO_SCOPE);
+        assertThat(dittoScopedConfig.getString("mongodb.uri")).isEqualTo("mongodb://localhost:27017/concierge");
+    }
+
+    @Test
+    public void configFactoryIsInvokedOnlyOncePerType() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final DittoConfigCache underTest = DittoConfigCache.get(actorSystem);
+
+        final String first = underTest.getOrCreate(String.class, scopedConfig -> {
+            invocations.incrementAndGet();
+            return scopedConfig.getString("mongodb.uri");
+        });
+        final String second = underTest.getOrCreate(String.class, scopedConfig -> {
+            invocations.incrementAndGet();
+            return "unexpected";
+        });
+
+        assertThat(second).isSameAs(first);
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    public void tryToGetOrCreateWithNullFactory() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> DittoConfigCache.get(actorSystem).getOrCreate(String.class, null))
+                .withMessageContaining("configFactory");
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.instruments;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import kamon.Kamon;
+import kamon.metric.Counter;
+import kamon.metric.Gauge;
+import kamon.metric.Histogram;
+import kamon.metric.Timer;
+
+/**
+ * Registry of refined Kamon instruments.
+ * <p>
+ * Refining a Kamon metric converts the tags to a Scala map and looks up the instrument in Kamon's registry. This
+ * registry resolves each combination of name and tags only once; Ditto's instruments hold the returned Kamon
+ * instrument so that recording a value does not involve any lookup.
+ * </p>
+ */
+@ThreadSafe
+public final class KamonInstruments {
+
+    private static final ConcurrentMap<InstrumentKey, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<InstrumentKey, Gauge> GAUGES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<InstrumentKey, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<InstrumentKey, Timer> TIMERS = new ConcurrentHashMap<>();
+
+    private KamonInstruments() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the Kamon counter with the given name refined by the given tags.
+     *
+     * @param name the name of the counter.
+     * @param tags the tags of the counter.
+     * @return the counter.
+     */
+    public static Counter counter(final String name, final Map<String, String> tags) {
+        return getOrRefine(COUNTERS, name, tags, () -> Kamon.counter(name).refine(tags));
+    }
+
+    /**
+     * Returns the Kamon gauge with the given name refined by the given tags.
+     *
+     * @param name the name of the gauge.
+     * @param tags the tags of the gauge.
+     * @return the gauge.
+     */
+    public static Gauge gauge(final String name, final Map<String, String> tags) {
+        return getOrRefine(GAUGES, name, tags, () -> Kamon.gauge(name).refine(tags));
+    }
+
+    /**
+     * Returns the Kamon histogram with the given name refined by the given tags.
+     *
+     * @param name the name of the histogram.
+     * @param tags the tags of the histogram.
+     * @return the histogram.
+     */
+    public static Histogram histogram(final String name, final Map<String, String> tags) {
+        return getOrRefine(HISTOGRAMS, name, tags, () -> Kamon.histogram(name).refine(tags));
+    }
+
+    /**
+     * Returns the Kamon timer with the given name refined by the given tags.
+     *
+     * @param name the name of the timer.
+     * @param tags the tags of the timer.
+     * @return the timer.
+     */
+    public static Timer timer(final String name, final Map<String, String> tags) {
+        return getOrRefine(TIMERS, name, tags, () -> Kamon.timer(name).refine(tags));
+    }
+
+    private static <T> T getOrRefine(final ConcurrentMap<InstrumentKey, T> instruments, final String name,
+            final Map<String, String> tags, final Supplier<T> refine) {
+
+        final T existing = instruments.get(new InstrumentKey(name, tags));
+        if (null != existing) {
+            return existing;
+        }
+        // copy the tags as the registered key must not change if the caller's map is modified afterwards
+        return instruments.computeIfAbsent(new InstrumentKey(name, new HashMap<>(tags)), key -> refine.get());
+    }
+
+    @Immutable
+    private static final class InstrumentKey {
+
+        private final String name;
+        private final Map<String, String> tags;
+        private final int hashCode;
+
+        private InstrumentKey(final String name, final Map<String, String> tags) {
+            this.name = name;
+            this.tags = tags;
+            hashCode = Objects.hash(name, tags);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final InstrumentKey that = (InstrumentKey) o;
+            return hashCode == that.hashCode && name.equals(that.name) && tags.equals(that.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -22,10 +22,10 @@ import java.util.Map;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.metrics.instruments.KamonInstruments;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import kamon.Kamon;
 import kamon.metric.LongAdderCounter;
 import kamon.metric.MetricValue;
 
@@ -40,6 +40,12 @@ public final class KamonCounter implements Counter {
     private final String name;
     private final Map<String, String> tags;
 
+    /*
+     * Resolved on first use so that intermediate instruments of a tag(...) chain are not registered in Kamon.
+     * Publishing it without synchronization is benign as every thread resolves the same Kamon instrument.
+     */
+    @Nullable private kamon.metric.Counter kamonInternalCounter;
+
     private KamonCounter(final String name, final Map<String, String> tags) {
         this.name = argumentNotEmpty(name, "name");
         this.tags = Collections.unmodifiableMap(new HashMap<>(checkNotNull(tags, "tags")));
@@ -113,7 +119,12 @@ public final class KamonCounter implements Counter {
     }
 
     private kamon.metric.Counter getKamonInternalCounter() {
-        return Kamon.counter(name).refine(tags);
+        kamon.metric.Counter result = kamonInternalCounter;
+        if (null == result) {
+            result = KamonInstruments.counter(name, tags);
+            kamonInternalCounter = result;
+        }
+        return result;
     }
 
     @Override
@@ -19,10 +19,10 @@ import java.util.Map;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.metrics.instruments.KamonInstruments;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import kamon.Kamon;
 import kamon.metric.AtomicLongGauge;
 
 /**
@@ -36,6 +36,9 @@ public class KamonGauge implements Gauge {
     private final String name;
     private final Map<String, String> tags;
 
+    // resolved on first use like the internal counter of KamonCounter
+    @Nullable private kamon.metric.Gauge kamonInternalGauge;
+
     private KamonGauge(final String name, final Map<String, String> tags) {
         this.name = name;
         this.tags = Collections.unmodifiableMap(new HashMap<>(tags));
@@ -109,7 +112,12 @@ public class KamonGauge implements Gauge {
     }
 
     private kamon.metric.Gauge getKamonInternalGauge() {
-        return Kamon.gauge(name).refine(tags);
+        kamon.metric.Gauge result = kamonInternalGauge;
+        if (null == result) {
+            result = KamonInstruments.gauge(name, tags);
+            kamonInternalGauge = result;
+        }
+        return result;
     }
 
 
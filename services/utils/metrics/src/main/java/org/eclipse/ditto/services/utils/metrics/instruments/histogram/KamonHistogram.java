@@ -21,10 +21,10 @@ import java.util.Map;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.metrics.instruments.KamonInstruments;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import kamon.Kamon;
 import kamon.metric.AtomicHdrHistogram;
 import kamon.metric.Bucket;
 import kamon.metric.MetricDistribution;
@@ -39,6 +39,9 @@ public class KamonHistogram implements Histogram {
     private static final Logger LOGGER = LoggerFactory.getLogger(KamonHistogram.class);
 
     private final Map<String, String> tags;
+
+    // resolved on first use; racy publication is benign as all threads resolve the same instrument
+    @Nullable private kamon.metric.Histogram kamonInternalHistogram;
     private final String name;
 
     private KamonHistogram(final String name, final Map<String, String> tags) {
@@ -120,7 +123,12 @@ public class KamonHistogram implements Histogram {
     }
 
     private kamon.metric.Histogram getKamonInternalHistogram() {
-        return Kamon.histogram(name).refine(tags);
+        kamon.metric.Histogram result = kamonInternalHistogram;
+        if (null == result) {
+            result = KamonInstruments.histogram(name, tags);
+            kamonInternalHistogram = result;
+        }
+        return result;
     }
 
 
@@ -14,9 +14,6 @@ package org.eclipse.ditto.services.utils.metrics.instruments.timer;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -32,7 +29,6 @@ import org.slf4j.LoggerFactory;
 public final class ExpiringTimerBuilder implements TimerBuilder<ExpiringTimerBuilder, StartedTimer> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultTimerBuilder.class);
-    private static final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
 
     private final String name;
     private final Map<String, String> additionalTags;
@@ -40,8 +36,6 @@ public final class ExpiringTimerBuilder implements TimerBuilder<ExpiringTimerBui
     private long maximumDuration = 5;
     private TimeUnit maximumDurationTimeUnit = TimeUnit.MINUTES;
     private Consumer<StartedTimer> additionalExpirationHandling;
-    private ScheduledFuture<?> expirationHandlingFuture;
-
 
     public ExpiringTimerBuilder(final String name) {
         this.name = name;
@@ -108,21 +102,18 @@ public final class ExpiringTimerBuilder implements TimerBuilder<ExpiringTimerBui
     @Override
     public StartedTimer build() {
         final StartedTimer timer = PreparedKamonTimer.newTimer(name).tags(additionalTags).start();
-        expirationHandlingFuture =
-                scheduler.schedule(() -> defaultExpirationHandling(name, timer, additionalExpirationHandling),
-                        maximumDuration, maximumDurationTimeUnit);
-        timer.onStop(new OnStopHandler(this::cancelScheduledExpirationFuture));
+        final Consumer<StartedTimer> expirationHandling = additionalExpirationHandling;
+        final TimerWheel.Timeout expirationTimeout = TimerWheel.getInstance()
+                .schedule(() -> defaultExpirationHandling(name, timer, expirationHandling), maximumDuration,
+                        maximumDurationTimeUnit);
+        timer.onStop(new OnStopHandler(stoppedTimer -> cancelExpiration(expirationTimeout, stoppedTimer)));
         return timer;
     }
 
-    private void cancelScheduledExpirationFuture(final StoppedTimer timer) {
-
-        if (!expirationHandlingFuture.isDone()) {
-            final boolean canceled = expirationHandlingFuture.cancel(false);
-            if (canceled) {
-                LOGGER.trace("Canceled expiration handling of MutableKamonTimer <{}> because it has been stopped " +
-                        "before timeout", timer.getName());
-            }
+    private static void cancelExpiration(final TimerWheel.Timeout expirationTimeout, final StoppedTimer timer) {
+        if (expirationTimeout.cancel()) {
+            LOGGER.trace("Canceled expiration handling of MutableKamonTimer <{}> because it has been stopped " +
+                    "before timeout", timer.getName());
         }
     }
 
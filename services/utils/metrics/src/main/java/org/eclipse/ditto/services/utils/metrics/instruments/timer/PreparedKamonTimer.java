@@ -20,10 +20,10 @@ import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.services.utils.metrics.instruments.KamonInstruments;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import kamon.Kamon;
 import kamon.metric.AtomicHdrHistogram;
 import kamon.metric.Bucket;
 import kamon.metric.Histogram;
@@ -41,6 +41,7 @@ public class PreparedKamonTimer implements PreparedTimer {
 
     private final String name;
     private final Map<String, String> tags;
+    @Nullable private Timer kamonInternalTimer; // reset whenever the tags change
 
     private PreparedKamonTimer(final String name) {
         this.name = name;
@@ -54,6 +55,7 @@ public class PreparedKamonTimer implements PreparedTimer {
     @Override
     public PreparedTimer tags(final Map<String, String> tags) {
         this.tags.putAll(tags);
+        kamonInternalTimer = null;
         return this;
     }
 
@@ -71,6 +73,7 @@ public class PreparedKamonTimer implements PreparedTimer {
     @Override
     public PreparedTimer tag(final String key, final String value) {
         this.tags.put(key, value);
+        kamonInternalTimer = null;
         return this;
     }
 
@@ -135,8 +138,13 @@ public class PreparedKamonTimer implements PreparedTimer {
         throw new IllegalStateException("Could not get snapshot of kamon timer");
     }
 
-    private kamon.metric.Timer getKamonInternalTimer() {
-        return Kamon.timer(name).refine(this.tags);
+    private Timer getKamonInternalTimer() {
+        Timer result = kamonInternalTimer;
+        if (null == result) {
+            result = KamonInstruments.timer(name, tags);
+            kamonInternalTimer = result;
+        }
+        return result;
     }
 
     private List<Long> addBucketValuesToList(Bucket bucket, List<Long> values) {
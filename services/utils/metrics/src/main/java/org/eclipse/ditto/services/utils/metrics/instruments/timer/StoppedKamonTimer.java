@@ -19,10 +19,10 @@ import java.util.Map;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.services.utils.metrics.instruments.KamonInstruments;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import kamon.Kamon;
 
 /**
  * Kamon based implementation of {@link StoppedTimer}.
@@ -81,7 +81,7 @@ public class StoppedKamonTimer implements StoppedTimer {
 
 
     private kamon.metric.Timer getKamonInternalTimer() {
-        return Kamon.timer(name).refine(this.tags);
+        return KamonInstruments.timer(name, tags);
     }
 
     @Override
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.instruments.timer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timing wheel which runs tasks after a delay with a precision of one tick.
+ * <p>
+ * Scheduling and cancelling only append to lock-free queues. A single thread advances the wheel once per tick: it
+ * moves newly scheduled timeouts into the bucket of their deadline, unlinks cancelled ones and runs the tasks of the
+ * expired timeouts of the current bucket. Thus a cancelled timeout is released within one tick instead of staying in a
+ * delay queue until its deadline as with {@link ScheduledExecutorService}, and the cost of scheduling does not grow
+ * with the number of pending timeouts.
+ * </p>
+ */
+@ThreadSafe
+final class TimerWheel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerWheel.class);
+
+    private static final long DEFAULT_TICK_MILLIS = 100L;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startNanos;
+    private final Queue<Timeout> scheduledTimeouts;
+    private final Queue<Timeout> cancelledTimeouts;
+    private final ScheduledExecutorService executor;
+
+    private long tick; // only accessed by the thread advancing the wheel
+
+    private TimerWheel(final long tickDuration, final TimeUnit tickTimeUnit, final int wheelSize,
+            final String threadName) {
+
+        tickNanos = tickTimeUnit.toNanos(tickDuration);
+        final int powerOfTwoWheelSize = Integer.highestOneBit(wheelSize - 1) << 1;
+        wheel = new Bucket[Math.max(1, powerOfTwoWheelSize)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        mask = wheel.length - 1;
+        startNanos = System.nanoTime();
+        scheduledTimeouts = new ConcurrentLinkedQueue<>();
+        cancelledTimeouts = new ConcurrentLinkedQueue<>();
+        tick = 0L;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::advance, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the timer wheel which is shared by all expiring timers.
+     *
+     * @return the instance.
+     */
+    static TimerWheel getInstance() {
+        return SharedInstance.INSTANCE;
+    }
+
+    /**
+     * Returns a new timer wheel with its own thread which has to be {@link #shutdown() shut down} when the wheel is
+     * not needed anymore.
+     *
+     * @param tickDuration the duration of one tick.
+     * @param tickTimeUnit the unit of {@code tickDuration}.
+     * @param wheelSize the number of buckets of the wheel which is rounded up to the next power of two.
+     * @return the timer wheel.
+     */
+    static TimerWheel newInstance(final long tickDuration, final TimeUnit tickTimeUnit, final int wheelSize) {
+        return new TimerWheel(tickDuration, tickTimeUnit, wheelSize, "timer-wheel");
+    }
+
+    /**
+     * Runs the given task after the given delay unless the returned timeout is cancelled before.
+     *
+     * @param task the task; it runs on the thread of the wheel and must not block.
+     * @param delay the delay.
+     * @param timeUnit the unit of {@code delay}.
+     * @return the timeout of the task.
+     */
+    Timeout schedule(final Runnable task, final long delay, final TimeUnit timeUnit) {
+        final long deadline = System.nanoTime() - startNanos + timeUnit.toNanos(Math.max(0L, delay));
+        final Timeout timeout = new Timeout(this, task, deadline);
+        scheduledTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops advancing the wheel. Pending timeouts do not expire anymore.
+     */
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void advance() {
+        try {
+            final long now = System.nanoTime() - startNanos;
+            transferScheduledTimeouts();
+            removeCancelledTimeouts();
+            while (tick * tickNanos <= now) {
+                wheel[(int) (tick & mask)].expireTimeouts();
+                tick++;
+            }
+        } catch (final RuntimeException e) {
+            // must not propagate as this would stop the periodic advancing of the wheel
+            LOGGER.error("Failed to advance timer wheel: {}", e.getMessage(), e);
+        }
+    }
+
+    private void transferScheduledTimeouts() {
+        Timeout timeout = scheduledTimeouts.poll();
+        while (null != timeout) {
+            if (timeout.isPending()) {
+                final long deadlineTick = Math.max(tick, (timeout.deadline + tickNanos - 1) / tickNanos);
+                timeout.remainingRounds = (deadlineTick - tick) >> Integer.numberOfTrailingZeros(wheel.length);
+                wheel[(int) (deadlineTick & mask)].add(timeout);
+            }
+            timeout = scheduledTimeouts.poll();
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout = cancelledTimeouts.poll();
+        while (null != timeout) {
+            if (null != timeout.bucket) {
+                timeout.bucket.remove(timeout);
+            }
+            timeout = cancelledTimeouts.poll();
+        }
+    }
+
+    /**
+     * A task scheduled on a {@link TimerWheel}.
+     */
+    @ThreadSafe
+    static final class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final TimerWheel timerWheel;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state;
+
+        // only accessed by the thread advancing the wheel
+        private long remainingRounds;
+        @Nullable private Bucket bucket;
+        @Nullable private Timeout previous;
+        @Nullable private Timeout next;
+
+        private Timeout(final TimerWheel timerWheel, final Runnable task, final long deadline) {
+            this.timerWheel = timerWheel;
+            this.task = task;
+            this.deadline = deadline;
+            state = new AtomicInteger(PENDING);
+        }
+
+        /**
+         * Cancels this timeout so that its task does not run.
+         *
+         * @return {@code true} if the timeout was cancelled, {@code false} if it already expired or was cancelled.
+         */
+        boolean cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                timerWheel.cancelledTimeouts.add(this);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Indicates whether this timeout neither expired nor was cancelled.
+         *
+         * @return {@code true} if the task is still to be run.
+         */
+        boolean isPending() {
+            return PENDING == state.get();
+        }
+
+        private void expire() {
+            if (state.compareAndSet(PENDING, EXPIRED)) {
+                try {
+                    task.run();
+                } catch (final RuntimeException e) {
+                    LOGGER.warn("Task of expired timeout failed: {}", e.getMessage(), e);
+                }
+            }
+        }
+
+    }
+
+    /*
+     * Doubly linked list of the timeouts which expire in the same tick of a rotation of the wheel.
+     */
+    private static final class Bucket {
+
+        @Nullable private Timeout head;
+        @Nullable private Timeout tail;
+
+        private void add(final Timeout timeout) {
+            timeout.bucket = this;
+            if (null == tail) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+            }
+            tail = timeout;
+        }
+
+        private void remove(final Timeout timeout) {
+            final Timeout previous = timeout.previous;
+            final Timeout next = timeout.next;
+            if (null == previous) {
+                head = next;
+            } else {
+                previous.next = next;
+            }
+            if (null == next) {
+                tail = previous;
+            } else {
+                next.previous = previous;
+            }
+            timeout.bucket = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+
+        private void expireTimeouts() {
+            Timeout timeout = head;
+            while (null != timeout) {
+                final Timeout next = timeout.next;
+                if (0 >= timeout.remainingRounds) {
+                    remove(timeout);
+                    timeout.expire();
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+    }
+
+    private static final class SharedInstance {
+
+        private static final TimerWheel INSTANCE = new TimerWheel(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS,
+                DEFAULT_WHEEL_SIZE, "ditto-expiring-timers");
+
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for incrementing counters created by {@link DittoMetrics}.
+ * <p>
+ * Counters which are held by their owner, e. g. the enqueue and dequeue counters of graph actors, resolve the
+ * refined Kamon counter once so that incrementing them only adds to a {@code LongAdder}. The benchmark which creates
+ * the counter on each increment shows the cost of the registry lookup.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class DittoMetricsBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String COUNTER_NAME = "benchmark_counter";
+
+    private Map<String, String> tags;
+    private Counter counter;
+    private Counter taggedCounter;
+
+    @Setup
+    public void setUp() {
+        tags = new HashMap<>();
+        tags.put("class", DittoMetricsBenchmark.class.getSimpleName());
+        tags.put("direction", "in");
+        counter = DittoMetrics.counter(COUNTER_NAME);
+        taggedCounter = DittoMetrics.counter(COUNTER_NAME, tags);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Counter incrementCounter() {
+        return counter.increment();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Counter incrementTaggedCounter() {
+        return taggedCounter.increment();
+    }
+
+    @Benchmark
+    @Threads(4)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Counter incrementTaggedCounterConcurrently() {
+        return taggedCounter.increment();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Counter createAndIncrementTaggedCounter() {
+        return DittoMetrics.counter(COUNTER_NAME, tags).increment();
+    }
+
+}
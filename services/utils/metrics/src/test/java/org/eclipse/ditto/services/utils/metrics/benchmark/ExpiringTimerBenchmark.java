@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StoppedTimer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for starting and stopping expiring timers from many threads, e. g. round-trip timers of HTTP requests.
+ * <p>
+ * Each started timer registers a timeout on the shared timer wheel which is cancelled when the timer stops.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class ExpiringTimerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Benchmark
+    @Threads(16)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public StoppedTimer startAndStopExpiringTimer() {
+        return DittoMetrics.expiringTimer("benchmark_round_trip")
+                .tag("channel", "twin")
+                .maximumDuration(1, TimeUnit.MINUTES)
+                .build()
+                .stop();
+    }
+
+    @Benchmark
+    @Threads(16)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public StoppedTimer startAndStopTimerWithoutExpiration() {
+        return DittoMetrics.timer("benchmark_round_trip")
+                .tag("channel", "twin")
+                .start()
+                .stop();
+    }
+
+}
@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.utils.metrics.instruments.counter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -49,4 +51,18 @@ public class KamonCounterTest {
         sut.reset();
         assertThat(sut.getCount()).isEqualTo(0);
     }
+
+    @Test
+    public void countersWithEqualNameAndTagsShareCount() {
+        final Counter tagged = KamonCounter.newCounter("TestCounter").tag("tag", "value");
+        tagged.reset();
+        final Counter sameTagged = KamonCounter.newCounter("TestCounter", Collections.singletonMap("tag", "value"));
+
+        tagged.increment();
+        sameTagged.increment(2);
+
+        assertThat(tagged.getCount()).isEqualTo(3);
+        assertThat(sameTagged.getCount()).isEqualTo(3);
+        assertThat(sut.getCount()).isEqualTo(0);
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.instruments.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimerWheel}.
+ */
+public final class TimerWheelTest {
+
+    private TimerWheel underTest;
+
+    @Before
+    public void setup() {
+        // small wheel so that delays span multiple rotations
+        underTest = TimerWheel.newInstance(10, TimeUnit.MILLISECONDS, 4);
+    }
+
+    @After
+    public void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    public void runsTaskAfterDelay() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        final TimerWheel.Timeout timeout = underTest.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(timeout.isPending()).isFalse();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    public void cancelledTaskDoesNotRun() throws InterruptedException {
+        final AtomicInteger cancelledRuns = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final TimerWheel.Timeout cancelled =
+                underTest.schedule(cancelledRuns::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        underTest.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelledRuns.get()).isZero();
+    }
+
+    @Test
+    public void failingTaskDoesNotStopWheel() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        underTest.schedule(() -> {
+            throw new IllegalStateException("expected");
+        }, 10, TimeUnit.MILLISECONDS);
+        underTest.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+}
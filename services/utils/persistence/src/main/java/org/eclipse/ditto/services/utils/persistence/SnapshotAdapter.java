@@ -54,4 +54,15 @@ public interface SnapshotAdapter<T> {
     @Nullable
     T fromSnapshotStore(SelectedSnapshot selectedSnapshot);
 
+    /**
+     * Estimates the size of a "database snapshot" as loaded from the database without converting it to the domain
+     * model type. Does not estimate by default.
+     *
+     * @param snapshotOffer the SnapshotOffer as offered from Akka Persistence including the db snapshot.
+     * @return the estimated size of the db snapshot in bytes, or 0 if it is unknown.
+     */
+    default long estimateSize(final SnapshotOffer snapshotOffer) {
+        return 0L;
+    }
+
 }
@@ -20,6 +20,7 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
@@ -35,6 +36,10 @@ import akka.persistence.SnapshotOffer;
 
 /**
  * Abstract implementation of a MongoDB specific {@link SnapshotAdapter} for a {@link Jsonifiable}.
+ * <p>
+ * Snapshots are stored as BSON documents converted from JSON. Snapshots whose estimated size reaches the compression
+ * threshold are stored compressed instead. Both formats are always restored.
+ * </p>
  *
  * @param <T> the jsonifiable type to snapshot.
  */
@@ -43,9 +48,22 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         implements SnapshotAdapter<T> {
 
     private final Logger logger;
+    private final long compressionThreshold;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
+        this(logger, 0L);
+    }
+
+    /**
+     * Constructs a new {@code AbstractMongoSnapshotAdapter} which compresses large snapshots.
+     *
+     * @param logger the logger.
+     * @param compressionThreshold the estimated size in bytes from which on snapshots are stored compressed, or 0 to
+     * never compress snapshots.
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger, final long compressionThreshold) {
         this.logger = logger;
+        this.compressionThreshold = compressionThreshold;
     }
 
     @Override
@@ -54,6 +72,9 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
+        if (compressionThreshold > 0 && json.getUpperBoundForStringSize() >= compressionThreshold) {
+            return SnapshotCompression.compress(json);
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         return dittoBsonJson.parse(json);
     }
@@ -80,6 +101,27 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         return convertSnapshotToJsonifiable(selectedSnapshot.snapshot());
     }
 
+    /**
+     * Estimates the size of compressed snapshots by their uncompressed size and of raw BSON snapshots by their bytes.
+     * The size of other snapshots is unknown, as it could only be estimated by serializing them again.
+     *
+     * @param snapshotOffer the SnapshotOffer as offered from Akka Persistence including the db snapshot.
+     * @return the estimated size of the db snapshot in bytes, or 0 if it is unknown.
+     */
+    @Override
+    public long estimateSize(final SnapshotOffer snapshotOffer) {
+        final Object rawSnapshotEntity = snapshotOffer.snapshot();
+        if (rawSnapshotEntity instanceof RawBsonDocument) {
+            return ((RawBsonDocument) rawSnapshotEntity).getByteBuffer().remaining();
+        } else if (rawSnapshotEntity instanceof BsonValue) {
+            final BsonValue bsonValue = (BsonValue) rawSnapshotEntity;
+            if (SnapshotCompression.isCompressed(bsonValue)) {
+                return SnapshotCompression.getUncompressedSize(bsonValue.asDocument());
+            }
+        }
+        return 0L;
+    }
+
     /**
      * Converts the specified snapshot entity to its {@link JsonObject} representation.
      *
@@ -107,7 +149,10 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
     private static JsonObject convertSnapshotEntityToJson(final Object rawSnapshotEntity) {
         checkNotNull(rawSnapshotEntity, "raw snapshot entity");
         if (rawSnapshotEntity instanceof BsonValue) {
-            return convertToJson((BsonValue) rawSnapshotEntity);
+            final BsonValue bsonValue = (BsonValue) rawSnapshotEntity;
+            return SnapshotCompression.isCompressed(bsonValue)
+                    ? SnapshotCompression.decompress(bsonValue.asDocument())
+                    : convertToJson(bsonValue);
         }
         final String pattern = "Unable to create a Jsonifiable from <{0}>! Expected was a BsonDocument instance.";
         throw new IllegalArgumentException(MessageFormat.format(pattern, rawSnapshotEntity.getClass()));
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Converts snapshots to and from their compressed format: the CBOR representation of the snapshot JSON compressed
+ * with deflate and stored as binary. Compressed snapshots are smaller to store and faster to read and to parse than
+ * the BSON documents converted from JSON.
+ * <p>
+ * The top-level fields of the snapshot with primitive values, e.g. the revision or the lifecycle, are stored
+ * uncompressed beside the binary, so that streaming snapshots may still project them.
+ * </p>
+ */
+@Immutable
+final class SnapshotCompression {
+
+    static final String FIELD_FORMAT = "_format";
+    static final String FIELD_SIZE = "_size";
+    static final String FIELD_DATA = "_data";
+    static final String FORMAT_DEFLATE_CBOR = "deflate+cbor";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private SnapshotCompression() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Compress a snapshot.
+     *
+     * @param json the JSON of the snapshot.
+     * @return the compressed snapshot.
+     * @throws IllegalArgumentException if {@code json} cannot be converted to CBOR.
+     */
+    static BsonDocument compress(final JsonObject json) {
+        final byte[] cbor;
+        try {
+            cbor = CborFactory.toByteArray(json);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Failed to convert snapshot to CBOR: " + e.getMessage(), e);
+        }
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(cbor);
+            deflater.finish();
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(cbor.length / 4 + 64);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return DittoBsonJson.getInstance().parse(getPrimitiveFields(json))
+                    .append(FIELD_FORMAT, new BsonString(FORMAT_DEFLATE_CBOR))
+                    .append(FIELD_SIZE, new BsonInt32(cbor.length))
+                    .append(FIELD_DATA, new BsonBinary(outputStream.toByteArray()));
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static JsonObject getPrimitiveFields(final JsonObject json) {
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (final JsonField field : json) {
+            final JsonValue value = field.getValue();
+            if (!value.isObject() && !value.isArray()) {
+                builder.set(field);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Check whether a raw snapshot is compressed.
+     *
+     * @param bsonValue the raw snapshot.
+     * @return whether it is compressed.
+     */
+    static boolean isCompressed(final BsonValue bsonValue) {
+        if (bsonValue.isDocument()) {
+            final BsonValue format = bsonValue.asDocument().get(FIELD_FORMAT);
+            return format != null && format.isString() && FORMAT_DEFLATE_CBOR.equals(format.asString().getValue());
+        }
+        return false;
+    }
+
+    /**
+     * Read the size of a compressed snapshot before compression.
+     *
+     * @param document the compressed snapshot.
+     * @return the size of the CBOR representation of the snapshot in bytes.
+     */
+    static long getUncompressedSize(final BsonDocument document) {
+        return document.getInt32(FIELD_SIZE).getValue();
+    }
+
+    /**
+     * Decompress a snapshot.
+     *
+     * @param document the compressed snapshot.
+     * @return the JSON of the snapshot.
+     * @throws JsonParseException if the snapshot is corrupt.
+     */
+    static JsonObject decompress(final BsonDocument document) {
+        final byte[] data = document.getBinary(FIELD_DATA).getData();
+        final byte[] cbor = new byte[document.getInt32(FIELD_SIZE).getValue()];
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            int length = 0;
+            while (length < cbor.length && !inflater.finished()) {
+                final int inflated = inflater.inflate(cbor, length, cbor.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != cbor.length) {
+                throw JsonParseException.newBuilder()
+                        .message("The compressed snapshot has <" + length + "> instead of <" + cbor.length +
+                                "> bytes.")
+                        .build();
+            }
+            return CborFactory.readFrom(cbor).asObject();
+        } catch (final DataFormatException e) {
+            throw JsonParseException.newBuilder()
+                    .message("The compressed snapshot is corrupt: " + e.getMessage())
+                    .cause(e)
+                    .build();
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
@@ -34,10 +34,14 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final long eventVolumeThreshold;
+    private final long compressionThreshold;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getDuration(SnapshotConfigValue.INTERVAL.getConfigPath());
         threshold = getThreshold(config);
+        eventVolumeThreshold = getNonNegativeBytes(config, SnapshotConfigValue.EVENT_VOLUME_THRESHOLD);
+        compressionThreshold = getNonNegativeBytes(config, SnapshotConfigValue.COMPRESSION_THRESHOLD);
     }
 
     private static long getThreshold(final ScopedConfig config) {
@@ -49,6 +53,15 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return result;
     }
 
+    private static long getNonNegativeBytes(final ScopedConfig config, final SnapshotConfigValue configValue) {
+        final long result = config.getBytes(configValue.getConfigPath());
+        if (0 > result) {
+            final String msgPattern = "The snapshot <{0}> must not be negative but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, configValue.getConfigPath(), result));
+        }
+        return result;
+    }
+
     /**
      * Returns an instance of the default snapshot config based on the settings of the specified Config.
      *
@@ -71,6 +84,16 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public long getEventVolumeThreshold() {
+        return eventVolumeThreshold;
+    }
+
+    @Override
+    public long getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -80,12 +103,15 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold &&
+                eventVolumeThreshold == that.eventVolumeThreshold &&
+                compressionThreshold == that.compressionThreshold &&
+                Objects.equals(interval, that.interval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, eventVolumeThreshold, compressionThreshold);
     }
 
     @Override
@@ -93,6 +119,8 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", eventVolumeThreshold=" + eventVolumeThreshold +
+                ", compressionThreshold=" + compressionThreshold +
                 "]";
     }
 
@@ -38,6 +38,21 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Returns the volume of events in bytes after which to do a snapshot of an entity regardless of the number of
+     * changes. Entities with large or frequent changes are thus snapshot more often, which keeps their recovery fast.
+     *
+     * @return the event volume threshold or 0 if snapshots are not taken depending on the volume of events.
+     */
+    long getEventVolumeThreshold();
+
+    /**
+     * Returns the estimated size in bytes from which on snapshots are stored compressed.
+     *
+     * @return the compression threshold or 0 if snapshots are never compressed.
+     */
+    long getCompressionThreshold();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +67,17 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * The volume of events in bytes after which to do a snapshot; 0 disables it.
+         */
+        EVENT_VOLUME_THRESHOLD("event-volume-threshold", 0L),
+
+        /**
+         * The estimated size of snapshots in bytes from which on they are stored compressed; 0 disables it.
+         */
+        COMPRESSION_THRESHOLD("compression-threshold", 0L);
 
         private final String path;
         private final Object defaultValue;
@@ -65,6 +65,12 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getEventVolumeThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.EVENT_VOLUME_THRESHOLD.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.EVENT_VOLUME_THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getCompressionThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.COMPRESSION_THRESHOLD.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.COMPRESSION_THRESHOLD.getDefaultValue());
     }
 
     @Test
@@ -77,5 +83,11 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.getEventVolumeThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.EVENT_VOLUME_THRESHOLD.getConfigPath())
+                .isEqualTo(10L * 1024L * 1024L);
+        softly.assertThat(underTest.getCompressionThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.COMPRESSION_THRESHOLD.getConfigPath())
+                .isEqualTo(64L * 1024L);
     }
 }
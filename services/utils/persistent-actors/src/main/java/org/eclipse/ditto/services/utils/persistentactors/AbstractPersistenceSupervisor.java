@@ -138,11 +138,23 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
                 .build();
     }
 
+    /**
+     * Provides the possibility to add custom matchers to the active behavior before all other messages are forwarded
+     * to the persistence actor. Does nothing by default.
+     *
+     * @param receiveBuilder the ReceiveBuilder to add other matchers to.
+     */
+    protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
+        // no custom matchers by default
+    }
+
     private void becomeActive(final ShutdownBehaviour shutdownBehaviour) {
-        getContext().become(shutdownBehaviour.createReceive()
+        final ReceiveBuilder activeBehaviour = shutdownBehaviour.createReceive()
                 .match(Terminated.class, this::childTerminated)
                 .matchEquals(Control.START_CHILD, this::startChild)
-                .matchEquals(Control.PASSIVATE, this::passivate)
+                .matchEquals(Control.PASSIVATE, this::passivate);
+        preEnhancement(activeBehaviour);
+        getContext().become(activeBehaviour
                 .matchAny(this::forwardToChildIfAvailable)
                 .build());
     }
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -25,6 +26,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
@@ -62,6 +64,9 @@ public abstract class AbstractShardedPersistenceActor<
         K,
         E extends Event> extends AbstractPersistentActorWithTimersAndCleanup implements ResultVisitor<E> {
 
+    private static final String METRIC_TAG_CLASS = "class";
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+
     /**
      * Logger of the actor.
      */
@@ -72,6 +77,9 @@ public abstract class AbstractShardedPersistenceActor<
     private final Receive handleCleanups;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
+    private long eventVolumeSinceSnapshot;
+    private long recoveredSnapshotSize;
+    private final long recoveryStartNanos;
 
     /**
      * The current entity, or null if it was never created.
@@ -100,9 +108,15 @@ public abstract class AbstractShardedPersistenceActor<
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
+        eventVolumeSinceSnapshot = 0L;
+        recoveredSnapshotSize = 0L;
+        recoveryStartNanos = System.nanoTime();
 
         handleEvents = ReceiveBuilder.create()
-                .match(getEventClass(), event -> entity = getEventStrategy().handle(event, entity, getRevisionNumber()))
+                .match(getEventClass(), event -> {
+                    entity = getEventStrategy().handle(event, entity, getRevisionNumber());
+                    addToEventVolume(event);
+                })
                 .build();
 
         handleCleanups = super.createReceive();
@@ -238,7 +252,10 @@ public abstract class AbstractShardedPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, event -> {
+                    reportRecoveryTime();
+                    recoveryCompleted(event);
+                })
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
                 .build());
     }
@@ -443,6 +460,8 @@ public abstract class AbstractShardedPersistenceActor<
             // save a snapshot if there were too many changes since the last snapshot
             if (snapshotThresholdPassed()) {
                 takeSnapshot("snapshot threshold is reached");
+            } else if (eventVolumeThresholdPassed()) {
+                takeSnapshot("event volume threshold is reached");
             }
         });
     }
@@ -457,6 +476,7 @@ public abstract class AbstractShardedPersistenceActor<
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
+            eventVolumeSinceSnapshot = 0L;
         } else if (lastSnapshotRevision == revision) {
             log.debug("Not taking duplicate snapshot for entity <{}> with revision <{}> even if {}.", entity, revision,
                     reason);
@@ -469,6 +489,36 @@ public abstract class AbstractShardedPersistenceActor<
         return getRevisionNumber() - lastSnapshotRevision >= getSnapshotConfig().getThreshold();
     }
 
+    private boolean eventVolumeThresholdPassed() {
+        final long eventVolumeThreshold = getSnapshotConfig().getEventVolumeThreshold();
+        return eventVolumeThreshold > 0 && eventVolumeSinceSnapshot >= eventVolumeThreshold;
+    }
+
+    private void addToEventVolume(final E event) {
+        // estimating the size of events costs a conversion to JSON; skip it if the volume is not needed
+        if (getSnapshotConfig().getEventVolumeThreshold() > 0) {
+            eventVolumeSinceSnapshot += event.toJson().getUpperBoundForStringSize();
+        }
+    }
+
+    private void reportRecoveryTime() {
+        final long recoveryMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - recoveryStartNanos);
+        final String actorClass = getClass().getSimpleName();
+        DittoMetrics.histogram("persistence_recovery_micros")
+                .tag(METRIC_TAG_CLASS, actorClass)
+                .record(recoveryMicros);
+        // the recovered size is only known as far as it was estimated anyway: from the snapshot as read by the
+        // snapshot adapter and from the replayed events if the event volume threshold is enabled
+        final long recoveredSize = recoveredSnapshotSize + eventVolumeSinceSnapshot;
+        if (recoveredSize > 0) {
+            DittoMetrics.histogram("persistence_recovery_micros_per_mb")
+                    .tag(METRIC_TAG_CLASS, actorClass)
+                    .record(recoveryMicros * BYTES_PER_MB / recoveredSize);
+        }
+        log.debug("Recovered entity <{}> of estimated size <{}> bytes in <{}> microseconds.", entityId,
+                recoveredSize, recoveryMicros);
+    }
+
     private void applyEvent(final E event) {
         handleEvents.onMessage().apply(event);
         publishEvent(event);
@@ -499,6 +549,8 @@ public abstract class AbstractShardedPersistenceActor<
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
         entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
         lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        eventVolumeSinceSnapshot = 0L;
+        recoveredSnapshotSize = snapshotAdapter.estimateSize(snapshotOffer);
     }
 
     @Override
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
+import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
+import org.eclipse.ditto.services.utils.persistentactors.commands.DefaultContext;
+import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
+import org.eclipse.ditto.services.utils.persistentactors.results.Result;
+import org.eclipse.ditto.services.utils.persistentactors.results.ResultFactory;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.events.base.Event;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.japi.Creator;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotOffer;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link AbstractShardedPersistenceActor}.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public final class AbstractShardedPersistenceActorTest {
+
+    private static final Duration SNAPSHOT_TIMEOUT = Duration.ofSeconds(10L);
+    private static final JsonObject EVENT_JSON = JsonObject.newBuilder()
+            .set("value", "an event of the same estimated size as every other event")
+            .build();
+
+    private static ActorSystem actorSystem;
+
+    @Rule
+    public TestName name = new TestName();
+
+    @BeforeClass
+    public static void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test.conf"));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void takesSnapshotWhenEventVolumeThresholdIsReached() {
+        new TestKit(actorSystem) {{
+            // GIVEN: the event volume threshold is reached by 3 events, the snapshot threshold by 100 events
+            final long eventSize = EVENT_JSON.getUpperBoundForStringSize();
+            final SnapshotConfig snapshotConfig = DefaultSnapshotConfig.of(ConfigFactory.parseString(
+                    "snapshot { threshold = 100, event-volume-threshold = " + 3 * eventSize + " }"));
+            final ActorRef underTest = childActorOf(DummyShardedPersistenceActor.props(persistenceId(),
+                    snapshotConfig));
+
+            // WHEN: 3 events are persisted
+            modifyDummy(this, underTest, 3);
+
+            // THEN: a snapshot is taken after the third event only
+            MockSnapshotStorePlugin.verifySaved(persistenceId(), 3L, SNAPSHOT_TIMEOUT);
+            MockSnapshotStorePlugin.verifyNotSaved(persistenceId(), 1L);
+            MockSnapshotStorePlugin.verifyNotSaved(persistenceId(), 2L);
+
+            // WHEN: 3 more events are persisted
+            modifyDummy(this, underTest, 3);
+
+            // THEN: the event volume starts again from the snapshot
+            MockSnapshotStorePlugin.verifySaved(persistenceId(), 6L, SNAPSHOT_TIMEOUT);
+            MockSnapshotStorePlugin.verifyNotSaved(persistenceId(), 4L);
+            MockSnapshotStorePlugin.verifyNotSaved(persistenceId(), 5L);
+        }};
+    }
+
+    @Test
+    public void takesNoSnapshotByEventVolumeIfDisabled() {
+        new TestKit(actorSystem) {{
+            // GIVEN: the event volume threshold is disabled
+            final SnapshotConfig snapshotConfig = DefaultSnapshotConfig.of(ConfigFactory.parseString(
+                    "snapshot { threshold = 5, event-volume-threshold = 0 }"));
+            final ActorRef underTest = childActorOf(DummyShardedPersistenceActor.props(persistenceId(),
+                    snapshotConfig));
+
+            // WHEN: 5 events are persisted
+            modifyDummy(this, underTest, 5);
+
+            // THEN: a snapshot is taken by the snapshot threshold only
+            MockSnapshotStorePlugin.verifySaved(persistenceId(), 5L, SNAPSHOT_TIMEOUT);
+            MockSnapshotStorePlugin.verifyNotSaved(persistenceId(), 3L);
+        }};
+    }
+
+    private static void modifyDummy(final TestKit testKit, final ActorRef underTest, final int times) {
+        for (int i = 0; i < times; i++) {
+            final Command command = mockCommand();
+            underTest.tell(command, testKit.getRef());
+            testKit.expectMsg(command);
+        }
+    }
+
+    private static Command mockCommand() {
+        final Command command = mock(Command.class);
+        when(command.getDittoHeaders()).thenReturn(DittoHeaders.empty());
+        return command;
+    }
+
+    private static Event mockEvent() {
+        final Event event = mock(Event.class);
+        when(event.getDittoHeaders()).thenReturn(DittoHeaders.empty());
+        when(event.setDittoHeaders(any())).thenReturn(event);
+        when(event.toJson()).thenReturn(EVENT_JSON);
+        return event;
+    }
+
+    private String persistenceId() {
+        return name.getMethodName();
+    }
+
+    /**
+     * Persists an event for each command and replies with the command. Its entity is the last revision.
+     */
+    static final class DummyShardedPersistenceActor
+            extends AbstractShardedPersistenceActor<Command, String, DefaultEntityId, DefaultEntityId, Event> {
+
+        private final SnapshotConfig snapshotConfig;
+
+        private DummyShardedPersistenceActor(final String persistenceId, final SnapshotConfig snapshotConfig) {
+            super(DefaultEntityId.of(persistenceId), new DummySnapshotAdapter());
+            this.snapshotConfig = snapshotConfig;
+        }
+
+        static Props props(final String persistenceId, final SnapshotConfig snapshotConfig) {
+            return Props.create(DummyShardedPersistenceActor.class,
+                    (Creator<DummyShardedPersistenceActor>) () ->
+                            new DummyShardedPersistenceActor(persistenceId, snapshotConfig));
+        }
+
+        @Override
+        public String persistenceId() {
+            return entityId.toString();
+        }
+
+        @Override
+        public String journalPluginId() {
+            return "mock-journal";
+        }
+
+        @Override
+        public String snapshotPluginId() {
+            return "mock-snapshot-store";
+        }
+
+        @Override
+        protected Class<Event> getEventClass() {
+            return Event.class;
+        }
+
+        @Override
+        protected CommandStrategy.Context<DefaultEntityId> getStrategyContext() {
+            return DefaultContext.getInstance(entityId, log);
+        }
+
+        @Override
+        protected CommandStrategy<Command, String, DefaultEntityId, Result<Event>> getCreatedStrategy() {
+            return new ModifyStrategy();
+        }
+
+        @Override
+        protected CommandStrategy<Command, String, DefaultEntityId, Result<Event>> getDeletedStrategy() {
+            return new ModifyStrategy();
+        }
+
+        @Override
+        protected EventStrategy<Event, String> getEventStrategy() {
+            return (event, entity, revision) -> String.valueOf(revision);
+        }
+
+        @Override
+        protected ActivityCheckConfig getActivityCheckConfig() {
+            return DefaultActivityCheckConfig.of(ConfigFactory.empty());
+        }
+
+        @Override
+        protected SnapshotConfig getSnapshotConfig() {
+            return snapshotConfig;
+        }
+
+        @Override
+        protected boolean entityExistsAsDeleted() {
+            return false;
+        }
+
+        @Override
+        protected DittoRuntimeExceptionBuilder newNotAccessibleExceptionBuilder() {
+            return DittoRuntimeException.newBuilder("dummy:not.accessible", HttpStatusCode.NOT_FOUND);
+        }
+
+        @Override
+        protected void publishEvent(final Event event) {
+            // nobody is interested in the events
+        }
+
+        @Override
+        protected JsonSchemaVersion getEntitySchemaVersion(final String entity) {
+            return JsonSchemaVersion.LATEST;
+        }
+
+    }
+
+    private static final class ModifyStrategy
+            implements CommandStrategy<Command, String, DefaultEntityId, Result<Event>> {
+
+        @Override
+        public Class<Command> getMatchingClass() {
+            return Command.class;
+        }
+
+        @Override
+        public Result<Event> apply(final Context<DefaultEntityId> context, @Nullable final String entity,
+                final long nextRevision, final Command command) {
+
+            return ResultFactory.newMutationResult(command, mockEvent(), command, entity == null, false);
+        }
+
+        @Override
+        public boolean isDefined(final Command command) {
+            return true;
+        }
+
+    }
+
+    private static final class DummySnapshotAdapter implements SnapshotAdapter<String> {
+
+        @Override
+        public Object toSnapshotStore(final String snapshot) {
+            return snapshot;
+        }
+
+        @Nullable
+        @Override
+        public String fromSnapshotStore(final SnapshotOffer snapshotOffer) {
+            // the mock snapshot store offers a meaningless snapshot of revision 0
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public String fromSnapshotStore(final SelectedSnapshot selectedSnapshot) {
+            return null;
+        }
+
+    }
+
+}
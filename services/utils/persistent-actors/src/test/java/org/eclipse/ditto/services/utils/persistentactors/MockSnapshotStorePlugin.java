@@ -12,9 +12,11 @@
  */
 package org.eclipse.ditto.services.utils.persistentactors;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.same;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -53,6 +55,7 @@ public class MockSnapshotStorePlugin extends SnapshotStore {
     @Override
     public Future<Void> doSaveAsync(final SnapshotMetadata metadata, final Object snapshot) {
         LOGGER.debug("[doSaveAsync]: {} -> {}", metadata, snapshot);
+        snapshotStore.doSaveAsync(metadata, snapshot);
         return Future.successful(null);
     }
 
@@ -86,6 +89,21 @@ public class MockSnapshotStorePlugin extends SnapshotStore {
         Mockito.verify(snapshotStore).doDeleteAsync(same(persistenceId), argThat(matchesCriteria(toSequenceNr)));
     }
 
+    static void verifySaved(final String persistenceId, final long sequenceNr, final Duration timeout) {
+        Mockito.verify(snapshotStore, Mockito.timeout(timeout.toMillis()))
+                .doSaveAsync(argThat(matchesMetadata(persistenceId, sequenceNr)), any());
+    }
+
+    static void verifyNotSaved(final String persistenceId, final long sequenceNr) {
+        Mockito.verify(snapshotStore, Mockito.never())
+                .doSaveAsync(argThat(matchesMetadata(persistenceId, sequenceNr)), any());
+    }
+
+    private static ArgumentMatcher<SnapshotMetadata> matchesMetadata(final String persistenceId,
+            final long sequenceNr) {
+        return arg -> arg != null && persistenceId.equals(arg.persistenceId()) && sequenceNr == arg.sequenceNr();
+    }
+
     private static ArgumentMatcher<SnapshotSelectionCriteria> matchesCriteria(final long maxSequenceNumber) {
         return arg -> arg != null && maxSequenceNumber == arg.maxSequenceNr();
     }